@@ -37,6 +37,7 @@ import java.awt.*;
 import java.awt.event.*;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
 import javax.swing.*;
 import javax.swing.table.DefaultTableCellRenderer;
 import mage.MageObject;
@@ -70,6 +71,7 @@ import mage.filter.predicate.other.CardTextPredicate;
 import mage.filter.predicate.other.ExpansionSetPredicate;
 import mage.view.CardView;
 import mage.view.CardsView;
+import org.apache.log4j.Logger;
 import org.mage.card.arcane.ManaSymbolsCellRenderer;
 
 /**
@@ -78,11 +80,14 @@ import org.mage.card.arcane.ManaSymbolsCellRenderer;
  */
 public class CardSelector extends javax.swing.JPanel implements ComponentListener, DragCardTarget {
 
+    private static final Logger logger = Logger.getLogger(CardSelector.class);
+
     private final java.util.List<Card> cards = new ArrayList<>();
     private BigCard bigCard;
     private boolean limited = false;
     private final SortSetting sortSetting;
     private static final Map<String, Integer> pdAllowed = new HashMap<>();
+    private SearchCardsTask searchTask;
 
     private final ActionListener searchAction = evt -> jButtonSearchActionPerformed(evt);
 
@@ -176,6 +181,10 @@ public class CardSelector extends javax.swing.JPanel implements ComponentListene
      *
      */
     public void cleanUp() {
+        if (searchTask != null) {
+            searchTask.cancel(true);
+            searchTask = null;
+        }
         this.cardGrid.clear();
         this.mainModel.clear();
         MageFrame.getPreferences().put(KEY_DECK_EDITOR_SEARCH_NAMES, Boolean.toString(chkNames.isSelected()));
@@ -308,6 +317,7 @@ public class CardSelector extends javax.swing.JPanel implements ComponentListene
 
     private CardCriteria buildCriteria() {
         CardCriteria criteria = new CardCriteria();
+        criteria.text(jTextFieldSearch.getText().trim(), chkNames.isSelected(), chkTypes.isSelected(), chkRules.isSelected());
         criteria.black(this.tbBlack.isSelected());
         criteria.blue(this.tbBlue.isSelected());
         criteria.green(this.tbGreen.isSelected());
@@ -418,44 +428,111 @@ public class CardSelector extends javax.swing.JPanel implements ComponentListene
         filterCards();
     }
 
+    /**
+     * Searches the cards in the background, a search that is still running
+     * is cancelled
+     */
     private void filterCards() {
-        FilterCard filter = buildFilter();
-        try {
-            java.util.List<Card> filteredCards = new ArrayList<>();
-            setCursor(new Cursor(Cursor.WAIT_CURSOR));
+        if (searchTask != null) {
+            searchTask.cancel(true);
+        }
+        setCursor(new Cursor(Cursor.WAIT_CURSOR));
 
-            boolean chkPD = chkPennyDreadful.isSelected();
-            if (chkPD) {
-                generatePennyDreadfulHash();
-            }
+        boolean chkPD = chkPennyDreadful.isSelected();
+        if (chkPD) {
+            generatePennyDreadfulHash();
+        }
 
-            if (limited) {
-                for (Card card : cards) {
+        if (limited) {
+            searchTask = new SearchCardsTask(buildFilter(), new ArrayList<>(cards));
+        } else {
+            searchTask = new SearchCardsTask(buildCriteria(), chkUnique.isSelected(), chkPD);
+        }
+        searchTask.execute();
+    }
+
+    private void loadFilteredCards(java.util.List<Card> filteredCards) {
+        if (currentView instanceof CardGrid && filteredCards.size() > CardGrid.MAX_IMAGES) {
+            this.toggleViewMode();
+        }
+        this.currentView.loadCards(new CardsView(filteredCards), sortSetting, bigCard, null, false);
+        this.cardCount.setText(String.valueOf(filteredCards.size()));
+    }
+
+    /**
+     * Filters the cards of a limited pool or searches the card repository,
+     * the found cards are loaded to the current view if the search wasn't
+     * cancelled or replaced by a newer search
+     */
+    private class SearchCardsTask extends SwingWorker<java.util.List<Card>, Void> {
+
+        private final FilterCard filter;
+        private final java.util.List<Card> limitedCards;
+        private final CardCriteria criteria;
+        private final boolean unique;
+        private final boolean pennyDreadful;
+
+        SearchCardsTask(FilterCard filter, java.util.List<Card> limitedCards) {
+            this.filter = filter;
+            this.limitedCards = limitedCards;
+            this.criteria = null;
+            this.unique = false;
+            this.pennyDreadful = false;
+        }
+
+        SearchCardsTask(CardCriteria criteria, boolean unique, boolean pennyDreadful) {
+            this.filter = null;
+            this.limitedCards = null;
+            this.criteria = criteria;
+            this.unique = unique;
+            this.pennyDreadful = pennyDreadful;
+        }
+
+        @Override
+        protected java.util.List<Card> doInBackground() {
+            java.util.List<Card> filteredCards = new ArrayList<>();
+            if (criteria == null) {
+                for (Card card : limitedCards) {
+                    if (isCancelled()) {
+                        break;
+                    }
                     if (filter.match(card, null)) {
                         filteredCards.add(card);
                     }
                 }
             } else {
-                java.util.List<CardInfo> foundCards = CardRepository.instance.findCards(buildCriteria());
-                for (CardInfo cardInfo : foundCards) {
-                    Card card = cardInfo.getMockCard();
-                    if (filter.match(card, null)) {
-                        if (chkPD) {
-                            if (!pdAllowed.containsKey(card.getName())) {
-                                continue;
-                            }
-                        }
-                        filteredCards.add(card);
+                Set<String> names = new HashSet<>();
+                for (CardInfo cardInfo : CardRepository.instance.findCards(criteria)) {
+                    if (isCancelled()) {
+                        break;
+                    }
+                    if (pennyDreadful && !pdAllowed.containsKey(cardInfo.getName())) {
+                        continue;
+                    }
+                    if (unique && !names.add(cardInfo.getName())) {
+                        continue;
                     }
+                    filteredCards.add(cardInfo.getMockCard());
                 }
             }
-            if (currentView instanceof CardGrid && filteredCards.size() > CardGrid.MAX_IMAGES) {
-                this.toggleViewMode();
+            return filteredCards;
+        }
+
+        @Override
+        protected void done() {
+            if (searchTask != this) {
+                return;
             }
-            this.currentView.loadCards(new CardsView(filteredCards), sortSetting, bigCard, null, false);
-            this.cardCount.setText(String.valueOf(filteredCards.size()));
-        } finally {
+            searchTask = null;
             setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
+            if (isCancelled()) {
+                return;
+            }
+            try {
+                loadFilteredCards(get());
+            } catch (InterruptedException | ExecutionException ex) {
+                logger.error("Error during card search", ex);
+            }
         }
     }
 
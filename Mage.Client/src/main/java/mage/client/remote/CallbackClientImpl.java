@@ -45,8 +45,10 @@ import mage.client.util.GameManager;
 import mage.client.util.IgnoreList;
 import mage.client.util.audio.AudioManager;
 import mage.client.util.object.SaveObjectUtil;
+import mage.constants.PlayerAction;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
 import mage.remote.ActionData;
 import mage.remote.Session;
 import mage.utils.CompressUtil;
@@ -64,6 +66,7 @@ public class CallbackClientImpl implements CallbackClient {
     private final MageFrame frame;
     private int messageId = 0;
     private int gameInformMessageId = 0;
+    private final ReceivedGameViews receivedGameViews = new ReceivedGameViews();
 
     public CallbackClientImpl(MageFrame frame) {
         this.frame = frame;
@@ -73,6 +76,7 @@ public class CallbackClientImpl implements CallbackClient {
     public synchronized void processCallback(final ClientCallback callback) {
         SaveObjectUtil.saveObject(callback.getData(), callback.getMethod().toString());
         callback.setData(CompressUtil.decompress(callback.getData()));
+        completeGameView(callback);
         SwingUtilities.invokeLater(() -> {
             try {
                 logger.debug(callback.getMessageId() + " -- " + callback.getMethod());
@@ -405,6 +409,34 @@ public class CallbackClientImpl implements CallbackClient {
         });
     }
 
+    /**
+     * Game views are sent as deltas, the card views that didn't change are
+     * taken from the last game view of the game
+     *
+     * @param callback
+     */
+    private void completeGameView(ClientCallback callback) {
+        UUID gameId = callback.getObjectId();
+        if (callback.getMethod() == ClientCallbackMethod.GAME_OVER
+                || callback.getMethod() == ClientCallbackMethod.REPLAY_DONE) {
+            receivedGameViews.remove(gameId);
+            return;
+        }
+        GameView gameView = null;
+        if (callback.getData() instanceof GameView) {
+            gameView = (GameView) callback.getData();
+        } else if (callback.getData() instanceof GameClientMessage) {
+            gameView = ((GameClientMessage) callback.getData()).getGameView();
+        }
+        if (gameView == null) {
+            return;
+        }
+        if (receivedGameViews.complete(gameId, gameView)) {
+            logger.info("Game view " + gameView.getVersion() + " can't be completed, requesting full game view");
+            SessionHandler.sendPlayerAction(PlayerAction.REQUEST_FULL_GAME_VIEW, gameId, null);
+        }
+    }
+
     private ActionData appendJsonEvent(String name, UUID gameId, Object value) {
         Session session = SessionHandler.getSession();
         if (session.isJsonLogActive()) {
@@ -71,6 +71,9 @@ public interface MageServer {
     // user methods
     boolean setUserData(String userName, String sessionId, UserData userData, String clientVersion, String userIdStr) throws MageException;
 
+    // callbacks with views are sent encoded (see EncodedObject), compressThreshold < 0 = never compressed
+    boolean setViewCodec(String sessionId, int compressThreshold) throws MageException;
+
     void sendFeedbackMessage(String sessionId, String username, String title, String type, String message, String email) throws MageException;
 
     // server state methods
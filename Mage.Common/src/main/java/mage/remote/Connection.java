@@ -34,6 +34,7 @@ import java.net.NetworkInterface;
 import java.net.SocketException;
 import java.util.Enumeration;
 import mage.players.net.UserData;
+import mage.remote.traffic.EncodedObject;
 
 /**
  *
@@ -57,6 +58,9 @@ public class Connection {
     private boolean forceDBComparison;
     private String userIdStr;
     private int socketWriteTimeout;
+    // opt-in compact encoding of the views the server sends
+    private boolean viewCodec = System.getProperty(VIEW_CODEC_PROPERTY) != null;
+    private int viewCodecCompressThreshold = EncodedObject.DEFAULT_COMPRESS_THRESHOLD;
 
     private UserData userData;
 
@@ -66,6 +70,7 @@ public class Connection {
 //    private boolean confirmEmptyManaPool;
 //    private String flagName;
 //    private UserSkipPrioritySteps userSkipPrioritySteps;
+    private static final String VIEW_CODEC_PROPERTY = "viewcodec";
     private static final String serialization = "?serializationtype=jboss";
     private static final String transport = "bisocket";
 
@@ -297,4 +302,20 @@ public class Connection {
     public int getSocketWriteTimeout() {
         return socketWriteTimeout;
     }
+
+    public boolean isViewCodec() {
+        return viewCodec;
+    }
+
+    public void setViewCodec(boolean viewCodec) {
+        this.viewCodec = viewCodec;
+    }
+
+    public int getViewCodecCompressThreshold() {
+        return viewCodecCompressThreshold;
+    }
+
+    public void setViewCodecCompressThreshold(int viewCodecCompressThreshold) {
+        this.viewCodecCompressThreshold = viewCodecCompressThreshold;
+    }
 }
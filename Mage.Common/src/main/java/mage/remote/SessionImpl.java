@@ -231,6 +231,9 @@ public class SessionImpl implements Session {
                             registerResult = server.connectUser(connection.getUsername(), connection.getPassword(), sessionId, client.getVersion(), connection.getUserIdStr());
                             if (registerResult) {
                                 server.setUserData(connection.getUsername(), sessionId, connection.getUserData(), client.getVersion().toString(), connection.getUserIdStr());
+                                if (connection.isViewCodec() && server.setViewCodec(sessionId, connection.getViewCodecCompressThreshold())) {
+                                    logger.info("Views are sent encoded, compress threshold: " + connection.getViewCodecCompressThreshold());
+                                }
                             }
                         } else {
                             registerResult = server.connectAdmin(connection.getAdminPassword(), sessionId, client.getVersion());
@@ -0,0 +1,122 @@
+package mage.remote.traffic;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.apache.log4j.Logger;
+
+/**
+ * Compact encoding of views sent to the clients. Equal strings (card names,
+ * rules, set codes...) are written only once per payload and only payloads
+ * of at least the compress threshold are deflated, small ones aren't worth
+ * it.
+ *
+ * The client decodes it like any other {@link ZippedObject}.
+ */
+public class EncodedObject<T> implements ZippedObject<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger logger = Logger.getLogger(EncodedObject.class);
+
+    public static final int DEFAULT_COMPRESS_THRESHOLD = 1024;
+
+    private final transient int compressThreshold;
+    private byte[] data;
+    private boolean compressed;
+
+    public EncodedObject(T object) {
+        this(object, DEFAULT_COMPRESS_THRESHOLD);
+    }
+
+    /**
+     * @param object
+     * @param compressThreshold minimal size in bytes of a payload that is
+     * deflated, negative = never
+     */
+    public EncodedObject(T object, int compressThreshold) {
+        this.compressThreshold = compressThreshold;
+        zip(object);
+    }
+
+    @Override
+    public void zip(T object) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new InterningObjectOutputStream(bytes)) {
+                out.writeObject(object);
+            }
+            data = bytes.toByteArray();
+            compressed = compressThreshold >= 0 && data.length >= compressThreshold;
+            if (compressed) {
+                ByteArrayOutputStream deflated = new ByteArrayOutputStream(data.length / 4);
+                try (OutputStream out = new DeflaterOutputStream(deflated)) {
+                    out.write(data);
+                }
+                data = deflated.toByteArray();
+            }
+        } catch (IOException e) {
+            logger.error("Can't encode " + object.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T unzip() {
+        InputStream bytes = new ByteArrayInputStream(data);
+        if (compressed) {
+            bytes = new InflaterInputStream(bytes);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(bytes)) {
+            return (T) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            logger.error("Can't decode object", e);
+        }
+        return null;
+    }
+
+    /**
+     * @return size of the payload in bytes
+     */
+    public int getSize() {
+        return data == null ? 0 : data.length;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    /**
+     * Replaces equal strings by the first one, so the stream writes a back
+     * reference instead of the string again
+     */
+    private static final class InterningObjectOutputStream extends ObjectOutputStream {
+
+        private final Map<String, String> strings = new HashMap<>();
+
+        InterningObjectOutputStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            if (obj instanceof String) {
+                String string = strings.putIfAbsent((String) obj, (String) obj);
+                if (string != null) {
+                    return string;
+                }
+            }
+            return obj;
+        }
+    }
+}
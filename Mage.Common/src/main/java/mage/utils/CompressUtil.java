@@ -1,5 +1,6 @@
 package mage.utils;
 
+import mage.remote.traffic.EncodedObject;
 import mage.remote.traffic.ZippedObject;
 import mage.remote.traffic.ZippedObjectImpl;
 
@@ -21,6 +22,8 @@ public final class CompressUtil {
      */
     private static final String NO_COMPRESS_DATA_PROPERTY = "nocompress";
 
+    private static final String VIEW_PACKAGE = "mage.view";
+
     static {
         compressData = System.getProperty(NO_COMPRESS_DATA_PROPERTY) == null;
     }
@@ -45,6 +48,22 @@ public final class CompressUtil {
         return ((ZippedObject) data).unzip();
     }
 
+    /**
+     * Encodes views (classes of the mage.view package) with
+     * {@link EncodedObject}, any other data is returned unchanged.
+     *
+     * @param data Data to encode
+     * @param compressThreshold Minimal size of a payload that is deflated
+     * @return Encoded view or the original data
+     */
+    public static Object encodeView(Object data, int compressThreshold) {
+        if (data == null || data instanceof ZippedObject || data.getClass().getPackage() == null
+                || !VIEW_PACKAGE.equals(data.getClass().getPackage().getName())) {
+            return data;
+        }
+        return new EncodedObject<>(data, compressThreshold);
+    }
+
     /**
      * Compress data.
      *
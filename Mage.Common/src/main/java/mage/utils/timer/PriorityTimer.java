@@ -1,25 +1,45 @@
 package mage.utils.timer;
 
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.MageException;
 import mage.interfaces.Action;
 import org.apache.log4j.Logger;
 
 /**
+ * Counts down the priority time of a player. All timers are ticked by a
+ * small shared scheduler, so idle timers of running games don't hold a
+ * thread each.
+ *
  * @author noxx
  */
-public class PriorityTimer extends TimerTask {
+public class PriorityTimer implements Runnable {
 
     private static final Logger logger = Logger.getLogger(PriorityTimer.class);
 
+    private static final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(2, new PriorityTimerThreadFactory("Priority Timer-"));
+    // timeout actions can take a while (e.g. conceding a game), they must not delay the ticks of the other timers
+    private static final ExecutorService timeoutExecutor = Executors.newCachedThreadPool(new PriorityTimerThreadFactory("Priority Timeout-"));
+    private static final AtomicInteger activeTimers = new AtomicInteger();
+
+    static {
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
     private final long delay;
     private final Action taskOnTimeout;
 
-    private int count;
-    private Action taskOnTick;
-    private States state = States.NONE;
+    private volatile int count;
+    private volatile Action taskOnTick;
+    private volatile States state = States.NONE;
+    private ScheduledFuture<?> future;
+    private UUID gameId;
 
     enum States {
         NONE,
@@ -35,11 +55,15 @@ public class PriorityTimer extends TimerTask {
         this.taskOnTimeout = taskOnTimeout;
     }
 
-    public void init(UUID gameId) {
+    public synchronized void init(UUID gameId) {
+        if (future != null) {
+            throw new IllegalStateException("Timer has already been initialized");
+        }
+        this.gameId = gameId;
         state = States.INIT;
-        Timer timer = new Timer("Priority Timer-" + gameId.toString(), false);
         long delayMs = delay * (int) (1000L / delay);
-        timer.scheduleAtFixedRate(this, delayMs, delayMs);
+        activeTimers.incrementAndGet();
+        future = scheduler.scheduleAtFixedRate(this, delayMs, delayMs, TimeUnit.MILLISECONDS);
     }
 
     public void start() {
@@ -68,6 +92,20 @@ public class PriorityTimer extends TimerTask {
         state = States.RUNNING;
     }
 
+    /**
+     * Removes the timer from the scheduler, it won't tick or time out anymore
+     *
+     * @return false if the timer wasn't scheduled or was already cancelled
+     */
+    public synchronized boolean cancel() {
+        if (future == null || future.isCancelled()) {
+            return false;
+        }
+        future.cancel(false);
+        activeTimers.decrementAndGet();
+        return true;
+    }
+
     public int getCount() {
         return count;
     }
@@ -80,30 +118,54 @@ public class PriorityTimer extends TimerTask {
         this.taskOnTick = taskOnTick;
     }
 
+    /**
+     * @return number of timers that are currently scheduled
+     */
+    public static int getActiveTimers() {
+        return activeTimers.get();
+    }
+
     @Override
     public void run() {
         if (state == States.RUNNING) {
             count--;
-            if (taskOnTick != null) {
+            Action tick = taskOnTick;
+            if (tick != null) {
                 try {
-                    taskOnTick.execute();
-                } catch (MageException e) {
-                    throw new RuntimeException(e);
+                    tick.execute();
+                } catch (MageException | RuntimeException e) {
+                    logger.error("Priority timer tick of game " + gameId + " failed", e);
                 }
             }
         }
         if (logger.isDebugEnabled()) {
-            logger.debug("Count is: " + count);
+            logger.debug("Count of game " + gameId + " is: " + count);
         }
-        //System.out.println("Count is: " + count);
-        if (count <= 0) {
-            cancel();
-            try {
-                taskOnTimeout.execute();
-            } catch (MageException e) {
-                throw new RuntimeException(e);
-            }
+        if (count <= 0 && cancel()) {
+            timeoutExecutor.execute(() -> {
+                try {
+                    taskOnTimeout.execute();
+                } catch (MageException | RuntimeException e) {
+                    logger.error("Priority timer timeout action of game " + gameId + " failed", e);
+                }
+            });
         }
     }
 
+    private static final class PriorityTimerThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        PriorityTimerThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
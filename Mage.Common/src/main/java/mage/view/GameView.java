@@ -87,6 +87,8 @@ public class GameView implements Serializable {
     private final boolean isPlayer; // false = watching user
     private final int spellsCastCurrentTurn;
     private final boolean rollbackTurnsAllowed;
+    private long version;
+    private long baseVersion; // 0 = full view, otherwise the unchanged card views are missing (see GameViewDelta)
 
     public GameView(GameState state, Game game, UUID createdForPlayerId, UUID watcherUserId) {
         Player createdForPlayer = null;
@@ -340,6 +342,19 @@ public class GameView implements Serializable {
         return rollbackTurnsAllowed;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    public void setVersion(long version, long baseVersion) {
+        this.version = version;
+        this.baseVersion = baseVersion;
+    }
+
     public String toJson() {
         Gson gson = new GsonBuilder().create();
         return gson.toJson(this);
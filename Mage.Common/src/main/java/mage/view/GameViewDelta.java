@@ -0,0 +1,224 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.view;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import mage.abilities.costs.mana.ManaCosts;
+
+/**
+ * Game views are sent to the client of a game session as deltas: the card
+ * views (hand, stack, exile, battlefield and graveyards) that didn't change
+ * since the last view sent to the session are sent as null values and the
+ * client takes them from the last view it got.
+ *
+ * The server keeps the card views of the last view sent and compares the new
+ * ones with them field by field. Every view has a version and the version of
+ * the view it's based on. If the client doesn't have the base view (e.g. a
+ * callback got lost) it requests a full view.
+ */
+public class GameViewDelta {
+
+    // instance fields of the view classes
+    private static final Map<Class<?>, List<Field>> viewFields = new ConcurrentHashMap<>();
+
+    private long version;
+    // card views of the last sent view by map and card id, null = send the next view full
+    private Map<String, Map<UUID, CardView>> lastCardMaps;
+
+    /**
+     * The next view is sent full
+     */
+    public synchronized void reset() {
+        lastCardMaps = null;
+    }
+
+    /**
+     * Removes the card views from the view that the client already has, the
+     * view must not be used for anything else than sending it to the client
+     *
+     * @param gameView new view for the client
+     * @return the view
+     */
+    public synchronized GameView createDelta(GameView gameView) {
+        boolean full = lastCardMaps == null;
+        Map<String, Map<UUID, CardView>> cardMaps = new HashMap<>();
+        for (Map.Entry<String, Map<UUID, CardView>> cardMap : getCardMaps(gameView).entrySet()) {
+            Map<UUID, CardView> lastCardMap = full ? null : lastCardMaps.get(cardMap.getKey());
+            Map<UUID, CardView> sentCardMap = new HashMap<>(cardMap.getValue());
+            for (Map.Entry<UUID, CardView> entry : cardMap.getValue().entrySet()) {
+                if (lastCardMap != null && isSameView(lastCardMap.get(entry.getKey()), entry.getValue())) {
+                    entry.setValue(null);
+                }
+            }
+            cardMaps.put(cardMap.getKey(), sentCardMap);
+        }
+        lastCardMaps = cardMaps;
+        version++;
+        gameView.setVersion(version, full ? 0 : version - 1);
+        return gameView;
+    }
+
+    /**
+     * Sets the card views missing in a delta from the last view of the client
+     *
+     * @param lastGameView last view the client got (can be null)
+     * @param gameView received view, completed in place
+     * @return false if the view could not be completed and a full view is
+     * needed (the missing card views are removed from the view)
+     */
+    public static boolean apply(GameView lastGameView, GameView gameView) {
+        if (gameView.getBaseVersion() == 0) {
+            return true;
+        }
+        Map<String, Map<UUID, CardView>> lastCardMaps = null;
+        if (lastGameView != null && lastGameView.getVersion() == gameView.getBaseVersion()) {
+            lastCardMaps = getCardMaps(lastGameView);
+        }
+        boolean complete = lastCardMaps != null;
+        for (Map.Entry<String, Map<UUID, CardView>> cardMap : getCardMaps(gameView).entrySet()) {
+            Map<UUID, CardView> lastCardMap = lastCardMaps == null ? null : lastCardMaps.get(cardMap.getKey());
+            Iterator<Map.Entry<UUID, CardView>> it = cardMap.getValue().entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<UUID, CardView> entry = it.next();
+                if (entry.getValue() == null) {
+                    CardView lastCardView = lastCardMap == null ? null : lastCardMap.get(entry.getKey());
+                    if (lastCardView == null) {
+                        it.remove();
+                        complete = false;
+                    } else {
+                        entry.setValue(lastCardView);
+                    }
+                }
+            }
+        }
+        return complete;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<UUID, CardView>> getCardMaps(GameView gameView) {
+        Map<String, Map<UUID, CardView>> cardMaps = new LinkedHashMap<>();
+        if (gameView.getHand() != null) {
+            cardMaps.put("hand", gameView.getHand());
+        }
+        cardMaps.put("stack", gameView.getStack());
+        for (ExileView exileView : gameView.getExile()) {
+            cardMaps.put("exileZone" + exileView.getId(), exileView);
+        }
+        for (PlayerView playerView : gameView.getPlayers()) {
+            // the battlefield only holds permanent views, the values are only copied between the same maps
+            cardMaps.put("battlefield" + playerView.getPlayerId(), (Map) playerView.getBattlefield());
+            cardMaps.put("graveyard" + playerView.getPlayerId(), playerView.getGraveyard());
+            cardMaps.put("exile" + playerView.getPlayerId(), playerView.getExile());
+        }
+        return cardMaps;
+    }
+
+    /**
+     * Compares two view objects by their fields. The views and the lists and
+     * maps they hold are compared field by field, the other objects by equals.
+     *
+     * @param last
+     * @param view
+     * @return true if the client can keep the last view instead of the view
+     */
+    private static boolean isSameView(Object last, Object view) {
+        if (last == view) {
+            return true;
+        }
+        if (last == null || view == null || last.getClass() != view.getClass()) {
+            return false;
+        }
+        if (view instanceof ManaCosts) {
+            // mana costs are engine objects without equals, the client only shows their text
+            return ((ManaCosts) last).getText().equals(((ManaCosts) view).getText());
+        }
+        if (view instanceof List) {
+            List<?> lastList = (List<?>) last;
+            List<?> list = (List<?>) view;
+            if (lastList.size() != list.size()) {
+                return false;
+            }
+            for (int i = 0; i < list.size(); i++) {
+                if (!isSameView(lastList.get(i), list.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (view instanceof Map) {
+            Map<?, ?> lastMap = (Map<?, ?>) last;
+            Map<?, ?> map = (Map<?, ?>) view;
+            if (lastMap.size() != map.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!lastMap.containsKey(entry.getKey()) || !isSameView(lastMap.get(entry.getKey()), entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (!view.getClass().getName().startsWith("mage.view.")) {
+            return view.equals(last);
+        }
+        try {
+            for (Field field : getViewFields(view.getClass())) {
+                if (!isSameView(field.get(last), field.get(view))) {
+                    return false;
+                }
+            }
+        } catch (IllegalAccessException e) {
+            return false;
+        }
+        return true;
+    }
+
+    private static List<Field> getViewFields(Class<?> viewClass) {
+        return viewFields.computeIfAbsent(viewClass, clazz -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = clazz; c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        });
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.view;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Last game views received by a client, the base of the next game view delta
+ * of each game (see {@link GameViewDelta})
+ */
+public class ReceivedGameViews {
+
+    private final Map<UUID, GameView> lastGameViews = new HashMap<>();
+    private final Set<UUID> fullGameViewRequested = new HashSet<>();
+
+    /**
+     * Sets the card views missing in the received view from the last view of
+     * the game
+     *
+     * @param gameId
+     * @param gameView received view, completed in place
+     * @return true if the view could not be completed and a full view has to
+     * be requested (only once until a full view is received)
+     */
+    public synchronized boolean complete(UUID gameId, GameView gameView) {
+        boolean requestFullView = false;
+        if (GameViewDelta.apply(lastGameViews.get(gameId), gameView)) {
+            if (gameView.getBaseVersion() == 0) {
+                fullGameViewRequested.remove(gameId);
+            }
+        } else {
+            requestFullView = fullGameViewRequested.add(gameId);
+        }
+        lastGameViews.put(gameId, gameView);
+        return requestFullView;
+    }
+
+    public synchronized GameView getLastGameView(UUID gameId) {
+        return lastGameViews.get(gameId);
+    }
+
+    /**
+     * Removes the views of a game that ended
+     *
+     * @param gameId
+     */
+    public synchronized void remove(UUID gameId) {
+        lastGameViews.remove(gameId);
+        fullGameViewRequested.remove(gameId);
+    }
+}
@@ -43,9 +43,14 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import mage.abilities.Ability;
 import mage.abilities.ActivatedAbility;
 import mage.abilities.SpellAbility;
@@ -92,10 +97,15 @@ import org.apache.log4j.Logger;
 public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
 
     private static final Logger logger = Logger.getLogger(ComputerPlayer6.class);
-    private static final ExecutorService pool = Executors.newFixedThreadPool(1);
+    // searches of the AI players
+    private static final ExecutorService pool = Executors.newCachedThreadPool(newThreadFactory("AI-MA search "));
+    // workers of the server for the actions of the root nodes that are searched in parallel
+    private static final ExecutorService workers = Executors.newFixedThreadPool(Config2.searchThreads, newThreadFactory("AI-MA worker "));
     protected int maxDepth;
     protected int maxNodes;
     protected int maxThink;
+    // actions of the root node searched in parallel (1 = serial search)
+    protected int searchThreads;
     protected LinkedList<Ability> actions = new LinkedList<>();
     protected List<UUID> targets = new ArrayList<>();
     protected List<String> choices = new ArrayList<>();
@@ -116,6 +126,19 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         optimizers.add(new OutcomeOptimizer());
     }
 
+    private static ThreadFactory newThreadFactory(final String namePrefix) {
+        return new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
     public ComputerPlayer6(String name, RangeOfInfluence range, int skill) {
         super(name, range);
         if (skill < 4) {
@@ -125,6 +148,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
         maxThink = skill * 3;
         maxNodes = Config2.maxNodes;
+        searchThreads = Config2.searchThreads;
         getSuggestedActions();
         this.actionCache = new HashSet<>();
     }
@@ -132,6 +156,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
     public ComputerPlayer6(final ComputerPlayer6 player) {
         super(player);
         this.maxDepth = player.maxDepth;
+        this.searchThreads = player.searchThreads;
         this.currentScore = player.currentScore;
         if (player.combat != null) {
             this.combat = player.combat.copy();
@@ -242,15 +267,13 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
             logger.trace("Add Action [" + depth + "] " + node.getAbilities().toString() + "  a: " + alpha + " b: " + beta);
         }
         Game game = node.getGame();
-        if (ALLOW_INTERRUPT
-                && Thread.interrupted()) {
-            Thread.currentThread().interrupt();
+        if (isSearchStopped(node)) {
             logger.debug("interrupted");
             return GameStateEvaluator2.evaluate(playerId, game);
         }
         // Condition to stop deeper simulation
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || node.getNodeCount() > maxNodes
                 || game.checkIfGameIsOver()) {
             val = GameStateEvaluator2.evaluate(playerId, game);
             if (logger.isTraceEnabled()) {
@@ -361,7 +384,8 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (node.getNodeCount() > maxNodes
+                    || isSearchStopped(node)) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -432,7 +456,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + newNode.getNodeCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
@@ -453,95 +477,156 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
      * @return
      */
     protected Integer addActionsTimed() {
+        final SimulationNode2 startNode = root;
+        final AtomicReference<SimulationNode2> searchedNode = new AtomicReference<>();
+        final AtomicBoolean cancelled = new AtomicBoolean();
         FutureTask<Integer> task = new FutureTask<>(new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
-                return addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                return addActionsIterative(startNode, searchedNode, cancelled);
             }
         });
         pool.execute(task);
+        int val = 0;
         try {
             int maxSeconds = maxThink;
             if (!ALLOW_INTERRUPT) {
                 maxSeconds = 3600;
             }
             logger.debug("maxThink: " + maxSeconds + " seconds ");
-            if (task.get(maxSeconds, TimeUnit.SECONDS) != null) {
-                return task.get(maxSeconds, TimeUnit.SECONDS);
+            Integer result = task.get(maxSeconds, TimeUnit.SECONDS);
+            if (result != null) {
+                val = result;
             }
         } catch (TimeoutException e) {
             logger.info("simulating - timed out");
+            cancelled.set(true);
             task.cancel(true);
         } catch (ExecutionException e) {
             e.printStackTrace();
+            cancelled.set(true);
             task.cancel(true);
         } catch (InterruptedException e) {
             e.printStackTrace();
+            cancelled.set(true);
             task.cancel(true);
         } catch (Exception e) {
             e.printStackTrace();
+            cancelled.set(true);
             task.cancel(true);
         }
-        //TODO: timeout handling
-        return 0;
+        if (searchedNode.get() != null) {
+            root = searchedNode.get();
+        }
+        return val;
     }
 
-    protected int simulatePriority(SimulationNode2 node, Game game, int depth, int alpha, int beta) {
+    /**
+     * Iterative deepening: the actions are searched with increasing depth up
+     * to maxDepth, so the result of the last completed search is available if
+     * the time runs out. The best action of a search is searched first by the
+     * next one. Each search has its own root node on a copy of the game, a
+     * cancelled search can't change the published ones.
+     *
+     * @param startNode root node of the search with maxDepth
+     * @param searchedNode set to the root node of the last completed search
+     * @param cancelled set to stop the search
+     * @return
+     */
+    protected int addActionsIterative(SimulationNode2 startNode, AtomicReference<SimulationNode2> searchedNode, AtomicBoolean cancelled) {
+        Game startGame = startNode.getGame();
+        String principalAction = null;
+        int val = 0;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            SimulationNode2 node = new SimulationNode2(new SimulationSearch(depth, principalAction, cancelled), startGame.copy(), playerId);
+            int depthVal = addActions(node, depth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            if (isSearchStopped(node)) {
+                logger.debug("Iterative search -- interrupted at depth " + depth);
+                break;
+            }
+            val = depthVal;
+            searchedNode.set(node);
+            if (!node.getChildren().isEmpty()
+                    && node.getChildren().get(0).getAbilities() != null
+                    && !node.getChildren().get(0).getAbilities().isEmpty()) {
+                principalAction = node.getChildren().get(0).getAbilities().get(0).toString();
+            }
+            if (node.getNodeCount() > maxNodes) {
+                // a deeper search would stop at the nodes limit too
+                logger.debug("Iterative search -- nodes limit reached at depth " + depth);
+                break;
+            }
+        }
+        return val;
+    }
+
+    /**
+     * @param node
+     * @return true if the search of the node was cancelled or its thread
+     * interrupted
+     */
+    protected boolean isSearchStopped(SimulationNode2 node) {
+        if (node.getSearch().isCancelled()) {
+            return true;
+        }
         if (ALLOW_INTERRUPT
                 && Thread.interrupted()) {
             Thread.currentThread().interrupt();
+            return true;
+        }
+        return false;
+    }
+
+    protected int simulatePriority(SimulationNode2 node, Game game, int depth, int alpha, int beta) {
+        if (isSearchStopped(node)) {
             logger.info("interrupted");
             return GameStateEvaluator2.evaluate(playerId, game);
         }
+        int searchDepth = node.getSearch().getDepth();
         node.setGameValue(game.getState().getValue(true).hashCode());
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
         optimize(game, allActions);
+        boolean rootNode = depth == searchDepth && node.getParent() == null;
+        if (rootNode) {
+            principalActionFirst(allActions, node.getSearch().getPrincipalAction());
+        }
         if (logger.isInfoEnabled()
                 && !allActions.isEmpty()
-                && depth == maxDepth) {
+                && depth == searchDepth) {
             logger.info("ADDED ACTIONS (" + allActions.size() + ") " + ' ' + allActions);
         }
+        // young brothers wait: the first action of the root node is searched alone,
+        // the other ones are searched in parallel with the bounds it returned
+        boolean parallel = rootNode && searchThreads > 1 && allActions.size() > 1;
+        List<Future<ActionResult>> parallelResults = null;
         int counter = 0;
         int bestValSubNodes = Integer.MIN_VALUE;
-        for (Ability action : allActions) {
-            counter++;
-            if (ALLOW_INTERRUPT
-                    && Thread.interrupted()) {
-                Thread.currentThread().interrupt();
-                logger.info("Sim Prio [" + depth + "] -- interrupted");
-                break;
-            }
-            Game sim = game.copy();
-            sim.setSimulation(true);
-            if (sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
-                sim.applyEffects();
-                if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
-                    logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action.toString());
-                    continue;
+        try {
+            for (Ability action : allActions) {
+                counter++;
+                if (isSearchStopped(node)) {
+                    logger.info("Sim Prio [" + depth + "] -- interrupted");
+                    break;
                 }
-                if (!sim.checkIfGameIsOver()
-                        && (action.isUsesStack() || action instanceof PassAbility)) {
-                    // only pass if the last action uses the stack
-                    UUID nextPlayerId = sim.getPlayerList().get();
-                    do {
-                        sim.getPlayer(nextPlayerId).pass(game);
-                        nextPlayerId = sim.getPlayerList().getNext();
-                    } while (nextPlayerId != this.getId());
-                }
-                SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
-                sim.checkStateAndTriggered();
-                int val;
-                if (action instanceof PassAbility && sim.getStack().isEmpty()) {
-                    // Stop to simulate deeper if PassAbility and stack is empty
-                    val = GameStateEvaluator2.evaluate(this.getId(), sim);
+                ActionResult result;
+                if (parallel && counter > 1) {
+                    if (parallelResults == null) {
+                        parallelResults = searchParallel(node, game, allActions.subList(1, allActions.size()), currentPlayer.getId(), depth, alpha, beta);
+                    }
+                    result = parallelResults.get(counter - 2).get();
                 } else {
-                    val = addActions(newNode, depth - 1, alpha, beta);
+                    result = simulateAction(node, game.copy(), action, currentPlayer.getId(), depth, alpha, beta);
+                }
+                if (result == null) {
+                    continue;
                 }
-                logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + counter + " <" + val + "> - (" + action.toString() + ") ");
+                SimulationNode2 newNode = result.node;
+                int val = result.val;
+                logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (searchDepth - depth) * 3) + '[' + depth + "]#" + counter + " <" + val + "> - (" + action.toString() + ") ");
                 if (logger.isInfoEnabled()
-                        && depth >= maxDepth) {
+                        && depth >= searchDepth) {
                     StringBuilder sb = new StringBuilder("Sim Prio [").append(depth).append("] #").append(counter)
                             .append(" <").append(val).append("> (").append(action)
                             .append(action.isModal() ? " Mode = " + action.getModes().getMode().toString() : "")
@@ -563,12 +648,12 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                     if (val > bestValSubNodes) {
                         bestValSubNodes = val;
                     }
-                    if (depth == maxDepth
+                    if (depth == searchDepth
                             && action instanceof PassAbility) {
                         val = val - PASSIVITY_PENALTY; // passivity penalty
                     }
                     if (val > alpha
-                            || (depth == maxDepth
+                            || (depth == searchDepth
                             && val == alpha
                             && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
                         alpha = val;
@@ -577,7 +662,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                         if (!newNode.getChildren().isEmpty()) {
                             bestNode.setCombat(newNode.getChildren().get(0).getCombat());
                         }
-                        if (depth == maxDepth) {
+                        if (depth == searchDepth) {
                             logger.info("Sim Prio [" + depth + "] -- Saved best node yet <" + bestNode.getScore() + "> " + bestNode.getAbilities().toString());
                             node.children.clear();
                             node.children.add(bestNode);
@@ -609,15 +694,26 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 if (alpha >= beta) {
                     break;
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
+                if (node.getNodeCount() > maxNodes) {
                     logger.debug("Sim Prio -- reached end-state");
                     break;
                 }
+            } // end of for (allActions)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("Sim Prio [" + depth + "] -- interrupted");
+        } catch (ExecutionException e) {
+            logger.error("Sim Prio [" + depth + "] -- parallel search failed", e.getCause());
+        } finally {
+            if (parallelResults != null) {
+                for (Future<ActionResult> parallelResult : parallelResults) {
+                    parallelResult.cancel(true);
+                }
             }
-        } // end of for (allActions)
+        }
 
-        if (depth == maxDepth) {
-            logger.info("Sim Prio [" + depth + "] -- End for Max Depth  -- Nodes calculated: " + SimulationNode2.nodeCount);
+        if (depth == searchDepth) {
+            logger.info("Sim Prio [" + depth + "] -- End for Max Depth  -- Nodes calculated: " + node.getNodeCount());
         }
         if (bestNode != null) {
             node.children.clear();
@@ -636,6 +732,105 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
     }
 
+    /**
+     * Activates the action on the simulation and searches the node of it
+     *
+     * @param node
+     * @param sim copy of the game of the node
+     * @param action
+     * @param currentPlayerId
+     * @param depth
+     * @param alpha
+     * @param beta
+     * @return node and value of the action or null if the action can't be
+     * activated or is repeated
+     */
+    protected ActionResult simulateAction(SimulationNode2 node, Game sim, Ability action, UUID currentPlayerId, int depth, int alpha, int beta) {
+        sim.setSimulation(true);
+        if (!sim.getPlayer(currentPlayerId).activateAbility((ActivatedAbility) action.copy(), sim)) {
+            return null;
+        }
+        sim.applyEffects();
+        if (checkForRepeatedAction(sim, node, action, currentPlayerId)) {
+            logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action.toString());
+            return null;
+        }
+        if (!sim.checkIfGameIsOver()
+                && (action.isUsesStack() || action instanceof PassAbility)) {
+            // only pass if the last action uses the stack
+            UUID nextPlayerId = sim.getPlayerList().get();
+            do {
+                sim.getPlayer(nextPlayerId).pass(sim);
+                nextPlayerId = sim.getPlayerList().getNext();
+            } while (nextPlayerId != this.getId());
+        }
+        SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayerId);
+        sim.checkStateAndTriggered();
+        int val;
+        if (action instanceof PassAbility && sim.getStack().isEmpty()) {
+            // Stop to simulate deeper if PassAbility and stack is empty
+            val = GameStateEvaluator2.evaluate(this.getId(), sim);
+        } else {
+            val = addActions(newNode, depth - 1, alpha, beta);
+        }
+        return new ActionResult(newNode, val);
+    }
+
+    /**
+     * Searches the actions by the workers of the server. The games are copied
+     * here, copies of the same game must not be made by different threads.
+     *
+     * @return results in the order of the actions
+     */
+    protected List<Future<ActionResult>> searchParallel(final SimulationNode2 node, Game game, List<Ability> actions, final UUID currentPlayerId, final int depth, final int alpha, final int beta) {
+        List<Future<ActionResult>> results = new ArrayList<>(actions.size());
+        for (final Ability action : actions) {
+            final Game sim = game.copy();
+            results.add(workers.submit(new Callable<ActionResult>() {
+                @Override
+                public ActionResult call() throws Exception {
+                    return simulateAction(node, sim, action, currentPlayerId, depth, alpha, beta);
+                }
+            }));
+        }
+        return results;
+    }
+
+    /**
+     * Moves the best action of the last search to the front, it's likely the
+     * best action again and gives the bounds for the parallel search of the
+     * other actions
+     *
+     * @param allActions
+     * @param principalAction
+     */
+    protected void principalActionFirst(List<Ability> allActions, String principalAction) {
+        if (principalAction == null) {
+            return;
+        }
+        for (int i = 1; i < allActions.size(); i++) {
+            if (principalAction.equals(allActions.get(i).toString())) {
+                allActions.add(0, allActions.remove(i));
+                return;
+            }
+        }
+    }
+
+    public void setSearchThreads(int searchThreads) {
+        this.searchThreads = searchThreads;
+    }
+
+    protected static class ActionResult {
+
+        protected final SimulationNode2 node;
+        protected final int val;
+
+        public ActionResult(SimulationNode2 node, int val) {
+            this.node = node;
+            this.val = val;
+        }
+    }
+
     /**
      * Various AI optimizations for actions.
      *
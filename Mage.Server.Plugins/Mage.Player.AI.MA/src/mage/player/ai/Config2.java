@@ -50,6 +50,8 @@ public final class Config2 {
     public static final int evaluatorPermanentFactor;
     public static final int evaluatorCreatureFactor;
     public static final int evaluatorHandFactor;
+    // threads of the server that search the root actions of the AI players in parallel (0 = number of processors)
+    public static final int searchThreads;
 //    public static final int maxThinkSeconds;
 
     static {
@@ -66,6 +68,7 @@ public final class Config2 {
                 p.setProperty("evaluatorPermanentFactor", "1");
                 p.setProperty("evaluatorCreatureFactor", "1");
                 p.setProperty("evaluatorHandFactor", "1");
+                p.setProperty("searchThreads", "0");
 //                p.setProperty("maxThinkSeconds", "30");
             }
         } catch (IOException ex) {
@@ -79,6 +82,8 @@ public final class Config2 {
         evaluatorPermanentFactor = Integer.parseInt(p.getProperty("evaluatorPermanentFactor"));
         evaluatorCreatureFactor = Integer.parseInt(p.getProperty("evaluatorCreatureFactor"));
         evaluatorHandFactor = Integer.parseInt(p.getProperty("evaluatorHandFactor"));
+        int threads = Integer.parseInt(p.getProperty("searchThreads", "0"));
+        searchThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
 //        maxThinkSeconds = Integer.parseInt(p.getProperty("maxThinkSeconds"));
     }
 
@@ -41,8 +41,6 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
-
     protected Game game;
     protected int gameValue;
     protected int score;
@@ -54,14 +52,31 @@ public class SimulationNode2 implements Serializable {
     protected List<String> choices = new ArrayList<>();
     protected UUID playerId;
     protected Combat combat;
+    protected final SimulationSearch search;
 
     public SimulationNode2(SimulationNode2 parent, Game game, int depth, UUID playerId) {
+        this(parent, parent == null ? new SimulationSearch(depth) : parent.search, game, depth, playerId);
+    }
+
+    /**
+     * Creates the root node of a search
+     *
+     * @param search
+     * @param game
+     * @param playerId
+     */
+    public SimulationNode2(SimulationSearch search, Game game, UUID playerId) {
+        this(null, search, game, search.getDepth(), playerId);
+    }
+
+    private SimulationNode2(SimulationNode2 parent, SimulationSearch search, Game game, int depth, UUID playerId) {
         this.parent = parent;
         this.game = game;
         this.depth = depth;
         this.playerId = playerId;
         game.setCustomData(this);
-        nodeCount++;
+        this.search = search;
+        search.addNode();
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -75,12 +90,12 @@ public class SimulationNode2 implements Serializable {
         abilities.add(ability);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
+    public int getNodeCount() {
+        return search.getNodeCount();
     }
 
-    public static int getCount() {
-        return nodeCount;
+    public SimulationSearch getSearch() {
+        return search;
     }
 
     public Game getGame() {
@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.player.ai;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State of one search of a root node, shared by all nodes of its tree. The
+ * subtrees of the root can be searched in parallel, so the state is kept here
+ * and not in the player.
+ */
+public class SimulationSearch implements Serializable {
+
+    // depth of the root node
+    private final int depth;
+    // best action of the last completed search, searched first
+    private final String principalAction;
+    // set if the search timed out, shared by the searches of the iterations
+    private final AtomicBoolean cancelled;
+    private final AtomicInteger nodeCount = new AtomicInteger();
+
+    public SimulationSearch(int depth) {
+        this(depth, null, new AtomicBoolean());
+    }
+
+    public SimulationSearch(int depth, String principalAction, AtomicBoolean cancelled) {
+        this.depth = depth;
+        this.principalAction = principalAction;
+        this.cancelled = cancelled;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public String getPrincipalAction() {
+        return principalAction;
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    public int getNodeCount() {
+        return nodeCount.get();
+    }
+
+    protected int addNode() {
+        return nodeCount.incrementAndGet();
+    }
+}
@@ -16,9 +16,10 @@ public abstract class BaseTreeOptimizer implements TreeOptimizer {
 
     /**
      * List of abilities that should be removed because of optimization.
+     * The optimizers are shared by all searches, so every thread collects its own list.
      *
      */
-    protected List<Ability> toRemove;
+    protected final ThreadLocal<List<Ability>> toRemove = ThreadLocal.withInitial(ArrayList::new);
 
     /**
      * Inner method for filtering actions.
@@ -39,23 +40,19 @@ public abstract class BaseTreeOptimizer implements TreeOptimizer {
     public final void optimize(Game game, List<Ability> actions) {
         filter(game, actions);
 
-        if (toRemove != null) {
-            for (Ability r : toRemove) {
-                actions.remove(r);
-            }
+        List<Ability> removed = toRemove.get();
+        for (Ability r : removed) {
+            actions.remove(r);
         }
+        removed.clear();
     }
 
     /**
      * Mark an ability to be removed
-     * Not thread-safe for performance reasons.
      *
      * @param ability
      */
     protected void removeAbility(Ability ability) {
-        if (toRemove == null) {
-            toRemove = new ArrayList<>();
-        }
-        toRemove.add(ability);
+        toRemove.get().add(ability);
     }
 }
@@ -11,6 +11,8 @@ import mage.game.turn.CombatDamageStep;
 import mage.game.turn.EndOfCombatStep;
 import mage.game.turn.FirstCombatDamageStep;
 import mage.game.turn.Step;
+import mage.player.ai.simulators.CombatEvaluator;
+import mage.player.ai.simulators.CombatGroupSimulator;
 import mage.players.Player;
 import org.apache.log4j.Logger;
 
@@ -200,6 +202,13 @@ public final class CombatUtil {
     }
 
     public static SurviveInfo willItSurvive(Game game, UUID attackingPlayerId, UUID defendingPlayerId, Permanent attacker, Permanent blocker) {
+        if (blocker == null || attacker == null || game.getPlayer(defendingPlayerId) == null) {
+            return null;
+        }
+        if (CombatEvaluator.canEvaluate(game)) {
+            return evaluate(game, defendingPlayerId, attacker, blocker);
+        }
+
         Game sim = game.copy();
 
         Combat combat = sim.getCombat();
@@ -337,23 +346,17 @@ public final class CombatUtil {
     }
     
     public static SurviveInfo willItSurvive2(Game game, UUID attackingPlayerId, UUID defendingPlayerId, Permanent attacker, Permanent blocker) {
-        
-        Game sim = game.copy();
-
-        Combat combat = sim.getCombat();
-        combat.setAttacker(attackingPlayerId);
-        combat.setDefenders(sim);
 
-        if (blocker == null || attacker == null || sim.getPlayer(defendingPlayerId) == null) {
+        if (blocker == null || attacker == null || game.getPlayer(defendingPlayerId) == null) {
             return null;
         }
-        
-        if (attacker.getPower().getValue() >= blocker.getToughness().getValue()) {
-            sim.getBattlefield().removePermanent(blocker.getId());
-        }
-        if (attacker.getToughness().getValue() <= blocker.getPower().getValue()) {
-            sim.getBattlefield().removePermanent(attacker.getId());
+
+        if (CombatEvaluator.canEvaluate(game)) {
+            return evaluate(game, defendingPlayerId, attacker, blocker);
         }
+
+        boolean blockerDied = attacker.getPower().getValue() >= blocker.getToughness().getValue();
+        boolean attackerDied = attacker.getToughness().getValue() <= blocker.getPower().getValue();
         
         /*
         sim.getPlayer(defendingPlayerId).declareBlocker(blocker.getId(), attacker.getId(), sim);
@@ -377,7 +380,14 @@ public final class CombatUtil {
         }
         */
 
-        return new SurviveInfo(!sim.getBattlefield().containsPermanent(attacker.getId()), !sim.getBattlefield().containsPermanent(blocker.getId()));
+        return new SurviveInfo(attackerDied, blockerDied);
+    }
+
+    private static SurviveInfo evaluate(Game game, UUID defendingPlayerId, Permanent attacker, Permanent blocker) {
+        List<Permanent> blockers = new ArrayList<>();
+        blockers.add(blocker);
+        CombatGroupSimulator group = CombatEvaluator.evaluate(defendingPlayerId, attacker, blockers, game);
+        return new SurviveInfo(group.getAttacker().isDead(), group.blockers.get(0).isDead());
     }
 
 }
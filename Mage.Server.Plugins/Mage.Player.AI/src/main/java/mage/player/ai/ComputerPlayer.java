@@ -77,7 +77,6 @@ import mage.players.net.UserData;
 import mage.players.net.UserGroup;
 import mage.target.*;
 import mage.target.common.*;
-import mage.util.Copier;
 import mage.util.RandomUtil;
 import mage.util.TournamentUtil;
 import mage.util.TreeNode;
@@ -2100,13 +2099,12 @@ public class ComputerPlayer extends PlayerImpl implements Player {
 
     protected void addBlockSimulations(List<Permanent> blockers, TreeNode<CombatSimulator> node, Game game) {
         int numGroups = node.getData().groups.size();
-        Copier<CombatSimulator> copier = new Copier<>();
         for (Permanent blocker : blockers) {
             List<Permanent> subList = remove(blockers, blocker);
             for (int i = 0; i < numGroups; i++) {
                 if (node.getData().groups.get(i).canBlock(blocker, game)) {
-                    CombatSimulator combat = copier.copy(node.getData());
-                    combat.groups.get(i).blockers.add(new CreatureSimulator(blocker));
+                    CombatSimulator combat = node.getData().copy();
+                    combat.groups.get(i).addBlocker(blocker, game);
                     TreeNode<CombatSimulator> child = new TreeNode<>(combat);
                     node.addChild(child);
                     addBlockSimulations(subList, child, game);
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.player.ai.simulators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import mage.game.Game;
+import mage.game.events.GameEvent.EventType;
+import mage.game.permanent.Permanent;
+
+/**
+ * Evaluates combat damage on the compact creature model of the simulators,
+ * without copying the game. The model is only valid as long as no replacement
+ * or prevention effects can change the combat damage or destroying of
+ * creatures, otherwise the combat has to be simulated on a copy of the game.
+ */
+public final class CombatEvaluator {
+
+    private static final EventType[] COMBAT_EVENT_TYPES = {
+        EventType.DAMAGE_CREATURE,
+        EventType.DAMAGE_PLAYER,
+        EventType.DAMAGE_PLANESWALKER,
+        EventType.DESTROY_PERMANENT
+    };
+
+    private CombatEvaluator() {
+    }
+
+    /**
+     * Checks if the outcome of a combat can be evaluated with the model
+     *
+     * @param game
+     * @return false if a full simulation of the combat is needed
+     */
+    public static boolean canEvaluate(Game game) {
+        for (EventType eventType : COMBAT_EVENT_TYPES) {
+            if (game.getContinuousEffects().hasReplacementEffects(eventType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deals the combat damage between the attacker and its blockers
+     *
+     * @param defenderId
+     * @param attacker
+     * @param blockers
+     * @param game
+     * @return the group with the damaged creatures
+     */
+    public static CombatGroupSimulator evaluate(UUID defenderId, Permanent attacker, List<Permanent> blockers, Game game) {
+        List<UUID> attackers = new ArrayList<>();
+        attackers.add(attacker.getId());
+        List<UUID> blockerIds = new ArrayList<>();
+        for (Permanent blocker : blockers) {
+            blockerIds.add(blocker.getId());
+        }
+        CombatGroupSimulator group = new CombatGroupSimulator(defenderId, attackers, blockerIds, game);
+        group.simulateCombat();
+        return group;
+    }
+}
@@ -46,7 +46,13 @@ public class CombatGroupSimulator implements Serializable {
     public UUID defenderId;
     public boolean defenderIsPlaneswalker;
     public int unblockedDamage;
+    // poison counters the defending player gets from unblocked attackers with infect
+    public int unblockedPoison;
+    // life the attacking and the defending player gain from lifelink
+    public int attackerLifeGained;
+    public int defenderLifeGained;
     private CreatureSimulator attacker;
+    private boolean blocked;
 
     public CombatGroupSimulator(UUID defenderId, List<UUID> attackers, List<UUID> blockers, Game game) {
         this.defenderId = defenderId;
@@ -54,12 +60,64 @@ public class CombatGroupSimulator implements Serializable {
             Permanent permanent = game.getPermanent(attackerId);
             this.attackers.add(new CreatureSimulator(permanent));
         }
-        for (UUID blockerId: blockers) {
-            Permanent permanent = game.getPermanent(blockerId);
-            this.blockers.add(new CreatureSimulator(permanent));
-        }
         //NOTE:  assumes no banding
         attacker = this.attackers.get(0);
+        for (UUID blockerId: blockers) {
+            addBlocker(game.getPermanent(blockerId), game);
+        }
+    }
+
+    public CombatGroupSimulator(UUID defenderId, CreatureSimulator attacker, List<CreatureSimulator> blockers) {
+        this.defenderId = defenderId;
+        this.attackers.add(attacker);
+        this.blockers.addAll(blockers);
+        this.attacker = attacker;
+    }
+
+    public CombatGroupSimulator(final CombatGroupSimulator group) {
+        for (CreatureSimulator creature: group.attackers) {
+            this.attackers.add(creature.copy());
+        }
+        for (CreatureSimulator creature: group.blockers) {
+            this.blockers.add(creature.copy());
+        }
+        this.defenderId = group.defenderId;
+        this.defenderIsPlaneswalker = group.defenderIsPlaneswalker;
+        this.unblockedDamage = group.unblockedDamage;
+        this.unblockedPoison = group.unblockedPoison;
+        this.attackerLifeGained = group.attackerLifeGained;
+        this.defenderLifeGained = group.defenderLifeGained;
+        this.attacker = this.attackers.get(0);
+        this.blocked = group.blocked;
+    }
+
+    public CombatGroupSimulator copy() {
+        return new CombatGroupSimulator(this);
+    }
+
+    /**
+     * Adds the blocker to the group, damage between the attacker and the
+     * blocker is prevented if one of them has protection from the other
+     *
+     * @param permanent
+     * @param game
+     */
+    public void addBlocker(Permanent permanent, Game game) {
+        CreatureSimulator blocker = new CreatureSimulator(permanent);
+        Permanent attackingPermanent = game.getPermanent(attacker.id);
+        if (attackingPermanent != null) {
+            if (permanent.hasProtectionFrom(attackingPermanent, game)) {
+                blocker.preventsDamageFrom.add(attacker.id);
+            }
+            if (attackingPermanent.hasProtectionFrom(permanent, game)) {
+                attacker.preventsDamageFrom.add(blocker.id);
+            }
+        }
+        blockers.add(blocker);
+    }
+
+    public CreatureSimulator getAttacker() {
+        return attacker;
     }
 
     private boolean hasFirstOrDoubleStrike() {
@@ -80,6 +138,11 @@ public class CombatGroupSimulator implements Serializable {
 
     public void simulateCombat() {
         unblockedDamage = 0;
+        unblockedPoison = 0;
+        attackerLifeGained = 0;
+        defenderLifeGained = 0;
+        // an attacker stays blocked even if all its blockers are removed by first strike damage
+        blocked = !blockers.isEmpty();
 
         if (hasFirstOrDoubleStrike())
             assignDamage(true);
@@ -87,57 +150,66 @@ public class CombatGroupSimulator implements Serializable {
     }
 
     private void assignDamage(boolean first) {
-        if (blockers.isEmpty()) {
-            if (canDamage(attacker, first))
-                unblockedDamage += attacker.power;
-        }
-        else if (blockers.size() == 1) {
-            CreatureSimulator blocker = blockers.get(0);
-            if (canDamage(attacker, first)) {
-                if (attacker.hasTrample) {
-                    int lethalDamage = blocker.getLethalDamage();
-                    if (attacker.power > lethalDamage) {
-                        blocker.damage += lethalDamage;
-                        unblockedDamage += attacker.power - lethalDamage;
-                    }
-                    else {
-                        blocker.damage += attacker.power;
-                    }
-                }
-            }
-            if (canDamage(blocker, first)) {
-                attacker.damage += blocker.power;
+        if (attacker.isDead()) {
+            return;
+        }
+        // combat damage is dealt simultaneously, so only creatures that survived the first strike damage step take part
+        List<CreatureSimulator> survivingBlockers = new ArrayList<>();
+        for (CreatureSimulator blocker: blockers) {
+            if (!blocker.isDead()) {
+                survivingBlockers.add(blocker);
             }
         }
-        else {
-            int damage = attacker.power;
-            for (CreatureSimulator blocker: blockers) {
-                if (damage > 0 && canDamage(attacker, first)) {
-                    int lethalDamage = blocker.getLethalDamage();
-                    if (damage > lethalDamage) {
-                        blocker.damage += lethalDamage;
-                        damage -= lethalDamage;
+        if (canDamage(attacker, first) && attacker.power > 0) {
+            if (!blocked) {
+                damageDefender(attacker.power);
+            }
+            else {
+                int damage = attacker.power;
+                for (CreatureSimulator blocker: survivingBlockers) {
+                    int assigned = Math.min(damage, blocker.getLethalDamage(attacker));
+                    damageBlocker(blocker, assigned);
+                    damage -= assigned;
+                }
+                if (damage > 0) {
+                    if (attacker.hasTrample) {
+                        damageDefender(damage);
                     }
-                    else {
-                        blocker.damage += damage;
-                        damage = 0;
+                    else if (!survivingBlockers.isEmpty()) {
+                        damageBlocker(survivingBlockers.get(0), damage);
                     }
                 }
-                if (canDamage(blocker, first)) {
-                    attacker.damage += blocker.power;
-                }
             }
-            if (damage > 0) {
-                if (attacker.hasTrample) {
-                    unblockedDamage += damage;
-                }
-                else {
-                    blockers.get(0).damage += damage;
+        }
+        for (CreatureSimulator blocker: survivingBlockers) {
+            if (canDamage(blocker, first)) {
+                int dealt = attacker.receiveDamage(blocker, blocker.power);
+                if (blocker.hasLifelink) {
+                    defenderLifeGained += dealt;
                 }
             }
         }
     }
 
+    private void damageBlocker(CreatureSimulator blocker, int damage) {
+        int dealt = blocker.receiveDamage(attacker, damage);
+        if (attacker.hasLifelink) {
+            attackerLifeGained += dealt;
+        }
+    }
+
+    private void damageDefender(int damage) {
+        if (attacker.hasInfect && !defenderIsPlaneswalker) {
+            unblockedPoison += damage;
+        }
+        else {
+            unblockedDamage += damage;
+        }
+        if (attacker.hasLifelink) {
+            attackerLifeGained += damage;
+        }
+    }
+
     private boolean canDamage(CreatureSimulator creature, boolean first) {
         if (first && (creature.hasFirstStrike || creature.hasDoubleStrike))
             return true;
@@ -157,7 +229,7 @@ public class CombatGroupSimulator implements Serializable {
     public int evaluateCombat() {
         int survivingBlockers = 0;
         for (CreatureSimulator blocker: blockers) {
-            if (blocker.damage < blocker.toughness)
+            if (!blocker.isDead())
                 survivingBlockers++;
         }
         if (attacker.isDead()) {
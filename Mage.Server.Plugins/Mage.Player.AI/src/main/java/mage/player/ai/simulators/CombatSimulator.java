@@ -47,6 +47,7 @@ public class CombatSimulator implements Serializable {
     public List<CombatGroupSimulator> groups = new ArrayList<>();
     public List<UUID> defenders = new ArrayList<>();
     public Map<UUID, Integer> playersLife = new HashMap<>();
+    public Map<UUID, Integer> playersPoison = new HashMap<>();
     public Map<UUID, Integer> planeswalkerLoyalty = new HashMap<>();
     public UUID attackerId;
     public int rating = 0;
@@ -61,6 +62,7 @@ public class CombatSimulator implements Serializable {
             Player player = game.getPlayer(defenderId);
             if (player != null) {
                 simCombat.playersLife.put(defenderId, player.getLife());
+                simCombat.playersPoison.put(defenderId, player.getCounters().getCount(CounterType.POISON));
             }
             else {
                 Permanent permanent = game.getPermanent(defenderId);
@@ -72,6 +74,22 @@ public class CombatSimulator implements Serializable {
 
     public CombatSimulator() {}
 
+    public CombatSimulator(final CombatSimulator combat) {
+        for (CombatGroupSimulator group: combat.groups) {
+            this.groups.add(group.copy());
+        }
+        this.defenders.addAll(combat.defenders);
+        this.playersLife.putAll(combat.playersLife);
+        this.playersPoison.putAll(combat.playersPoison);
+        this.planeswalkerLoyalty.putAll(combat.planeswalkerLoyalty);
+        this.attackerId = combat.attackerId;
+        this.rating = combat.rating;
+    }
+
+    public CombatSimulator copy() {
+        return new CombatSimulator(this);
+    }
+
     public void clear() {
         groups.clear();
         defenders.clear();
@@ -86,14 +104,12 @@ public class CombatSimulator implements Serializable {
 
     public int evaluate() {
         Map<UUID, Integer> damage = new HashMap<>();
+        Map<UUID, Integer> poison = new HashMap<>();
         int result = 0;
         for (CombatGroupSimulator group: groups) {
-            if (!damage.containsKey(group.defenderId)) {
-                damage.put(group.defenderId, group.unblockedDamage);
-            }
-            else {
-                damage.put(group.defenderId, damage.get(group.defenderId) + group.unblockedDamage);
-            }
+            // life gained by lifelink blockers counts against the damage
+            damage.merge(group.defenderId, group.unblockedDamage - group.defenderLifeGained, Integer::sum);
+            poison.merge(group.defenderId, group.unblockedPoison, Integer::sum);
         }
         //check for lethal damage to player
         for (Entry<UUID, Integer> entry: playersLife.entrySet()) {
@@ -102,6 +118,9 @@ public class CombatSimulator implements Serializable {
                 //NOTE:  not applicable for mulitplayer games
                 return Integer.MAX_VALUE;
             }
+            if (poison.containsKey(entry.getKey()) && playersPoison.getOrDefault(entry.getKey(), 0) + poison.get(entry.getKey()) >= 10) {
+                return Integer.MAX_VALUE;
+            }
         }
 
         for (CombatGroupSimulator group: groups) {
@@ -29,9 +29,15 @@
 package mage.player.ai.simulators;
 
 import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
+import mage.abilities.keyword.DeathtouchAbility;
 import mage.abilities.keyword.DoubleStrikeAbility;
 import mage.abilities.keyword.FirstStrikeAbility;
+import mage.abilities.keyword.IndestructibleAbility;
+import mage.abilities.keyword.InfectAbility;
+import mage.abilities.keyword.LifelinkAbility;
 import mage.abilities.keyword.TrampleAbility;
 import mage.game.permanent.Permanent;
 
@@ -47,6 +53,20 @@ public class CreatureSimulator implements Serializable {
     public boolean hasFirstStrike;
     public boolean hasDoubleStrike;
     public boolean hasTrample;
+    public boolean hasDeathtouch;
+    public boolean hasLifelink;
+    public boolean hasInfect;
+    public boolean isIndestructible;
+    // damage from deathtouch sources destroys the creature regardless of its toughness
+    public boolean damagedByDeathtouch;
+    // creatures whose damage to this creature is prevented (e.g. protection)
+    public Set<UUID> preventsDamageFrom = new HashSet<>();
+
+    public CreatureSimulator(UUID id, int power, int toughness) {
+        this.id = id;
+        this.power = power;
+        this.toughness = toughness;
+    }
 
     public CreatureSimulator(Permanent permanent) {
         this.id = permanent.getId();
@@ -56,13 +76,78 @@ public class CreatureSimulator implements Serializable {
         this.hasDoubleStrike = permanent.getAbilities().containsKey(DoubleStrikeAbility.getInstance().getId());
         this.hasFirstStrike = permanent.getAbilities().containsKey(FirstStrikeAbility.getInstance().getId());
         this.hasTrample = permanent.getAbilities().containsKey(TrampleAbility.getInstance().getId());
+        this.hasDeathtouch = permanent.getAbilities().containsKey(DeathtouchAbility.getInstance().getId());
+        this.hasLifelink = permanent.getAbilities().containsKey(LifelinkAbility.getInstance().getId());
+        this.hasInfect = permanent.getAbilities().containsKey(InfectAbility.getInstance().getId());
+        this.isIndestructible = permanent.getAbilities().containsKey(IndestructibleAbility.getInstance().getId());
+    }
+
+    public CreatureSimulator(final CreatureSimulator creature) {
+        this.id = creature.id;
+        this.damage = creature.damage;
+        this.power = creature.power;
+        this.toughness = creature.toughness;
+        this.hasFirstStrike = creature.hasFirstStrike;
+        this.hasDoubleStrike = creature.hasDoubleStrike;
+        this.hasTrample = creature.hasTrample;
+        this.hasDeathtouch = creature.hasDeathtouch;
+        this.hasLifelink = creature.hasLifelink;
+        this.hasInfect = creature.hasInfect;
+        this.isIndestructible = creature.isIndestructible;
+        this.damagedByDeathtouch = creature.damagedByDeathtouch;
+        this.preventsDamageFrom.addAll(creature.preventsDamageFrom);
+    }
+
+    public CreatureSimulator copy() {
+        return new CreatureSimulator(this);
     }
 
     public boolean isDead() {
-        return damage >= toughness;
+        if (toughness <= 0) {
+            return true;
+        }
+        return !isIndestructible && (damage >= toughness || damagedByDeathtouch);
+    }
+
+    /**
+     * Deals damage from the source to this creature, damage from sources
+     * with infect is dealt as -1/-1 counters
+     *
+     * @param source
+     * @param amount
+     * @return the damage that was not prevented
+     */
+    public int receiveDamage(CreatureSimulator source, int amount) {
+        if (amount <= 0 || preventsDamageFrom.contains(source.id)) {
+            return 0;
+        }
+        if (source.hasInfect) {
+            toughness -= amount;
+        } else {
+            damage += amount;
+        }
+        if (source.hasDeathtouch) {
+            damagedByDeathtouch = true;
+        }
+        return amount;
     }
 
     public int getLethalDamage() {
         return toughness - damage;
     }
+
+    /**
+     * Returns the damage the source has to assign to this creature before it
+     * can assign damage to the next creature or the defender
+     *
+     * @param source
+     * @return
+     */
+    public int getLethalDamage(CreatureSimulator source) {
+        int lethalDamage = Math.max(0, getLethalDamage());
+        if (source.hasDeathtouch) {
+            return Math.min(1, lethalDamage);
+        }
+        return lethalDamage;
+    }
 }
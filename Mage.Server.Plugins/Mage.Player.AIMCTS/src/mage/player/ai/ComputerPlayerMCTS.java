@@ -42,11 +42,19 @@ import mage.players.Player;
 import org.apache.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -59,12 +67,35 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
     private static final int THINK_MAX_RATIO = 100;
     private static final double THINK_TIME_MULTIPLIER = 2.0;
     private static final boolean USE_MULTIPLE_THREADS = true;
+    // all threads grow the same tree instead of merging one tree per thread after the search
+    private static final boolean USE_TREE_PARALLELIZATION = true;
+    // nodes of the same game state share their statistics
+    private static final boolean USE_TRANSPOSITION_TABLE = true;
+    // maximum number of states in each of the action caches
+    private static final int ACTION_CACHE_SIZE = 10000;
 
     protected transient MCTSNode root;
+    protected transient Map<Long, MCTSNode.Statistics> transpositions;
+    protected transient MCTSNode.ActionCaches actionCaches;
     protected int maxThinkTime;
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
     private int poolSize;
 
+    // shared by all MCTS players, so the threads are not created again for each decision. The think time
+    // of an executor starts when it's submitted, so the executors of other players waiting in the pool
+    // don't delay the decision.
+    private static final ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+        private int threadCount;
+
+        @Override
+        public synchronized Thread newThread(Runnable runnable) {
+            threadCount++;
+            Thread thread = new Thread(runnable, "MCTS" + threadCount);
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
     public ComputerPlayerMCTS(String name, RangeOfInfluence range, int skill) {
         super(name, range);
         human = false;
@@ -93,7 +124,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
                 logList(game.getTurn().getValue(game.getTurnNum()) + name + " hand: ", new ArrayList(hand.getCards(game)));
                 lastPhase = game.getTurn().getValue(game.getTurnNum());
                 if (MCTSNode.USE_ACTION_CACHE) {
-                    int count = MCTSNode.cleanupCache(game.getTurnNum());
+                    int count = getActionCaches().cleanup(game.getTurnNum());
                     if (count > 0)
                         logger.info("Removed " + count + " cache entries");
                 }
@@ -114,11 +145,15 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
     }
 
     protected void calculateActions(Game game, NextAction action) {
+        // a new table for each search, so it only contains the states of the current tree
+        transpositions = USE_TRANSPOSITION_TABLE ? new ConcurrentHashMap<>() : null;
         if (root == null) {
             Game sim = createMCTSGame(game);
             MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
             player.setNextAction(action);
-            root = new MCTSNode(playerId, sim);
+            root = new MCTSNode(playerId, sim, transpositions, getActionCaches());
+        } else {
+            root.setTranspositions(transpositions);
         }
         applyMCTS(game, action);
         root = root.bestChild();
@@ -218,7 +253,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
             sb.append(game.getPermanent(attackerId).getName()).append(',');
         }
         logger.info(sb.toString());
-        MCTSNode.logHitMiss();
+        logHitMiss();
     }
 
     @Override
@@ -239,7 +274,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
             }
         }
         logger.info(sb.toString());
-        MCTSNode.logHitMiss();
+        logHitMiss();
     }
 
 //    @Override
@@ -285,28 +320,40 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
         
         if (thinkTime > 0) {
             if (USE_MULTIPLE_THREADS) {
-                ExecutorService pool = Executors.newFixedThreadPool(poolSize);
                 List<MCTSExecutor> tasks = new ArrayList<>();
                 for (int i = 0; i < poolSize; i++) {
-                    Game sim = createMCTSGame(game);
-                    MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
-                    player.setNextAction(action);
-                    MCTSExecutor exec = new MCTSExecutor(sim, playerId, thinkTime);
+                    MCTSExecutor exec;
+                    if (USE_TREE_PARALLELIZATION) {
+                        exec = new MCTSExecutor(root, playerId, thinkTime);
+                    } else {
+                        Game sim = createMCTSGame(game);
+                        MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
+                        player.setNextAction(action);
+                        exec = new MCTSExecutor(sim, playerId, thinkTime, transpositions, getActionCaches());
+                    }
                     tasks.add(exec);
                 }
 
+                List<Future<Boolean>> results = new ArrayList<>();
                 try {
-                    pool.invokeAll(tasks, thinkTime, TimeUnit.SECONDS);
-                    pool.awaitTermination(1, TimeUnit.SECONDS);
-                    pool.shutdownNow();
+                    // the executors stop by themselves after the think time, the timeout only cancels hanging simulations
+                    results = pool.invokeAll(tasks, thinkTime + 1, TimeUnit.SECONDS);
                 } catch (InterruptedException | RejectedExecutionException ex) {
                     logger.warn("applyMCTS interrupted");
                 }
                 
                 int simCount = 0;
-                for (MCTSExecutor task: tasks) {
+                Set<MCTSNode.Statistics> merged = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (int i = 0; i < tasks.size(); i++) {
+                    MCTSExecutor task = tasks.get(i);
+                    if (i >= results.size() || !isCompleted(results.get(i))) {
+                        // a cancelled executor can still run a hanging simulation that changes its tree
+                        continue;
+                    }
                     simCount += task.getSimCount();
-                    root.merge(task.getRoot());
+                    if (!USE_TREE_PARALLELIZATION) {
+                        root.merge(task.getRoot(), merged);
+                    }
                     task.clear();
                 }
                 tasks.clear();
@@ -314,7 +361,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
                 totalSimulations += simCount;
                 logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds - nodes in tree: " + root.size());
                 logger.info("Total: Simulated " + totalSimulations + " games in " + totalThinkTime + " seconds - Average: " + totalSimulations/totalThinkTime);
-                MCTSNode.logHitMiss();
+                logHitMiss();
             }
             else {
                 long startTime = System.nanoTime();
@@ -355,6 +402,34 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
 
     }
 
+    private boolean isCompleted(Future<Boolean> result) {
+        if (result.isCancelled()) {
+            return false;
+        }
+        try {
+            result.get();
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            logger.error("MCTS executor failed", ex);
+        }
+        return false;
+    }
+
+    protected MCTSNode.ActionCaches getActionCaches() {
+        if (actionCaches == null) {
+            actionCaches = new MCTSNode.ActionCaches(ACTION_CACHE_SIZE);
+        }
+        return actionCaches;
+    }
+
+    protected void logHitMiss() {
+        if (MCTSNode.USE_ACTION_CACHE) {
+            getActionCaches().logHitMiss();
+        }
+    }
+
     //try to ensure that there are at least THINK_MIN_RATIO simulations per node at all times
     private int calculateThinkTime(Game game, NextAction action) {
         int thinkTime;
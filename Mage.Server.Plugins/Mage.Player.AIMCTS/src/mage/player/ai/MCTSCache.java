@@ -0,0 +1,180 @@
+/*
+ *  Copyright 2011 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.player.ai;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of values calculated for a game state. The state values are
+ * only kept as 128 bit hash, if the cache is full the least recently used
+ * entry is removed.
+ *
+ * @param <V>
+ */
+public class MCTSCache<V> {
+
+    private final String name;
+    private final int maxSize;
+    private final LinkedHashMap<StateKey, CacheEntry<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private static class StateKey {
+
+        private final long hash1;
+        private final long hash2;
+
+        StateKey(String stateValue) {
+            // two independent 64 bit hashes (FNV-1a and polynomial), so collisions can be neglected
+            long h1 = 0xcbf29ce484222325L;
+            long h2 = stateValue.length();
+            for (int i = 0; i < stateValue.length(); i++) {
+                char c = stateValue.charAt(i);
+                h1 ^= c;
+                h1 *= 0x100000001b3L;
+                h2 = h2 * 0x9e3779b97f4a7c15L + c;
+            }
+            this.hash1 = h1;
+            this.hash2 = h2;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StateKey)) {
+                return false;
+            }
+            StateKey other = (StateKey) obj;
+            return hash1 == other.hash1 && hash2 == other.hash2;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (hash1 ^ (hash1 >>> 32));
+        }
+    }
+
+    private static class CacheEntry<V> {
+
+        private final V value;
+        private final int turnNum;
+
+        CacheEntry(V value, int turnNum) {
+            this.value = value;
+            this.turnNum = turnNum;
+        }
+    }
+
+    public MCTSCache(String name, int maxSize) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<StateKey, CacheEntry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StateKey, CacheEntry<V>> eldest) {
+                if (size() > MCTSCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the state or calculates and caches it. The
+     * value is calculated without holding the lock of the cache, so it can
+     * happen that two threads calculate the value of the same state.
+     *
+     * @param stateValue
+     * @param turnNum turn of the state, used to remove entries of past turns
+     * @param calculation
+     * @return
+     */
+    public V get(String stateValue, int turnNum, Supplier<V> calculation) {
+        StateKey key = new StateKey(stateValue);
+        synchronized (this) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                return entry.value;
+            }
+        }
+        misses.incrementAndGet();
+        V value = calculation.get();
+        synchronized (this) {
+            entries.put(key, new CacheEntry<>(value, turnNum));
+        }
+        return value;
+    }
+
+    /**
+     * Removes the entries of states before the given turn
+     *
+     * @param turnNum
+     * @return number of removed entries
+     */
+    public synchronized int removeBeforeTurn(int turnNum) {
+        int count = 0;
+        for (Iterator<CacheEntry<V>> iterator = entries.values().iterator(); iterator.hasNext();) {
+            if (iterator.next().turnNum < turnNum) {
+                iterator.remove();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return name + " Cache -- Hits: " + hits.get() + " Misses: " + misses.get() + " Evictions: " + evictions.get() + " Size: " + size();
+    }
+}
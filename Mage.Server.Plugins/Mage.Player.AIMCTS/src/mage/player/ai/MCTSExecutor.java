@@ -27,6 +27,7 @@
  */
 package mage.player.ai;
 
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import mage.game.Game;
@@ -40,15 +41,46 @@ public class MCTSExecutor implements Callable<Boolean> {
 
     protected transient MCTSNode root;
     protected int thinkTime;
+    // the think time starts with the creation, an executor that waits in the pool doesn't think longer
+    protected final long endTime;
     protected UUID playerId;
     protected int simCount;
+    protected boolean sharedTree;
 
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
 
-    public MCTSExecutor(Game sim, UUID playerId, int thinkTime) {
+    /**
+     * Creates an executor that grows its own tree, it has to be merged after
+     * the search (root parallelization)
+     *
+     * @param sim
+     * @param playerId
+     * @param thinkTime
+     * @param transpositions statistics shared with the other executors or
+     * null
+     * @param actionCaches
+     */
+    public MCTSExecutor(Game sim, UUID playerId, int thinkTime, Map<Long, MCTSNode.Statistics> transpositions, MCTSNode.ActionCaches actionCaches) {
         this.playerId = playerId;
         this.thinkTime = thinkTime;
-        root = new MCTSNode(playerId, sim);
+        this.endTime = System.nanoTime() + thinkTime * 1000000000L;
+        root = new MCTSNode(playerId, sim, transpositions, actionCaches);
+    }
+
+    /**
+     * Creates an executor that grows the given tree together with other
+     * executors (tree parallelization)
+     *
+     * @param root
+     * @param playerId
+     * @param thinkTime
+     */
+    public MCTSExecutor(MCTSNode root, UUID playerId, int thinkTime) {
+        this.playerId = playerId;
+        this.thinkTime = thinkTime;
+        this.endTime = System.nanoTime() + thinkTime * 1000000000L;
+        this.root = root;
+        this.sharedTree = true;
     }
 
     @Override
@@ -56,13 +88,18 @@ public class MCTSExecutor implements Callable<Boolean> {
         simCount = 0;
         MCTSNode current;
 
-
-        while (true) {
+        while (System.nanoTime() < endTime && !Thread.currentThread().isInterrupted()) {
             current = root;
+            if (sharedTree) {
+                current.addVirtualLoss();
+            }
 
             // Selection
             while (!current.isLeaf()) {
                 current = current.select(this.playerId);
+                if (sharedTree) {
+                    current.addVirtualLoss();
+                }
             }
 
             int result;
@@ -74,11 +111,21 @@ public class MCTSExecutor implements Callable<Boolean> {
                 if (current.getNumChildren() > 1) {
                     // Simulation
                     current = current.select(this.playerId);
+                    if (sharedTree) {
+                        current.addVirtualLoss();
+                    }
                     result = current.simulate(this.playerId);
                     simCount++;
                 }
-                else {
+                else if (current.getNumChildren() == 1) {
                     current = current.select(this.playerId);
+                    if (sharedTree) {
+                        current.addVirtualLoss();
+                    }
+                    result = 0;
+                }
+                else {
+                    // no actions to choose from, nothing to count
                     result = 0;
                 }
             }
@@ -86,8 +133,13 @@ public class MCTSExecutor implements Callable<Boolean> {
                 result = current.isWinner(this.playerId)?1:-1;
             }
             // Backpropagation
-            current.backpropagate(result);
+            if (sharedTree) {
+                current.backpropagateVirtualLoss(result);
+            } else {
+                current.backpropagate(result);
+            }
         }
+        return true;
     }
 
     public MCTSNode getRoot() {
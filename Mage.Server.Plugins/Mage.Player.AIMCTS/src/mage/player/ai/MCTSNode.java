@@ -29,11 +29,13 @@ package mage.player.ai;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -59,10 +61,10 @@ public class MCTSNode {
     private static final double passRatioTolerance = 0.0;
     private static final Logger logger = Logger.getLogger(MCTSNode.class);
 
-    private int visits = 0;
-    private int wins = 0;
+    private final Statistics statistics;
     private MCTSNode parent;
-    private final List<MCTSNode> children = new ArrayList<>();
+    // replaced as a whole when the node is expanded, so other threads can iterate it without locking
+    private volatile List<MCTSNode> children = new ArrayList<>();
     private Ability action;
     private Game game;
     private Combat combat;
@@ -71,17 +73,47 @@ public class MCTSNode {
     private UUID playerId;
     private boolean terminal = false;
     private UUID targetPlayer;
+    private final long stateHash;
+    private Map<Long, Statistics> transpositions;
+    private final ActionCaches actionCaches;
+    // number of nodes created for the tree, shared by all its nodes
+    private final AtomicInteger nodeCount;
 
-    private static int nodeCount;
+    /**
+     * Visit and win counters of a node, shared by all nodes of the same game
+     * state if a transposition table is used
+     */
+    public static class Statistics {
+
+        private final AtomicInteger visits = new AtomicInteger();
+        private final AtomicInteger wins = new AtomicInteger();
+    }
 
     public MCTSNode(UUID targetPlayer, Game game) {
+        this(targetPlayer, game, null, null);
+    }
+
+    /**
+     * @param targetPlayer
+     * @param game
+     * @param transpositions table of the statistics by hashed state value,
+     * shared by all nodes created for the search or null to not share
+     * statistics between nodes
+     * @param actionCaches caches of the possible actions used if
+     * USE_ACTION_CACHE is set or null
+     */
+    public MCTSNode(UUID targetPlayer, Game game, Map<Long, Statistics> transpositions, ActionCaches actionCaches) {
         this.targetPlayer = targetPlayer;
         this.game = game;
         this.stateValue = game.getState().getValue(game, targetPlayer);
         this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = hashStateValue(stateValue);
         this.terminal = game.checkIfGameIsOver();
+        this.transpositions = transpositions;
+        this.actionCaches = actionCaches;
+        this.statistics = createStatistics();
         setPlayer();
-        nodeCount = 1;
+        this.nodeCount = new AtomicInteger(1);
 //        logger.info(this.stateValue);
     }    
 
@@ -90,11 +122,16 @@ public class MCTSNode {
         this.game = game;
         this.stateValue = game.getState().getValue(game, targetPlayer);
         this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = hashStateValue(stateValue);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         this.action = action;
+        this.transpositions = parent.transpositions;
+        this.actionCaches = parent.actionCaches;
+        this.statistics = createStatistics();
         setPlayer();
-        nodeCount++;
+        this.nodeCount = parent.nodeCount;
+        nodeCount.incrementAndGet();
 //        logger.info(this.stateValue);
     }
 
@@ -104,13 +141,61 @@ public class MCTSNode {
         this.combat = combat;
         this.stateValue = game.getState().getValue(game, targetPlayer);
         this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = hashStateValue(stateValue);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
+        this.transpositions = parent.transpositions;
+        this.actionCaches = parent.actionCaches;
+        this.statistics = createStatistics();
         setPlayer();
-        nodeCount++;
+        this.nodeCount = parent.nodeCount;
+        nodeCount.incrementAndGet();
 //        logger.info(this.stateValue);
     }
 
+    private Statistics createStatistics() {
+        if (transpositions == null) {
+            return new Statistics();
+        }
+        return transpositions.computeIfAbsent(stateHash, key -> new Statistics());
+    }
+
+    /**
+     * Sets the transposition table used by this node and its descendants for
+     * the next search. The statistics of the nodes are added to the table, if
+     * the table doesn't contain statistics for the state yet.
+     *
+     * @param transpositions
+     */
+    public void setTranspositions(Map<Long, Statistics> transpositions) {
+        ArrayDeque<MCTSNode> queue = new ArrayDeque<>();
+        queue.add(this);
+        while (!queue.isEmpty()) {
+            MCTSNode current = queue.remove();
+            current.transpositions = transpositions;
+            if (transpositions != null) {
+                transpositions.putIfAbsent(current.stateHash, current.statistics);
+            }
+            queue.addAll(current.children);
+        }
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the state value, the state values themselves are
+     * too big to be kept as keys of the transposition table
+     *
+     * @param stateValue
+     * @return
+     */
+    protected static long hashStateValue(String stateValue) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < stateValue.length(); i++) {
+            hash ^= stateValue.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
     private void setPlayer() {
         if (game.getStep().getStepPart() == StepPart.PRIORITY) {
             playerId = game.getPriorityPlayerId();
@@ -130,13 +215,16 @@ public class MCTSNode {
         if (children.size() == 1) {
             return children.get(0);
         }
+        int visits = statistics.visits.get();
         for (MCTSNode node: children) {
             double uct;
-            if (node.visits > 0)
+            int nodeVisits = node.statistics.visits.get();
+            int nodeWins = node.statistics.wins.get();
+            if (nodeVisits > 0)
                 if (isTarget)
-                    uct = (node.wins / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = (nodeWins / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (nodeVisits)));
                 else
-                    uct = ((node.visits - node.wins) / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = ((nodeVisits - nodeWins) / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (nodeVisits)));
             else
                 // ensure that a random unvisited node is played first
                 uct = 10000 + 1000 * Math.random();
@@ -148,7 +236,15 @@ public class MCTSNode {
         return bestChild;
     }
 
-    public void expand() {
+    /**
+     * Creates the children of the node. If another thread has expanded the
+     * node meanwhile nothing is done.
+     */
+    public synchronized void expand() {
+        if (game == null || !children.isEmpty()) {
+            return;
+        }
+        List<MCTSNode> children = new ArrayList<>();
         MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
         if (player.getNextAction() == null) {
             logger.fatal("next action is null");
@@ -157,7 +253,7 @@ public class MCTSNode {
             case PRIORITY:
 //                logger.info("Priority for player:" + player.getName() + " turn: " + game.getTurnNum() + " phase: " + game.getPhase().getType() + " step: " + game.getStep().getType());
                 List<Ability> abilities;
-                if (!USE_ACTION_CACHE)
+                if (!USE_ACTION_CACHE || actionCaches == null)
                     abilities = player.getPlayableOptions(game);
                 else
                     abilities = getPlayables(player, fullStateValue, game);
@@ -173,7 +269,7 @@ public class MCTSNode {
             case SELECT_ATTACKERS:
 //                logger.info("Select attackers:" + player.getName());
                 List<List<UUID>> attacks;
-                if (!USE_ACTION_CACHE)
+                if (!USE_ACTION_CACHE || actionCaches == null)
                     attacks = player.getAttacks(game);
                 else
                     attacks = getAttacks(player, fullStateValue, game);
@@ -191,7 +287,7 @@ public class MCTSNode {
             case SELECT_BLOCKERS:
 //                logger.info("Select blockers:" + player.getName());
                 List<List<List<UUID>>> blocks;
-                if (!USE_ACTION_CACHE)
+                if (!USE_ACTION_CACHE || actionCaches == null)
                     blocks = player.getBlocks(game);
                 else
                     blocks = getBlocks(player, fullStateValue, game);
@@ -211,12 +307,25 @@ public class MCTSNode {
                 }
                 break;
         }
+        this.children = children;
         game = null;
     }
 
+    /**
+     * @param playerId
+     * @return 1 if the player won the simulation, -1 if not and 0 if the node
+     * was expanded by another thread in the meantime
+     */
     public int simulate(UUID playerId) {
 //        long startTime = System.nanoTime();
-        Game sim = createSimulation(game, playerId);
+        Game sim;
+        synchronized (this) {
+            // copying a game changes the copy on write state of the copied game, so it must not be done concurrently
+            if (game == null) {
+                return 0;
+            }
+            sim = createSimulation(game, playerId);
+        }
         sim.resume();
 //        long duration = System.nanoTime() - startTime;
         int retVal = -1;  //anything other than a win is a loss
@@ -234,12 +343,47 @@ public class MCTSNode {
         if (result == 0)
             return;
         if (result == 1)
-            wins++;
-        visits++;
+            statistics.wins.incrementAndGet();
+        statistics.visits.incrementAndGet();
         if (parent != null)
             parent.backpropagate(result);
     }
 
+    /**
+     * Counts a visit as a loss for the player choosing this node before the
+     * simulation is done (virtual loss), so other threads searching the same
+     * tree prefer other nodes in the meantime. Must be reverted by
+     * {@link #backpropagateVirtualLoss(int)}.
+     */
+    public void addVirtualLoss() {
+        statistics.visits.incrementAndGet();
+        if (isOpponentChoice()) {
+            statistics.wins.incrementAndGet();
+        }
+    }
+
+    /**
+     * Reverts the virtual losses added to this node and its parents and
+     * counts the result of the simulation instead
+     *
+     * @param result
+     */
+    public void backpropagateVirtualLoss(int result) {
+        if (isOpponentChoice()) {
+            statistics.wins.decrementAndGet();
+        }
+        if (result == 0)
+            statistics.visits.decrementAndGet();
+        else if (result == 1)
+            statistics.wins.incrementAndGet();
+        if (parent != null)
+            parent.backpropagateVirtualLoss(result);
+    }
+
+    private boolean isOpponentChoice() {
+        return parent != null && !parent.playerId.equals(targetPlayer);
+    }
+
     public boolean isLeaf() {
         return children.isEmpty();
     }
@@ -252,25 +396,27 @@ public class MCTSNode {
         boolean bestIsPass = false;
         MCTSNode bestChild = null;
         for (MCTSNode node: children) {
+            int nodeVisits = node.getVisits();
+            int nodeWins = node.statistics.wins.get();
             //favour passing vs any other action except for playing land if ratio is close
-            if (node.visits > bestCount) {
+            if (nodeVisits > bestCount) {
                 if (bestIsPass) {
-                    double ratio = node.wins/(node.visits * 1.0);
+                    double ratio = nodeWins/(nodeVisits * 1.0);
                     if (ratio < bestRatio + passRatioTolerance)
                         continue;
                 }
                 bestChild = node;
-                bestCount = node.visits;
-                bestRatio = node.wins/(node.visits * 1.0);
+                bestCount = nodeVisits;
+                bestRatio = nodeWins/(nodeVisits * 1.0);
                 bestIsPass = false;
             }
-            else if (node.action instanceof PassAbility && node.visits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
+            else if (node.action instanceof PassAbility && nodeVisits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
                 //favour passing vs any other action if ratio is close
-                double ratio = node.wins/(node.visits * 1.0);
+                double ratio = nodeWins/(nodeVisits * 1.0);
                 if (ratio > bestRatio - passRatioTolerance) {
                     logger.info("choosing pass over " + bestChild.getAction());
                     bestChild = node;
-                    bestCount = node.visits;
+                    bestCount = nodeVisits;
                     bestRatio = ratio;
                     bestIsPass = true;
                 }
@@ -303,7 +449,7 @@ public class MCTSNode {
     }
 
     public int getNodeCount() {
-        return nodeCount;
+        return nodeCount.get();
     }
 
     public String getStateValue() {
@@ -311,13 +457,14 @@ public class MCTSNode {
     }
 
     public double getWinRatio() {
+        int visits = statistics.visits.get();
         if (visits > 0)
-            return wins/(visits * 1.0);
+            return statistics.wins.get()/(visits * 1.0);
         return -1.0;
     }
 
     public int getVisits() {
-        return visits;
+        return statistics.visits.get();
     }
 
     /**
@@ -401,13 +548,25 @@ public class MCTSNode {
     }
 
     public void merge(MCTSNode merge) {
+        merge(merge, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * @param merge
+     * @param merged statistics that were already added, nodes of the same
+     * state share their statistics if a transposition table is used so they
+     * must only be counted once
+     */
+    public void merge(MCTSNode merge, Set<Statistics> merged) {
         if (!stateValue.equals(merge.stateValue)) {
             logger.info("mismatched merge states at root");
             return;
         }
 
-        this.visits += merge.visits;
-        this.wins += merge.wins;
+        if (statistics != merge.statistics && merged.add(merge.statistics)) {
+            statistics.visits.addAndGet(merge.statistics.visits.get());
+            statistics.wins.addAndGet(merge.statistics.wins.get());
+        }
         int mismatchCount = 0;
         
         List<MCTSNode> mergeChildren = new ArrayList<>();
@@ -425,7 +584,7 @@ public class MCTSNode {
 //                            mergeChildren.remove(mergeChild);
                         }
                         else {
-                            child.merge(mergeChild);
+                            child.merge(mergeChild, merged);
                             mergeChildren.remove(mergeChild);
                         }
                         break;
@@ -439,7 +598,7 @@ public class MCTSNode {
 //                            mergeChildren.remove(mergeChild);
                         }
                         else {
-                            child.merge(mergeChild);
+                            child.merge(mergeChild, merged);
                             mergeChildren.remove(mergeChild);
                         }
                         break;
@@ -478,99 +637,50 @@ public class MCTSNode {
         return num;
     }
 
-    private static final ConcurrentHashMap<String, List<Ability>> playablesCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
+    /**
+     * Caches of the possible actions by game state, shared by all nodes of
+     * the searches of an AI player
+     */
+    public static class ActionCaches {
+
+        private final MCTSCache<List<Ability>> playables;
+        private final MCTSCache<List<List<UUID>>> attacks;
+        private final MCTSCache<List<List<List<UUID>>>> blocks;
 
-    private static long playablesHit = 0;
-    private static long playablesMiss = 0;
-    private static long attacksHit = 0;
-    private static long attacksMiss = 0;
-    private static long blocksHit = 0;
-    private static long blocksMiss = 0;
-    
-    private static List<Ability> getPlayables(MCTSPlayer player, String state, Game game) {
-        if (playablesCache.containsKey(state)) {
-            playablesHit++;
-            return playablesCache.get(state);
+        public ActionCaches(int maxSize) {
+            playables = new MCTSCache<>("Playables", maxSize);
+            attacks = new MCTSCache<>("Attacks", maxSize);
+            blocks = new MCTSCache<>("Blocks", maxSize);
         }
-        else {
-            playablesMiss++;
-            List<Ability> abilities = player.getPlayableOptions(game);
-            playablesCache.put(state, abilities);
-            return abilities;
-        }
-    }
-    
-    private static List<List<UUID>> getAttacks(MCTSPlayer player, String state, Game game) {
-        if (attacksCache.containsKey(state)) {
-            attacksHit++;
-            return attacksCache.get(state);
+
+        /**
+         * Removes the actions of states before the given turn
+         *
+         * @param turnNum
+         * @return number of removed entries
+         */
+        public int cleanup(int turnNum) {
+            return playables.removeBeforeTurn(turnNum) + attacks.removeBeforeTurn(turnNum) + blocks.removeBeforeTurn(turnNum);
         }
-        else {
-            attacksMiss++;
-            List<List<UUID>> attacks = player.getAttacks(game);
-            attacksCache.put(state, attacks);
-            return attacks;
+
+        public void logHitMiss() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(playables).append('\n');
+            sb.append(attacks).append('\n');
+            sb.append(blocks).append('\n');
+            logger.info(sb.toString());
         }
     }
-    
-    private static List<List<List<UUID>>> getBlocks(MCTSPlayer player, String state, Game game) {
-        if (blocksCache.containsKey(state)) {
-            blocksHit++;
-            return blocksCache.get(state);
-        }
-        else {
-            blocksMiss++;
-            List<List<List<UUID>>> blocks = player.getBlocks(game);
-            blocksCache.put(state, blocks);
-            return blocks;
-        }
+
+    private List<Ability> getPlayables(MCTSPlayer player, String state, Game game) {
+        return actionCaches.playables.get(state, game.getTurnNum(), () -> player.getPlayableOptions(game));
     }
     
-    public static int cleanupCache(int turnNum) {
-        Set<String> playablesKeys = playablesCache.keySet();
-        Iterator<String> playablesIterator = playablesKeys.iterator();
-        int count = 0;
-        while(playablesIterator.hasNext()) {
-            String next = playablesIterator.next();
-            int cacheTurn = Integer.valueOf(next.split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                playablesIterator.remove();
-                count++;
-            }
-        }
-
-        Set<String> attacksKeys = attacksCache.keySet();
-        Iterator<String> attacksIterator = attacksKeys.iterator();
-        while(attacksIterator.hasNext()) {
-            int cacheTurn = Integer.valueOf(attacksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                attacksIterator.remove();
-                count++;
-            }
-        }
-        
-        Set<String> blocksKeys = blocksCache.keySet();
-        Iterator<String> blocksIterator = blocksKeys.iterator();
-        while(blocksIterator.hasNext()) {
-            int cacheTurn = Integer.valueOf(blocksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                blocksIterator.remove();
-                count++;
-            }
-        }
-
-        return count;
+    private List<List<UUID>> getAttacks(MCTSPlayer player, String state, Game game) {
+        return actionCaches.attacks.get(state, game.getTurnNum(), () -> player.getAttacks(game));
     }
     
-    public static void logHitMiss() {
-        if (USE_ACTION_CACHE) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("Playables Cache -- Hits: ").append(playablesHit).append(" Misses: ").append(playablesMiss).append('\n');
-            sb.append("Attacks Cache -- Hits: ").append(attacksHit).append(" Misses: ").append(attacksMiss).append('\n');
-            sb.append("Blocks Cache -- Hits: ").append(blocksHit).append(" Misses: ").append(blocksMiss).append('\n');
-            logger.info(sb.toString());
-        }
+    private List<List<List<UUID>>> getBlocks(MCTSPlayer player, String state, Game game) {
+        return actionCaches.blocks.get(state, game.getTurnNum(), () -> player.getBlocks(game));
     }    
 }
@@ -185,6 +185,16 @@ public class MageServerImpl implements MageServer {
         });
     }
 
+    @Override
+    public boolean setViewCodec(final String sessionId, final int compressThreshold) throws MageException {
+        return executeWithResult("setViewCodec", sessionId, new ActionWithBooleanResult() {
+            @Override
+            public Boolean execute() throws MageException {
+                return SessionManager.instance.setViewCodec(sessionId, compressThreshold);
+            }
+        });
+    }
+
     @Override
     public boolean connectAdmin(String adminPassword, String sessionId, MageVersion version) throws MageException {
         try {
@@ -53,6 +53,7 @@ import mage.server.util.ServerMessagesUtil;
 import mage.server.util.SystemUtil;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
+import mage.util.Copier;
 import mage.utils.MageVersion;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.*;
@@ -176,6 +177,8 @@ public final class Main {
         for (Plugin plugin : config.getDeckTypes()) {
             DeckValidatorFactory.instance.addDeckType(plugin.getName(), loadPlugin(plugin));
         }
+        // saved game states are (de)serialized with the classes of the plugins
+        Copier.setLoader(classLoader);
 
         for (ExtensionPackage pkg : extensions) {
             Map<String, Class> draftCubes = pkg.getDraftCubes();
@@ -44,6 +44,7 @@ import mage.server.game.GamesRoomManager;
 import mage.server.util.ConfigSettings;
 import mage.server.util.SystemUtil;
 import mage.util.RandomUtil;
+import mage.utils.CompressUtil;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.callback.AsynchInvokerCallbackHandler;
 import org.jboss.remoting.callback.Callback;
@@ -67,6 +68,8 @@ public class Session {
     private boolean isAdmin = false;
     private final AsynchInvokerCallbackHandler callbackHandler;
     private boolean valid = true;
+    // views are sent encoded with this compress threshold, null = plain java serialization
+    private volatile Integer viewCodecCompressThreshold;
 
     private final ReentrantLock lock;
     private final ReentrantLock callBackLock;
@@ -378,6 +381,10 @@ public class Session {
             if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
                 call.setMessageId(messageId++);
                 lockSet = true;
+                Integer compressThreshold = viewCodecCompressThreshold;
+                if (compressThreshold != null) {
+                    call.setData(CompressUtil.encodeView(call.getData(), compressThreshold));
+                }
                 callbackHandler.handleCallbackOneway(new Callback(call));
             }
         } catch (InterruptedException ex) {
@@ -401,6 +408,18 @@ public class Session {
         return userId;
     }
 
+    public void setViewCodec(int compressThreshold) {
+        this.viewCodecCompressThreshold = compressThreshold;
+    }
+
+    /**
+     * @return compress threshold of the encoded views, null if the client
+     * didn't enable the encoding
+     */
+    public Integer getViewCodecCompressThreshold() {
+        return viewCodecCompressThreshold;
+    }
+
     public boolean isAdmin() {
         return isAdmin;
     }
@@ -122,6 +122,15 @@ public enum SessionManager {
         return false;
     }
 
+    public boolean setViewCodec(String sessionId, int compressThreshold) {
+        Session session = sessions.get(sessionId);
+        if (session != null) {
+            session.setViewCodec(compressThreshold);
+            return true;
+        }
+        return false;
+    }
+
     public void disconnect(String sessionId, DisconnectReason reason) {
         Session session = sessions.get(sessionId);
         if (session != null) {
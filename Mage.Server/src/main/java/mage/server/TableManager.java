@@ -55,6 +55,7 @@ import mage.server.game.GameController;
 import mage.server.game.GameManager;
 import mage.server.game.GamesRoomManager;
 import mage.server.util.ThreadExecutor;
+import mage.utils.timer.PriorityTimer;
 import org.apache.log4j.Logger;
 
 /**
@@ -425,6 +426,7 @@ public enum TableManager {
         }
         logger.debug("------- Games: " + GameManager.instance.getNumberActiveGames() + " --------------------------------------------");
         logger.debug(" Active Game Worker: " + ThreadExecutor.instance.getActiveThreads(ThreadExecutor.instance.getGameExecutor()));
+        logger.debug(" Active Priority Timers: " + PriorityTimer.getActiveTimers());
         for (Entry<UUID, GameController> entry : GameManager.instance.getGameController().entrySet()) {
             logger.debug(entry.getKey() + entry.getValue().getPlayerNameList());
         }
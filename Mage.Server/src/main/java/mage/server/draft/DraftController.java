@@ -71,6 +71,7 @@ public class DraftController {
         this.draft = draft;
         this.tableId = tableId;
         this.markedCard = null;
+        draft.setExecutor(ThreadExecutor.instance.getCallExecutor());
         init();
     }
 
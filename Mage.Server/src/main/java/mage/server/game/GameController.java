@@ -33,6 +33,7 @@ import java.util.Map.Entry;
 import java.util.concurrent.*;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.zip.GZIPOutputStream;
 import mage.MageException;
@@ -92,6 +93,18 @@ public class GameController implements GameCallback {
 
     private final ConcurrentHashMap<UUID, PriorityTimer> timers = new ConcurrentHashMap<>();
 
+    private static final ScheduledExecutorService updateExecutor = ThreadExecutor.instance.getUpdateExecutor();
+    // updates of the game within this time are sent to the clients together
+    private static final long UPDATE_DELAY_MS = 20;
+    // the snapshots are taken with the lock of the game
+    private final GameUpdateThrottle updateThrottle;
+    private long updateVersion;
+    private volatile Future<?> lastUpdate;
+    // version of the last snapshot sent to the clients, guarded by updateLock
+    private long sentVersion;
+    private final Lock updateLock = new ReentrantLock();
+    private final SharedWatcherView sharedWatcherView = new SharedWatcherView();
+
     private final ConcurrentHashMap<UUID, UUID> userPlayerMap;
     private final UUID gameSessionId;
     private final Game game;
@@ -112,6 +125,7 @@ public class GameController implements GameCallback {
         chatId = ChatManager.instance.createChatSession("Game " + game.getId());
         this.userReqestingRollback = null;
         this.game = game;
+        this.updateThrottle = new GameUpdateThrottle(updateExecutor, UPDATE_DELAY_MS, game, this::sendUpdate);
         this.game.setSaveGame(ConfigSettings.instance.isSaveGameActivated());
         this.tableId = tableId;
         this.choosingPlayerId = choosingPlayerId;
@@ -258,8 +272,8 @@ public class GameController implements GameCallback {
     }
 
     /**
-     * We create a timer that will run every 250 ms individually for a player
-     * decreasing his internal game counter. Later on this counter is used to
+     * We create a timer that will run every second individually for a player
+     * decreasing his internal game counter (all timers share one scheduler). Later on this counter is used to
      * get time left to play the whole match.
      * <p>
      * What we also do here is passing Action to PriorityTimer that is the
@@ -280,7 +294,10 @@ public class GameController implements GameCallback {
 
         PriorityTimer timer = new PriorityTimer(count, delayMs, executeOnNoTimeLeft);
         timer.init(game.getId());
-        timers.put(playerId, timer);
+        PriorityTimer replaced = timers.put(playerId, timer);
+        if (replaced != null) {
+            replaced.cancel();
+        }
         return timer;
     }
 
@@ -588,11 +605,30 @@ public class GameController implements GameCallback {
             case VIEW_LIMITED_DECK:
                 viewLimitedDeck(getPlayerId(userId), userId);
                 break;
+            case REQUEST_FULL_GAME_VIEW:
+                sendFullGameView(userId);
+                break;
             default:
                 game.sendPlayerAction(playerAction, getPlayerId(userId), data);
         }
     }
 
+    private void sendFullGameView(UUID userId) {
+        GameSessionWatcher gameSession = null;
+        UUID playerId = getPlayerId(userId);
+        if (playerId != null) {
+            gameSession = gameSessions.get(playerId);
+        }
+        if (gameSession == null) {
+            gameSession = watchers.get(userId);
+        }
+        if (gameSession != null) {
+            // the next shared view has to be full for it too
+            sharedWatcherView.removeReceiver(userId);
+            gameSession.sendFullGameView();
+        }
+    }
+
     private int requestPermissionToRollback(UUID userIdRequester, int numberTurns) {
         int requests = 0;
         for (Player player : game.getState().getPlayers().values()) {
@@ -700,6 +736,7 @@ public class GameController implements GameCallback {
     }
 
     public void endGame(final String message) throws MageException {
+        flushUpdate();
         for (final GameSessionPlayer gameSession : getGameSessions()) {
             gameSession.gameOver(message);
             gameSession.removeGame();
@@ -740,7 +777,13 @@ public class GameController implements GameCallback {
 
     }
 
-    private synchronized void updateGame() {
+    /**
+     * Sends the changed game to the clients. Changes within UPDATE_DELAY_MS
+     * after the last snapshot are only marked as pending, they are sent when
+     * that time has passed or before the next message that is sent directly
+     * to the clients (see {@link #flushUpdate()}).
+     */
+    private void updateGame() {
         if (!timers.isEmpty()) {
             for (Player player : game.getState().getPlayers().values()) {
                 PriorityTimer timer = timers.get(player.getId());
@@ -749,15 +792,88 @@ public class GameController implements GameCallback {
                 }
             }
         }
-        for (final GameSessionPlayer gameSession : getGameSessions()) {
-            gameSession.update();
+        updateThrottle.update();
+    }
+
+    /**
+     * Takes one snapshot of the game, the views of the sessions are built
+     * from it on the update executor, so the game isn't delayed by them.
+     * Called by the update throttle with the lock of the game.
+     */
+    private void sendUpdate() {
+        final long version = ++updateVersion;
+        final Game snapshot = game.copy();
+        lastUpdate = updateExecutor.submit(() -> sendUpdate(snapshot, version));
+    }
+
+    /**
+     * Sends the pending update and waits until the clients got it, so the
+     * clients never get an older view after the view of a direct message
+     */
+    private void flushUpdate() {
+        updateThrottle.flush();
+        Future<?> update = lastUpdate;
+        if (update == null) {
+            return;
         }
-        for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+        try {
+            update.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            logger.error("Game update error - gameId: " + game.getId(), ex);
+        }
+    }
+
+    /**
+     * Sends the snapshot to all sessions, watchers that can't see any hand
+     * share one view. The views are built one after the other, building a
+     * view fetches state of the snapshot for change (e.g. card states).
+     *
+     * @param snapshot
+     * @param version a snapshot older than the last one sent is skipped
+     */
+    private void sendUpdate(Game snapshot, long version) {
+        updateLock.lock();
+        try {
+            if (version <= sentVersion) {
+                return;
+            }
+            sentVersion = version;
+            List<GameSessionWatcher> sessions = new ArrayList<>(getGameSessions());
+            List<GameSessionWatcher> publicWatchers = new ArrayList<>();
+            splitWatchers(snapshot, sessions, publicWatchers);
+            for (GameSessionWatcher session : sessions) {
+                session.update(session.getGameView(snapshot));
+            }
+            sharedWatcherView.update(snapshot, publicWatchers);
+        } catch (Exception ex) {
+            logger.error("Game update error - gameId: " + game.getId(), ex);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the watchers that need their own view to the sessions and the
+     * others to the public watchers
+     */
+    private void splitWatchers(Game game, List<GameSessionWatcher> sessions, List<GameSessionWatcher> publicWatchers) {
+        for (GameSessionWatcher watcher : getGameSessionWatchers()) {
+            if (watcher.hasPublicView(game)) {
+                publicWatchers.add(watcher);
+            } else {
+                if (sharedWatcherView.removeReceiver(watcher.getUserId())) {
+                    // its own view delta is outdated
+                    watcher.resetGameViewDelta();
+                }
+                sessions.add(watcher);
+            }
         }
     }
 
     private synchronized void endGameInfo() {
+        flushUpdate();
         Table table = TableManager.instance.getTable(tableId);
         if (table != null) {
             if (table.getMatch() != null) {
@@ -846,9 +962,7 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message.toString());
             }
         }
-        for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message.toString());
-        }
+        informWatchers(message.toString());
     }
 
     private void informOthers(List<UUID> players) throws MageException {
@@ -867,8 +981,22 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message);
             }
         }
-        for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message);
+        informWatchers(message);
+    }
+
+    private void informWatchers(String message) {
+        flushUpdate();
+        updateLock.lock();
+        try {
+            List<GameSessionWatcher> watchers = new ArrayList<>();
+            List<GameSessionWatcher> publicWatchers = new ArrayList<>();
+            splitWatchers(game, watchers, publicWatchers);
+            for (GameSessionWatcher watcher : watchers) {
+                watcher.inform(message);
+            }
+            sharedWatcherView.inform(game, publicWatchers, message);
+        } finally {
+            updateLock.unlock();
         }
     }
 
@@ -877,6 +1005,7 @@ public class GameController implements GameCallback {
     }
 
     private void error(String message, Exception ex) {
+        flushUpdate();
         StringBuilder sb = new StringBuilder();
         sb.append(message).append(ex.toString());
         sb.append("\nServer version: ").append(Main.getVersion().toString());
@@ -943,6 +1072,8 @@ public class GameController implements GameCallback {
     }
 
     private void perform(UUID playerId, Command command, boolean informOthers) throws MageException {
+        // the clients must get the pending update before the newer views of the request
+        flushUpdate();
         if (game.getPlayer(playerId).isGameUnderControl()) { // is the player controlling it's own turn
             if (gameSessions.containsKey(playerId)) {
                 setupTimeout(playerId);
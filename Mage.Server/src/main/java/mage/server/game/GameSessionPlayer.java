@@ -69,7 +69,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     public void ask(final String question, final Map<String, Serializable> options) {
         if (!killed) {
-            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_ASK, game.getId(), new GameClientMessage(getGameView(), question, options)))
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_ASK, game.getId(), new GameClientMessage(getGameViewUpdate(), question, options)))
             );
         }
     }
@@ -77,7 +77,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public void target(final String question, final CardsView cardView, final Set<UUID> targets, final boolean required, final Map<String, Serializable> options) {
         if (!killed) {
             UserManager.instance.getUser(userId).ifPresent(user -> {
-                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_TARGET, game.getId(), new GameClientMessage(getGameView(), question, cardView, targets, required, options)));
+                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_TARGET, game.getId(), new GameClientMessage(getGameViewUpdate(), question, cardView, targets, required, options)));
             });
 
         }
@@ -85,7 +85,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     public void select(final String message, final Map<String, Serializable> options) {
         if (!killed) {
-            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_SELECT, game.getId(), new GameClientMessage(getGameView(), message, options))));
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_SELECT, game.getId(), new GameClientMessage(getGameViewUpdate(), message, options))));
         }
     }
 
@@ -116,14 +116,14 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public void playMana(final String message, final Map<String, Serializable> options) {
         if (!killed) {
             UserManager.instance.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_MANA, game.getId(), new GameClientMessage(getGameView(), message, options))));
+                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_MANA, game.getId(), new GameClientMessage(getGameViewUpdate(), message, options))));
         }
     }
 
     public void playXMana(final String message) {
         if (!killed) {
             UserManager.instance.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_XMANA, game.getId(), new GameClientMessage(getGameView(), message))));
+                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_XMANA, game.getId(), new GameClientMessage(getGameViewUpdate(), message))));
 
         }
     }
@@ -209,7 +209,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
     }
 
     @Override
-    public GameView getGameView() {
+    public GameView getGameView(Game game) {
         Player player = game.getPlayer(playerId);
         GameView gameView = new GameView(game.getState(), game, playerId, null);
         gameView.setHand(new CardsView(game, player.getHand().getCards(game)));
@@ -217,8 +217,8 @@ public class GameSessionPlayer extends GameSessionWatcher {
             gameView.setCanPlayInHand(player.getPlayableInHand(game));
         }
 
-        processControlledPlayers(player, gameView);
-        processWatchedHands(userId, gameView);
+        processControlledPlayers(game, player, gameView);
+        processWatchedHands(game, userId, gameView);
         //TODO: should player who controls another player's turn be able to look at all these cards?
 
         List<LookedAtView> list = new ArrayList<>();
@@ -230,7 +230,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
         return gameView;
     }
 
-    private void processControlledPlayers(Player player, GameView gameView) {
+    private void processControlledPlayers(Game game, Player player, GameView gameView) {
         if (!player.getPlayersUnderYourControl().isEmpty()) {
             Map<String, SimpleCardsView> handCards = new HashMap<>();
             for (UUID controlledPlayerId : player.getPlayersUnderYourControl()) {
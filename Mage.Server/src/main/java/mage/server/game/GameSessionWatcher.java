@@ -33,11 +33,14 @@ import mage.game.Table;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.Player;
+import mage.server.Session;
+import mage.server.SessionManager;
 import mage.server.User;
 import mage.server.UserManager;
 import mage.view.GameClientMessage;
 import mage.view.GameEndView;
 import mage.view.GameView;
+import mage.view.GameViewDelta;
 import mage.view.SimpleCardsView;
 import org.apache.log4j.Logger;
 
@@ -57,6 +60,7 @@ public class GameSessionWatcher {
     protected final Game game;
     protected boolean killed = false;
     protected final boolean isPlayer;
+    protected final GameViewDelta gameViewDelta = new GameViewDelta();
 
     public GameSessionWatcher(UUID userId, Game game, boolean isPlayer) {
         this.userId = userId;
@@ -68,7 +72,8 @@ public class GameSessionWatcher {
         if (!killed) {
             Optional<User> user = UserManager.instance.getUser(userId);
             if (user.isPresent()) {
-                user.get().fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getGameView()));
+                gameViewDelta.reset();
+                user.get().fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getGameViewUpdate()));
                 return true;
             }
         }
@@ -77,21 +82,45 @@ public class GameSessionWatcher {
 
     public void update() {
         if (!killed) {
-            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView())));
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameViewUpdate())));
         }
 
     }
 
+    /**
+     * Sends a view that was built from a snapshot of the game
+     *
+     * @param gameView full view for this session
+     */
+    public void update(GameView gameView) {
+        if (!killed) {
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), gameViewDelta.createDelta(gameView))));
+        }
+    }
+
+    /**
+     * Sends data that is shared with other sessions (e.g. an already
+     * serialized view)
+     *
+     * @param method
+     * @param data
+     */
+    public void send(ClientCallbackMethod method, Object data) {
+        if (!killed) {
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(method, game.getId(), data)));
+        }
+    }
+
     public void inform(final String message) {
         if (!killed) {
-            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM, game.getId(), new GameClientMessage(getGameView(), message))));
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM, game.getId(), new GameClientMessage(getGameViewUpdate(), message))));
         }
 
     }
 
     public void informPersonal(final String message) {
         if (!killed) {
-            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(getGameView(), message))));
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(getGameViewUpdate(), message))));
         }
 
     }
@@ -119,18 +148,67 @@ public class GameSessionWatcher {
         }
     }
 
+    /**
+     * Sends the full game view, e.g. if the client could not apply a delta
+     */
+    public void sendFullGameView() {
+        gameViewDelta.reset();
+        update();
+    }
+
     public void setKilled() {
         killed = true;
     }
 
     public GameView getGameView() {
+        return getGameView(game);
+    }
+
+    /**
+     * @param game the game of the session or a copy of it
+     * @return
+     */
+    public GameView getGameView(Game game) {
         GameView gameView = new GameView(game.getState(), game, null, userId);
-        processWatchedHands(userId, gameView);
+        processWatchedHands(game, userId, gameView);
         return gameView;
+    }
 
+    /**
+     * @param game
+     * @return true if the session gets the view that all watchers get (it
+     * can't see any hand)
+     */
+    public boolean hasPublicView(Game game) {
+        if (isPlayer) {
+            return false;
+        }
+        for (Player player : game.getPlayers().values()) {
+            if (player.hasUserPermissionToSeeHand(userId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The next view is sent full
+     */
+    public void resetGameViewDelta() {
+        gameViewDelta.reset();
     }
 
-    protected void processWatchedHands(UUID userId, GameView gameView) {
+    /**
+     * Game view to send to the client, only with the card views that changed
+     * since the last sent view
+     *
+     * @return
+     */
+    protected GameView getGameViewUpdate() {
+        return gameViewDelta.createDelta(getGameView());
+    }
+
+    protected void processWatchedHands(Game game, UUID userId, GameView gameView) {
         Map<String, SimpleCardsView> handCards = new HashMap<>();
         for (Player player : game.getPlayers().values()) {
             if (player.hasUserPermissionToSeeHand(userId)) {
@@ -144,6 +222,21 @@ public class GameSessionWatcher {
         return new GameEndView(game.getState(), game, playerId, table);
     }
 
+    public UUID getUserId() {
+        return userId;
+    }
+
+    /**
+     * @return compress threshold of the encoded views of the client of the
+     * watcher, null if the client didn't enable the encoding
+     */
+    public Integer getViewCodecCompressThreshold() {
+        return UserManager.instance.getUser(userId)
+                .flatMap(user -> SessionManager.instance.getSession(user.getSessionId()))
+                .map(Session::getViewCodecCompressThreshold)
+                .orElse(null);
+    }
+
     public boolean isPlayer() {
         return isPlayer;
     }
@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.server.game;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the updates of a game at most once per delay. An update within the
+ * delay after the last one sent is only marked as pending, it's sent when the
+ * delay has passed or with an earlier update or flush.
+ */
+public class GameUpdateThrottle {
+
+    private final ScheduledExecutorService executor;
+    private final long delayMs;
+    private final Object lock;
+    private final Runnable sendUpdate;
+
+    // guarded by lock
+    private boolean pending;
+    private long lastUpdateTime;
+    private ScheduledFuture<?> delayedUpdate;
+
+    /**
+     * @param executor executor of the delayed updates
+     * @param delayMs
+     * @param lock lock the updates are sent with, the game changes must not
+     * run concurrently with sendUpdate
+     * @param sendUpdate
+     */
+    public GameUpdateThrottle(ScheduledExecutorService executor, long delayMs, Object lock, Runnable sendUpdate) {
+        this.executor = executor;
+        this.delayMs = delayMs;
+        this.lock = lock;
+        this.sendUpdate = sendUpdate;
+    }
+
+    public void update() {
+        synchronized (lock) {
+            pending = true;
+            long elapsed = System.currentTimeMillis() - lastUpdateTime;
+            if (elapsed >= delayMs) {
+                flush();
+            } else if (delayedUpdate == null) {
+                delayedUpdate = executor.schedule(this::sendDelayedUpdate, delayMs - elapsed, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Sends the pending update now
+     */
+    public void flush() {
+        synchronized (lock) {
+            if (!pending) {
+                return;
+            }
+            pending = false;
+            lastUpdateTime = System.currentTimeMillis();
+            sendUpdate.run();
+        }
+    }
+
+    private void sendDelayedUpdate() {
+        synchronized (lock) {
+            delayedUpdate = null;
+            flush();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+
+package mage.server.game;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import mage.game.Game;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.remote.traffic.EncodedObject;
+import mage.utils.CompressUtil;
+import mage.view.GameClientMessage;
+import mage.view.GameView;
+import mage.view.GameViewDelta;
+
+/**
+ * View of the watchers that can't see any hand. They all get the same view,
+ * so it's built, reduced to a delta and serialized only once for all of them.
+ */
+class SharedWatcherView {
+
+    private final GameViewDelta gameViewDelta = new GameViewDelta();
+    // watchers that got the last view, any other watcher needs a full view
+    private Set<UUID> receivers = new HashSet<>();
+
+    public synchronized void update(Game game, Collection<GameSessionWatcher> watchers) {
+        send(game, watchers, null);
+    }
+
+    public synchronized void inform(Game game, Collection<GameSessionWatcher> watchers, String message) {
+        send(game, watchers, message);
+    }
+
+    /**
+     * The watcher doesn't get the shared view anymore or needs a full view
+     *
+     * @param userId
+     * @return true if the watcher got the last shared view
+     */
+    public synchronized boolean removeReceiver(UUID userId) {
+        return receivers.remove(userId);
+    }
+
+    private void send(Game game, Collection<GameSessionWatcher> watchers, String message) {
+        Set<UUID> userIds = new HashSet<>();
+        for (GameSessionWatcher watcher : watchers) {
+            userIds.add(watcher.getUserId());
+        }
+        if (!receivers.containsAll(userIds)) {
+            gameViewDelta.reset();
+        }
+        receivers = userIds;
+        if (watchers.isEmpty()) {
+            return;
+        }
+        GameView gameView = gameViewDelta.createDelta(new GameView(game.getState(), game, null, null));
+        Object data = message == null ? gameView : new GameClientMessage(gameView, message);
+        // watchers that enabled the encoding of views get it with their compress threshold, the others the zipped view
+        Map<Integer, Object> payloads = new HashMap<>();
+        ClientCallbackMethod method = message == null ? ClientCallbackMethod.GAME_UPDATE : ClientCallbackMethod.GAME_INFORM;
+        for (GameSessionWatcher watcher : watchers) {
+            watcher.send(method, payloads.computeIfAbsent(watcher.getViewCodecCompressThreshold(), compressThreshold -> encode(data, compressThreshold)));
+        }
+    }
+
+    private static Object encode(Object data, Integer compressThreshold) {
+        if (compressThreshold != null) {
+            return new EncodedObject<>(data, compressThreshold);
+        }
+        Object payload = CompressUtil.compress(data);
+        return payload == null ? data : payload;
+    }
+}
@@ -45,6 +45,7 @@ instance;
     private static final ExecutorService gameExecutor = Executors.newFixedThreadPool(ConfigSettings.instance.getMaxGameThreads());
     private static final ScheduledExecutorService timeoutExecutor = Executors.newScheduledThreadPool(4);
     private static final ScheduledExecutorService timeoutIdleExecutor = Executors.newScheduledThreadPool(4);
+    private static final ScheduledExecutorService updateExecutor = Executors.newScheduledThreadPool(4);
 
     /**
      * noxx: what the settings below do is setting the ability to keep OS
@@ -72,6 +73,9 @@ instance;
         ((ThreadPoolExecutor) timeoutIdleExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) timeoutIdleExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) timeoutIdleExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT_IDLE"));
+        ((ThreadPoolExecutor) updateExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+        ((ThreadPoolExecutor) updateExecutor).allowCoreThreadTimeOut(true);
+        ((ThreadPoolExecutor) updateExecutor).setThreadFactory(new XMageThreadFactory("UPDATE"));
     }
 
 
@@ -98,6 +102,10 @@ instance;
         return timeoutIdleExecutor;
     }
 
+    public ScheduledExecutorService getUpdateExecutor() {
+        return updateExecutor;
+    }
+
 }
 
 class XMageThreadFactory implements ThreadFactory {
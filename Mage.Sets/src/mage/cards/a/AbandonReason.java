@@ -36,6 +36,7 @@ import mage.abilities.keyword.FirstStrikeAbility;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.target.common.TargetCreaturePermanent;
@@ -44,6 +45,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class AbandonReason extends CardImpl {
 
     public AbandonReason(UUID ownerId, CardSetInfo setInfo) {
@@ -33,6 +33,7 @@ import mage.abilities.common.DiesTriggeredAbility;
 import mage.abilities.effects.common.DestroyAllEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.common.FilterCreaturePermanent;
@@ -44,6 +45,7 @@ import mage.filter.predicate.permanent.BlockingAttackerIdPredicate;
  *
  * @author MarcoMarin
  */
+@NotPrototyped
 public class AbuJafar extends CardImpl {
 
     public AbuJafar(UUID ownerId, CardSetInfo setInfo) {
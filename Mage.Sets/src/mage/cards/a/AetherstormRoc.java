@@ -40,6 +40,7 @@ import mage.abilities.effects.common.counter.GetEnergyCountersControllerEffect;
 import mage.abilities.keyword.FlyingAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.counters.CounterType;
@@ -52,6 +53,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class AetherstormRoc extends CardImpl {
 
     private final UUID originalId;
@@ -39,6 +39,7 @@ import mage.abilities.keyword.DefenderAbility;
 import mage.abilities.keyword.FlyingAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.Layer;
@@ -51,6 +52,7 @@ import mage.game.permanent.Permanent;
  *
  * @author TheElk801
  */
+@NotPrototyped
 public class AgelessSentinels extends CardImpl {
 
     public AgelessSentinels(UUID ownerId, CardSetInfo setInfo) {
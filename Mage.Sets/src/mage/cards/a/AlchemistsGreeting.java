@@ -33,6 +33,7 @@ import mage.abilities.effects.common.DamageTargetEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.target.common.TargetCreaturePermanent;
 
@@ -40,6 +41,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class AlchemistsGreeting extends CardImpl {
 
     public AlchemistsGreeting(UUID ownerId, CardSetInfo setInfo) {
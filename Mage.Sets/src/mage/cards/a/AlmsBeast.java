@@ -34,6 +34,7 @@ import mage.abilities.effects.common.continuous.GainAbilityAllEffect;
 import mage.abilities.keyword.LifelinkAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.SubType;
@@ -47,6 +48,7 @@ import mage.filter.predicate.permanent.BlockingAttackerIdPredicate;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class AlmsBeast extends CardImpl {
 
     public AlmsBeast(UUID ownerId, CardSetInfo setInfo) {
@@ -35,6 +35,7 @@ import mage.abilities.effects.common.LoseLifeTargetEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.target.common.TargetOpponent;
 
@@ -42,6 +43,7 @@ import mage.target.common.TargetOpponent;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class AlmsOfTheVein extends CardImpl {
 
     public AlmsOfTheVein(UUID ownerId, CardSetInfo setInfo) {
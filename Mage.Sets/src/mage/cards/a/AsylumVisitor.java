@@ -40,6 +40,7 @@ import mage.abilities.effects.common.LoseLifeSourceControllerEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.ComparisonType;
 import mage.constants.SubType;
@@ -49,6 +50,7 @@ import mage.constants.TargetController;
  *
  * @author escplan9 (Derek Monturo - dmontur1 at gmail dot com)
  */
+@NotPrototyped
 public class AsylumVisitor extends CardImpl {
 
     public AsylumVisitor(UUID ownerId, CardSetInfo setInfo) {
@@ -37,6 +37,7 @@ import mage.abilities.effects.common.DamageMultiEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.game.Game;
 import mage.target.common.TargetCreatureOrPlayerAmount;
@@ -45,6 +46,7 @@ import mage.target.common.TargetCreatureOrPlayerAmount;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class AvacynsJudgment extends CardImpl {
 
     public AvacynsJudgment(UUID ownerId, CardSetInfo setInfo) {
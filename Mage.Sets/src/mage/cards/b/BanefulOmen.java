@@ -45,6 +45,7 @@ import mage.players.Player;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class BanefulOmen extends CardImpl {
 
     public BanefulOmen(UUID ownerId, CardSetInfo setInfo) {
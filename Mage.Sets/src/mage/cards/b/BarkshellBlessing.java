@@ -32,6 +32,7 @@ import mage.abilities.effects.common.continuous.BoostTargetEffect;
 import mage.abilities.keyword.ConspireAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.target.common.TargetCreaturePermanent;
@@ -40,6 +41,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class BarkshellBlessing extends CardImpl {
 
     public BarkshellBlessing(UUID ownerId, CardSetInfo setInfo) {
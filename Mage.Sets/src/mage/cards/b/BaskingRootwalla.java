@@ -35,6 +35,7 @@ import mage.abilities.effects.common.continuous.BoostSourceEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.SubType;
@@ -44,6 +45,7 @@ import mage.constants.Zone;
  *
  * @author magenoxx_at_gmail.com
  */
+@NotPrototyped
 public class BaskingRootwalla extends CardImpl {
 
     public BaskingRootwalla(UUID ownerId, CardSetInfo setInfo) {
@@ -37,6 +37,7 @@ import mage.abilities.effects.common.ChooseCreatureTypeEffect;
 import mage.abilities.effects.common.PutPermanentOnBattlefieldEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.constants.Zone;
@@ -47,6 +48,7 @@ import mage.filter.predicate.mageobject.ChosenSubtypePredicate;
  *
  * @author andyfries
  */
+@NotPrototyped
 public class BelbesPortal extends CardImpl {
 
     public BelbesPortal(UUID ownerId, CardSetInfo setInfo) {
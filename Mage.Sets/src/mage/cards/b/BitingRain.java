@@ -33,6 +33,7 @@ import mage.abilities.effects.common.continuous.BoostAllEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 
@@ -40,6 +41,7 @@ import mage.constants.Duration;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class BitingRain extends CardImpl {
 
     public BitingRain(UUID ownerId, CardSetInfo setInfo) {
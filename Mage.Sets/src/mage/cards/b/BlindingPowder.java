@@ -39,12 +39,14 @@ import mage.abilities.effects.common.continuous.GainAbilityAttachedEffect;
 import mage.abilities.keyword.EquipAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 
 /**
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class BlindingPowder extends CardImpl {
 
     public BlindingPowder(UUID ownerId, CardSetInfo setInfo) {
@@ -34,6 +34,7 @@ import mage.abilities.effects.Effect;
 import mage.abilities.effects.OneShotEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.constants.SetTargetPointer;
@@ -49,6 +50,7 @@ import mage.players.Player;
  *
  * @author JRHerlehy
  */
+@NotPrototyped
 public class BloodbondMarch extends CardImpl {
 
     public BloodbondMarch(UUID ownerId, CardSetInfo setInfo) {
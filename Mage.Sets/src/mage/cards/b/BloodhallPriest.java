@@ -38,6 +38,7 @@ import mage.abilities.effects.common.DamageTargetEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.target.common.TargetCreatureOrPlayer;
@@ -46,6 +47,7 @@ import mage.target.common.TargetCreatureOrPlayer;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class BloodhallPriest extends CardImpl {
 
     public BloodhallPriest(UUID ownerId, CardSetInfo setInfo) {
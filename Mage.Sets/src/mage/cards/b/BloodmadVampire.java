@@ -35,6 +35,7 @@ import mage.abilities.effects.common.counter.AddCountersSourceEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.counters.CounterType;
@@ -43,6 +44,7 @@ import mage.counters.CounterType;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class BloodmadVampire extends CardImpl {
 
     public BloodmadVampire(UUID ownerId, CardSetInfo setInfo) {
@@ -37,6 +37,7 @@ import mage.abilities.effects.common.continuous.BoostSourceEffect;
 import mage.abilities.keyword.TrampleAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.common.FilterCreaturePermanent;
 import mage.filter.predicate.Predicates;
@@ -48,6 +49,7 @@ import mage.filter.predicate.permanent.PermanentIdPredicate;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class BorderlandBehemoth extends CardImpl {
 
     public BorderlandBehemoth(UUID ownerId, CardSetInfo setInfo) {
@@ -34,6 +34,7 @@ import mage.abilities.costs.common.ExileFromHandCost;
 import mage.abilities.effects.common.counter.DistributeCountersEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.counters.CounterType;
 import mage.filter.common.FilterOwnedCard;
@@ -47,6 +48,7 @@ import mage.target.common.TargetCreaturePermanentAmount;
  *
  * @author LoneFox
  */
+@NotPrototyped
 public class BountyOfTheHunt extends CardImpl {
 
     public BountyOfTheHunt(UUID ownerId, CardSetInfo setInfo) {
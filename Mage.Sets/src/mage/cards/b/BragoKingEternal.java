@@ -37,6 +37,7 @@ import mage.abilities.effects.common.ReturnFromExileEffect;
 import mage.abilities.keyword.FlyingAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.SuperType;
@@ -50,6 +51,7 @@ import mage.target.common.TargetControlledPermanent;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class BragoKingEternal extends CardImpl {
 
     public BragoKingEternal(UUID ownerId, CardSetInfo setInfo) {
@@ -38,6 +38,7 @@ import mage.abilities.effects.common.CastSourceTriggeredAbility;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.constants.SubType;
@@ -51,6 +52,7 @@ import mage.target.common.TargetControlledCreaturePermanent;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class BrainGorgers extends CardImpl {
 
     public BrainGorgers(UUID ownerId, CardSetInfo setInfo) {
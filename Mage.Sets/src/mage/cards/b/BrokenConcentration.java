@@ -33,6 +33,7 @@ import mage.abilities.effects.common.CounterTargetEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.target.TargetSpell;
 
@@ -40,6 +41,7 @@ import mage.target.TargetSpell;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class BrokenConcentration extends CardImpl {
 
     public BrokenConcentration(UUID ownerId, CardSetInfo setInfo) {
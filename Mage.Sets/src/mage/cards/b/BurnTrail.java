@@ -32,6 +32,7 @@ import mage.abilities.effects.common.DamageTargetEffect;
 import mage.abilities.keyword.ConspireAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.target.common.TargetCreatureOrPlayer;
 
@@ -39,6 +40,7 @@ import mage.target.common.TargetCreatureOrPlayer;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class BurnTrail extends CardImpl {
 
     public BurnTrail(UUID ownerId, CardSetInfo setInfo) {
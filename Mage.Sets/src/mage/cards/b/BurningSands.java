@@ -33,6 +33,7 @@ import mage.abilities.common.DiesCreatureTriggeredAbility;
 import mage.abilities.effects.common.SacrificeEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Zone;
 import mage.filter.StaticFilters;
@@ -44,6 +45,7 @@ import mage.target.targetpointer.FixedTarget;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class BurningSands extends CardImpl {
 
     private final UUID originalId;
@@ -34,6 +34,7 @@ import mage.abilities.effects.common.ReturnToHandTargetEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.filter.common.FilterCreatureCard;
 import mage.filter.predicate.mageobject.ColorPredicate;
@@ -43,6 +44,7 @@ import mage.target.common.TargetCardInYourGraveyard;
  *
  * @author nigelzor
  */
+@NotPrototyped
 public class CallToTheNetherworld extends CardImpl {
 
     private static FilterCreatureCard filter = new FilterCreatureCard("black creature card from your graveyard");
@@ -34,6 +34,7 @@ import mage.abilities.costs.common.ExileFromHandCost;
 import mage.abilities.effects.common.DamageEverythingEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.filter.common.FilterOwnedCard;
 import mage.filter.predicate.Predicates;
@@ -45,6 +46,7 @@ import mage.target.common.TargetCardInHand;
  *
  * @author emerald000
  */
+@NotPrototyped
 public class CaveIn extends CardImpl {
 
     public CaveIn(UUID ownerId, CardSetInfo setInfo) {
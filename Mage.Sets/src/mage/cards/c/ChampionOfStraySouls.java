@@ -40,6 +40,7 @@ import mage.abilities.effects.common.PutOnLibrarySourceEffect;
 import mage.abilities.effects.common.ReturnFromGraveyardToBattlefieldTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Zone;
@@ -53,6 +54,7 @@ import mage.target.common.TargetCardInYourGraveyard;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class ChampionOfStraySouls extends CardImpl {
 
     private final UUID originalId;
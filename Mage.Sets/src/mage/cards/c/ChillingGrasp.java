@@ -34,6 +34,7 @@ import mage.abilities.effects.common.TapTargetEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.target.common.TargetCreaturePermanent;
 
@@ -41,6 +42,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class ChillingGrasp extends CardImpl {
 
     public ChillingGrasp(UUID ownerId, CardSetInfo setInfo) {
@@ -35,6 +35,7 @@ import mage.abilities.effects.common.CounterUnlessPaysEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.target.TargetSpell;
 
@@ -42,6 +43,7 @@ import mage.target.TargetSpell;
  *
  * @author magenoxx_at_gmail.com
  */
+@NotPrototyped
 public class CircularLogic extends CardImpl {
 
     public CircularLogic(UUID ownerId, CardSetInfo setInfo) {
@@ -36,6 +36,7 @@ import mage.abilities.effects.common.ExileTargetEffect;
 import mage.abilities.effects.common.ReturnCreaturesFromExileEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Zone;
 import mage.target.common.TargetControlledCreaturePermanent;
@@ -44,6 +45,7 @@ import mage.target.common.TargetControlledCreaturePermanent;
  *
  * @author Plopman
  */
+@NotPrototyped
 public class ColdStorage extends CardImpl {
 
     public ColdStorage(UUID ownerId, CardSetInfo setInfo) {
@@ -37,6 +37,7 @@ import mage.abilities.effects.Effect;
 import mage.abilities.effects.common.continuous.ExchangeControlTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.SetTargetPointer;
@@ -53,6 +54,7 @@ import mage.target.TargetPermanent;
  *
  * @author anonymous
  */
+@NotPrototyped
 public class ConfusionInTheRanks extends CardImpl {
 
     private static final FilterPermanent filter = new FilterPermanent("an artifact, creature, or enchantment");
@@ -35,6 +35,7 @@ import mage.abilities.costs.common.PayLifeCost;
 import mage.abilities.effects.common.counter.DistributeCountersEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.counters.CounterType;
 import mage.filter.common.FilterOwnedCard;
@@ -48,6 +49,7 @@ import mage.target.common.TargetCreaturePermanentAmount;
  *
  * @author Plopman
  */
+@NotPrototyped
 public class Contagion extends CardImpl {
 
     public Contagion(UUID ownerId, CardSetInfo setInfo) {
@@ -35,6 +35,7 @@ import mage.abilities.effects.common.combat.GoadTargetEffect;
 import mage.abilities.keyword.FlyingAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.common.FilterCreaturePermanent;
@@ -46,6 +47,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author TheElk801
  */
+@NotPrototyped
 public class CovetedPeacock extends CardImpl {
 
     private final UUID originalId;
@@ -37,6 +37,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.effects.common.continuous.GainControlTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Duration;
@@ -52,6 +53,7 @@ import mage.target.targetpointer.FixedTarget;
  *
  * @author wetterlicht & L_J
  */
+@NotPrototyped
 public class CragSaurian extends CardImpl {
 
     public CragSaurian(UUID ownerId, CardSetInfo setInfo) {
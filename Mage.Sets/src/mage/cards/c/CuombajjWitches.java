@@ -36,6 +36,7 @@ import mage.abilities.effects.Effect;
 import mage.abilities.effects.common.DamageTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Outcome;
@@ -51,6 +52,7 @@ import mage.target.common.TargetOpponent;
  * @author LoneFox
 
  */
+@NotPrototyped
 public class CuombajjWitches extends CardImpl {
 
     private final UUID originalId;
@@ -34,6 +34,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.effects.common.continuous.BoostTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.StaticFilters;
 import mage.game.Game;
@@ -46,6 +47,7 @@ import mage.target.targetpointer.FirstTargetPointer;
  * @author LoneFox
  *
  */
+@NotPrototyped
 public class DeathMatch extends CardImpl {
 
     private final UUID originalId;
@@ -38,6 +38,7 @@ import mage.abilities.effects.common.counter.AddCountersTargetEffect;
 import mage.abilities.effects.common.counter.RemoveCounterTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Outcome;
@@ -54,6 +55,7 @@ import mage.target.targetpointer.FixedTarget;
  *
  * @author spjspj
  */
+@NotPrototyped
 public class DecimatorBeetle extends CardImpl {
 
     private final UUID originalId;
@@ -40,6 +40,7 @@ import mage.abilities.effects.common.continuous.AssignNoCombatDamageSourceEffect
 import mage.abilities.effects.common.continuous.GainAbilityTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.Outcome;
@@ -53,6 +54,7 @@ import mage.target.common.TargetControlledCreaturePermanent;
  *
  * @author MarcoMarin
  */
+@NotPrototyped
 public class DelifsCube extends CardImpl {
 
     public DelifsCube(UUID ownerId, CardSetInfo setInfo) {
@@ -37,6 +37,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.cards.SplitCard;
 import mage.constants.CardType;
 import mage.constants.Outcome;
@@ -56,6 +57,7 @@ import java.util.UUID;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class DisruptingShoal extends CardImpl {
 
     public DisruptingShoal(UUID ownerId, CardSetInfo setInfo) {
@@ -39,6 +39,7 @@ import mage.abilities.effects.common.counter.AddCountersSourceEffect;
 import mage.abilities.effects.common.counter.RemoveCounterSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.constants.TargetController;
@@ -55,6 +56,7 @@ import mage.players.Player;
  *
  * @author spjspj
  */
+@NotPrototyped
 public class DivineIntervention extends CardImpl {
 
     public DivineIntervention(UUID ownerId, CardSetInfo setInfo) {
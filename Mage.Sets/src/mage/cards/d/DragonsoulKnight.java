@@ -41,6 +41,7 @@ import mage.abilities.keyword.FlyingAbility;
 import mage.abilities.keyword.TrampleAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.game.Game;
 import mage.game.permanent.Permanent;
@@ -49,6 +50,7 @@ import mage.game.permanent.Permanent;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class DragonsoulKnight extends CardImpl {
 
     public DragonsoulKnight(UUID ownerId, CardSetInfo setInfo) {
@@ -35,6 +35,7 @@ import mage.abilities.effects.common.search.SearchLibraryPutInPlayEffect;
 import mage.abilities.mana.ColorlessManaAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.FilterCard;
 import mage.filter.predicate.Predicate;
@@ -52,6 +53,7 @@ import java.util.UUID;
  *
  * @author Styxo
  */
+@NotPrototyped
 public class DroidFactory extends CardImpl {
 
     public DroidFactory(UUID ownerId, CardSetInfo setInfo) {
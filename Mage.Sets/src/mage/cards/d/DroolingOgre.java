@@ -37,6 +37,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.effects.common.continuous.GainControlTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Duration;
@@ -53,6 +54,7 @@ import mage.target.targetpointer.FixedTarget;
  *
  * @author wetterlicht
  */
+@NotPrototyped
 public class DroolingOgre extends CardImpl {
 
     public DroolingOgre(UUID ownerId, CardSetInfo setInfo) {
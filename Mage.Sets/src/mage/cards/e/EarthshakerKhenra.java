@@ -39,6 +39,7 @@ import mage.abilities.keyword.EternalizeAbility;
 import mage.abilities.keyword.HasteAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.ComparisonType;
@@ -55,6 +56,7 @@ import mage.target.targetpointer.FixedTarget;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class EarthshakerKhenra extends CardImpl {
 
     private final UUID originalId;
@@ -34,6 +34,7 @@ import mage.abilities.effects.ContinuousEffectImpl;
 import mage.abilities.effects.Effect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.FilterPermanent;
 import mage.game.Game;
@@ -43,6 +44,7 @@ import mage.game.permanent.Permanent;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class EnchantedEvening extends CardImpl {
 
     public EnchantedEvening(UUID ownerId, CardSetInfo setInfo) {
@@ -11,11 +11,13 @@ import mage.abilities.effects.common.ReturnCreaturesFromExileEffect;
 import mage.abilities.mana.ColorlessManaAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Zone;
 import mage.target.common.TargetControlledCreaturePermanent;
 
+@NotPrototyped
 public class EndlessSands extends CardImpl {
 
     public EndlessSands(UUID ownerId, CardSetInfo setInfo) {
@@ -36,6 +36,7 @@ import mage.abilities.effects.common.PreventDamageByTargetEffect;
 import mage.abilities.keyword.KickerAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.filter.common.FilterControlledLandPermanent;
@@ -48,6 +49,7 @@ import mage.target.common.TargetCreaturePermanent;
  * @author LoneFox
 
  */
+@NotPrototyped
 public class FallingTimber extends CardImpl {
 
     private final UUID originalId;
@@ -39,6 +39,7 @@ import mage.abilities.effects.common.continuous.GainAbilityAttachedEffect;
 import mage.abilities.keyword.EnchantAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.FilterPermanent;
 import mage.filter.common.FilterCreaturePermanent;
@@ -54,6 +55,7 @@ import mage.util.CardUtil;
  *
  * @author MarcoMarin
  */
+@NotPrototyped
 public class FarrelsMantle extends CardImpl {
 
     
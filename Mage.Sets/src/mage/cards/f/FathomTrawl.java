@@ -42,6 +42,7 @@ import mage.players.Player;
  *
  * @author Derpthemeus
  */
+@NotPrototyped
 public class FathomTrawl extends CardImpl {
 
     public FathomTrawl(UUID ownerId, CardSetInfo setInfo) {
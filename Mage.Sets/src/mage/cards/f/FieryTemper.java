@@ -33,6 +33,7 @@ import mage.abilities.effects.common.DamageTargetEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.target.common.TargetCreatureOrPlayer;
 
@@ -40,6 +41,7 @@ import mage.target.common.TargetCreatureOrPlayer;
  *
  * @author magenoxx_at_gmail.com
  */
+@NotPrototyped
 public class FieryTemper extends CardImpl {
 
     public FieryTemper(UUID ownerId, CardSetInfo setInfo) {
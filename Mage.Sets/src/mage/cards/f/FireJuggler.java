@@ -34,6 +34,7 @@ import mage.abilities.effects.common.DamageAllEffect;
 import mage.abilities.effects.common.DoIfClashWonEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.FilterPermanent;
@@ -43,6 +44,7 @@ import mage.filter.predicate.permanent.BlockingAttackerIdPredicate;
  *
  * @author BursegSardaukar
  */
+@NotPrototyped
 public class FireJuggler extends CardImpl {
     
     public FireJuggler(UUID ownerId, CardSetInfo setInfo) {
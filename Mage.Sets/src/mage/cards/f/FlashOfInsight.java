@@ -54,6 +54,7 @@ import mage.target.TargetCard;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class FlashOfInsight extends CardImpl {
 
     public FlashOfInsight(UUID ownerId, CardSetInfo setInfo) {
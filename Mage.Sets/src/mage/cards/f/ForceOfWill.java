@@ -35,6 +35,7 @@ import mage.abilities.costs.common.PayLifeCost;
 import mage.abilities.effects.common.CounterTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.filter.common.FilterOwnedCard;
 import mage.filter.predicate.Predicates;
@@ -47,6 +48,7 @@ import mage.target.common.TargetCardInHand;
  *
  * @author Plopman
  */
+@NotPrototyped
 public class ForceOfWill extends CardImpl {
 
     public ForceOfWill(UUID ownerId, CardSetInfo setInfo) {
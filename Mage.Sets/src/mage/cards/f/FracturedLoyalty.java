@@ -38,6 +38,7 @@ import mage.abilities.effects.common.continuous.GainControlTargetEffect;
 import mage.abilities.keyword.EnchantAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -52,6 +53,7 @@ import mage.target.targetpointer.FixedTarget;
  *
  * @author L_J (significantly based on wetterlicht)
  */
+@NotPrototyped
 public class FracturedLoyalty extends CardImpl {
 
     public FracturedLoyalty(UUID ownerId, CardSetInfo setInfo) {
@@ -33,6 +33,7 @@ import mage.abilities.effects.common.DestroyTargetEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.target.common.TargetEnchantmentPermanent;
 
@@ -40,6 +41,7 @@ import mage.target.common.TargetEnchantmentPermanent;
  *
  * @author magenoxx_at_gmail.com
  */
+@NotPrototyped
 public class FranticPurification extends CardImpl {
 
     public FranticPurification(UUID ownerId, CardSetInfo setInfo) {
@@ -38,6 +38,7 @@ import mage.abilities.effects.common.GainLifeEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.game.Game;
 import mage.game.permanent.token.ZombieToken;
@@ -46,6 +47,7 @@ import mage.game.permanent.token.ZombieToken;
  *
  * @author escplan9 (Derek Monturo - dmontur1 at gmail dot com)
  */
+@NotPrototyped
 public class FromUnderTheFloorboards extends CardImpl {
 
     public FromUnderTheFloorboards(UUID ownerId, CardSetInfo setInfo) {
@@ -33,6 +33,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.keyword.ConspireAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.game.Game;
@@ -42,6 +43,7 @@ import mage.players.Player;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class GhastlyDiscovery extends CardImpl {
 
     public GhastlyDiscovery(UUID ownerId, CardSetInfo setInfo) {
@@ -34,6 +34,7 @@ import mage.abilities.effects.common.CreateTokenEffect;
 import mage.abilities.keyword.ConspireAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.game.Game;
@@ -43,6 +44,7 @@ import mage.game.permanent.token.GiantBaitingGiantWarriorToken;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class Giantbaiting extends CardImpl {
 
     public Giantbaiting(UUID ownerId, CardSetInfo setInfo) {
@@ -41,6 +41,7 @@ import mage.abilities.effects.common.discard.DiscardTargetEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -50,6 +51,7 @@ import mage.game.events.GameEvent.EventType;
  *
  * @author emerald000
  */
+@NotPrototyped
 public class GibberingDescent extends CardImpl {
 
     public GibberingDescent(UUID ownerId, CardSetInfo setInfo) {
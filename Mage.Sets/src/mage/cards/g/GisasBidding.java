@@ -33,6 +33,7 @@ import mage.abilities.effects.common.CreateTokenEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.game.permanent.token.ZombieToken;
 
@@ -40,6 +41,7 @@ import mage.game.permanent.token.ZombieToken;
  *
  * @author anonymous
  */
+@NotPrototyped
 public class GisasBidding extends CardImpl {
 
     public GisasBidding(UUID ownerId, CardSetInfo setInfo) {
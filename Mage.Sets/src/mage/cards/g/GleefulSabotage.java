@@ -31,6 +31,7 @@ import mage.abilities.effects.common.DestroyTargetEffect;
 import mage.abilities.keyword.ConspireAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.filter.StaticFilters;
 import mage.target.TargetPermanent;
@@ -41,6 +42,7 @@ import java.util.UUID;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class GleefulSabotage extends CardImpl {
 
     public GleefulSabotage(UUID ownerId, CardSetInfo setInfo) {
@@ -39,6 +39,7 @@ import mage.abilities.effects.common.PreventCombatDamageBySourceEffect;
 import mage.abilities.effects.common.PreventCombatDamageToSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Duration;
@@ -51,6 +52,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author BursegSardaukar
  */
+@NotPrototyped
 public class GoblinSnowman extends CardImpl {
 
     public GoblinSnowman(UUID ownerId, CardSetInfo setInfo) {
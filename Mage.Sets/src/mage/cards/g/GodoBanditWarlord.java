@@ -38,6 +38,7 @@ import mage.abilities.effects.common.UntapAllControllerEffect;
 import mage.abilities.effects.common.search.SearchLibraryPutInPlayEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.SuperType;
@@ -58,6 +59,7 @@ import mage.util.CardUtil;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class GodoBanditWarlord extends CardImpl {
 
     private static final FilterCard filter = new FilterCard("an Equipment card");
@@ -39,6 +39,7 @@ import mage.abilities.effects.common.DestroyTargetEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.common.FilterCreaturePermanent;
@@ -49,6 +50,7 @@ import mage.filter.predicate.mageobject.ColorPredicate;
  *
  * @author nigelzor
  */
+@NotPrototyped
 public class GorgonRecluse extends CardImpl {
 
     private static final FilterCreaturePermanent filter = new FilterCreaturePermanent("nonblack creature");
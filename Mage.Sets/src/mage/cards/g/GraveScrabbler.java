@@ -11,11 +11,13 @@ import mage.abilities.keyword.MadnessAbility;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.common.FilterCreatureCard;
 import mage.target.common.TargetCardInGraveyard;
 
+@NotPrototyped
 public class GraveScrabbler extends CardImpl {
 
     public GraveScrabbler(UUID ownerId, CardSetInfo setInfo) {
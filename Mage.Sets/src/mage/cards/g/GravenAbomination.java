@@ -34,6 +34,7 @@ import mage.abilities.common.AttacksTriggeredAbility;
 import mage.abilities.effects.common.ExileTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.FilterCard;
@@ -46,6 +47,7 @@ import mage.target.common.TargetCardInGraveyard;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class GravenAbomination extends CardImpl {
 
     private final UUID originalId;
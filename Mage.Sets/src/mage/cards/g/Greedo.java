@@ -36,6 +36,7 @@ import mage.abilities.effects.common.search.SearchLibraryPutInHandEffect;
 import mage.abilities.keyword.FirstStrikeAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.FilterCard;
 import mage.filter.common.FilterCreaturePermanent;
@@ -49,6 +50,7 @@ import mage.target.common.TargetCardInLibrary;
  *
  * @author Styxo
  */
+@NotPrototyped
 public class Greedo extends CardImpl {
 
     private static final FilterCard filterCard = new FilterCard("Hunter or Rogue card");
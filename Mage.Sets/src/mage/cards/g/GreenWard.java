@@ -37,6 +37,7 @@ import mage.abilities.keyword.EnchantAbility;
 import mage.abilities.keyword.ProtectionAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.AttachmentType;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -51,6 +52,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author LoneFox
  */
+@NotPrototyped
 public class GreenWard extends CardImpl {
 
     private static final FilterCard filter = new FilterCard("green");
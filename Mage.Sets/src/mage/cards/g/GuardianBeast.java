@@ -41,6 +41,7 @@ import mage.abilities.effects.common.continuous.GainAbilityControlledEffect;
 import mage.abilities.keyword.IndestructibleAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.FilterObject;
 import mage.filter.FilterStackObject;
@@ -58,6 +59,7 @@ import mage.game.stack.StackObject;
  *
  * @author spjspj
  */
+@NotPrototyped
 public class GuardianBeast extends CardImpl {
 
     private static final FilterObject filterAura = new FilterStackObject("auras");
@@ -40,6 +40,7 @@ import mage.abilities.keyword.FlyingAbility;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.FilterCard;
 import mage.filter.FilterPermanent;
@@ -61,6 +62,7 @@ import java.util.UUID;
  *
  * @author jeffwadsworth, TheElk801
  */
+@NotPrototyped
 public class HakimLoreweaver extends CardImpl {
 
     private static final FilterCard filter = new FilterCard("target Aura card from your graveyard");
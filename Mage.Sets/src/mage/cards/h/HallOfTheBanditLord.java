@@ -44,6 +44,7 @@ import mage.abilities.keyword.HasteAbility;
 import mage.abilities.mana.SimpleManaAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -57,6 +58,7 @@ import mage.watchers.Watcher;
  *
  * @author emerald000
  */
+@NotPrototyped
 public class HallOfTheBanditLord extends CardImpl {
 
     public HallOfTheBanditLord(UUID ownerId, CardSetInfo setInfo) {
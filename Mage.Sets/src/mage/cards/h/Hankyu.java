@@ -40,6 +40,7 @@ import mage.abilities.effects.common.continuous.GainAbilityAttachedEffect;
 import mage.abilities.keyword.EquipAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.AttachmentType;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -55,6 +56,7 @@ import mage.target.common.TargetCreatureOrPlayer;
  *
  * @author North
  */
+@NotPrototyped
 public class Hankyu extends CardImpl {
 
     public Hankyu(UUID ownerId, CardSetInfo setInfo) {
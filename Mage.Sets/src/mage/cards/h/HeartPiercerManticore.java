@@ -40,6 +40,7 @@ import mage.abilities.effects.common.SendOptionUsedEventEffect;
 import mage.abilities.keyword.EmbalmAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Outcome;
@@ -58,6 +59,7 @@ import mage.target.common.TargetCreatureOrPlayer;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class HeartPiercerManticore extends CardImpl {
 
     public HeartPiercerManticore(UUID ownerId, CardSetInfo setInfo) {
@@ -41,6 +41,7 @@ import mage.abilities.effects.common.continuous.GainAbilityAttachedEffect;
 import mage.abilities.keyword.EquipAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.target.common.TargetCreaturePermanent;
 
@@ -48,6 +49,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author Galatolol
  */
+@NotPrototyped
 public class Heartseeker extends CardImpl {
 
     public Heartseeker(UUID ownerId, CardSetInfo setInfo) {
@@ -39,6 +39,7 @@ import mage.abilities.effects.common.counter.AddCountersSourceEffect;
 import mage.abilities.keyword.HasteAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.WatcherScope;
@@ -55,6 +56,7 @@ import mage.watchers.Watcher;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class HotheadedGiant extends CardImpl {
 
     public HotheadedGiant(UUID ownerId, CardSetInfo setInfo) {
@@ -34,6 +34,7 @@ import mage.abilities.keyword.CyclingAbility;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.target.common.TargetCreaturePermanent;
@@ -42,6 +43,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author magenoxx_at_gmail.com
  */
+@NotPrototyped
 public class IchorSlick extends CardImpl {
 
     public IchorSlick(UUID ownerId, CardSetInfo setInfo) {
@@ -40,6 +40,7 @@ import mage.abilities.effects.common.SacrificeSourceEffect;
 import mage.abilities.keyword.HasteAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.TargetController;
@@ -57,6 +58,7 @@ import mage.target.common.TargetCardInYourGraveyard;
  *
  * @author Plopman
  */
+@NotPrototyped
 public class Ichorid extends CardImpl {
 
     public Ichorid(UUID ownerId, CardSetInfo setInfo) {
@@ -37,6 +37,7 @@ import mage.abilities.effects.common.DestroyAllEffect;
 import mage.abilities.effects.common.SacrificeSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.TargetController;
 import mage.constants.Zone;
@@ -47,6 +48,7 @@ import mage.game.Game;
  *
  * @author Plopman
  */
+@NotPrototyped
 public class ImpendingDisaster extends CardImpl {
 
     public ImpendingDisaster(UUID ownerId, CardSetInfo setInfo) {
@@ -34,6 +34,7 @@ import mage.abilities.keyword.HasteAbility;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 
@@ -41,6 +42,7 @@ import mage.constants.SubType;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class IncorrigibleYouths extends CardImpl {
 
     public IncorrigibleYouths(UUID ownerId, CardSetInfo setInfo) {
@@ -40,6 +40,7 @@ import mage.abilities.keyword.HasteAbility;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.cards.Cards;
 import mage.cards.CardsImpl;
 import mage.constants.CardType;
@@ -60,6 +61,7 @@ import mage.target.common.TargetCardInExile;
  *
  * @author TheElk801
  */
+@NotPrototyped
 public class IzzetChemister extends CardImpl {
 
     private static final FilterCard filter = new FilterOwnedCard("instant or sorcery card from your graveyard");
@@ -33,6 +33,7 @@ import mage.abilities.effects.common.ReturnToHandTargetEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.target.common.TargetCreaturePermanent;
 
@@ -40,6 +41,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class JustTheWind extends CardImpl {
 
     public JustTheWind(UUID ownerId, CardSetInfo setInfo) {
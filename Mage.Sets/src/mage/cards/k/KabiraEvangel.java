@@ -34,6 +34,7 @@ import mage.abilities.effects.Effect;
 import mage.abilities.effects.common.continuous.GainProtectionFromColorAllEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.SubType;
@@ -48,6 +49,7 @@ import mage.filter.predicate.mageobject.SubtypePredicate;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class KabiraEvangel extends CardImpl {
 
     private static final FilterControlledCreaturePermanent FILTER1 = new FilterControlledCreaturePermanent();
@@ -39,6 +39,7 @@ import mage.abilities.effects.common.DontUntapInControllersUntapStepAllEffect;
 import mage.abilities.effects.common.TapAllEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.TargetController;
@@ -51,6 +52,7 @@ import mage.filter.predicate.permanent.PermanentIdPredicate;
  *
  * @author spjspj
  */
+@NotPrototyped
 public class KillSwitch extends CardImpl {
 
     
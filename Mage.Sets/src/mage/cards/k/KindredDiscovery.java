@@ -32,6 +32,7 @@ import mage.abilities.common.AsEntersBattlefieldAbility;
 import mage.abilities.common.EntersBattlefieldOrAttacksAllTriggeredAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.abilities.effects.common.ChooseCreatureTypeEffect;
 import mage.abilities.effects.common.DrawCardSourceControllerEffect;
 import mage.constants.CardType;
@@ -43,6 +44,7 @@ import mage.filter.predicate.mageobject.ChosenSubtypePredicate;
  *
  * @author Saga
  */
+@NotPrototyped
 public class KindredDiscovery extends CardImpl {
 
     public KindredDiscovery(UUID ownerId, CardSetInfo setInfo) {
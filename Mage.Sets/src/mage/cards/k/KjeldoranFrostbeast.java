@@ -34,6 +34,7 @@ import mage.abilities.common.EndOfCombatTriggeredAbility;
 import mage.abilities.effects.common.DestroyAllEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.common.FilterCreaturePermanent;
@@ -45,6 +46,7 @@ import mage.filter.predicate.permanent.BlockingAttackerIdPredicate;
  *
  * @author TheElk801
  */
+@NotPrototyped
 public class KjeldoranFrostbeast extends CardImpl {
 
     public KjeldoranFrostbeast(UUID ownerId, CardSetInfo setInfo) {
@@ -35,6 +35,7 @@ import mage.abilities.costs.mana.ManaCostsImpl;
 import mage.abilities.effects.common.DestroyTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Zone;
@@ -46,6 +47,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author dustinconrad
  */
+@NotPrototyped
 public class KnightOfDusk extends CardImpl {
 
     public KnightOfDusk(UUID ownerId, CardSetInfo setInfo) {
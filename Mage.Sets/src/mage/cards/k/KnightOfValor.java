@@ -35,6 +35,7 @@ import mage.abilities.effects.common.continuous.BoostAllEffect;
 import mage.abilities.keyword.FlankingAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Duration;
@@ -48,6 +49,7 @@ import mage.filter.predicate.permanent.BlockingAttackerIdPredicate;
  *
  * @author LoneFox
  */
+@NotPrototyped
 public class KnightOfValor extends CardImpl {
 
     public KnightOfValor(UUID ownerId, CardSetInfo setInfo) {
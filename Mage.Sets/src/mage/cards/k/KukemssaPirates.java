@@ -36,6 +36,7 @@ import mage.abilities.effects.common.continuous.GainControlTargetEffect;
 import mage.constants.SubType;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.filter.common.FilterArtifactPermanent;
@@ -47,6 +48,7 @@ import mage.target.common.TargetArtifactPermanent;
  *
  * @author TheElk801
  */
+@NotPrototyped
 public class KukemssaPirates extends CardImpl {
 
     private final UUID originalId;
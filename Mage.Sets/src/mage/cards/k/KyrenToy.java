@@ -40,6 +40,7 @@ import mage.abilities.effects.common.counter.AddCountersSourceEffect;
 import mage.abilities.mana.BasicManaAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Zone;
 import mage.counters.CounterType;
@@ -50,6 +51,7 @@ import mage.players.Player;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class KyrenToy extends CardImpl {
 
     public KyrenToy(UUID ownerId, CardSetInfo setInfo) {
@@ -35,6 +35,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.effects.common.continuous.AssignNoCombatDamageSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Duration;
@@ -49,6 +50,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author L_J
  */
+@NotPrototyped
 public class LaccolithTitan extends CardImpl {
 
     public LaccolithTitan(UUID ownerId, CardSetInfo setInfo) {
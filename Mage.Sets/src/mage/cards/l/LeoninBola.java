@@ -39,6 +39,7 @@ import mage.abilities.effects.common.continuous.GainAbilityAttachedEffect;
 import mage.abilities.keyword.EquipAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.target.common.TargetCreaturePermanent;
 
@@ -46,6 +47,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author Plopman
  */
+@NotPrototyped
 public class LeoninBola extends CardImpl {
 
     public LeoninBola(UUID ownerId, CardSetInfo setInfo) {
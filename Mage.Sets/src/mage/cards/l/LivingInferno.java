@@ -37,6 +37,7 @@ import mage.abilities.costs.common.TapSourceCost;
 import mage.abilities.effects.OneShotEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Outcome;
@@ -50,6 +51,7 @@ import mage.target.common.TargetCreaturePermanentAmount;
  *
  * @author LevelX2 & L_J
  */
+@NotPrototyped
 public class LivingInferno extends CardImpl {
 
     private final UUID originalId;
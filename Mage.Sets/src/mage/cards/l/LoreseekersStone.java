@@ -38,6 +38,7 @@ import mage.abilities.effects.common.DrawCardSourceControllerEffect;
 import mage.abilities.effects.common.cost.CostModificationEffectImpl;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.CostModificationType;
 import mage.constants.Duration;
@@ -51,6 +52,7 @@ import mage.util.CardUtil;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class LoreseekersStone extends CardImpl {
 
     public LoreseekersStone(UUID ownerId, CardSetInfo setInfo) {
@@ -36,6 +36,7 @@ import mage.abilities.effects.common.DamageTargetEffect;
 import mage.abilities.keyword.KickerAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.filter.common.FilterControlledLandPermanent;
 import mage.game.Game;
@@ -47,6 +48,7 @@ import mage.target.common.TargetCreatureOrPlayer;
  * @author LoneFox
 
  */
+@NotPrototyped
 public class MagmaBurst extends CardImpl {
 
     private final UUID originalId;
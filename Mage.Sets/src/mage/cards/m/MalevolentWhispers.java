@@ -38,6 +38,7 @@ import mage.abilities.keyword.HasteAbility;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.target.common.TargetCreaturePermanent;
@@ -46,6 +47,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class MalevolentWhispers extends CardImpl {
 
     public MalevolentWhispers(UUID ownerId, CardSetInfo setInfo) {
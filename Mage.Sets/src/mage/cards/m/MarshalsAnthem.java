@@ -39,6 +39,7 @@ import mage.abilities.effects.common.continuous.BoostAllEffect;
 import mage.abilities.keyword.MultikickerAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.TargetController;
@@ -55,6 +56,7 @@ import mage.target.common.TargetCardInYourGraveyard;
  * @author jeffwadsworth
  *
  */
+@NotPrototyped
 public class MarshalsAnthem extends CardImpl {
 
     private static final FilterCreaturePermanent filter = new FilterCreaturePermanent("Creatures you control");
@@ -42,6 +42,7 @@ import mage.abilities.effects.Effect;
 import mage.abilities.effects.common.ExileTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Zone;
@@ -56,6 +57,7 @@ import mage.target.common.TargetCardInHand;
  *
  * @author emerald000
  */
+@NotPrototyped
 public class MartyrOfBones extends CardImpl {
 
     private final UUID originalId;
@@ -42,6 +42,7 @@ import mage.abilities.effects.common.combat.AttacksIfAbleTargetEffect;
 import mage.abilities.effects.common.combat.CantAttackTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.common.FilterCreaturePermanent;
 import mage.game.Game;
@@ -62,6 +63,7 @@ import mage.watchers.common.ChooseBlockersRedundancyWatcher;
  *
  * @author L_J
  */
+@NotPrototyped
 public class MasterWarcraft extends CardImpl {
 
     public MasterWarcraft(UUID ownerId, CardSetInfo setInfo) {
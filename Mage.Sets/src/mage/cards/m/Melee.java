@@ -43,6 +43,7 @@ import mage.abilities.effects.common.RemoveFromCombatTargetEffect;
 import mage.abilities.effects.common.UntapTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.game.Game;
 import mage.game.combat.CombatGroup;
@@ -58,6 +59,7 @@ import mage.watchers.common.ChooseBlockersRedundancyWatcher;
  *
  * @author L_J
  */
+@NotPrototyped
 public class Melee extends CardImpl {
 
     public Melee(UUID ownerId, CardSetInfo setInfo) {
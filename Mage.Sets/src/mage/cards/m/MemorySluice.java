@@ -32,6 +32,7 @@ import mage.abilities.effects.common.PutLibraryIntoGraveTargetEffect;
 import mage.abilities.keyword.ConspireAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.target.TargetPlayer;
 
@@ -39,6 +40,7 @@ import mage.target.TargetPlayer;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class MemorySluice extends CardImpl {
 
     public MemorySluice(UUID ownerId, CardSetInfo setInfo) {
@@ -35,6 +35,7 @@ import mage.abilities.effects.Effect;
 import mage.abilities.effects.common.continuous.BoostAllEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.SuperType;
@@ -50,6 +51,7 @@ import mage.game.permanent.Permanent;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class MercadiasDownfall extends CardImpl {
     
     private static String rule = "Each attacking creature gets +1/+0 until end of turn for each nonbasic land defending player controls";
@@ -42,6 +42,7 @@ import mage.abilities.keyword.HeroicAbility;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.cards.SplitCard;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -62,6 +63,7 @@ import mage.util.CardUtil;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class Mindreaver extends CardImpl {
 
     public Mindreaver(UUID ownerId, CardSetInfo setInfo) {
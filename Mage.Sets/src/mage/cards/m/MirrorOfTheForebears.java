@@ -38,6 +38,7 @@ import mage.abilities.effects.common.ChooseCreatureTypeEffect;
 import mage.abilities.effects.common.continuous.AddCardTypeTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.Outcome;
@@ -54,6 +55,7 @@ import mage.util.functions.EmptyApplyToPermanent;
  *
  * @author TheElk801
  */
+@NotPrototyped
 public class MirrorOfTheForebears extends CardImpl {
 
     public MirrorOfTheForebears(UUID ownerId, CardSetInfo setInfo) {
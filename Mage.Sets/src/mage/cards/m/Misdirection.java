@@ -34,6 +34,7 @@ import mage.abilities.costs.common.ExileFromHandCost;
 import mage.abilities.effects.common.ChooseNewTargetsTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.filter.FilterSpell;
 import mage.filter.common.FilterOwnedCard;
@@ -48,6 +49,7 @@ import mage.target.common.TargetCardInHand;
  *
  * @author jonubuu
  */
+@NotPrototyped
 public class Misdirection extends CardImpl {
 
     private static final FilterSpell filter2 = new FilterSpell("spell with a single target");
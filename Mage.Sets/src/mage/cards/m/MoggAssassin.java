@@ -36,6 +36,7 @@ import mage.abilities.costs.common.TapSourceCost;
 import mage.abilities.effects.OneShotEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Outcome;
@@ -51,6 +52,7 @@ import mage.target.common.TargetOpponentsCreaturePermanent;
  * 
  * @author L_J
  */
+@NotPrototyped
 public class MoggAssassin extends CardImpl {
 
     private final UUID originalId;
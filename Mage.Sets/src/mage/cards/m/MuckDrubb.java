@@ -38,6 +38,7 @@ import mage.abilities.keyword.FlashAbility;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.FilterInPlay;
@@ -56,6 +57,7 @@ import mage.util.TargetAddress;
  * 
  * @author L_J
  */
+@NotPrototyped
 public class MuckDrubb extends CardImpl {
 
     protected static final FilterSpell filter = new FilterSpell("spell that targets only a single creature");
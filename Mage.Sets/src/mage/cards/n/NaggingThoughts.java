@@ -34,6 +34,7 @@ import mage.abilities.effects.common.LookLibraryAndPickControllerEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Zone;
 import mage.filter.FilterCard;
@@ -42,6 +43,7 @@ import mage.filter.FilterCard;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class NaggingThoughts extends CardImpl {
 
     public NaggingThoughts(UUID ownerId, CardSetInfo setInfo) {
@@ -31,6 +31,7 @@ import mage.abilities.Ability;
 import mage.abilities.effects.OneShotEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.cards.CardsImpl;
 import mage.constants.CardType;
 import mage.constants.Outcome;
@@ -53,6 +54,7 @@ import java.util.UUID;
  *
  * @author Rene - bugisemail at gmail dot com
  */
+@NotPrototyped
 public class NaturalBalance extends CardImpl {
 
     public NaturalBalance(UUID ownerId, CardSetInfo setInfo) {
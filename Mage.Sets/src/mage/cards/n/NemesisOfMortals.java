@@ -37,6 +37,7 @@ import mage.abilities.effects.common.cost.SourceCostReductionForEachCardInGravey
 import mage.abilities.keyword.MonstrosityAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.CostModificationType;
@@ -52,6 +53,7 @@ import mage.util.CardUtil;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class NemesisOfMortals extends CardImpl {
 
     public NemesisOfMortals(UUID ownerId, CardSetInfo setInfo) {
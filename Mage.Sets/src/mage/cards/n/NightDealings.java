@@ -53,6 +53,7 @@ import mage.target.common.TargetCardInLibrary;
 /**
  * @author Loki
  */
+@NotPrototyped
 public class NightDealings extends CardImpl {
 
     public NightDealings(UUID ownerId, CardSetInfo setInfo) {
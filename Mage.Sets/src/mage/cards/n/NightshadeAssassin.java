@@ -41,6 +41,7 @@ import mage.abilities.keyword.FirstStrikeAbility;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.cards.CardsImpl;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -57,6 +58,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class NightshadeAssassin extends CardImpl {
 
     public NightshadeAssassin(UUID ownerId, CardSetInfo setInfo) {
@@ -34,6 +34,7 @@ import mage.abilities.dynamicvalue.common.ExileFromHandCostCardConvertedMana;
 import mage.abilities.effects.common.GainLifeEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.common.FilterOwnedCard;
@@ -48,6 +49,7 @@ import java.util.UUID;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class NourishingShoal extends CardImpl {
 
     public NourishingShoal(UUID ownerId, CardSetInfo setInfo) {
@@ -35,6 +35,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.cards.Cards;
 import mage.cards.CardsImpl;
 import mage.constants.CardType;
@@ -53,6 +54,7 @@ import mage.target.TargetPlayer;
  *
  * @author Plopman
  */
+@NotPrototyped
 public class OathOfDruids extends CardImpl {
 
     private final UUID originalId;
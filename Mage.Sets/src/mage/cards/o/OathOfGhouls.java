@@ -35,6 +35,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.constants.TargetController;
@@ -56,6 +57,7 @@ import mage.target.common.TargetCardInGraveyard;
  *
  * @author TheElk801
  */
+@NotPrototyped
 public class OathOfGhouls extends CardImpl {
 
     private final UUID originalId;
@@ -34,6 +34,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.effects.common.search.SearchLibraryPutInPlayTargetPlayerEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.constants.TargetController;
@@ -54,6 +55,7 @@ import java.util.UUID;
  *
  * @author emerald000
  */
+@NotPrototyped
 public class OathOfLieges extends CardImpl {
 
     private final UUID originalId;
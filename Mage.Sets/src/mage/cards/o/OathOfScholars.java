@@ -34,6 +34,7 @@ import mage.abilities.common.BeginningOfUpkeepTriggeredAbility;
 import mage.abilities.effects.OneShotEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.constants.TargetController;
@@ -48,6 +49,7 @@ import mage.target.TargetPlayer;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class OathOfScholars extends CardImpl {
 
     private final UUID originalId;
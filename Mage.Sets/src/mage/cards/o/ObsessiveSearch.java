@@ -33,12 +33,14 @@ import mage.abilities.effects.common.DrawCardSourceControllerEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 
 /**
  *
  * @author magenoxx_at_gmail.com
  */
+@NotPrototyped
 public class ObsessiveSearch extends CardImpl {
 
     public ObsessiveSearch(UUID ownerId, CardSetInfo setInfo) {
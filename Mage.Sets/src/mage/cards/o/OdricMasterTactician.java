@@ -36,6 +36,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.keyword.FirstStrikeAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -46,6 +47,7 @@ import mage.watchers.common.ChooseBlockersRedundancyWatcher;
 /**
  * @author noxx
  */
+@NotPrototyped
 public class OdricMasterTactician extends CardImpl {
 
     public OdricMasterTactician(UUID ownerId, CardSetInfo setInfo) {
@@ -42,6 +42,7 @@ import mage.abilities.effects.common.InfoEffect;
 import mage.abilities.effects.common.continuous.GainControlTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Duration;
@@ -58,6 +59,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class OldManOfTheSea extends CardImpl {
 
     public OldManOfTheSea(UUID ownerId, CardSetInfo setInfo) {
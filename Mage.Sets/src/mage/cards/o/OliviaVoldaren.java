@@ -42,6 +42,7 @@ import mage.abilities.effects.common.counter.AddCountersSourceEffect;
 import mage.abilities.keyword.FlyingAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.counters.CounterType;
 import mage.filter.FilterPermanent;
@@ -56,6 +57,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author nantuko
  */
+@NotPrototyped
 public class OliviaVoldaren extends CardImpl {
 
     private static final FilterCreaturePermanent filter = new FilterCreaturePermanent("another target creature");
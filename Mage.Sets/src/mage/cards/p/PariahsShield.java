@@ -35,6 +35,7 @@ import mage.abilities.effects.ReplacementEffectImpl;
 import mage.abilities.keyword.EquipAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Duration;
@@ -49,6 +50,7 @@ import mage.game.permanent.Permanent;
  *
  * @author escplan9 (Derek Monturo - dmontur1 at gmail dot com)
  */
+@NotPrototyped
 public class PariahsShield extends CardImpl {
 
     public PariahsShield(UUID ownerId, CardSetInfo setInfo) {
@@ -37,6 +37,7 @@ import mage.abilities.effects.common.CopyPermanentEffect;
 import mage.abilities.effects.common.SacrificeSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.StaticFilters;
@@ -50,6 +51,7 @@ import java.util.UUID;
  *
  * @author North
  */
+@NotPrototyped
 public class PhantasmalImage extends CardImpl {
 
     private static final String effectText = "a copy of any creature on the battlefield, except it's an Illusion in addition to its other types and it gains \"When this creature becomes the target of a spell or ability, sacrifice it.\"";
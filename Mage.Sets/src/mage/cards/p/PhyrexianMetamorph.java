@@ -37,6 +37,7 @@ import mage.abilities.effects.EntersBattlefieldEffect;
 import mage.abilities.effects.common.CopyPermanentEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Zone;
@@ -51,6 +52,7 @@ import mage.util.functions.ApplyToPermanent;
  *
  * @author Loki
  */
+@NotPrototyped
 public class PhyrexianMetamorph extends CardImpl {
 
     private static final FilterPermanent filter = new FilterPermanent("artifact or creature");
@@ -32,6 +32,7 @@ import mage.abilities.Ability;
 import mage.abilities.effects.OneShotEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.filter.StaticFilters;
@@ -43,6 +44,7 @@ import mage.game.permanent.token.PhyrexianRebirthHorrorToken;
  *
  * @author ayratn
  */
+@NotPrototyped
 public class PhyrexianRebirth extends CardImpl {
 
     public PhyrexianRebirth(UUID ownerId, CardSetInfo setInfo) {
@@ -40,6 +40,7 @@ import mage.abilities.keyword.ProtectionAbility;
 import mage.abilities.keyword.TrampleAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.FilterCard;
@@ -57,6 +58,7 @@ import mage.target.targetpointer.FirstTargetPointer;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class PolisCrusher extends CardImpl {
 
     private static final FilterCard filter = new FilterCard("enchantments");
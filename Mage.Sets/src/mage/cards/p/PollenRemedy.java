@@ -37,6 +37,7 @@ import mage.abilities.effects.common.PreventDamageToTargetMultiAmountEffect;
 import mage.abilities.keyword.KickerAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.filter.common.FilterControlledLandPermanent;
@@ -49,6 +50,7 @@ import mage.target.common.TargetCreatureOrPlayerAmount;
  * @author LoneFox
 
  */
+@NotPrototyped
 public class PollenRemedy extends CardImpl {
 
     private final UUID originalId;
@@ -36,6 +36,7 @@ import mage.abilities.keyword.MadnessAbility;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.cards.Cards;
 import mage.cards.CardsImpl;
 import mage.constants.CardType;
@@ -51,6 +52,7 @@ import mage.target.TargetPlayer;
  *
  * @author anonymous
  */
+@NotPrototyped
 public class PsychoticEpisode extends CardImpl {
 
     public PsychoticEpisode(UUID ownerId, CardSetInfo setInfo) {
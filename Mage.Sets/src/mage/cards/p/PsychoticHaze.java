@@ -33,12 +33,14 @@ import mage.abilities.effects.common.DamageEverythingEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 
 /**
  *
  * @author magenoxx_at_gmail.com
  */
+@NotPrototyped
 public class PsychoticHaze extends CardImpl {
 
     public PsychoticHaze(UUID ownerId, CardSetInfo setInfo) {
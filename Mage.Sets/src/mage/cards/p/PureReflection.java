@@ -34,6 +34,7 @@ import mage.abilities.effects.Effect;
 import mage.abilities.effects.OneShotEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.constants.SetTargetPointer;
@@ -50,6 +51,7 @@ import mage.players.Player;
  *
  * @author SpikesCafe-google
  */
+@NotPrototyped
 public class PureReflection extends CardImpl {
 
     public PureReflection(UUID ownerId, CardSetInfo setInfo) {
@@ -34,6 +34,7 @@ import mage.abilities.costs.common.ExileFromHandCost;
 import mage.abilities.effects.common.DamageMultiEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.filter.common.FilterOwnedCard;
 import mage.filter.predicate.Predicates;
@@ -46,6 +47,7 @@ import mage.target.common.TargetCreaturePermanentAmount;
  *
  * @author Plopman
  */
+@NotPrototyped
 public class Pyrokinesis extends CardImpl {
 
     public Pyrokinesis(UUID ownerId, CardSetInfo setInfo) {
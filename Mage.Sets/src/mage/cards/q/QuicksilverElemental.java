@@ -41,6 +41,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.effects.common.continuous.GainAbilitySourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.AsThoughEffectType;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -60,6 +61,7 @@ import mage.target.targetpointer.FixedTarget;
  *
  * @author spjspj
  */
+@NotPrototyped
 public class QuicksilverElemental extends CardImpl {
 
     public QuicksilverElemental(UUID ownerId, CardSetInfo setInfo) {
@@ -38,6 +38,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.effects.common.continuous.BecomesBasicLandTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.counters.CounterType;
 import mage.filter.common.FilterLandPermanent;
@@ -56,6 +57,7 @@ import mage.target.common.TargetLandPermanent;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class QuicksilverFountain extends CardImpl {
 
     public final UUID originalId;
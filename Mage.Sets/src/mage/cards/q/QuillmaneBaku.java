@@ -40,6 +40,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.effects.common.counter.AddCountersSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.ComparisonType;
@@ -57,6 +58,7 @@ import mage.target.common.TargetCreaturePermanent;
 /**
  * @author LevelX2
  */
+@NotPrototyped
 public class QuillmaneBaku extends CardImpl {
 
     private final UUID originalId;
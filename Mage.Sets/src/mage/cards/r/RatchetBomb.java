@@ -37,6 +37,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.effects.common.counter.AddCountersSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.constants.Zone;
@@ -48,6 +49,7 @@ import mage.game.permanent.Permanent;
  *
  * @author Loki
  */
+@NotPrototyped
 public class RatchetBomb extends CardImpl {
 
     public RatchetBomb (UUID ownerId, CardSetInfo setInfo) {
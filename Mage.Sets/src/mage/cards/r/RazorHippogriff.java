@@ -38,6 +38,7 @@ import mage.abilities.keyword.FlyingAbility;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Outcome;
@@ -52,6 +53,7 @@ import mage.target.common.TargetCardInYourGraveyard;
  *
  * @author nantuko
  */
+@NotPrototyped
 public class RazorHippogriff extends CardImpl {
 
     public RazorHippogriff (UUID ownerId, CardSetInfo setInfo) {
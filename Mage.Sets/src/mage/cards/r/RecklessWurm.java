@@ -34,6 +34,7 @@ import mage.abilities.keyword.MadnessAbility;
 import mage.abilities.keyword.TrampleAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 
@@ -41,6 +42,7 @@ import mage.constants.SubType;
  *
  * @author magenoxx_at_gmail.com
  */
+@NotPrototyped
 public class RecklessWurm extends CardImpl {
 
     public RecklessWurm(UUID ownerId, CardSetInfo setInfo) {
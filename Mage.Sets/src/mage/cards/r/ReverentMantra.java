@@ -34,6 +34,7 @@ import mage.abilities.costs.common.ExileFromHandCost;
 import mage.abilities.effects.common.continuous.GainProtectionFromColorAllEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.filter.common.FilterCreaturePermanent;
@@ -47,6 +48,7 @@ import mage.target.common.TargetCardInHand;
  *
  * @author ciaccona007
  */
+@NotPrototyped
 public class ReverentMantra extends CardImpl {
 
     public ReverentMantra(UUID ownerId, CardSetInfo setInfo) {
@@ -39,6 +39,7 @@ import mage.abilities.effects.common.DamageTargetEffect;
 import mage.abilities.effects.common.DestroySourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.WatcherScope;
 import mage.constants.Zone;
@@ -51,6 +52,7 @@ import mage.watchers.Watcher;
  *
  * @author MarcoMarin
  */
+@NotPrototyped
 public class RocketLauncher extends CardImpl {
 
     public RocketLauncher(UUID ownerId, CardSetInfo setInfo) {
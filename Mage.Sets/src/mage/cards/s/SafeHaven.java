@@ -38,6 +38,7 @@ import mage.abilities.effects.common.ReturnFromExileEffect;
 import mage.abilities.effects.common.SacrificeSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.TargetController;
 import mage.constants.Zone;
@@ -47,6 +48,7 @@ import mage.target.common.TargetControlledCreaturePermanent;
  *
  * @author LoneFox
  */
+@NotPrototyped
 public class SafeHaven extends CardImpl {
 
     public SafeHaven(UUID ownerId, CardSetInfo setInfo) {
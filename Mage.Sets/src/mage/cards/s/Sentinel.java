@@ -37,6 +37,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.effects.common.continuous.SetToughnessSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Duration;
@@ -57,6 +58,7 @@ import mage.util.CardUtil;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class Sentinel extends CardImpl {
 
     public Sentinel(UUID ownerId, CardSetInfo setInfo) {
@@ -40,6 +40,7 @@ import mage.abilities.keyword.HasteAbility;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.cards.Cards;
 import mage.cards.CardsImpl;
 import mage.constants.AttachmentType;
@@ -62,6 +63,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author Saga
  */
+@NotPrototyped
 public class ShiftingShadow extends CardImpl {
 
     public ShiftingShadow(UUID ownerId, CardSetInfo setInfo) {
@@ -39,6 +39,7 @@ import mage.abilities.effects.common.ReturnToBattlefieldUnderYourControlTargetEf
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Outcome;
@@ -55,6 +56,7 @@ import mage.target.targetpointer.FixedTarget;
  *
  * @author emerald000
  */
+@NotPrototyped
 public class ShireiShizosCaretaker extends CardImpl {
 
     public ShireiShizosCaretaker(UUID ownerId, CardSetInfo setInfo) {
@@ -36,6 +36,7 @@ import mage.abilities.dynamicvalue.common.SignInversionDynamicValue;
 import mage.abilities.effects.common.continuous.BoostTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.SubType;
@@ -52,6 +53,7 @@ import java.util.UUID;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class SickeningShoal extends CardImpl {
 
     public SickeningShoal(UUID ownerId, CardSetInfo setInfo) {
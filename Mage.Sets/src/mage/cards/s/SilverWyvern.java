@@ -38,6 +38,7 @@ import mage.abilities.effects.common.ChooseNewTargetsTargetEffect;
 import mage.abilities.keyword.FlyingAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Zone;
@@ -53,6 +54,7 @@ import mage.target.Targets;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class SilverWyvern extends CardImpl {
     
     public SilverWyvern(UUID ownerId, CardSetInfo setInfo) {
@@ -39,6 +39,7 @@ import mage.abilities.effects.common.combat.MustBeBlockedByTargetSourceEffect;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.cards.CardsImpl;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -60,6 +61,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class SistersOfStoneDeath extends CardImpl {
 
     private UUID exileId = UUID.randomUUID();
@@ -37,6 +37,7 @@ import mage.abilities.effects.common.continuous.GainControlTargetEffect;
 import mage.abilities.keyword.FlyingAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.FilterPermanent;
 import mage.filter.StaticFilters;
@@ -53,6 +54,7 @@ import mage.target.targetpointer.FixedTarget;
 /**
  * @author LevelX2
  */
+@NotPrototyped
 public class SkyfireKirin extends CardImpl {
 
     private final UUID originalId;
@@ -36,6 +36,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.effects.common.DestroyTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Outcome;
 import mage.constants.WatcherScope;
@@ -56,6 +57,7 @@ import mage.watchers.Watcher;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class SoulReap extends CardImpl {
 
     private static final FilterCreaturePermanent filter = new FilterCreaturePermanent("nongreen creature");
@@ -36,6 +36,7 @@ import mage.abilities.effects.Effect;
 import mage.abilities.effects.common.continuous.BoostSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Duration;
 import mage.constants.SubType;
@@ -49,6 +50,7 @@ import mage.filter.predicate.permanent.PermanentIdPredicate;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class SquirrelMob extends CardImpl {
 
     public SquirrelMob(UUID ownerId, CardSetInfo setInfo) {
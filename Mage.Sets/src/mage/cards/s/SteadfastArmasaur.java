@@ -38,6 +38,7 @@ import mage.abilities.effects.common.DamageTargetEffect;
 import mage.abilities.keyword.VigilanceAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Zone;
@@ -51,6 +52,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author TheElk801
  */
+@NotPrototyped
 public class SteadfastArmasaur extends CardImpl {
 
     public SteadfastArmasaur(UUID ownerId, CardSetInfo setInfo) {
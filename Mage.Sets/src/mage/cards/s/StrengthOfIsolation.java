@@ -41,6 +41,7 @@ import mage.abilities.keyword.MadnessAbility;
 import mage.abilities.keyword.ProtectionAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.AttachmentType;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -54,6 +55,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author LoneFox
  */
+@NotPrototyped
 public class StrengthOfIsolation extends CardImpl {
 
     public StrengthOfIsolation(UUID ownerId, CardSetInfo setInfo) {
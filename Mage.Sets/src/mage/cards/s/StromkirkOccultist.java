@@ -40,6 +40,7 @@ import mage.abilities.keyword.TrampleAbility;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.AsThoughEffectType;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -55,6 +56,7 @@ import mage.target.targetpointer.FixedTarget;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class StromkirkOccultist extends CardImpl {
 
     public StromkirkOccultist(UUID ownerId, CardSetInfo setInfo) {
@@ -43,6 +43,7 @@ import mage.abilities.keyword.EquipAbility;
 import mage.abilities.keyword.FirstStrikeAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.AttachmentType;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -54,6 +55,7 @@ import mage.target.TargetPlayer;
  *
  * @author AlumiuN
  */
+@NotPrototyped
 public class SurestrikeTrident extends CardImpl {
 
     public SurestrikeTrident(UUID ownerId, CardSetInfo setInfo) {
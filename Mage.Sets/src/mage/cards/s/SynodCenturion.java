@@ -33,6 +33,7 @@ import mage.abilities.StateTriggeredAbility;
 import mage.abilities.effects.common.SacrificeSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Zone;
@@ -44,6 +45,7 @@ import mage.game.permanent.Permanent;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class SynodCenturion extends CardImpl {
 
     public SynodCenturion(UUID ownerId, CardSetInfo setInfo) {
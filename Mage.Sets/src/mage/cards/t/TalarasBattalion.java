@@ -37,6 +37,7 @@ import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
 import mage.abilities.keyword.TrampleAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Duration;
@@ -55,6 +56,7 @@ import mage.watchers.Watcher;
  *
  * @author jeffwadsworth
  */
+@NotPrototyped
 public class TalarasBattalion extends CardImpl {
 
     public TalarasBattalion(UUID ownerId, CardSetInfo setInfo) {
@@ -41,6 +41,7 @@ import mage.abilities.effects.common.DamageTargetEffect;
 import mage.abilities.effects.common.counter.AddCountersSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.Zone;
 import mage.counters.Counter;
@@ -55,6 +56,7 @@ import mage.target.common.TargetCreatureOrPlayer;
  *
  * @author jerekwilson
  */
+@NotPrototyped
 public class TalonOfPain extends CardImpl {
 
     public TalonOfPain(UUID ownerId, CardSetInfo setInfo) {
@@ -41,6 +41,7 @@ import mage.abilities.keyword.DefenderAbility;
 import mage.abilities.mana.SimpleManaAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.WatcherScope;
@@ -56,6 +57,7 @@ import mage.watchers.Watcher;
  *
  * @author Plopman
  */
+@NotPrototyped
 public class TinderWall extends CardImpl {
 
     public TinderWall(UUID ownerId, CardSetInfo setInfo) {
@@ -35,6 +35,7 @@ import mage.abilities.effects.common.CreateDelayedTriggeredAbilityEffect;
 import mage.abilities.effects.common.continuous.GainControlTargetEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Duration;
@@ -46,6 +47,7 @@ import mage.game.events.GameEvent.EventType;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class TolarianEntrancer extends CardImpl {
 
     public TolarianEntrancer(UUID ownerId, CardSetInfo setInfo) {
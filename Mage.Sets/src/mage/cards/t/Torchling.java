@@ -42,6 +42,7 @@ import mage.abilities.effects.common.combat.MustBeBlockedByTargetSourceEffect;
 import mage.abilities.effects.common.continuous.BoostSourceEffect;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.ColoredManaSymbol;
@@ -59,6 +60,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author emerald000
  */
+@NotPrototyped
 public class Torchling extends CardImpl {
 
     public Torchling(UUID ownerId, CardSetInfo setInfo) {
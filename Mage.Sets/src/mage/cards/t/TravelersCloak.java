@@ -41,6 +41,7 @@ import mage.abilities.keyword.EnchantAbility;
 import mage.abilities.keyword.LandwalkAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.AttachmentType;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -55,6 +56,7 @@ import mage.target.common.TargetCreaturePermanent;
  *
  * @author emerald000
  */
+@NotPrototyped
 public class TravelersCloak extends CardImpl {
 
     public TravelersCloak(UUID ownerId, CardSetInfo setInfo) {
@@ -33,6 +33,7 @@ import mage.abilities.costs.mana.ManaCostsImpl;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 
@@ -40,6 +41,7 @@ import mage.constants.SubType;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class TwinsOfMaurerEstate extends CardImpl {
 
     public TwinsOfMaurerEstate(UUID ownerId, CardSetInfo setInfo) {
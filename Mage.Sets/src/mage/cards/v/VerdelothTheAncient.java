@@ -42,6 +42,7 @@ import mage.abilities.keyword.KickerAbility;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.common.FilterCreaturePermanent;
 import mage.filter.predicate.Predicates;
@@ -54,6 +55,7 @@ import mage.game.permanent.token.SaprolingToken;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class VerdelothTheAncient extends CardImpl {
 
     public VerdelothTheAncient(UUID ownerId, CardSetInfo setInfo) {
@@ -37,6 +37,7 @@ import mage.abilities.effects.common.continuous.BoostTargetEffect;
 import mage.abilities.keyword.EnchantAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Outcome;
@@ -56,6 +57,7 @@ import mage.target.common.TargetControlledCreaturePermanent;
  *
  * @author L_J
  */
+@NotPrototyped
 public class VeteransVoice extends CardImpl {
 
     private static final FilterCreaturePermanent filterUntapped = new FilterCreaturePermanent("enchanted creature is untapped");
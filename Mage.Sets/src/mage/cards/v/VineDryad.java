@@ -36,6 +36,7 @@ import mage.abilities.keyword.FlashAbility;
 import mage.abilities.keyword.ForestwalkAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.filter.common.FilterOwnedCard;
@@ -48,6 +49,7 @@ import mage.target.common.TargetCardInHand;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class VineDryad extends CardImpl {
 
     public VineDryad(UUID ownerId, CardSetInfo setInfo) {
@@ -33,6 +33,7 @@ import mage.abilities.effects.common.DamageMultiEffect;
 import mage.abilities.keyword.MadnessAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.target.common.TargetCreatureOrPlayerAmount;
 
@@ -40,6 +41,7 @@ import mage.target.common.TargetCreatureOrPlayerAmount;
  *
  * @author magenoxx_at_gmail.com
  */
+@NotPrototyped
 public class ViolentEruption extends CardImpl {
 
     public ViolentEruption(UUID ownerId, CardSetInfo setInfo) {
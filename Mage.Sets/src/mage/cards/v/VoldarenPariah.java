@@ -38,6 +38,7 @@ import mage.abilities.keyword.MadnessAbility;
 import mage.abilities.keyword.TransformAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.cards.a.AbolisherOfBloodlines;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -50,6 +51,7 @@ import mage.target.common.TargetControlledPermanent;
  *
  * @author fireshoes
  */
+@NotPrototyped
 public class VoldarenPariah extends CardImpl {
 
     private static final FilterControlledCreaturePermanent filter = new FilterControlledCreaturePermanent("three other creatures");
@@ -36,6 +36,7 @@ import mage.abilities.effects.common.ReturnFromExileEffect;
 import mage.abilities.keyword.DefenderAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.Zone;
@@ -46,6 +47,7 @@ import mage.filter.predicate.permanent.BlockedByIdPredicate;
  *
  * @author LoneFox
  */
+@NotPrototyped
 public class WallOfNets extends CardImpl {
 
     public WallOfNets(UUID ownerId, CardSetInfo setInfo) {
@@ -40,6 +40,7 @@ import mage.abilities.effects.common.ManaEffect;
 import mage.abilities.mana.SimpleManaAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.WatcherScope;
@@ -56,6 +57,7 @@ import mage.watchers.Watcher;
  *
  * @author Styxo
  */
+@NotPrototyped
 public class WookieeMystic extends CardImpl {
 
     public WookieeMystic(UUID ownerId, CardSetInfo setInfo) {
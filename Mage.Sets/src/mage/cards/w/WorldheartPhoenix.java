@@ -39,6 +39,7 @@ import mage.abilities.effects.OneShotEffect;
 import mage.abilities.keyword.FlyingAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.AsThoughEffectType;
 import mage.constants.CardType;
 import mage.constants.SubType;
@@ -54,6 +55,7 @@ import mage.players.Player;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class WorldheartPhoenix extends CardImpl {
 
     public WorldheartPhoenix(UUID ownerId, CardSetInfo setInfo) {
@@ -38,6 +38,7 @@ import mage.abilities.effects.common.CreateTokenEffect;
 import mage.abilities.keyword.ConspireAbility;
 import mage.cards.CardImpl;
 import mage.cards.CardSetInfo;
+import mage.cards.NotPrototyped;
 import mage.constants.*;
 import mage.filter.common.FilterInstantOrSorcerySpell;
 import mage.filter.predicate.Predicates;
@@ -51,6 +52,7 @@ import mage.game.stack.StackObject;
  *
  * @author LevelX2
  */
+@NotPrototyped
 public class WortTheRaidmother extends CardImpl {
 
     public WortTheRaidmother(UUID ownerId, CardSetInfo setInfo) {
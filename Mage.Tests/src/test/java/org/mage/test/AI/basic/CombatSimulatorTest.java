@@ -0,0 +1,94 @@
+package org.mage.test.AI.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import mage.player.ai.simulators.CombatGroupSimulator;
+import mage.player.ai.simulators.CombatSimulator;
+import mage.player.ai.simulators.CreatureSimulator;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Combat evaluation of the AI on the compact creature model
+ */
+public class CombatSimulatorTest {
+
+    private final UUID defenderId = UUID.randomUUID();
+
+    @Test
+    public void testDeathtouchBlockerKillsAttacker() {
+        CreatureSimulator attacker = createCreature(5, 5);
+        CreatureSimulator blocker = createCreature(1, 1);
+        blocker.hasDeathtouch = true;
+
+        CombatGroupSimulator group = simulate(attacker, blocker);
+
+        Assert.assertEquals(2, group.evaluateCombat());
+    }
+
+    @Test
+    public void testFirstStrikeKillsBlockerBeforeItDealsDamage() {
+        CreatureSimulator attacker = createCreature(2, 2);
+        attacker.hasFirstStrike = true;
+        CreatureSimulator blocker = createCreature(2, 2);
+
+        CombatGroupSimulator group = simulate(attacker, blocker);
+
+        Assert.assertEquals(3, group.evaluateCombat());
+        Assert.assertEquals(0, attacker.damage);
+    }
+
+    @Test
+    public void testTrampleWithDeathtouchAssignsOneDamageToBlocker() {
+        CreatureSimulator attacker = createCreature(6, 6);
+        attacker.hasTrample = true;
+        attacker.hasDeathtouch = true;
+        attacker.hasLifelink = true;
+        CreatureSimulator blocker = createCreature(1, 4);
+
+        CombatGroupSimulator group = simulate(attacker, blocker);
+
+        Assert.assertEquals(3, group.evaluateCombat());
+        Assert.assertEquals(5, group.unblockedDamage);
+        Assert.assertEquals(6, group.attackerLifeGained);
+    }
+
+    @Test
+    public void testIndestructibleAndProtectedBlockersSurvive() {
+        CreatureSimulator attacker = createCreature(4, 4);
+        CreatureSimulator indestructible = createCreature(1, 1);
+        indestructible.isIndestructible = true;
+        CreatureSimulator protectedBlocker = createCreature(1, 1);
+        protectedBlocker.preventsDamageFrom.add(attacker.id);
+
+        Assert.assertEquals(1, simulate(attacker.copy(), indestructible).evaluateCombat());
+        Assert.assertEquals(1, simulate(attacker.copy(), protectedBlocker).evaluateCombat());
+    }
+
+    @Test
+    public void testCopiedCombatIsIndependent() {
+        CombatSimulator combat = new CombatSimulator();
+        combat.groups.add(new CombatGroupSimulator(defenderId, createCreature(3, 3), new ArrayList<>()));
+
+        CombatSimulator copy = combat.copy();
+        copy.groups.get(0).blockers.add(createCreature(3, 3));
+        copy.simulate();
+
+        Assert.assertTrue(combat.groups.get(0).blockers.isEmpty());
+        Assert.assertEquals(0, combat.groups.get(0).getAttacker().damage);
+        Assert.assertEquals(3, copy.groups.get(0).getAttacker().damage);
+    }
+
+    private CombatGroupSimulator simulate(CreatureSimulator attacker, CreatureSimulator blocker) {
+        List<CreatureSimulator> blockers = new ArrayList<>();
+        blockers.add(blocker);
+        CombatGroupSimulator group = new CombatGroupSimulator(defenderId, attacker, blockers);
+        group.simulateCombat();
+        return group;
+    }
+
+    private CreatureSimulator createCreature(int power, int toughness) {
+        return new CreatureSimulator(UUID.randomUUID(), power, toughness);
+    }
+}
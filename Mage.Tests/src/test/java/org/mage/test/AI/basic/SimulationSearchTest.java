@@ -0,0 +1,138 @@
+package org.mage.test.AI.basic;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import mage.abilities.Ability;
+import mage.constants.PhaseStep;
+import mage.constants.RangeOfInfluence;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.player.ai.ComputerPlayer7;
+import mage.player.ai.SimulationNode2;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.player.TestPlayer;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Timed and parallel search of the actions of the AI
+ */
+public class SimulationSearchTest extends CardTestPlayerBase {
+
+    private SearchingPlayer searchingPlayer;
+
+    @Override
+    protected TestPlayer createPlayer(String name, RangeOfInfluence rangeOfInfluence) {
+        if (name.equals("PlayerA")) {
+            searchingPlayer = new SearchingPlayer(name, rangeOfInfluence);
+            return new TestPlayer(searchingPlayer);
+        }
+        return super.createPlayer(name, rangeOfInfluence);
+    }
+
+    @Test
+    public void testParallelAndSerialSearchFindTheSameAction() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        // Lightning Bolt deals 3 damage to any target.
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+        addCard(Zone.HAND, playerA, "Grizzly Bears");
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+        setLife(playerB, 3);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Ability serial = searchingPlayer.search(currentGame, 1, 60);
+        Ability parallel = searchingPlayer.search(currentGame, 4, 60);
+
+        Assert.assertNotNull(serial);
+        Assert.assertNotNull(parallel);
+        Assert.assertEquals(serial.toString(), parallel.toString());
+        Assert.assertEquals(playerB.getId(), serial.getFirstTarget());
+        Assert.assertEquals(playerB.getId(), parallel.getFirstTarget());
+    }
+
+    @Test
+    public void testSearchStopsAfterTimeout() throws InterruptedException {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+        addCard(Zone.HAND, playerA, "Grizzly Bears");
+        addCard(Zone.HAND, playerA, "Llanowar Elves");
+        addCard(Zone.HAND, playerA, "Giant Growth");
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+        addCard(Zone.BATTLEFIELD, playerB, "Pillarfield Ox");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        // the search can't complete all depths in time
+        searchingPlayer.nodeDelay = 20;
+        searchingPlayer.search(currentGame, 4, 1);
+        SimulationNode2 searched = searchingPlayer.getRoot();
+        int score = searched.getScore();
+        int children = searched.getChildren().size();
+
+        Assert.assertTrue("The search must stop after the timeout", searchingPlayer.searchEnded.await(5, TimeUnit.SECONDS));
+        // the result of a completed depth isn't changed by the cancelled search
+        Assert.assertEquals(score, searched.getScore());
+        Assert.assertEquals(children, searched.getChildren().size());
+    }
+
+    private static class SearchingPlayer extends ComputerPlayer7 {
+
+        // delay of the search of each node, to let the search time out
+        private volatile long nodeDelay;
+        private CountDownLatch searchEnded;
+
+        public SearchingPlayer(String name, RangeOfInfluence range) {
+            super(name, range, 6);
+        }
+
+        /**
+         * @param game
+         * @param searchThreads
+         * @param maxThink seconds
+         * @return first action of the best node found by the search
+         */
+        public Ability search(Game game, int searchThreads, int maxThink) {
+            this.searchThreads = searchThreads;
+            this.maxThink = maxThink;
+            this.searchEnded = new CountDownLatch(1);
+            root = new SimulationNode2(null, createSimulation(game), maxDepth, playerId);
+            addActionsTimed();
+            if (root.getChildren().isEmpty()) {
+                return null;
+            }
+            return root.getChildren().get(0).getAbilities().get(0);
+        }
+
+        public SimulationNode2 getRoot() {
+            return root;
+        }
+
+        @Override
+        protected int addActionsIterative(SimulationNode2 startNode, AtomicReference<SimulationNode2> searchedNode, AtomicBoolean cancelled) {
+            try {
+                return super.addActionsIterative(startNode, searchedNode, cancelled);
+            } finally {
+                searchEnded.countDown();
+            }
+        }
+
+        @Override
+        protected int addActions(SimulationNode2 node, int depth, int alpha, int beta) {
+            if (nodeDelay > 0) {
+                try {
+                    Thread.sleep(nodeDelay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.addActions(node, depth, alpha, beta);
+        }
+    }
+}
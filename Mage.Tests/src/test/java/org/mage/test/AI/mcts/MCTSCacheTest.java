@@ -0,0 +1,70 @@
+package org.mage.test.AI.mcts;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import mage.player.ai.MCTSCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Caches of the possible actions of the MCTS AI by game state
+ */
+public class MCTSCacheTest {
+
+    private final AtomicInteger calculations = new AtomicInteger();
+
+    @Test
+    public void testCachedValueIsReturnedWithoutCalculation() {
+        MCTSCache<String> cache = new MCTSCache<>("Test", 10);
+
+        Assert.assertEquals("state1", cache.get("state1", 1, calculate("state1")));
+        Assert.assertEquals("state1", cache.get("state1", 1, calculate("other")));
+        Assert.assertEquals("state2", cache.get("state2", 1, calculate("state2")));
+
+        Assert.assertEquals(2, calculations.get());
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(2, cache.getMisses());
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        MCTSCache<String> cache = new MCTSCache<>("Test", 2);
+        cache.get("state1", 1, calculate("state1"));
+        cache.get("state2", 1, calculate("state2"));
+        // state1 is used again, so state2 is the least recently used one
+        cache.get("state1", 1, calculate("state1"));
+
+        cache.get("state3", 1, calculate("state3"));
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.getEvictions());
+        Assert.assertEquals("state1", cache.get("state1", 1, calculate("other")));
+        Assert.assertEquals("other", cache.get("state2", 1, calculate("other")));
+    }
+
+    @Test
+    public void testEntriesAreReusedAfterRootChange() {
+        MCTSCache<String> cache = new MCTSCache<>("Test", 10);
+        // states of the tree of the first search
+        cache.get("turn1", 1, calculate("turn1"));
+        cache.get("turn2a", 2, calculate("turn2a"));
+        cache.get("turn2b", 2, calculate("turn2b"));
+
+        // the root moved to turn 2, only the states of turn 1 can't be reached anymore
+        Assert.assertEquals(1, cache.removeBeforeTurn(2));
+
+        // the next search reaches states of the first search again
+        Assert.assertEquals("turn2a", cache.get("turn2a", 2, calculate("other")));
+        Assert.assertEquals("turn2b", cache.get("turn2b", 2, calculate("other")));
+        Assert.assertEquals("other", cache.get("turn1", 1, calculate("other")));
+        Assert.assertEquals(2, cache.getHits());
+    }
+
+    private Supplier<String> calculate(String value) {
+        return () -> {
+            calculations.incrementAndGet();
+            return value;
+        };
+    }
+}
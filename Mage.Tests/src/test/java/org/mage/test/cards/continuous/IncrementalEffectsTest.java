@@ -0,0 +1,144 @@
+package org.mage.test.cards.continuous;
+
+import mage.constants.CardType;
+import mage.constants.PhaseStep;
+import mage.constants.SubType;
+import mage.constants.Zone;
+import org.junit.Before;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Continuous effects applied only if something has changed since they were
+ * applied the last time. Each skipped application is checked against a full
+ * application, a difference fails the test.
+ */
+public class IncrementalEffectsTest extends CardTestPlayerBase {
+
+    @Before
+    public void enableIncrementalEffects() {
+        currentGame.getState().setIncrementalEffects(true);
+        currentGame.getState().setIncrementalEffectsCheck(true);
+    }
+
+    @Test
+    public void testAddedEffect() {
+        // Creatures you control get +1/+1.
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        // Target creature gets +3/+3 until end of turn.
+        addCard(Zone.HAND, playerA, "Giant Growth", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Giant Growth", "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertGraveyardCount(playerA, "Giant Growth", 1);
+        assertPowerToughness(playerA, "Silvercoat Lion", 6, 6);
+    }
+
+    @Test
+    public void testEndOfTurnEffectIsRemoved() {
+        // Creatures you control get +1/+1.
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        // Target creature gets +3/+3 until end of turn.
+        addCard(Zone.HAND, playerA, "Giant Growth", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Giant Growth", "Silvercoat Lion");
+
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        assertGraveyardCount(playerA, "Giant Growth", 1);
+        assertPowerToughness(playerA, "Silvercoat Lion", 3, 3);
+    }
+
+    @Test
+    public void testEnteringCreatureIsAffected() {
+        // Creatures you control get +1/+1.
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 2);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion", 1); // {1}{W}
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertPowerToughness(playerA, "Silvercoat Lion", 3, 3);
+    }
+
+    @Test
+    public void testEffectOfDestroyedSourceEnds() {
+        // Creatures you control get +1/+1.
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1);
+        // Destroy target artifact or enchantment.
+        addCard(Zone.HAND, playerB, "Disenchant", 1); // {1}{W}
+        addCard(Zone.BATTLEFIELD, playerB, "Plains", 2);
+
+        castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Disenchant", "Glorious Anthem");
+
+        setStopAt(2, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertGraveyardCount(playerA, "Glorious Anthem", 1);
+        assertPowerToughness(playerA, "Silvercoat Lion", 2, 2);
+    }
+
+    @Test
+    public void testControlChange() {
+        // Creatures you control get +1/+1.
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        // Gain control of target creature until end of turn. Untap that creature. It gains haste until end of turn.
+        addCard(Zone.HAND, playerA, "Act of Treason", 1); // {2}{R}
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Act of Treason", "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertPowerToughness(playerA, "Silvercoat Lion", 3, 3);
+    }
+
+    @Test
+    public void testLayersOfTypeChangingEffects() {
+        // Nonbasic lands are Mountains.
+        addCard(Zone.BATTLEFIELD, playerA, "Blood Moon");
+        // Each land is a Swamp in addition to its other types.
+        addCard(Zone.BATTLEFIELD, playerA, "Urborg, Tomb of Yawgmoth", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+
+        setStopAt(1, PhaseStep.POSTCOMBAT_MAIN);
+        execute();
+
+        assertType("Urborg, Tomb of Yawgmoth", CardType.LAND, SubType.MOUNTAIN);
+        assertType("Plains", CardType.LAND, SubType.PLAINS);
+        assertPermanentCount(playerA, "Swamp", 0);
+    }
+
+    @Test
+    public void testDependentEffects() {
+        // Each other non-Aura enchantment is a creature in addition to its other types and has base power and base toughness each equal to its converted mana cost.
+        addCard(Zone.BATTLEFIELD, playerA, "Opalescence", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "War Horn", 1);
+        // All permanents are enchantments in addition to their other types.
+        addCard(Zone.HAND, playerA, "Enchanted Evening"); // {3}{W/U}{W/U}
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Enchanted Evening");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertPowerToughness(playerA, "Enchanted Evening", 5, 5);
+        assertPowerToughness(playerA, "War Horn", 3, 3);
+        assertPermanentCount(playerA, "Plains", 0);
+    }
+}
@@ -0,0 +1,113 @@
+package org.mage.test.draft;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import mage.cards.Card;
+import mage.cards.CardSetInfo;
+import mage.cards.ExpansionSet;
+import mage.cards.basiclands.Plains;
+import mage.cards.decks.Deck;
+import mage.constants.Rarity;
+import mage.constants.SetType;
+import mage.game.draft.BoosterDraft;
+import mage.game.draft.Draft;
+import mage.game.draft.DraftOptions;
+import mage.game.events.TableEvent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.stub.PlayerStub;
+
+/**
+ * The draft continues with the picks of the players, no thread waits for them
+ */
+public class BoosterDraftTest {
+
+    @Test
+    public void testDraftContinuesAfterPicks() {
+        DraftOptions options = new DraftOptions();
+        options.setNumberBoosters(2);
+        options.setTiming(DraftOptions.TimingOption.NONE);
+        Draft draft = new BoosterDraft(options, Arrays.asList(new TestSet(), new TestSet()));
+        draft.setExecutor(Runnable::run);
+        PickingPlayer computer = new PickingPlayer(true);
+        PickingPlayer human = new PickingPlayer(false);
+        draft.addPlayer(computer);
+        draft.addPlayer(human);
+        AtomicBoolean ended = new AtomicBoolean();
+        draft.addTableEventListener(event -> {
+            if (event.getEventType() == TableEvent.EventType.END) {
+                ended.set(true);
+            }
+        });
+
+        draft.start();
+        // start returns while the human player has to pick
+        Assert.assertFalse(ended.get());
+        Assert.assertFalse(draft.getPlayer(computer.getId()).isPicking());
+        Assert.assertTrue(draft.getPlayer(human.getId()).isPicking());
+
+        for (int i = 0; i < 6; i++) {
+            List<Card> booster = draft.getPlayer(human.getId()).getBooster();
+            Assert.assertTrue(draft.addPick(human.getId(), booster.get(0).getId(), null));
+        }
+
+        Assert.assertTrue(ended.get());
+        Assert.assertEquals(6, draft.getPlayer(computer.getId()).getDeck().getSideboard().size());
+        Assert.assertEquals(6, draft.getPlayer(human.getId()).getDeck().getSideboard().size());
+    }
+
+    @Test
+    public void testAbortedDraftDoesNotContinue() {
+        DraftOptions options = new DraftOptions();
+        options.setNumberBoosters(1);
+        options.setTiming(DraftOptions.TimingOption.NONE);
+        Draft draft = new BoosterDraft(options, Collections.singletonList(new TestSet()));
+        draft.setExecutor(Runnable::run);
+        PickingPlayer human = new PickingPlayer(false);
+        draft.addPlayer(human);
+
+        draft.start();
+        draft.setAbort(true);
+        List<Card> booster = draft.getPlayer(human.getId()).getBooster();
+        draft.addPick(human.getId(), booster.get(0).getId(), null);
+
+        // no next pick
+        Assert.assertFalse(draft.getPlayer(human.getId()).isPicking());
+    }
+
+    private static class PickingPlayer extends PlayerStub {
+
+        private final boolean picksRightAway;
+
+        PickingPlayer(boolean picksRightAway) {
+            this.picksRightAway = picksRightAway;
+        }
+
+        @Override
+        public void pickCard(List<Card> cards, Deck deck, Draft draft) {
+            if (picksRightAway) {
+                draft.addPick(getId(), cards.get(0).getId(), null);
+            }
+        }
+    }
+
+    private static class TestSet extends ExpansionSet {
+
+        TestSet() {
+            super("Test", "TST", new Date(), SetType.EXPANSION);
+        }
+
+        @Override
+        public List<Card> createBooster() {
+            List<Card> booster = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                booster.add(new Plains(null, new CardSetInfo("Plains", "TST", "1", Rarity.LAND)));
+            }
+            return booster;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.mage.test.game;
+
+import java.util.List;
+import mage.Mana;
+import mage.abilities.Ability;
+import mage.abilities.effects.ContinuousEffect;
+import mage.abilities.effects.common.cost.SpellsCostIncreasementAllEffect;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The playable objects of a player are reused until the state of the game
+ * changes
+ */
+public class PlayableCacheTest extends CardTestPlayerBase {
+
+    @Test
+    public void testPlayableChangesWithTappedLands() {
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 2);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Card lion = getLion();
+        Permanent plains = getPermanent("Plains", playerA);
+        Assert.assertTrue(playerA.getPlayableInHand(currentGame).contains(lion.getId()));
+
+        plains.tap(currentGame);
+        Assert.assertFalse("Tapped land must change the playable cards", playerA.getPlayableInHand(currentGame).contains(lion.getId()));
+
+        plains.untap(currentGame);
+        Assert.assertTrue("Untapped land must change the playable cards", playerA.getPlayableInHand(currentGame).contains(lion.getId()));
+
+        plains.tap(currentGame);
+        Assert.assertFalse("Tapped land must change the playable cards again", playerA.getPlayableInHand(currentGame).contains(lion.getId()));
+    }
+
+    @Test
+    public void testPlayableChangesWithManaPool() {
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 2);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Card lion = getLion();
+        Permanent plains = getPermanent("Plains", playerA);
+        plains.tap(currentGame);
+        Assert.assertFalse(playerA.getPlayableInHand(currentGame).contains(lion.getId()));
+
+        Ability manaAbility = plains.getAbilities().getActivatedManaAbilities(Zone.BATTLEFIELD).get(0);
+        playerA.getManaPool().addMana(Mana.WhiteMana(1), currentGame, manaAbility);
+        Assert.assertTrue("Mana in the pool must change the playable cards", playerA.getPlayableInHand(currentGame).contains(lion.getId()));
+
+        playerA.getManaPool().emptyPool(currentGame);
+        Assert.assertFalse("Emptied pool must change the playable cards", playerA.getPlayableInHand(currentGame).contains(lion.getId()));
+
+        playerA.getManaPool().addMana(Mana.WhiteMana(1), currentGame, manaAbility);
+        Assert.assertTrue("Mana in the pool must change the playable cards again", playerA.getPlayableInHand(currentGame).contains(lion.getId()));
+    }
+
+    @Test
+    public void testPlayableChangesWithEffects() {
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 2);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Card lion = getLion();
+        Permanent plains = getPermanent("Plains", playerA);
+        Assert.assertTrue(playerA.getPlayableInHand(currentGame).contains(lion.getId()));
+
+        // spells cost {1} more
+        ContinuousEffect effect = new SpellsCostIncreasementAllEffect(1);
+        currentGame.addEffect(effect, plains.getAbilities().get(0));
+        Assert.assertFalse("Added effect must change the playable cards", playerA.getPlayableInHand(currentGame).contains(lion.getId()));
+
+        effect.discard();
+        currentGame.applyEffects();
+        Assert.assertTrue("Removed effect must change the playable cards", playerA.getPlayableInHand(currentGame).contains(lion.getId()));
+    }
+
+    @Test
+    public void testPlayableIsReusedUntilStateChanges() {
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 2);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        List<Ability> playable = playerA.getPlayable(currentGame, true);
+        List<Ability> cached = playerA.getPlayable(currentGame, true);
+        Assert.assertEquals(playable, cached);
+        Assert.assertNotSame(playable, cached);
+
+        cached.clear();
+        Assert.assertEquals(playable, playerA.getPlayable(currentGame, true));
+    }
+
+    private Card getLion() {
+        return playerA.getHand().getCards(currentGame).iterator().next();
+    }
+}
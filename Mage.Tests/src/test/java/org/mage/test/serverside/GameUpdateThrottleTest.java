@@ -0,0 +1,66 @@
+package org.mage.test.serverside;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import mage.server.game.GameUpdateThrottle;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Updates of a game that are sent to the clients at most once per delay
+ */
+public class GameUpdateThrottleTest {
+
+    private static final long DELAY_MS = 200;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final Semaphore sent = new Semaphore(0);
+    private final GameUpdateThrottle throttle = new GameUpdateThrottle(executor, DELAY_MS, new Object(), sent::release);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testUpdateWithinDelayIsSentAfterDelay() throws InterruptedException {
+        throttle.update();
+        Assert.assertEquals("First update is sent directly", 1, sent.availablePermits());
+
+        // the last change before the game waits, no other update follows
+        throttle.update();
+        Assert.assertEquals(1, sent.availablePermits());
+
+        Assert.assertTrue("Pending update must be sent after the delay", sent.tryAcquire(2, 5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testUpdatesWithinDelayAreSentTogether() throws InterruptedException {
+        throttle.update();
+        throttle.update();
+        throttle.update();
+        throttle.update();
+
+        Assert.assertTrue(sent.tryAcquire(2, 5, TimeUnit.SECONDS));
+        Thread.sleep(DELAY_MS * 2);
+        Assert.assertEquals(0, sent.availablePermits());
+    }
+
+    @Test
+    public void testFlushSendsPendingUpdate() throws InterruptedException {
+        throttle.update();
+        throttle.update();
+
+        throttle.flush();
+        Assert.assertEquals(2, sent.availablePermits());
+
+        // nothing is pending anymore when the delay has passed
+        Thread.sleep(DELAY_MS * 2);
+        Assert.assertEquals(2, sent.availablePermits());
+        throttle.flush();
+        Assert.assertEquals(2, sent.availablePermits());
+    }
+}
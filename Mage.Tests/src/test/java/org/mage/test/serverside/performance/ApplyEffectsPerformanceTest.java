@@ -0,0 +1,43 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Benchmark for applying continuous effects only if something has changed
+ * since they were applied the last time (see IncrementalEffectsTest for the
+ * functional tests).
+ */
+public class ApplyEffectsPerformanceTest extends CardTestPlayerBase {
+
+    private static final int APPLICATIONS = 10000;
+
+    /**
+     * Benchmark for applying the continuous effects on a board that does not
+     * change in between
+     */
+    @Test
+    @Ignore
+    public void testApplySpeed() {
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 20);
+        addCard(Zone.BATTLEFIELD, playerB, "Island", 20);
+        addCard(Zone.BATTLEFIELD, playerB, "Merfolk Looter", 20);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        for (boolean incremental : new boolean[]{false, true}) {
+            currentGame.getState().setIncrementalEffects(incremental);
+            long t1 = System.currentTimeMillis();
+            for (int i = 0; i < APPLICATIONS; i++) {
+                currentGame.applyEffects();
+            }
+            long t2 = System.currentTimeMillis();
+            System.out.println("Incremental " + incremental + ": " + (t2 - t1) + " ms for " + APPLICATIONS + " applications");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.mage.test.serverside.performance;
+
+import mage.cards.repository.CardScanner;
+import mage.sets.MagicOrigins;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.MageTestBase;
+
+/**
+ * Benchmark for generating the boosters of drafts from the shared rarity
+ * buckets of the sets.
+ */
+public class BoosterGenerationPerformanceTest extends MageTestBase {
+
+    private static final int PLAYERS = 8;
+    private static final int PACKS = 3;
+    private static final int DRAFTS = 100;
+
+    @Before
+    public void setUp() {
+        CardScanner.scan();
+    }
+
+    /**
+     * Benchmark for the boosters of 8 player drafts with 3 packs
+     */
+    @Test
+    @Ignore
+    public void testDraftBoosterSpeed() {
+        MagicOrigins.getInstance().createBooster();
+
+        System.out.println("Started generating boosters...");
+        long t1 = System.currentTimeMillis();
+        for (int i = 0; i < DRAFTS * PLAYERS * PACKS; i++) {
+            MagicOrigins.getInstance().createBooster();
+        }
+        long t2 = System.currentTimeMillis();
+        System.out.println("Test took: " + (t2 - t1) + " ms for " + DRAFTS + " drafts of " + PLAYERS + " players with " + PACKS + " packs");
+    }
+}
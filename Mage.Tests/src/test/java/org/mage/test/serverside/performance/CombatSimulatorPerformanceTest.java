@@ -0,0 +1,52 @@
+package org.mage.test.serverside.performance;
+
+import java.util.Arrays;
+import java.util.UUID;
+import mage.player.ai.simulators.CombatGroupSimulator;
+import mage.player.ai.simulators.CombatSimulator;
+import mage.player.ai.simulators.CreatureSimulator;
+import mage.util.Copier;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Copying the combat of the AI on the compact creature model
+ */
+public class CombatSimulatorPerformanceTest {
+
+    private static final int COPIES = 100000;
+
+    private final UUID defenderId = UUID.randomUUID();
+
+    /**
+     * Benchmark for copying the combat of block simulations, compared with
+     * the serialization copies used before
+     */
+    @Test
+    @Ignore
+    public void testCopySpeed() {
+        CombatSimulator combat = new CombatSimulator();
+        for (int i = 0; i < 5; i++) {
+            combat.groups.add(new CombatGroupSimulator(defenderId, createCreature(i, i + 1), Arrays.asList(createCreature(2, 2))));
+        }
+        combat.defenders.add(defenderId);
+        combat.playersLife.put(defenderId, 20);
+
+        long t1 = System.currentTimeMillis();
+        for (int i = 0; i < COPIES; i++) {
+            combat.copy().simulate();
+        }
+        long t2 = System.currentTimeMillis();
+        Copier<CombatSimulator> copier = new Copier<>();
+        for (int i = 0; i < COPIES / 100; i++) {
+            copier.copy(combat).simulate();
+        }
+        long t3 = System.currentTimeMillis();
+        System.out.println("Copy took: " + (t2 - t1) + " ms for " + COPIES + " copies, serialization took: "
+                + (t3 - t2) * 100 + " ms (extrapolated)");
+    }
+
+    private CreatureSimulator createCreature(int power, int toughness) {
+        return new CreatureSimulator(UUID.randomUUID(), power, toughness);
+    }
+}
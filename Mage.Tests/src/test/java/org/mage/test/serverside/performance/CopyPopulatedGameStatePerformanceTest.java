@@ -0,0 +1,37 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Benchmark for game state copies (bookmarks, rollback and AI simulations) on
+ * a populated board, see CopyGameStatePerformanceTest for the empty game.
+ */
+public class CopyPopulatedGameStatePerformanceTest extends CardTestPlayerBase {
+
+    private static final int COPIES = 2000;
+
+    @Test
+    @Ignore
+    public void testCopySpeed() {
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 20);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 20);
+        addCard(Zone.BATTLEFIELD, playerB, "Island", 20);
+        addCard(Zone.BATTLEFIELD, playerB, "Merfolk Looter", 20);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        long t1 = System.currentTimeMillis();
+        for (int i = 0; i < COPIES; i++) {
+            Game game = currentGame.copy();
+            Game game2 = game.copy();
+        }
+        long t2 = System.currentTimeMillis();
+        System.out.println("Test took: " + (t2 - t1) + " ms for " + COPIES * 2 + " copies");
+    }
+}
@@ -0,0 +1,85 @@
+package org.mage.test.serverside.performance;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.match.MatchPlayer;
+import mage.remote.traffic.EncodedObject;
+import mage.remote.traffic.ZippedObjectImpl;
+import mage.view.CardsView;
+import mage.view.GameView;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Size and time of the compact encoding of views
+ */
+public class EncodedViewPerformanceTest extends CardTestPlayerBase {
+
+    private static final int ENCODINGS = 1000;
+
+    /**
+     * Benchmark for the payload size and serialize time of game views
+     */
+    @Test
+    @Ignore
+    public void testEncodingSpeed() throws IOException {
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Island", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Merfolk Looter", 10);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion", 7);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameView gameView = createGameView();
+        long t1 = System.currentTimeMillis();
+        int plainSize = 0;
+        for (int i = 0; i < ENCODINGS; i++) {
+            plainSize = serializedSize(gameView);
+        }
+        long t2 = System.currentTimeMillis();
+        int encodedSize = 0;
+        for (int i = 0; i < ENCODINGS; i++) {
+            encodedSize = new EncodedObject<>(gameView, -1).getSize();
+        }
+        long t3 = System.currentTimeMillis();
+        int compressedSize = 0;
+        for (int i = 0; i < ENCODINGS; i++) {
+            compressedSize = new EncodedObject<>(gameView).getSize();
+        }
+        long t4 = System.currentTimeMillis();
+        for (int i = 0; i < ENCODINGS; i++) {
+            new ZippedObjectImpl<>(gameView);
+        }
+        long t5 = System.currentTimeMillis();
+        System.out.println("Plain: " + plainSize + " bytes, " + (t2 - t1) + " ms for " + ENCODINGS + " views");
+        System.out.println("Encoded: " + encodedSize + " bytes, " + (t3 - t2) + " ms for " + ENCODINGS + " views");
+        System.out.println("Encoded and compressed: " + compressedSize + " bytes, " + (t4 - t3) + " ms for " + ENCODINGS + " views");
+        System.out.println("Zipped: " + (t5 - t4) + " ms for " + ENCODINGS + " views");
+    }
+
+    private GameView createGameView() {
+        Match match = new TwoPlayerMatch(new MatchOptions("test", "Two Player Duel", false, 2));
+        playerA.setMatchPlayer(new MatchPlayer(playerA, null, match));
+        playerB.setMatchPlayer(new MatchPlayer(playerB, null, match));
+        GameView gameView = new GameView(currentGame.getState(), currentGame, playerA.getId(), null);
+        gameView.setHand(new CardsView(currentGame, playerA.getHand().getCards(currentGame)));
+        return gameView;
+    }
+
+    private static int serializedSize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.size();
+    }
+}
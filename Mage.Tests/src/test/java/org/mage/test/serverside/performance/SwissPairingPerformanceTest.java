@@ -0,0 +1,64 @@
+package org.mage.test.serverside.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import mage.game.tournament.Round;
+import mage.game.tournament.TournamentPairing;
+import mage.game.tournament.TournamentPlayer;
+import mage.game.tournament.pairing.RoundPairings;
+import mage.game.tournament.pairing.SwissPairingMinimalWeightMatching;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.stub.PlayerStub;
+import org.mage.test.stub.TournamentStub;
+
+/**
+ * Swiss pairings of tournaments with many players
+ */
+public class SwissPairingPerformanceTest {
+
+    private final Random random = new Random(1);
+
+    /**
+     * Benchmark for pairing the rounds of a swiss tournament
+     */
+    @Test
+    @Ignore
+    public void testPairingSpeed() {
+        for (int playersCount : new int[]{64, 256, 1024}) {
+            List<TournamentPlayer> players = createPlayers(playersCount);
+            List<Round> rounds = new ArrayList<>();
+            int roundsCount = 32 - Integer.numberOfLeadingZeros(playersCount - 1);
+            long t1 = System.currentTimeMillis();
+            for (int i = 0; i < roundsCount; i++) {
+                playRound(players, rounds, i == roundsCount - 1);
+            }
+            long t2 = System.currentTimeMillis();
+            System.out.println("Pairing " + roundsCount + " rounds for " + playersCount + " players took: " + (t2 - t1) + " ms");
+        }
+    }
+
+    private List<TournamentPlayer> createPlayers(int count) {
+        List<TournamentPlayer> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(new TournamentPlayer(new PlayerStub(), null));
+        }
+        return players;
+    }
+
+    private void playRound(List<TournamentPlayer> players, List<Round> rounds, boolean isLastRound) {
+        RoundPairings roundPairings = new SwissPairingMinimalWeightMatching(players, rounds, isLastRound).getRoundPairings();
+        Round round = new Round(rounds.size() + 1, new TournamentStub());
+        for (TournamentPairing pairing : roundPairings.getPairings()) {
+            round.addPairing(pairing);
+            TournamentPlayer winner = random.nextBoolean() ? pairing.getPlayer1() : pairing.getPlayer2();
+            winner.setPoints(winner.getPoints() + 3);
+        }
+        for (TournamentPlayer playerBye : roundPairings.getPlayerByes()) {
+            round.getPlayerByes().add(playerBye);
+            playerBye.setPoints(playerBye.getPoints() + 3);
+        }
+        rounds.add(round);
+    }
+}
@@ -289,6 +289,13 @@ public class SwissPairingMinimalWeightMatchingTest {
         }
     }
 
+    @Test
+    public void SimulateLargeTournament() {
+        // players must never meet twice and get at most one bye also with
+        // many players
+        SimulateTournament(65, 6);
+    }
+
     private void SimulateTournament(int playersCount, int roundsCount) {
         Random rnd = new Random();
 
@@ -2,12 +2,15 @@ package org.mage.test.sets;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import mage.cards.Card;
 import mage.cards.repository.CardInfo;
 import mage.cards.repository.CardScanner;
 import mage.sets.FateReforged;
+import mage.sets.MagicOrigins;
 import mage.sets.MastersEditionII;
 import mage.sets.MastersEditionIV;
 import static org.junit.Assert.assertFalse;
@@ -99,6 +102,19 @@ public class BoosterGenerationTest extends MageTestBase {
         }
     }
 
+    @Test
+    public void testBoosterHasNoDuplicates() {
+        for (int i = 0; i < 100; i++) {
+            List<Card> booster = MagicOrigins.getInstance().createBooster();
+            Assert.assertEquals(15, booster.size());
+            Set<String> names = new HashSet<>();
+            for (Card card : booster) {
+                // basic lands can't be duplicated either, a booster has only one
+                Assert.assertTrue(card.getName() + " is duplicated", names.add(card.getName()));
+            }
+        }
+    }
+
     private static String str(List<Card> cards) {
         StringBuilder sb = new StringBuilder("[");
         Iterator<Card> iterator = cards.iterator();
@@ -0,0 +1,38 @@
+package org.mage.test.sets;
+
+import java.net.URL;
+import java.util.Set;
+import java.util.TreeSet;
+import mage.cards.CardFactories;
+import mage.cards.ExpansionSet;
+import mage.cards.Sets;
+import mage.sets.MagicOrigins;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The card classes of Mage.Sets are created with the factories generated by
+ * the annotation processor, not with their constructors.
+ */
+public class CardFactoriesTest {
+
+    @Test
+    public void testAllCardsOfTheSetsHaveGeneratedFactory() {
+        URL setsLocation = getLocation(MagicOrigins.class);
+        Set<String> withoutFactory = new TreeSet<>();
+        for (ExpansionSet set : Sets.getInstance().values()) {
+            for (ExpansionSet.SetCardInfo info : set.getSetCardInfo()) {
+                Class<?> cardClass = info.getCardClass();
+                // e.g. the basic lands of Mage are compiled without the processor
+                if (setsLocation.equals(getLocation(cardClass)) && !CardFactories.hasFactory(cardClass)) {
+                    withoutFactory.add(cardClass.getName());
+                }
+            }
+        }
+        Assert.assertTrue("Card classes without generated factory: " + withoutFactory, withoutFactory.isEmpty());
+    }
+
+    private static URL getLocation(Class<?> clazz) {
+        return clazz.getProtectionDomain().getCodeSource().getLocation();
+    }
+}
@@ -0,0 +1,187 @@
+package org.mage.test.sets;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import mage.abilities.Ability;
+import mage.abilities.MageSingleton;
+import mage.abilities.effects.Effect;
+import mage.cards.Card;
+import mage.cards.CardImpl;
+import mage.cards.CardPrototypes;
+import mage.cards.CardSetInfo;
+import mage.cards.ExpansionSet;
+import mage.cards.Sets;
+import mage.cards.SplitCard;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Cards of the card repository are created as copies of a prototype. A card
+ * whose constructor keeps its own id or the id of one of its abilities (e.g. in
+ * a filter, an effect or a watcher) can't be copied, the copies would still use
+ * the ids of the prototype. Such card classes have to be marked with
+ * {@link mage.cards.NotPrototyped}.
+ */
+public class CardPrototypeIdsTest {
+
+    @Test
+    public void testCardsKeepingTheirIdsAreNotPrototyped() {
+        Set<String> keepingIds = new TreeSet<>();
+        Set<String> notPrototyped = new TreeSet<>();
+        Set<Class<?>> checked = new HashSet<>();
+        for (ExpansionSet set : Sets.getInstance().values()) {
+            for (ExpansionSet.SetCardInfo info : set.getSetCardInfo()) {
+                if (!checked.add(info.getCardClass())) {
+                    continue;
+                }
+                CardSetInfo setInfo = new CardSetInfo(info.getName(), set.getCode(), info.getCardNumber(), info.getRarity(), info.getGraphicInfo());
+                Card card = CardImpl.createCard(info.getCardClass(), setInfo);
+                if (card != null && keepsIdsAfterCopy(card)) {
+                    keepingIds.add(info.getCardClass().getName());
+                }
+                if (!CardPrototypes.isPrototyped(info.getCardClass())) {
+                    notPrototyped.add(info.getCardClass().getName());
+                }
+            }
+        }
+        Assert.assertEquals("The cards that keep their ids must be marked as not prototyped", keepingIds, notPrototyped);
+    }
+
+    @Test
+    public void testPrototypedCardsGetOwnIds() {
+        // the abilities of Repair are also held as sub abilities, the conditional trigger shares the modes of its ability
+        CardSetInfo setInfo = new CardSetInfo("AAT-1", "SWS", "160", mage.constants.Rarity.UNCOMMON);
+        Card card = CardPrototypes.createCard("mage.cards.a.AAT1", setInfo);
+        Set<UUID> cardIds = getRenewedIds(card);
+        Card other = CardPrototypes.createCard("mage.cards.a.AAT1", setInfo);
+
+        Set<UUID> ids = getIds(other);
+        ids.retainAll(cardIds);
+        Assert.assertTrue("Ids of the other card: " + ids, ids.isEmpty());
+    }
+
+    @Test
+    public void testNotPrototypedCardsGetOwnIds() {
+        CardSetInfo setInfo = new CardSetInfo("White Ward", "ARN", "33", mage.constants.Rarity.UNCOMMON);
+        Card card = CardPrototypes.createCard("mage.cards.w.WhiteWard", setInfo);
+        Set<UUID> cardIds = getRenewedIds(card);
+        Card other = CardPrototypes.createCard("mage.cards.w.WhiteWard", setInfo);
+
+        Set<UUID> ids = getIds(other);
+        ids.retainAll(cardIds);
+        Assert.assertTrue("Ids of the other card: " + ids, ids.isEmpty());
+    }
+
+    /**
+     * @param prototype
+     * @return true if a copy of the card with new ids still references the
+     * ids of the prototype
+     */
+    private static boolean keepsIdsAfterCopy(Card prototype) {
+        // taken before the copy, objects that all cards share get new ids with the copy too
+        Set<UUID> prototypeIds = getRenewedIds(prototype);
+        Card copy = prototype.copy();
+        copy.assignNewId();
+        Set<UUID> ids = getIds(copy);
+        ids.retainAll(prototypeIds);
+        return !ids.isEmpty();
+    }
+
+    /**
+     * @param card
+     * @return the ids of the card, its split halves, their abilities and the
+     * effects of the abilities, that a copy with new ids must not use anywhere
+     */
+    private static Set<UUID> getRenewedIds(Card card) {
+        Set<Card> cards = new HashSet<>();
+        cards.add(card);
+        if (card instanceof SplitCard) {
+            cards.add(((SplitCard) card).getLeftHalfCard());
+            cards.add(((SplitCard) card).getRightHalfCard());
+        }
+        Set<UUID> ids = new HashSet<>();
+        for (Card renewed : cards) {
+            ids.add(renewed.getId());
+            for (Ability ability : renewed.getAbilities()) {
+                if (ability instanceof MageSingleton) {
+                    continue;
+                }
+                ids.add(ability.getId());
+                ids.add(ability.getOriginalId());
+                for (Effect effect : ability.getEffects()) {
+                    ids.add(effect.getId());
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * @param card
+     * @return all ids that can be reached from the fields of the card and its
+     * abilities, effects, filters, tokens... (singletons are shared by all
+     * cards and skipped)
+     */
+    private static Set<UUID> getIds(Card card) {
+        Set<UUID> ids = new HashSet<>();
+        Map<Object, Boolean> visited = new IdentityHashMap<>();
+        Deque<Object> objects = new ArrayDeque<>();
+        objects.add(card);
+        while (!objects.isEmpty()) {
+            Object object = objects.poll();
+            if (object instanceof MageSingleton || visited.put(object, Boolean.TRUE) != null) {
+                continue;
+            }
+            if (object instanceof UUID) {
+                ids.add((UUID) object);
+            } else if (object instanceof Collection) {
+                addAll(objects, ((Collection<?>) object).toArray());
+            } else if (object instanceof Map) {
+                addAll(objects, ((Map<?, ?>) object).keySet().toArray());
+                addAll(objects, ((Map<?, ?>) object).values().toArray());
+            } else if (object instanceof Object[]) {
+                addAll(objects, (Object[]) object);
+            } else if (!isJdkClass(object.getClass()) && !object.getClass().isEnum()) {
+                for (Class<?> clazz = object.getClass(); clazz != null && !isJdkClass(clazz); clazz = clazz.getSuperclass()) {
+                    for (Field field : clazz.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                            addAll(objects, getValue(field, object));
+                        }
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static Object getValue(Field field, Object object) {
+        try {
+            field.setAccessible(true);
+            return field.get(object);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static void addAll(Deque<Object> objects, Object... values) {
+        for (Object value : values) {
+            if (value != null) {
+                objects.add(value);
+            }
+        }
+    }
+
+    private static boolean isJdkClass(Class<?> clazz) {
+        String name = clazz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.") || name.startsWith("jdk.");
+    }
+}
@@ -0,0 +1,95 @@
+package org.mage.test.utils;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import mage.utils.timer.PriorityTimer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Priority timers ticked by the shared scheduler, they tick once per second
+ */
+public class PriorityTimerTest {
+
+    private static final long DELAY = 250L;
+
+    private final AtomicInteger ticks = new AtomicInteger();
+    private final CountDownLatch timedOut = new CountDownLatch(1);
+    private PriorityTimer timer;
+
+    @After
+    public void tearDown() {
+        if (timer != null) {
+            timer.cancel();
+        }
+    }
+
+    @Test
+    public void testRunningTimerTicks() throws InterruptedException {
+        CountDownLatch ticked = new CountDownLatch(2);
+        timer = createTimer(10);
+        timer.setTaskOnTick(() -> {
+            ticks.incrementAndGet();
+            ticked.countDown();
+        });
+        timer.start();
+
+        Assert.assertTrue("Timer must tick", ticked.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(10 - ticks.get(), timer.getCount());
+    }
+
+    @Test
+    public void testPausedTimerDoesNotTickUntilResumed() throws InterruptedException {
+        CountDownLatch ticked = new CountDownLatch(1);
+        timer = createTimer(10);
+        timer.setTaskOnTick(() -> {
+            ticks.incrementAndGet();
+            ticked.countDown();
+        });
+        timer.start();
+        timer.pause();
+
+        Thread.sleep(1500);
+        Assert.assertEquals(0, ticks.get());
+        Assert.assertEquals(10, timer.getCount());
+
+        timer.resume();
+        Assert.assertTrue("Resumed timer must tick", ticked.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(timer.getCount() < 10);
+    }
+
+    @Test
+    public void testCancelledTimerIsRemovedFromScheduler() throws InterruptedException {
+        timer = createTimer(1);
+        timer.setTaskOnTick(ticks::incrementAndGet);
+        int activeTimers = PriorityTimer.getActiveTimers();
+        timer.start();
+
+        Assert.assertTrue(timer.cancel());
+        Assert.assertFalse("Timer is already cancelled", timer.cancel());
+        Assert.assertEquals(activeTimers - 1, PriorityTimer.getActiveTimers());
+
+        Assert.assertFalse("Cancelled timer must not time out", timedOut.await(1500, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(0, ticks.get());
+    }
+
+    @Test
+    public void testTimerTimesOutWhenCountIsUsed() throws InterruptedException {
+        timer = createTimer(1);
+        timer.start();
+
+        Assert.assertTrue("Timer must time out", timedOut.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, timer.getCount());
+        // the timer removed itself from the scheduler
+        Assert.assertFalse(timer.cancel());
+    }
+
+    private PriorityTimer createTimer(int count) {
+        PriorityTimer priorityTimer = new PriorityTimer(count, DELAY, timedOut::countDown);
+        priorityTimer.init(UUID.randomUUID());
+        return priorityTimer;
+    }
+}
@@ -0,0 +1,66 @@
+package org.mage.test.view;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.match.MatchPlayer;
+import mage.remote.traffic.EncodedObject;
+import mage.utils.CompressUtil;
+import mage.view.CardsView;
+import mage.view.GameClientMessage;
+import mage.view.GameView;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Views can be sent to the clients with a compact encoding
+ */
+public class EncodedViewTest extends CardTestPlayerBase {
+
+    @Test
+    public void testEncodedViewIsDecodedByClients() throws IOException {
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 5);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion", 3);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameView gameView = createGameView();
+        Object encoded = CompressUtil.encodeView(new GameClientMessage(gameView, "message"), -1);
+        Assert.assertTrue(encoded instanceof EncodedObject);
+        Assert.assertFalse(((EncodedObject) encoded).isCompressed());
+        Assert.assertTrue("Repeated strings must be written once", ((EncodedObject) encoded).getSize() < serializedSize(gameView));
+
+        GameClientMessage message = (GameClientMessage) CompressUtil.decompress(encoded);
+        Assert.assertEquals("message", message.getMessage());
+        Assert.assertEquals(3, message.getGameView().getHand().size());
+        Assert.assertEquals(gameView.getPlayers().get(0).getBattlefield().keySet(), message.getGameView().getPlayers().get(0).getBattlefield().keySet());
+
+        Assert.assertTrue(((EncodedObject) CompressUtil.encodeView(gameView, 0)).isCompressed());
+        Assert.assertEquals("Only views are encoded", "text", CompressUtil.encodeView("text", 0));
+    }
+
+    private GameView createGameView() {
+        Match match = new TwoPlayerMatch(new MatchOptions("test", "Two Player Duel", false, 2));
+        playerA.setMatchPlayer(new MatchPlayer(playerA, null, match));
+        playerB.setMatchPlayer(new MatchPlayer(playerB, null, match));
+        GameView gameView = new GameView(currentGame.getState(), currentGame, playerA.getId(), null);
+        gameView.setHand(new CardsView(currentGame, playerA.getHand().getCards(currentGame)));
+        return gameView;
+    }
+
+    private static int serializedSize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.size();
+    }
+}
@@ -0,0 +1,202 @@
+package org.mage.test.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.match.MatchPlayer;
+import mage.game.permanent.Permanent;
+import mage.view.CardView;
+import mage.view.CardsView;
+import mage.view.GameView;
+import mage.view.GameViewDelta;
+import mage.view.PermanentView;
+import mage.view.PlayerView;
+import mage.view.ReceivedGameViews;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Game views are sent to the clients as deltas to the last sent view
+ */
+public class GameViewDeltaTest extends CardTestPlayerBase {
+
+    @Test
+    public void testOnlyChangedCardViewsAreSent() {
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest");
+        addCard(Zone.HAND, playerA, "Giant Growth");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameViewDelta gameViewDelta = new GameViewDelta();
+        GameView firstView = gameViewDelta.createDelta(createGameView());
+        Assert.assertEquals(0, firstView.getBaseVersion());
+
+        Permanent tappedLion = getPermanents("Silvercoat Lion").get(0);
+        Permanent untappedLion = getPermanents("Silvercoat Lion").get(1);
+        tappedLion.tap(currentGame);
+
+        GameView secondView = gameViewDelta.createDelta(createGameView());
+        Assert.assertEquals(firstView.getVersion(), secondView.getBaseVersion());
+        Map<UUID, PermanentView> battlefield = getBattlefield(secondView);
+        Assert.assertNotNull("Changed permanent must be sent", battlefield.get(tappedLion.getId()));
+        Assert.assertTrue("Unchanged permanent must not be sent", battlefield.containsKey(untappedLion.getId()));
+        Assert.assertNull("Unchanged permanent must not be sent", battlefield.get(untappedLion.getId()));
+
+        Assert.assertTrue(GameViewDelta.apply(firstView, secondView));
+        Assert.assertTrue(battlefield.get(tappedLion.getId()).isTapped());
+        Assert.assertSame(getBattlefield(firstView).get(untappedLion.getId()), battlefield.get(untappedLion.getId()));
+        Assert.assertEquals(1, secondView.getHand().size());
+        Assert.assertNotNull(secondView.getHand().values().iterator().next());
+    }
+
+    @Test
+    public void testDeltaWithoutBaseViewNeedsFullView() {
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 2);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameViewDelta gameViewDelta = new GameViewDelta();
+        gameViewDelta.createDelta(createGameView());
+        gameViewDelta.createDelta(createGameView());
+        GameView thirdView = gameViewDelta.createDelta(createGameView());
+
+        // the client missed the second view
+        Assert.assertFalse(GameViewDelta.apply(null, thirdView));
+        for (CardView cardView : getBattlefield(thirdView).values()) {
+            Assert.assertNotNull(cardView);
+        }
+
+        gameViewDelta.reset();
+        GameView fullView = gameViewDelta.createDelta(createGameView());
+        Assert.assertEquals(0, fullView.getBaseVersion());
+        Assert.assertEquals(2, getBattlefield(fullView).size());
+        Assert.assertTrue(GameViewDelta.apply(thirdView, fullView));
+    }
+
+    @Test
+    public void testChangedCountersAreSent() {
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameViewDelta gameViewDelta = new GameViewDelta();
+        gameViewDelta.createDelta(createGameView());
+        Permanent lion = getPermanents("Silvercoat Lion").get(0);
+        lion.addCounters(CounterType.P1P1.createInstance(), null, currentGame);
+
+        GameView secondView = gameViewDelta.createDelta(createGameView());
+        PermanentView lionView = getBattlefield(secondView).get(lion.getId());
+        Assert.assertNotNull("Permanent with new counter must be sent", lionView);
+        Assert.assertEquals(1, lionView.getCounters().size());
+
+        GameView thirdView = gameViewDelta.createDelta(createGameView());
+        Assert.assertNull("Unchanged permanent must not be sent", getBattlefield(thirdView).get(lion.getId()));
+    }
+
+    @Test
+    public void testClientCompletesDeltas() {
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 2);
+        addCard(Zone.HAND, playerA, "Giant Growth");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameViewDelta gameViewDelta = new GameViewDelta();
+        ReceivedGameViews receivedGameViews = new ReceivedGameViews();
+        UUID gameId = currentGame.getId();
+
+        Assert.assertFalse(receivedGameViews.complete(gameId, gameViewDelta.createDelta(createGameView())));
+        Permanent lion = getPermanents("Silvercoat Lion").get(0);
+        lion.tap(currentGame);
+        GameView secondView = gameViewDelta.createDelta(createGameView());
+
+        // the client patches the unchanged card views into the delta
+        Assert.assertFalse(receivedGameViews.complete(gameId, secondView));
+        Assert.assertSame(secondView, receivedGameViews.getLastGameView(gameId));
+        Map<UUID, PermanentView> battlefield = getBattlefield(secondView);
+        Assert.assertEquals(2, battlefield.size());
+        for (PermanentView permanentView : battlefield.values()) {
+            Assert.assertNotNull(permanentView);
+            Assert.assertEquals(permanentView.getId().equals(lion.getId()), permanentView.isTapped());
+        }
+        Assert.assertNotNull(secondView.getHand().values().iterator().next());
+    }
+
+    @Test
+    public void testClientRequestsFullViewOnceAfterMissedDelta() {
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 2);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameViewDelta gameViewDelta = new GameViewDelta();
+        ReceivedGameViews receivedGameViews = new ReceivedGameViews();
+        UUID gameId = currentGame.getId();
+
+        receivedGameViews.complete(gameId, gameViewDelta.createDelta(createGameView()));
+        // the client missed the second view
+        gameViewDelta.createDelta(createGameView());
+        Assert.assertTrue("A full view must be requested", receivedGameViews.complete(gameId, gameViewDelta.createDelta(createGameView())));
+        Assert.assertFalse("The full view is only requested once", receivedGameViews.complete(gameId, gameViewDelta.createDelta(createGameView())));
+
+        // the server got the request
+        gameViewDelta.reset();
+        GameView fullView = gameViewDelta.createDelta(createGameView());
+        Assert.assertFalse(receivedGameViews.complete(gameId, fullView));
+        Assert.assertEquals(2, getBattlefield(fullView).size());
+
+        // the next deltas are based on the full view again
+        Permanent lion = getPermanents("Silvercoat Lion").get(0);
+        lion.tap(currentGame);
+        GameView delta = gameViewDelta.createDelta(createGameView());
+        Assert.assertFalse(receivedGameViews.complete(gameId, delta));
+        Assert.assertEquals(2, getBattlefield(delta).size());
+        Assert.assertTrue(getBattlefield(delta).get(lion.getId()).isTapped());
+
+        // a missed delta after the full view is requested again
+        gameViewDelta.createDelta(createGameView());
+        Assert.assertTrue(receivedGameViews.complete(gameId, gameViewDelta.createDelta(createGameView())));
+    }
+
+    private GameView createGameView() {
+        if (playerA.getMatchPlayer() == null) {
+            Match match = new TwoPlayerMatch(new MatchOptions("test", "Two Player Duel", false, 2));
+            playerA.setMatchPlayer(new MatchPlayer(playerA, null, match));
+            playerB.setMatchPlayer(new MatchPlayer(playerB, null, match));
+        }
+        GameView gameView = new GameView(currentGame.getState(), currentGame, playerA.getId(), null);
+        gameView.setHand(new CardsView(currentGame, playerA.getHand().getCards(currentGame)));
+        return gameView;
+    }
+
+    private Map<UUID, PermanentView> getBattlefield(GameView gameView) {
+        for (PlayerView playerView : gameView.getPlayers()) {
+            if (playerView.getPlayerId().equals(playerA.getId())) {
+                return playerView.getBattlefield();
+            }
+        }
+        return null;
+    }
+
+    private List<Permanent> getPermanents(String name) {
+        List<Permanent> permanents = new ArrayList<>();
+        for (Permanent permanent : currentGame.getBattlefield().getAllActivePermanents(playerA.getId())) {
+            if (permanent.getName().equals(name)) {
+                permanents.add(permanent);
+            }
+        }
+        return permanents;
+    }
+}
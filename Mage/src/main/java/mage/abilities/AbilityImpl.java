@@ -163,9 +163,16 @@ public abstract class AbilityImpl implements Ability {
 
     @Override
     public void newOriginalId() {
-        this.id = UUID.randomUUID();
-        this.originalId = id;
+        if (!(this instanceof MageSingleton)) { // prevent to change singletons
+            this.id = UUID.randomUUID();
+            this.originalId = id;
+        }
         getEffects().newId();
+        if (subAbilities != null) {
+            for (Ability subAbility : subAbilities) {
+                subAbility.newOriginalId();
+            }
+        }
     }
 
     @Override
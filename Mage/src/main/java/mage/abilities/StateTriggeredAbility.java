@@ -27,6 +27,8 @@
  */
 package mage.abilities;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -56,6 +58,12 @@ public abstract class StateTriggeredAbility extends TriggeredAbilityImpl {
         return !triggered;
     }
 
+    @Override
+    public final Set<GameEvent.EventType> getTriggerEventTypes() {
+        // state triggers are checked by checkStateTriggers and not by events
+        return EnumSet.noneOf(GameEvent.EventType.class);
+    }
+
     @Override
     public final boolean checkEventType(GameEvent event, Game game) {
         return false;
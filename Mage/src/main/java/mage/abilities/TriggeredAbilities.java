@@ -28,12 +28,15 @@
  */
 package mage.abilities;
 
+import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import mage.MageObject;
 import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 import mage.game.events.NumberOfTriggersEvent;
 import mage.game.permanent.Permanent;
 import mage.game.stack.Spell;
@@ -44,23 +47,59 @@ import mage.game.stack.Spell;
  * This class uses ConcurrentHashMap to avoid ConcurrentModificationExceptions.
  * See ticket https://github.com/magefree/mage/issues/966 and
  * https://github.com/magefree/mage/issues/473
+ * <p>
+ * The abilities are additionally indexed by the event types they trigger on
+ * (see {@link TriggeredAbility#getTriggerEventTypes()}), so an event is only
+ * checked against the abilities that can trigger on it.
  */
-public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbility> {
+public class TriggeredAbilities extends ConcurrentHashMap<TriggeredAbilities.Key, TriggeredAbility> {
+
+    // declaring class of getTriggerEventTypes is allowed to be used for the class of the ability
+    private static final Map<Class<?>, Boolean> eventTypesDeclared = new ConcurrentHashMap<>();
 
-    private final Map<String, List<UUID>> sources = new HashMap<>();
+    private final Map<Key, List<UUID>> sources = new HashMap<>();
+    private final Map<EventType, Map<Key, TriggeredAbility>> byEventType = new EnumMap<>(EventType.class);
+    // abilities that don't declare their event types
+    private final Map<Key, TriggeredAbility> allEvents = new ConcurrentHashMap<>();
 
     public TriggeredAbilities() {
     }
 
     public TriggeredAbilities(final TriggeredAbilities abilities) {
-        for (Map.Entry<String, TriggeredAbility> entry : abilities.entrySet()) {
+        for (Map.Entry<Key, TriggeredAbility> entry : abilities.entrySet()) {
             this.put(entry.getKey(), entry.getValue().copy());
         }
-        for (Map.Entry<String, List<UUID>> entry : abilities.sources.entrySet()) {
+        for (Map.Entry<Key, List<UUID>> entry : abilities.sources.entrySet()) {
             sources.put(entry.getKey(), entry.getValue());
         }
     }
 
+    @Override
+    public TriggeredAbility put(Key key, TriggeredAbility ability) {
+        TriggeredAbility old = super.put(key, ability);
+        if (old != null) {
+            removeFromIndex(key, old);
+        }
+        addToIndex(key, ability);
+        return old;
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        TriggeredAbility old = super.remove(key);
+        if (old != null) {
+            removeFromIndex((Key) key, old);
+        }
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        byEventType.clear();
+        allEvents.clear();
+    }
+
     public void checkStateTriggers(Game game) {
         for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext();) {
             TriggeredAbility ability = it.next();
@@ -71,7 +110,15 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext();) {
+        Map<Key, TriggeredAbility> abilities = byEventType.get(event.getType());
+        if (abilities != null) {
+            checkTriggers(abilities.values(), event, game);
+        }
+        checkTriggers(allEvents.values(), event, game);
+    }
+
+    private void checkTriggers(Collection<TriggeredAbility> abilities, GameEvent event, Game game) {
+        for (Iterator<TriggeredAbility> it = abilities.iterator(); it.hasNext();) {
             TriggeredAbility ability = it.next();
             if (ability.checkEventType(event, game)) {
                 checkTrigger(ability, event, game);
@@ -140,7 +187,7 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
         if (sourceId == null) {
             add(ability, attachedTo);
         } else if (attachedTo == null) {
-            this.put(ability.getId() + "_" + sourceId, ability);
+            this.put(new Key(ability.getId(), sourceId), ability);
         } else {
             this.add(ability, attachedTo);
             List<UUID> uuidList = new LinkedList<>();
@@ -155,20 +202,22 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
         this.put(getKey(ability, attachedTo), ability);
     }
 
-    private String getKey(TriggeredAbility ability, MageObject target) {
-        String key = ability.getId() + "_";
-        if (target != null) {
-            key += target.getId();
-        }
-        return key;
+    private Key getKey(TriggeredAbility ability, MageObject target) {
+        return new Key(ability.getId(), target == null ? null : target.getId());
     }
 
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        for (Key key : keySet()) {
+            if (sourceId.equals(key.objectId)) {
+                remove(key);
+            }
+        }
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        for (Key key : sources.keySet()) {
+            remove(key);
+        }
         sources.clear();
     }
 
@@ -179,8 +228,12 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
 
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
-                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
+        for (Map.Entry<Key, TriggeredAbility> entry : entrySet()) {
+            if (game.getObject(entry.getValue().getSourceId()) == null
+                    && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId()))) {
+                remove(entry.getKey());
+            }
+        }
 
     }
 
@@ -188,4 +241,98 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
         return new TriggeredAbilities(this);
     }
 
+    private void addToIndex(Key key, TriggeredAbility ability) {
+        Set<EventType> eventTypes = getTriggerEventTypes(ability);
+        if (eventTypes == null) {
+            allEvents.put(key, ability);
+        } else {
+            for (EventType eventType : eventTypes) {
+                byEventType.computeIfAbsent(eventType, k -> new ConcurrentHashMap<>()).put(key, ability);
+            }
+        }
+    }
+
+    private void removeFromIndex(Key key, TriggeredAbility ability) {
+        if (allEvents.remove(key) == null) {
+            for (Map<Key, TriggeredAbility> abilities : byEventType.values()) {
+                abilities.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the event types of the triggered ability, if they are declared
+     * together with its checkEventType method (or the checkEventType it
+     * narrows, see {@link InheritedEventTypes})
+     *
+     * @param ability
+     * @return null if all events have to be checked for the ability
+     */
+    public static Set<EventType> getTriggerEventTypes(TriggeredAbility ability) {
+        Set<EventType> eventTypes = ability.getTriggerEventTypes();
+        if (eventTypes != null && eventTypesDeclared.computeIfAbsent(ability.getClass(), TriggeredAbilities::isEventTypesDeclared)) {
+            return eventTypes;
+        }
+        return null;
+    }
+
+    private static boolean isEventTypesDeclared(Class<?> abilityClass) {
+        try {
+            Class<?> checkingClass = abilityClass.getMethod("checkEventType", GameEvent.class, Game.class).getDeclaringClass();
+            while (checkingClass.isAnnotationPresent(InheritedEventTypes.class)) {
+                checkingClass = checkingClass.getSuperclass().getMethod("checkEventType", GameEvent.class, Game.class).getDeclaringClass();
+            }
+            Method getTriggerEventTypes = abilityClass.getMethod("getTriggerEventTypes");
+            // a subclass that overrides checkEventType could trigger on other event types
+            return checkingClass.isAssignableFrom(getTriggerEventTypes.getDeclaringClass());
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Key of a triggered ability and the object it belongs to (or the source
+     * that added it)
+     */
+    public static final class Key implements Serializable {
+
+        private final UUID abilityId;
+        private final UUID objectId;
+
+        public Key(UUID abilityId, UUID objectId) {
+            this.abilityId = abilityId;
+            this.objectId = objectId;
+        }
+
+        public UUID getAbilityId() {
+            return abilityId;
+        }
+
+        public UUID getObjectId() {
+            return objectId;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return abilityId.equals(other.abilityId) && Objects.equals(objectId, other.objectId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * abilityId.hashCode() + (objectId == null ? 0 : objectId.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return abilityId + "_" + (objectId == null ? "" : objectId);
+        }
+    }
+
 }
@@ -27,6 +27,7 @@
  */
 package mage.abilities;
 
+import java.util.Set;
 import java.util.UUID;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -50,6 +51,16 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * The event types checkEventType can return true for. Events of other
+     * types are not checked for this triggered ability. Has to be declared in
+     * the same class as checkEventType (or a subclass of it), otherwise it's
+     * ignored.
+     *
+     * @return null if all events have to be checked
+     */
+    Set<GameEvent.EventType> getTriggerEventTypes();
+
     /**
      * This method checks if the event has to trigger the ability. It's
      * important to do nothing unique within this method, that can't be done
@@ -28,6 +28,7 @@
 package mage.abilities;
 
 import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.effects.Effect;
@@ -79,6 +80,11 @@ public abstract class TriggeredAbilityImpl extends AbilityImpl implements Trigge
         }
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return null;
+    }
+
     @Override
     public boolean checkInterveningIfClause(Game game) {
         return true;
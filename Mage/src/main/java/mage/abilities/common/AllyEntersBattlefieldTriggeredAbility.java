@@ -27,6 +27,9 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.SubType;
@@ -49,6 +52,11 @@ public class AllyEntersBattlefieldTriggeredAbility extends TriggeredAbilityImpl
         super(ability);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
@@ -27,6 +27,9 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -64,6 +67,11 @@ public class AttacksAndIsNotBlockedTriggeredAbility extends TriggeredAbilityImpl
         return new AttacksAndIsNotBlockedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.DECLARE_BLOCKERS_STEP);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.DECLARE_BLOCKERS_STEP;
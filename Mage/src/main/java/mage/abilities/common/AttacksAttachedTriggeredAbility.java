@@ -27,7 +27,9 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.AttachmentType;
@@ -68,6 +70,11 @@ public class AttacksAttachedTriggeredAbility extends TriggeredAbilityImpl {
         return new AttacksAttachedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED;
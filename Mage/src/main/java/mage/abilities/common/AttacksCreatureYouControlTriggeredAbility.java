@@ -27,6 +27,9 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -78,6 +81,11 @@ public class AttacksCreatureYouControlTriggeredAbility extends TriggeredAbilityI
         this.once = once;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED;
@@ -28,6 +28,9 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.game.events.GameEvent;
@@ -53,6 +56,11 @@ public class BecomesTargetControllerSpellTriggeredAbility extends TriggeredAbili
         return new BecomesTargetControllerSpellTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.TARGETED;
@@ -27,7 +27,9 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.condition.Condition;
 import mage.abilities.effects.Effect;
@@ -65,6 +67,11 @@ public class BeginningOfEndStepTriggeredAbility extends TriggeredAbilityImpl {
         return new BeginningOfEndStepTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.END_TURN_STEP_PRE;
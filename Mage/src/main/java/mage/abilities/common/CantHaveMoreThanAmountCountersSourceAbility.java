@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.effects.ReplacementEffectImpl;
 import mage.constants.Duration;
@@ -101,6 +103,11 @@ class CantHaveMoreThanAmountCountersSourceEffect extends ReplacementEffectImpl {
         return true;
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        return EnumSet.of(EventType.ADD_COUNTER);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.ADD_COUNTER;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.condition.Condition;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
@@ -54,6 +56,11 @@ public class CastOnlyIfConditionIsTrueEffect extends ContinuousRuleModifyingEffe
         this.condition = effect.condition;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CAST_SPELL;
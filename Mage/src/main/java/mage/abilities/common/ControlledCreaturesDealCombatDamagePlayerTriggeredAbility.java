@@ -27,6 +27,7 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -69,6 +70,11 @@ public class ControlledCreaturesDealCombatDamagePlayerTriggeredAbility extends T
         return new ControlledCreaturesDealCombatDamagePlayerTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.DAMAGED_PLAYER, EventType.COMBAT_DAMAGE_STEP_PRIORITY, EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.DAMAGED_PLAYER
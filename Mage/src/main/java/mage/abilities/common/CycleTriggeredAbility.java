@@ -28,6 +28,9 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import mage.abilities.effects.Effect;
 import mage.abilities.keyword.CyclingAbility;
 import mage.constants.Zone;
@@ -53,6 +56,11 @@ public class CycleTriggeredAbility extends ZoneChangeTriggeredAbility {
         super(ability);
     }
     
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ACTIVATED_ABILITY);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ACTIVATED_ABILITY;
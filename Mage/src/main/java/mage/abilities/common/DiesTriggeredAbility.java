@@ -28,6 +28,7 @@
 package mage.abilities.common;
 
 import mage.MageObject;
+import mage.abilities.InheritedEventTypes;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
 import mage.game.Game;
@@ -39,6 +40,7 @@ import mage.game.permanent.PermanentToken;
 /**
  * @author BetaSteward_at_googlemail.com
  */
+@InheritedEventTypes
 public class DiesTriggeredAbility extends ZoneChangeTriggeredAbility {
 
     public DiesTriggeredAbility(Effect effect, boolean optional) {
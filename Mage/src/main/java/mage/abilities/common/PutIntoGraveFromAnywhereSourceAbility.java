@@ -28,6 +28,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.MageObject;
 import mage.abilities.Ability;
 import mage.abilities.Mode;
@@ -119,6 +121,11 @@ class PutIntoGraveFromAnywhereEffect extends ReplacementEffectImpl {
         baseEffects.add(effect);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
@@ -6,6 +6,9 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -48,6 +51,11 @@ public class TurnedFaceUpSourceTriggeredAbility extends TriggeredAbilityImpl {
         return new TurnedFaceUpSourceTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.TURNEDFACEUP);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.TURNEDFACEUP;
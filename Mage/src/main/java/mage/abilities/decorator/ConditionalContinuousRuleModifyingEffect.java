@@ -27,11 +27,14 @@
  */
 package mage.abilities.decorator;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.Mode;
 import mage.abilities.condition.Condition;
 import mage.abilities.condition.FixedCondition;
 import mage.abilities.condition.LockedInCondition;
+import mage.abilities.effects.ContinuousEffects;
 import mage.abilities.effects.ContinuousRuleModifyingEffect;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
 import mage.game.Game;
@@ -98,6 +101,22 @@ public class ConditionalContinuousRuleModifyingEffect extends ContinuousRuleModi
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        Set<GameEvent.EventType> eventTypes = ContinuousEffects.getCheckedEventTypes(effect);
+        if (eventTypes == null || otherwiseEffect == null) {
+            return eventTypes;
+        }
+        Set<GameEvent.EventType> otherwiseEventTypes = ContinuousEffects.getCheckedEventTypes(otherwiseEffect);
+        if (otherwiseEventTypes == null) {
+            return null;
+        }
+        Set<GameEvent.EventType> allEventTypes = EnumSet.noneOf(GameEvent.EventType.class);
+        allEventTypes.addAll(eventTypes);
+        allEventTypes.addAll(otherwiseEventTypes);
+        return allEventTypes;
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         if (effect.checksEventType(event, game)) {
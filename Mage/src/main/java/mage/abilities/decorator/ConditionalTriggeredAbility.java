@@ -1,6 +1,8 @@
 package mage.abilities.decorator;
 
+import java.util.Set;
 import mage.abilities.Modes;
+import mage.abilities.TriggeredAbilities;
 import mage.abilities.TriggeredAbility;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.condition.Condition;
@@ -41,6 +43,7 @@ public class ConditionalTriggeredAbility extends TriggeredAbilityImpl {
     public ConditionalTriggeredAbility(final ConditionalTriggeredAbility triggered) {
         super(triggered);
         this.ability = triggered.ability.copy();
+        this.modes = this.ability.getModes();
         this.condition = triggered.condition;
         this.abilityText = triggered.abilityText;
     }
@@ -55,6 +58,11 @@ public class ConditionalTriggeredAbility extends TriggeredAbilityImpl {
         return new ConditionalTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return TriggeredAbilities.getTriggerEventTypes(ability);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return ability.checkEventType(event, game);
@@ -28,8 +28,10 @@
 package mage.abilities.effects;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import mage.MageObject;
 import mage.abilities.*;
@@ -63,6 +65,9 @@ public class ContinuousEffects implements Serializable {
 
     private static final Logger logger = Logger.getLogger(ContinuousEffects.class);
 
+    // declaring class of getCheckedEventTypes is allowed to be used for the class of the effect
+    private static final Map<Class<?>, Boolean> checkedEventTypesDeclared = new ConcurrentHashMap<>();
+
     private long order = 0;
 
     //transient Continuous effects
@@ -137,6 +142,54 @@ public class ContinuousEffects implements Serializable {
         return new ContinuousEffects(this);
     }
 
+    /**
+     * Returns the event types of the effect, if they are declared together
+     * with its checksEventType method
+     *
+     * @param effect
+     * @return null if all events have to be checked for the effect
+     */
+    public static Set<EventType> getCheckedEventTypes(ReplacementEffect effect) {
+        return getDeclaredEventTypes(effect, effect.getCheckedEventTypes());
+    }
+
+    public static Set<EventType> getCheckedEventTypes(ContinuousRuleModifyingEffect effect) {
+        return getDeclaredEventTypes(effect, effect.getCheckedEventTypes());
+    }
+
+    private static Set<EventType> getDeclaredEventTypes(ContinuousEffect effect, Set<EventType> eventTypes) {
+        if (eventTypes != null && checkedEventTypesDeclared.computeIfAbsent(effect.getClass(), ContinuousEffects::isCheckedEventTypesDeclared)) {
+            return eventTypes;
+        }
+        return null;
+    }
+
+    private static boolean isCheckedEventTypesDeclared(Class<?> effectClass) {
+        try {
+            Class<?> checkingClass = effectClass.getMethod("checksEventType", GameEvent.class, Game.class).getDeclaringClass();
+            while (checkingClass.isAnnotationPresent(InheritedEventTypes.class)) {
+                checkingClass = checkingClass.getSuperclass().getMethod("checksEventType", GameEvent.class, Game.class).getDeclaringClass();
+            }
+            Method getCheckedEventTypes = effectClass.getMethod("getCheckedEventTypes");
+            // a subclass that overrides checksEventType could check other event types
+            return checkingClass.isAssignableFrom(getCheckedEventTypes.getDeclaringClass());
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if there are replacement or prevention effects that can check
+     * events of the given type
+     *
+     * @param eventType
+     * @return
+     */
+    public boolean hasReplacementEffects(EventType eventType) {
+        return !replacementEffects.getEffects(eventType, ContinuousEffects::getCheckedEventTypes).isEmpty()
+                || !preventionEffects.getEffects(eventType, ContinuousEffects::getCheckedEventTypes).isEmpty();
+    }
+
     public List<RequirementEffect> getRequirementEffects() {
         return requirementEffects;
     }
@@ -307,7 +360,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public boolean checkIfThereArePayCostToAttackBlockEffects(GameEvent event, Game game) {
-        for (ReplacementEffect effect : replacementEffects) {
+        for (ReplacementEffect effect : replacementEffects.getEffects(event.getType(), ContinuousEffects::getCheckedEventTypes)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -347,7 +400,7 @@ public class ContinuousEffects implements Serializable {
         }
         // boolean checkLKI = event.getType().equals(EventType.ZONE_CHANGE) || event.getType().equals(EventType.DESTROYED_PERMANENT);
         //get all applicable transient Replacement effects
-        for (ReplacementEffect effect : replacementEffects) {
+        for (ReplacementEffect effect : replacementEffects.getEffects(event.getType(), ContinuousEffects::getCheckedEventTypes)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -378,7 +431,7 @@ public class ContinuousEffects implements Serializable {
                 replaceEffects.put(effect, applicableAbilities);
             }
         }
-        for (PreventionEffect effect : preventionEffects) {
+        for (PreventionEffect effect : preventionEffects.getEffects(event.getType(), ContinuousEffects::getCheckedEventTypes)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -709,7 +762,7 @@ public class ContinuousEffects implements Serializable {
      * @return
      */
     public boolean preventedByRuleModification(GameEvent event, Ability targetAbility, Game game, boolean checkPlayableMode) {
-        for (ContinuousRuleModifyingEffect effect : continuousRuleModifyingEffects) {
+        for (ContinuousRuleModifyingEffect effect : continuousRuleModifyingEffects.getEffects(event.getType(), ContinuousEffects::getCheckedEventTypes)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -1066,6 +1119,30 @@ public class ContinuousEffects implements Serializable {
         return layeredEffects.getAbility(effect.getId());
     }
 
+    /**
+     * Changes each time a layered effect is added or removed, so it can be
+     * checked if the layered effects have to be applied again.
+     *
+     * @return
+     */
+    public int getLayeredEffectsVersion() {
+        return layeredEffects.getModCount();
+    }
+
+    /**
+     * Versions of the lists of continuous effects, each one changes each time
+     * an effect is added to or removed from its list.
+     *
+     * @return
+     */
+    public int[] getEffectsVersions() {
+        int[] versions = new int[allEffectsLists.size()];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = allEffectsLists.get(i).getModCount();
+        }
+        return versions;
+    }
+
     /**
      * Adds a continuous ability with a reference to a sourceId. It's used for
      * effects that cease to exist again So this effects were removed again
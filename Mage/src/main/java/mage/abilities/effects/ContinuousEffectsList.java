@@ -31,9 +31,11 @@ import mage.abilities.Ability;
 import mage.abilities.MageSingleton;
 import mage.constants.Duration;
 import mage.game.Game;
+import mage.game.events.GameEvent.EventType;
 import org.apache.log4j.Logger;
 
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * @param <T>
@@ -46,6 +48,12 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
     // the effectAbilityMap holds for each effect all abilities that are connected (used) with this effect
     private final Map<UUID, Set<Ability>> effectAbilityMap = new HashMap<>();
 
+    // effects by the event types they check, rebuilt after the list was changed (see getEffects)
+    private transient Map<EventType, List<T>> eventTypeIndex;
+    private transient List<T> allEventTypes;
+    private transient Map<EventType, List<T>> effectsByEventType;
+    private transient int eventTypeIndexModCount;
+
     public ContinuousEffectsList() {
     }
 
@@ -184,6 +192,54 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
         }
     }
 
+    /**
+     * Returns a number that changes each time effects are added to or removed
+     * from the list.
+     *
+     * @return
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Returns the effects of the list that can check events of the given
+     * type. The effects that check only other event types are left out.
+     *
+     * @param eventType
+     * @param checkedEventTypes returns the event types an effect checks or
+     * null if it can check all event types
+     * @return
+     */
+    public List<T> getEffects(EventType eventType, Function<T, Set<EventType>> checkedEventTypes) {
+        if (eventTypeIndex == null || eventTypeIndexModCount != modCount) {
+            eventTypeIndex = new EnumMap<>(EventType.class);
+            allEventTypes = new ArrayList<>();
+            effectsByEventType = new EnumMap<>(EventType.class);
+            eventTypeIndexModCount = modCount;
+            for (T effect : this) {
+                Set<EventType> eventTypes = checkedEventTypes.apply(effect);
+                if (eventTypes == null) {
+                    allEventTypes.add(effect);
+                } else {
+                    for (EventType type : eventTypes) {
+                        eventTypeIndex.computeIfAbsent(type, k -> new ArrayList<>()).add(effect);
+                    }
+                }
+            }
+        }
+        return effectsByEventType.computeIfAbsent(eventType, type -> {
+            List<T> declared = eventTypeIndex.get(type);
+            if (declared == null) {
+                return allEventTypes;
+            }
+            List<T> effects = new ArrayList<>(declared.size() + allEventTypes.size());
+            effects.addAll(declared);
+            effects.addAll(allEventTypes);
+            return effects;
+        });
+    }
+
     @Override
     public void clear() {
         super.clear();
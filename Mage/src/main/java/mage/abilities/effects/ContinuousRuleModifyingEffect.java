@@ -28,6 +28,7 @@
 
 package mage.abilities.effects;
 
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -47,6 +48,15 @@ public interface ContinuousRuleModifyingEffect extends ContinuousEffect {
      */
     boolean checksEventType(GameEvent event, Game game);
 
+    /**
+     * The event types checksEventType can return true for. Events of other
+     * types are not checked for this effect. Has to be declared in the same
+     * class as checksEventType (or a subclass of it), otherwise it's ignored.
+     *
+     * @return null if all events have to be checked
+     */
+    Set<GameEvent.EventType> getCheckedEventTypes();
+
     /**
      * 
      * @param event the event to check if it may happen
@@ -27,6 +27,7 @@
  */
 package mage.abilities.effects;
 
+import java.util.Set;
 import mage.MageObject;
 import mage.abilities.Ability;
 import mage.constants.Duration;
@@ -102,6 +103,11 @@ public abstract class ContinuousRuleModifyingEffectImpl extends ContinuousEffect
         return true;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return null;
+    }
+
     @Override
     public boolean apply(Game game, Ability source) {
         return true;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.MageObject;
 import mage.abilities.Ability;
 import mage.abilities.Mode;
@@ -93,6 +95,21 @@ public class EntersBattlefieldEffect extends ReplacementEffectImpl {
         baseEffects.add(effect);
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        switch (enterEventType) {
+            case OTHER:
+                return EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD);
+            case SELF:
+                return EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD_SELF);
+            case CONTROL:
+                return EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD_CONTROL);
+            case COPY:
+                return EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD_COPY);
+        }
+        return EnumSet.noneOf(EventType.class);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         switch (enterEventType) {
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.costs.Cost;
 import mage.abilities.costs.mana.ManaCosts;
@@ -102,6 +104,19 @@ public abstract class PayCostToAttackBlockEffectImpl extends ReplacementEffectIm
         this.restrictType = effect.restrictType;
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        switch (restrictType) {
+            case ATTACK:
+                return EnumSet.of(EventType.DECLARE_ATTACKER);
+            case BLOCK:
+                return EnumSet.of(EventType.DECLARE_BLOCKER);
+            case ATTACK_AND_BLOCK:
+                return EnumSet.of(EventType.DECLARE_ATTACKER, EventType.DECLARE_BLOCKER);
+        }
+        return EnumSet.noneOf(EventType.class);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         switch (restrictType) {
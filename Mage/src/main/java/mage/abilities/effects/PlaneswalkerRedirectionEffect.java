@@ -27,7 +27,9 @@
  */
 package mage.abilities.effects;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.constants.Duration;
@@ -61,6 +63,11 @@ public class PlaneswalkerRedirectionEffect extends RedirectionEffect {
         return new PlaneswalkerRedirectionEffect(this);
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        return EnumSet.of(EventType.DAMAGE_PLAYER);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.DAMAGE_PLAYER;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.dynamicvalue.DynamicValue;
 import mage.constants.Duration;
@@ -119,6 +121,11 @@ public abstract class PreventionEffectImpl extends ReplacementEffectImpl impleme
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGE_CREATURE, GameEvent.EventType.DAMAGE_PLAYER, GameEvent.EventType.DAMAGE_PLANESWALKER);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         switch (event.getType()) {
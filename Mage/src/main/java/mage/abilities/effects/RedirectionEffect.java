@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.constants.Duration;
 import mage.constants.EffectType;
@@ -66,6 +68,11 @@ public abstract class RedirectionEffect extends ReplacementEffectImpl {
         this.oneUsage = effect.oneUsage;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGE_CREATURE, GameEvent.EventType.DAMAGE_PLAYER, GameEvent.EventType.DAMAGE_PLANESWALKER);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         switch (event.getType()) {
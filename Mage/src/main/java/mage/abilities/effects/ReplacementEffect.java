@@ -28,6 +28,7 @@
 
 package mage.abilities.effects;
 
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -48,6 +49,16 @@ public interface ReplacementEffect extends ContinuousEffect {
      * @return
      */
     boolean checksEventType(GameEvent event, Game game);
+
+    /**
+     * The event types checksEventType can return true for. Events of other
+     * types are not checked for this effect. Has to be declared in the same
+     * class as checksEventType (or a subclass of it), otherwise it's ignored.
+     *
+     * @return null if all events have to be checked
+     */
+    Set<GameEvent.EventType> getCheckedEventTypes();
+
     boolean applies(GameEvent event, Ability source, Game game);
 
     boolean hasSelfScope();
@@ -27,11 +27,13 @@
  */
 package mage.abilities.effects;
 
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.constants.Duration;
 import mage.constants.EffectType;
 import mage.constants.Outcome;
 import mage.game.Game;
+import mage.game.events.GameEvent;
 
 /**
  *
@@ -73,6 +75,11 @@ public abstract class ReplacementEffectImpl extends ContinuousEffectImpl impleme
         this.selfScope = effect.selfScope;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return null;
+    }
+
     @Override
     public boolean hasSelfScope() {
         return selfScope;
@@ -25,7 +25,9 @@ import mage.players.Player;
 import mage.target.common.TargetCardInHand;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Effect for the AmplifyAbility
@@ -85,6 +87,11 @@ public class AmplifyEffect extends ReplacementEffectImpl {
         this.amplifyFactor = effect.amplifyFactor;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
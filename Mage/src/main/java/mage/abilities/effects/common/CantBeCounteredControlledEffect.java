@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.MageObject;
 import mage.abilities.Ability;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
@@ -79,6 +81,11 @@ public class CantBeCounteredControlledEffect extends ContinuousRuleModifyingEffe
         return true;
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        return EnumSet.of(EventType.COUNTER);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.COUNTER;
@@ -36,7 +36,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  *
@@ -62,6 +64,11 @@ public class CantBeRegeneratedSourceEffect extends ContinuousRuleModifyingEffect
         return true;
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        return EnumSet.of(EventType.REGENERATE);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.REGENERATE;
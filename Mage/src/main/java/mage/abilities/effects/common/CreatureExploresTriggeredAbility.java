@@ -1,5 +1,8 @@
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -17,6 +20,11 @@ public class CreatureExploresTriggeredAbility extends TriggeredAbilityImpl {
         super(effect);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.EXPLORED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.EXPLORED;
@@ -1,5 +1,8 @@
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -22,6 +25,11 @@ public class CrewsVehicleSourceTriggeredAbility extends TriggeredAbilityImpl {
         return new CrewsVehicleSourceTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CREWED_VEHICLE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CREWED_VEHICLE;
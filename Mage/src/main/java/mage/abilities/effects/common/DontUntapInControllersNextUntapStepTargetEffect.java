@@ -27,8 +27,10 @@
  */
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.Ability;
@@ -113,6 +115,11 @@ public class DontUntapInControllersNextUntapStepTargetEffect extends ContinuousR
         return null;
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        return EnumSet.of(EventType.UNTAP_STEP, EventType.UNTAP);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.UNTAP_STEP || event.getType() == EventType.UNTAP;
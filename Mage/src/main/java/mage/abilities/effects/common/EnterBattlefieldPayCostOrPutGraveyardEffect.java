@@ -27,7 +27,9 @@
  */
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 import mage.MageObject;
 import mage.abilities.Ability;
 import mage.abilities.costs.Cost;
@@ -95,6 +97,11 @@ public class EnterBattlefieldPayCostOrPutGraveyardEffect extends ReplacementEffe
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
@@ -4,7 +4,9 @@
  */
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import mage.MageObject;
 import mage.abilities.Ability;
 import mage.abilities.DelayedTriggeredAbility;
@@ -109,6 +111,11 @@ class EpicReplacementEffect extends ContinuousRuleModifyingEffectImpl {
         return null;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CAST_SPELL;
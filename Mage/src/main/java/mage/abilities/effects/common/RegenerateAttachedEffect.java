@@ -27,7 +27,9 @@
  */
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.effects.ReplacementEffectImpl;
@@ -80,6 +82,11 @@ public class RegenerateAttachedEffect extends ReplacementEffectImpl {
         return apply(game, source);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DESTROY_PERMANENT);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.DESTROY_PERMANENT;
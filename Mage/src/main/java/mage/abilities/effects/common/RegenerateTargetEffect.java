@@ -27,7 +27,9 @@
  */
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.Mode;
 import mage.abilities.effects.ReplacementEffectImpl;
@@ -74,6 +76,11 @@ public class RegenerateTargetEffect extends ReplacementEffectImpl {
         return apply(game, source);
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        return EnumSet.of(EventType.DESTROY_PERMANENT);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return EventType.DESTROY_PERMANENT == event.getType();
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common.replacement;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.effects.ReplacementEffectImpl;
 import mage.constants.Duration;
@@ -54,6 +56,11 @@ public class CreateTwiceThatManyTokensEffect extends ReplacementEffectImpl {
         return new CreateTwiceThatManyTokensEffect(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CREATE_TOKEN);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CREATE_TOKEN;
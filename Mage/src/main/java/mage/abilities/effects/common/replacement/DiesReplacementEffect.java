@@ -5,6 +5,8 @@
  */
 package mage.abilities.effects.common.replacement;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.MageObjectReference;
 import mage.abilities.Ability;
 import mage.abilities.effects.ReplacementEffectImpl;
@@ -57,6 +59,11 @@ public class DiesReplacementEffect extends ReplacementEffectImpl {
         return false;
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        return EnumSet.of(EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.ZONE_CHANGE;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common.ruleModifying;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
@@ -55,6 +57,11 @@ public class CantHaveCountersSourceEffect extends ContinuousRuleModifyingEffectI
         return new CantHaveCountersSourceEffect(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ADD_COUNTERS);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ADD_COUNTERS;
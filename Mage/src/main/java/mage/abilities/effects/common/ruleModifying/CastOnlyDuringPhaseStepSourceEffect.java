@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common.ruleModifying;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.condition.Condition;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
@@ -61,6 +63,11 @@ public class CastOnlyDuringPhaseStepSourceEffect extends ContinuousRuleModifying
         this.condition = effect.condition;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CAST_SPELL;
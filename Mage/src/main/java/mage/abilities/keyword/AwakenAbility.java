@@ -76,7 +76,7 @@ public class AwakenAbility extends SpellAbility {
         this.spellAbilityType = SpellAbilityType.BASE_ALTERNATE;
         this.timing = card.getSpellAbility().getTiming();
         this.addTarget(new TargetControlledPermanent(new FilterControlledLandPermanent(filterMessage)));
-        this.addEffect(new AwakenEffect());
+        this.addEffect(new AwakenEffect(awakenValue));
         this.awakenValue = awakenValue;
         rule = "Awaken " + awakenValue + "&mdash;" + awakenCosts
                 + " <i>(If you cast this spell for " + awakenCosts + ", also put "
@@ -106,15 +106,19 @@ public class AwakenAbility extends SpellAbility {
         return rule;
     }
 
-    class AwakenEffect extends OneShotEffect {
+    static class AwakenEffect extends OneShotEffect {
 
-        private AwakenEffect() {
+        private final int awakenValue;
+
+        private AwakenEffect(int awakenValue) {
             super(Outcome.BoostCreature);
+            this.awakenValue = awakenValue;
             this.staticText = "put " + CardUtil.numberToText(awakenValue, "a") + " +1/+1 counters on target land you control";
         }
 
         public AwakenEffect(final AwakenEffect effect) {
             super(effect);
+            this.awakenValue = effect.awakenValue;
         }
 
         @Override
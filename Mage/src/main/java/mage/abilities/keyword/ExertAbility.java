@@ -27,6 +27,7 @@
  */
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import mage.MageObjectReference;
@@ -113,6 +114,11 @@ class ExertReplacementEffect extends ReplacementEffectImpl {
         this.exertOnlyOncePerTurn = effect.exertOnlyOncePerTurn;
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        return EnumSet.of(EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.ATTACKER_DECLARED;
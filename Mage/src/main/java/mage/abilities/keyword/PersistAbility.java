@@ -55,11 +55,6 @@ public class PersistAbility extends DiesTriggeredAbility {
         return new PersistAbility(this);
     }
 
-    @Override
-    public boolean checkEventType(GameEvent event, Game game) {
-        return super.checkEventType(event, game);
-    }
-
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (super.checkTrigger(event, game)) {
@@ -10,7 +10,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Split Second
@@ -57,6 +59,11 @@ class SplitSecondEffect extends ContinuousRuleModifyingEffectImpl {
         return "You can't cast spells or activate abilities that aren't mana abilities (Split second).";
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL, GameEvent.EventType.ACTIVATE_ABILITY);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CAST_SPELL || event.getType() == GameEvent.EventType.ACTIVATE_ABILITY;
@@ -52,7 +52,7 @@ public class ConditionalManaAbility extends ActivatedManaAbilityImpl {
 
     public ConditionalManaAbility(final ConditionalManaAbility ability) {
         super(ability);
-        this.conditionalManaEffect = ability.conditionalManaEffect;
+        this.conditionalManaEffect = (ConditionalManaEffect) this.getEffects().get(0);
     }
 
     @Override
@@ -96,7 +96,7 @@ public class DynamicManaAbility extends ActivatedManaAbilityImpl {
 
     public DynamicManaAbility(final DynamicManaAbility ability) {
         super(ability);
-        manaEffect = ability.manaEffect;
+        manaEffect = (DynamicManaEffect) this.getEffects().get(0);
         rule = ability.rule;
     }
 
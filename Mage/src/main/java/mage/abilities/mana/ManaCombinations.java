@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.abilities.mana;
+
+import java.util.Arrays;
+import java.util.List;
+import mage.Mana;
+
+/**
+ * Mana combinations without dominated ones. A combination is dominated if
+ * another combination has at least as much mana of every type: every cost
+ * that can be paid with it can be paid with the other combination too.
+ *
+ * The eight mana counters of a combination are packed into a long (one byte
+ * each), so all counters are compared at once. Combinations with a counter
+ * above 127 can't be packed and are compared counter by counter.
+ */
+class ManaCombinations {
+
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    // packed values never have a high bit set
+    private static final long NOT_PACKED = -1L;
+
+    private Mana[] manas = new Mana[8];
+    private long[] packed = new long[8];
+    private int size;
+
+    /**
+     * Adds the mana if no combination dominates it and removes the
+     * combinations it dominates
+     *
+     * @param mana
+     * @return false if the mana is dominated by an existing combination
+     */
+    boolean add(Mana mana) {
+        long packedMana = pack(mana);
+        for (int i = 0; i < size; i++) {
+            if (dominates(packed[i], manas[i], packedMana, mana)) {
+                return false;
+            }
+        }
+        // the combinations don't dominate each other, so the new mana can't be dominated by one it removes
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!dominates(packedMana, mana, packed[i], manas[i])) {
+                manas[kept] = manas[i];
+                packed[kept] = packed[i];
+                kept++;
+            }
+        }
+        Arrays.fill(manas, kept, size, null);
+        size = kept;
+        if (size == manas.length) {
+            manas = Arrays.copyOf(manas, size * 2);
+            packed = Arrays.copyOf(packed, size * 2);
+        }
+        manas[size] = mana;
+        packed[size] = packedMana;
+        size++;
+        return true;
+    }
+
+    void addTo(List<Mana> options) {
+        options.addAll(Arrays.asList(manas).subList(0, size));
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param mana
+     * @return the counters of the mana packed into one long or -1 if a counter
+     * doesn't fit into 7 bits
+     */
+    static long pack(Mana mana) {
+        int white = mana.getWhite();
+        int blue = mana.getBlue();
+        int black = mana.getBlack();
+        int red = mana.getRed();
+        int green = mana.getGreen();
+        int generic = mana.getGeneric();
+        int colorless = mana.getColorless();
+        int any = mana.getAny();
+        if (((white | blue | black | red | green | generic | colorless | any) & ~0x7f) != 0) {
+            return NOT_PACKED;
+        }
+        return ((long) white << 56) | ((long) blue << 48) | ((long) black << 40) | ((long) red << 32)
+                | ((long) green << 24) | ((long) generic << 16) | ((long) colorless << 8) | any;
+    }
+
+    private static boolean dominates(long packed1, Mana mana1, long packed2, Mana mana2) {
+        if (packed1 != NOT_PACKED && packed2 != NOT_PACKED) {
+            // every byte of packed1 with the high bit set minus the byte of packed2 keeps the high bit if it was greater or equal
+            return (((packed1 | HIGH_BITS) - packed2) & HIGH_BITS) == HIGH_BITS;
+        }
+        return mana1.getWhite() >= mana2.getWhite()
+                && mana1.getBlue() >= mana2.getBlue()
+                && mana1.getBlack() >= mana2.getBlack()
+                && mana1.getRed() >= mana2.getRed()
+                && mana1.getGreen() >= mana2.getGreen()
+                && mana1.getGeneric() >= mana2.getGeneric()
+                && mana1.getColorless() >= mana2.getColorless()
+                && mana1.getAny() >= mana2.getAny();
+    }
+}
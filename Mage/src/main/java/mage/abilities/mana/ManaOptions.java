@@ -28,11 +28,13 @@
 package mage.abilities.mana;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import mage.Mana;
+import mage.abilities.Abilities;
 import mage.game.Game;
 
 /**
@@ -67,43 +69,34 @@ public class ManaOptions extends ArrayList<Mana> {
                     addMana(netManas.get(0));
                 } else {
                     List<Mana> copy = copy();
-                    this.clear();
+                    ManaCombinations combinations = new ManaCombinations();
                     for (Mana netMana : netManas) {
                         for (Mana mana : copy) {
                             Mana newMana = new Mana();
                             newMana.add(mana);
                             newMana.add(netMana);
-                            this.add(newMana);
+                            combinations.add(newMana);
                         }
                     }
+                    setCombinations(combinations);
                 }
 
             } else if (abilities.size() > 1) {
                 //perform a union of all existing options and the new options
                 List<Mana> copy = copy();
-                this.clear();
+                ManaCombinations combinations = new ManaCombinations();
                 for (ActivatedManaAbilityImpl ability : abilities) {
                     for (Mana netMana : ability.getNetMana(game)) {
-                        SkipAddMana:
                         for (Mana mana : copy) {
                             Mana newMana = new Mana();
                             newMana.add(mana);
                             newMana.add(netMana);
-                            for (Mana existingMana : this) {
-                                if (existingMana.equalManaValue(newMana)) {
-                                    continue SkipAddMana;
-                                }
-                                Mana moreValuable = Mana.getMoreValuableMana(newMana, existingMana);
-                                if (moreValuable != null) {
-                                    // only keep the more valuable mana
-                                    existingMana.setToMana(moreValuable);
-                                    continue SkipAddMana;
-                                }
-                            }
-                            this.add(newMana);
+                            // only the more valuable mana is kept
+                            combinations.add(newMana);
                         }
                     }
                 }
+                setCombinations(combinations);
             }
         }
     }
@@ -123,15 +116,16 @@ public class ManaOptions extends ArrayList<Mana> {
                         addMana(netManas.get(0));
                     } else {
                         List<Mana> copy = copy();
-                        this.clear();
+                        ManaCombinations combinations = new ManaCombinations();
                         for (Mana netMana : netManas) {
                             for (Mana mana : copy) {
                                 Mana newMana = new Mana();
                                 newMana.add(mana);
                                 newMana.add(netMana);
-                                this.add(newMana);
+                                combinations.add(newMana);
                             }
                         }
+                        setCombinations(combinations);
                     }
                 } else // the ability has mana costs
                 if (netManas.size() == 1) {
@@ -151,7 +145,7 @@ public class ManaOptions extends ArrayList<Mana> {
             } else if (abilities.size() > 1) {
                 //perform a union of all existing options and the new options
                 List<Mana> copy = copy();
-                this.clear();
+                ManaCombinations combinations = new ManaCombinations();
                 for (ActivatedManaAbilityImpl ability : abilities) {
 
                     List<Mana> netManas = ability.getNetMana(game);
@@ -162,28 +156,19 @@ public class ManaOptions extends ArrayList<Mana> {
                                 Mana newMana = new Mana();
                                 newMana.add(mana);
                                 newMana.add(netMana);
-                                this.add(newMana);
+                                combinations.add(newMana);
                             }
                         }
                     } else {
                         for (Mana netMana : netManas) {
                             for (Mana previousMana : copy) {
-                                CombineWithExisting:
                                 for (Mana manaOption : ability.getManaCosts().getManaOptions()) {
                                     Mana newMana = new Mana(previousMana);
                                     if (previousMana.includesMana(manaOption)) { // costs can be paid
                                         newMana.subtractCost(manaOption);
                                         newMana.add(netMana);
-                                        // if the new mana is in all colors more than another already existing than replace
-                                        for (Mana existingMana : this) {
-                                            Mana moreValuable = Mana.getMoreValuableMana(newMana, existingMana);
-                                            if (moreValuable != null) {
-                                                existingMana.setToMana(moreValuable);
-                                                continue CombineWithExisting;
-                                            }
-                                        }
-                                        // no existing Mana includes this new mana so add
-                                        this.add(newMana);
+                                        // only kept if no existing mana is in all colors more than the new mana
+                                        combinations.add(newMana);
                                     }
                                 }
                             }
@@ -191,6 +176,7 @@ public class ManaOptions extends ArrayList<Mana> {
                     }
 
                 }
+                setCombinations(combinations);
             }
         }
     }
@@ -215,15 +201,16 @@ public class ManaOptions extends ArrayList<Mana> {
             } else if (options.size() > 1) {
                 //perform a union of all existing options and the new options
                 List<Mana> copy = copy();
-                this.clear();
+                ManaCombinations combinations = new ManaCombinations();
                 for (Mana addMana : options) {
                     for (Mana mana : copy) {
                         Mana newMana = new Mana();
                         newMana.add(mana);
                         newMana.add(addMana);
-                        this.add(newMana);
+                        combinations.add(newMana);
                     }
                 }
+                setCombinations(combinations);
             }
         }
     }
@@ -232,6 +219,11 @@ public class ManaOptions extends ArrayList<Mana> {
         return new ManaOptions(this);
     }
 
+    private void setCombinations(ManaCombinations combinations) {
+        this.clear();
+        combinations.addTo(this);
+    }
+
     public void subtractCostAddMana(Mana cost, Mana addMana, boolean onlyManaCosts) {
         if (isEmpty()) {
             this.add(new Mana());
@@ -242,7 +234,7 @@ public class ManaOptions extends ArrayList<Mana> {
             repeatable = true; // only replace to any with mana costs only will be repeated if able
         }
         List<Mana> copy = copy();
-        this.clear();
+        ManaCombinations combinations = new ManaCombinations();
         for (Mana mana : copy) {
             Mana oldMan = mana.copy();
             if (mana.includesMana(cost)) {
@@ -258,7 +250,7 @@ public class ManaOptions extends ArrayList<Mana> {
                         if (oldMan.contains(newMana) && oldMan.count() > newMana.count()) {
                             newMana.setToMana(oldMan);
                         }
-                        this.add(newMana);
+                        combinations.add(newMana);
                     }
                 } else {
                     while (mana.includesMana(cost)) {
@@ -272,10 +264,11 @@ public class ManaOptions extends ArrayList<Mana> {
                     if (oldMan.contains(mana) && oldMan.count() > mana.count()) {
                         mana.setToMana(oldMan);
                     }
-                    this.add(mana);
+                    combinations.add(mana);
                 }
             }
         }
+        setCombinations(combinations);
     }
 
     private List<Mana> getPossiblePayCombinations(int number, Mana manaAvailable) {
@@ -344,4 +337,86 @@ public class ManaOptions extends ArrayList<Mana> {
             }
         }
     }
+
+    /**
+     * Returns a fingerprint of everything the mana options of the given mana
+     * sources are built from. Equal fingerprints result in equal mana options,
+     * so the options can be reused as long as the fingerprint doesn't change.
+     *
+     * @param sourcesWithoutCosts mana sources added with
+     * {@link #addMana(List, Game)}
+     * @param sourcesWithCosts mana sources added with
+     * {@link #addManaWithCost(List, Game)}
+     * @param game
+     * @return
+     */
+    public static long[] getFingerprint(List<Abilities<ActivatedManaAbilityImpl>> sourcesWithoutCosts, List<Abilities<ActivatedManaAbilityImpl>> sourcesWithCosts, Game game) {
+        Fingerprint fingerprint = new Fingerprint();
+        for (Abilities<ActivatedManaAbilityImpl> abilities : sourcesWithoutCosts) {
+            fingerprint.add(abilities.size());
+            for (ActivatedManaAbilityImpl ability : abilities) {
+                fingerprint.add(ability.getNetMana(game));
+            }
+        }
+        // separates the sources without costs from the ones with costs
+        fingerprint.add(-1);
+        for (Abilities<ActivatedManaAbilityImpl> abilities : sourcesWithCosts) {
+            fingerprint.add(abilities.size());
+            for (ActivatedManaAbilityImpl ability : abilities) {
+                fingerprint.add(ability.getNetMana(game));
+                fingerprint.add(ability.getCosts().isEmpty() ? 1 : 0);
+                if (ability.getManaCosts().isEmpty()) {
+                    fingerprint.add(0);
+                } else {
+                    fingerprint.add(1);
+                    fingerprint.add(ability.getManaCosts().getMana());
+                    fingerprint.add(ability.getManaCosts().getManaOptions());
+                }
+            }
+        }
+        return fingerprint.toArray();
+    }
+
+    private static final class Fingerprint {
+
+        private long[] values = new long[32];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void add(Mana mana) {
+            long packed = ManaCombinations.pack(mana);
+            if (packed < 0) {
+                // the counters don't fit into one long
+                add(Long.MIN_VALUE);
+                add(mana.getWhite());
+                add(mana.getBlue());
+                add(mana.getBlack());
+                add(mana.getRed());
+                add(mana.getGreen());
+                add(mana.getGeneric());
+                add(mana.getColorless());
+                add(mana.getAny());
+            } else {
+                add(packed);
+            }
+            add(mana.getFlag() ? 1 : 0);
+        }
+
+        void add(List<Mana> manas) {
+            add(manas.size());
+            for (Mana mana : manas) {
+                add(mana);
+            }
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.cards;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.log4j.Logger;
+
+/**
+ * Creates cards with the generated {@link CardFactory} of their class. Card
+ * classes without a generated factory (e.g. of plugins or created with the
+ * owner only) are created with a method handle of their constructor, that is
+ * looked up once per class.
+ */
+public final class CardFactories {
+
+    private static final Logger logger = Logger.getLogger(CardFactories.class);
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Card.class, UUID.class, CardSetInfo.class);
+    private static final MethodType OWNER_CONSTRUCTOR_TYPE = MethodType.methodType(Card.class, UUID.class);
+
+    // marks card classes without a generated factory in classFactories
+    private static final Entry NO_FACTORY = new Entry(null, -1);
+
+    private static final Map<String, Entry> factories = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Entry> classFactories = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, MethodHandle> constructors = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, MethodHandle> ownerConstructors = new ConcurrentHashMap<>();
+
+    static {
+        register(CardFactories.class.getClassLoader());
+    }
+
+    private CardFactories() {
+    }
+
+    /**
+     * Registers the generated card factories the class loader provides
+     *
+     * @param classLoader
+     */
+    public static void register(ClassLoader classLoader) {
+        try {
+            for (CardFactory factory : ServiceLoader.load(CardFactory.class, classLoader)) {
+                String[] classNames = factory.getClassNames();
+                for (int i = 0; i < classNames.length; i++) {
+                    factories.putIfAbsent(classNames[i], new Entry(factory, i));
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            logger.error("Error loading card factories", e);
+        }
+    }
+
+    /**
+     * @param className
+     * @param setInfo
+     * @return the card or null if there is no generated factory for the class
+     */
+    public static Card createCard(String className, CardSetInfo setInfo) {
+        Entry entry = factories.get(className);
+        if (entry == null) {
+            return null;
+        }
+        return entry.factory.createCard(entry.index, null, setInfo);
+    }
+
+    /**
+     * Creates the card with the generated factory of the class, or the
+     * constructor of the class if there is no generated factory
+     *
+     * @param cardClass
+     * @param setInfo if null the constructor with the owner only is used
+     * @return
+     * @throws Throwable errors of the card constructor
+     */
+    public static Card createCard(Class<?> cardClass, CardSetInfo setInfo) throws Throwable {
+        if (setInfo == null) {
+            return (Card) ownerConstructors.computeIfAbsent(cardClass, c -> findConstructor(c, OWNER_CONSTRUCTOR_TYPE))
+                    .invokeExact((UUID) null);
+        }
+        Entry entry = classFactories.computeIfAbsent(cardClass, CardFactories::findFactory);
+        if (entry != NO_FACTORY) {
+            return entry.factory.createCard(entry.index, null, setInfo);
+        }
+        // class of a plugin or another class loader
+        return (Card) constructors.computeIfAbsent(cardClass, c -> findConstructor(c, CONSTRUCTOR_TYPE))
+                .invokeExact((UUID) null, setInfo);
+    }
+
+    /**
+     * @param cardClass
+     * @return true if the card class is created with a generated factory
+     */
+    public static boolean hasFactory(Class<?> cardClass) {
+        return classFactories.computeIfAbsent(cardClass, CardFactories::findFactory) != NO_FACTORY;
+    }
+
+    private static Entry findFactory(Class<?> cardClass) {
+        Entry entry = factories.get(cardClass.getName());
+        if (entry == null) {
+            return NO_FACTORY;
+        }
+        // the factory creates the class of its own class loader, that can be
+        // another class with the same name
+        try {
+            if (Class.forName(cardClass.getName(), false, entry.factory.getClass().getClassLoader()) == cardClass) {
+                return entry;
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.warn("Card class " + cardClass.getName() + " of the factory can't be loaded", e);
+        }
+        return NO_FACTORY;
+    }
+
+    private static MethodHandle findConstructor(Class<?> cardClass, MethodType type) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(cardClass, type.changeReturnType(void.class))
+                    .asType(type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("No public card constructor found for " + cardClass.getName(), e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final CardFactory factory;
+        private final int index;
+
+        private Entry(CardFactory factory, int index) {
+            this.factory = factory;
+            this.index = index;
+        }
+    }
+}
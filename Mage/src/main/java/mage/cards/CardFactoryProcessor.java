@@ -0,0 +1,187 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.cards;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates the {@link CardFactory} classes for the
+ * card classes of a module (e.g. Mage.Sets), so cards can be created without
+ * reflection. All public card classes with a public (UUID, CardSetInfo)
+ * constructor get a factory, no annotation is needed. The factories are
+ * registered in META-INF/services for {@link CardFactories}.
+ *
+ * The processor has to be enabled explicitly in the compiler configuration of
+ * the module.
+ */
+@SupportedAnnotationTypes("*")
+public class CardFactoryProcessor extends AbstractProcessor {
+
+    // cards per generated class, keeps the generated methods and constant pools small
+    private static final int CARDS_PER_FACTORY = 500;
+    private static final String FACTORY_NAME = "GeneratedCardFactory";
+
+    private final Map<String, Integer> factoriesPerPackage = new TreeMap<>();
+    private final List<String> factories = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServices();
+            return false;
+        }
+        TypeElement cardType = processingEnv.getElementUtils().getTypeElement(Card.class.getCanonicalName());
+        if (cardType == null) {
+            return false;
+        }
+        Map<String, List<TypeElement>> cardsByPackage = new TreeMap<>();
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            if (isCardClass(type, cardType.asType())) {
+                String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+                cardsByPackage.computeIfAbsent(packageName, k -> new ArrayList<>()).add(type);
+            }
+        }
+        for (Map.Entry<String, List<TypeElement>> entry : cardsByPackage.entrySet()) {
+            List<TypeElement> cards = entry.getValue();
+            cards.sort((type1, type2) -> type1.getQualifiedName().toString().compareTo(type2.getQualifiedName().toString()));
+            for (int from = 0; from < cards.size(); from += CARDS_PER_FACTORY) {
+                writeFactory(entry.getKey(), cards.subList(from, Math.min(from + CARDS_PER_FACTORY, cards.size())));
+            }
+        }
+        return false;
+    }
+
+    private boolean isCardClass(TypeElement type, TypeMirror cardType) {
+        if (type.getKind() != ElementKind.CLASS
+                || type.getNestingKind() != NestingKind.TOP_LEVEL
+                || !type.getModifiers().contains(Modifier.PUBLIC)
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || !type.getTypeParameters().isEmpty()
+                || !processingEnv.getTypeUtils().isAssignable(type.asType(), cardType)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            List<? extends VariableElement> parameters = constructor.getParameters();
+            if (constructor.getModifiers().contains(Modifier.PUBLIC)
+                    && parameters.size() == 2
+                    && isType(parameters.get(0), "java.util.UUID")
+                    && isType(parameters.get(1), CardSetInfo.class.getCanonicalName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isType(VariableElement parameter, String typeName) {
+        Element element = processingEnv.getTypeUtils().asElement(parameter.asType());
+        return element instanceof TypeElement && ((TypeElement) element).getQualifiedName().contentEquals(typeName);
+    }
+
+    private void writeFactory(String packageName, List<TypeElement> cards) {
+        int number = factoriesPerPackage.merge(packageName, 1, Integer::sum) - 1;
+        String className = FACTORY_NAME + number;
+        String qualifiedName = packageName.isEmpty() ? className : packageName + '.' + className;
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated by ").append(CardFactoryProcessor.class.getName()).append(", don't edit\n */\n")
+                .append("public final class ").append(className).append(" implements mage.cards.CardFactory {\n\n")
+                .append("    private static final String[] CLASS_NAMES = {\n");
+        for (TypeElement card : cards) {
+            source.append("        \"").append(processingEnv.getElementUtils().getBinaryName(card)).append("\",\n");
+        }
+        source.append("    };\n\n")
+                .append("    @Override\n")
+                .append("    public String[] getClassNames() {\n")
+                .append("        return CLASS_NAMES.clone();\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public mage.cards.Card createCard(int index, java.util.UUID ownerId, mage.cards.CardSetInfo setInfo) {\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < cards.size(); i++) {
+            source.append("            case ").append(i).append(":\n")
+                    .append("                return new ").append(cards.get(i).getQualifiedName()).append("(ownerId, setInfo);\n");
+        }
+        source.append("            default:\n")
+                .append("                throw new IllegalArgumentException(\"Unknown card index \" + index);\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, cards.toArray(new Element[cards.size()])).openWriter()) {
+            writer.write(source.toString());
+            factories.add(qualifiedName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Can't write card factory " + qualifiedName + ": " + e);
+        }
+    }
+
+    private void writeServices() {
+        if (factories.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + CardFactory.class.getName());
+            try (Writer writer = file.openWriter()) {
+                for (String factory : factories) {
+                    writer.write(factory);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Can't write card factory services: " + e);
+        }
+    }
+}
@@ -27,7 +27,6 @@
  */
 package mage.cards;
 
-import java.lang.reflect.Constructor;
 import java.util.*;
 import mage.MageObject;
 import mage.MageObjectImpl;
@@ -179,14 +178,25 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     @Override
     public void assignNewId() {
         this.objectId = UUID.randomUUID();
+        // a copied card holds a copy of its spell ability, that has to get the new id of the spell ability of the abilities
+        Optional<Ability> newSpellAbility = this.spellAbility == null ? Optional.empty() : this.abilities.get(this.spellAbility.getId());
         this.abilities.newOriginalId();
         this.abilities.setSourceId(objectId);
-        if (this.spellAbility != null) {
+        if (newSpellAbility.isPresent()) {
+            this.spellAbility = (SpellAbility) newSpellAbility.get();
+        } else if (this.spellAbility != null) {
+            this.spellAbility.newOriginalId();
             this.spellAbility.setSourceId(objectId);
         }
     }
 
     public static Card createCard(String name, CardSetInfo setInfo) {
+        if (setInfo != null) {
+            Card card = CardFactories.createCard(name, setInfo);
+            if (card != null) {
+                return card;
+            }
+        }
         try {
             return createCard(Class.forName(name), setInfo);
         } catch (ClassNotFoundException ex) {
@@ -206,16 +216,11 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     public static Card createCard(Class<?> clazz, CardSetInfo setInfo, List<String> errorList) {
         try {
-            Card card;
-            if (setInfo == null) {
-                Constructor<?> con = clazz.getConstructor(UUID.class);
-                card = (Card) con.newInstance(new Object[]{null});
-            } else {
-                Constructor<?> con = clazz.getConstructor(UUID.class, CardSetInfo.class);
-                card = (Card) con.newInstance(null, setInfo);
+            return CardFactories.createCard(clazz, setInfo);
+        } catch (Throwable e) {
+            if (e instanceof Error) {
+                throw (Error) e;
             }
-            return card;
-        } catch (Exception e) {
             String err = "Error loading card: " + clazz.getCanonicalName();
             if (errorList != null) {
                 errorList.add(err);
@@ -266,7 +271,7 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         try {
             List<String> rules = getRules();
             if (game != null) {
-                CardState cardState = game.getState().getCardState(objectId);
+                CardState cardState = game.getState().peekCardState(objectId);
                 if (cardState != null) {
                     for (String data : cardState.getInfo().values()) {
                         rules.add(data);
@@ -652,7 +657,8 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     @Override
     public boolean isFaceDown(Game game) {
-        return game.getState().getCardState(objectId).isFaceDown();
+        CardState cardState = game.getState().peekCardState(objectId);
+        return cardState != null && cardState.isFaceDown();
     }
 
     @Override
@@ -0,0 +1,71 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.cards;
+
+import java.util.HashMap;
+import java.util.Map;
+import mage.cards.repository.CardInfo;
+import mage.util.RandomUtil;
+
+/**
+ * Draws cards of a shared array at random without replacement. The array is
+ * never copied or changed: the draws are a Fisher-Yates shuffle that only
+ * records the swapped positions, so each draw is O(1) no matter how many
+ * cards the array has.
+ */
+final class CardInfoSampler {
+
+    private final CardInfo[] cards;
+    private final Map<Integer, Integer> swapped = new HashMap<>();
+    private int remaining;
+
+    CardInfoSampler(CardInfo[] cards) {
+        this.cards = cards;
+        this.remaining = cards.length;
+    }
+
+    boolean isEmpty() {
+        return remaining == 0;
+    }
+
+    /**
+     * @return a card not drawn before or null if all cards were drawn
+     */
+    CardInfo next() {
+        if (remaining == 0) {
+            return null;
+        }
+        int index = RandomUtil.nextInt(remaining);
+        remaining--;
+        int picked = swapped.getOrDefault(index, index);
+        // the last not drawn position takes the place of the drawn one
+        swapped.put(index, swapped.getOrDefault(remaining, remaining));
+        swapped.remove(remaining);
+        return cards[picked];
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.cards;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates cards as copies of a prototype, that is created once per card class
+ * and set info. Copying a card is much cheaper than running the constructor
+ * of the card class, that builds all abilities, effects and filters again.
+ *
+ * The copies get new ids like copied cards of the game state (see
+ * {@link Card#assignNewId()}), the prototypes itself are never handed out.
+ * Cards of classes marked with {@link NotPrototyped} are always created with
+ * their constructor.
+ */
+public final class CardPrototypes {
+
+    private static final int MAX_PROTOTYPES = 5000;
+
+    private static final Map<String, Card> prototypes = Collections.synchronizedMap(new LinkedHashMap<String, Card>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Card> eldest) {
+            return size() > MAX_PROTOTYPES;
+        }
+    });
+
+    private static final Set<String> notPrototyped = ConcurrentHashMap.newKeySet();
+
+    private CardPrototypes() {
+    }
+
+    /**
+     * @param className
+     * @param setInfo
+     * @return a new card with own ids or null if the card can't be created
+     */
+    public static Card createCard(String className, CardSetInfo setInfo) {
+        if (setInfo == null || notPrototyped.contains(className)) {
+            return CardImpl.createCard(className, setInfo);
+        }
+        String key = getKey(className, setInfo);
+        Card prototype = prototypes.get(key);
+        if (prototype == null) {
+            prototype = CardImpl.createCard(className, setInfo);
+            if (prototype == null) {
+                return null;
+            }
+            if (!isPrototyped(prototype.getClass())) {
+                notPrototyped.add(className);
+                return prototype;
+            }
+            prototypes.put(key, prototype);
+        }
+        Card card = prototype.copy();
+        card.assignNewId();
+        return card;
+    }
+
+    /**
+     * @param cardClass
+     * @return false if cards of the class are created with their constructor
+     */
+    public static boolean isPrototyped(Class<?> cardClass) {
+        return !cardClass.isAnnotationPresent(NotPrototyped.class);
+    }
+
+    public static void clear() {
+        prototypes.clear();
+    }
+
+    private static String getKey(String className, CardSetInfo setInfo) {
+        StringBuilder sb = new StringBuilder(className).append('|')
+                .append(setInfo.getName()).append('|')
+                .append(setInfo.getExpansionSetCode()).append('|')
+                .append(setInfo.getCardNumber()).append('|')
+                .append(setInfo.getRarity());
+        CardGraphicInfo graphicInfo = setInfo.getGraphicInfo();
+        if (graphicInfo != null) {
+            sb.append('|').append(graphicInfo.getFrameStyle())
+                    .append('|').append(graphicInfo.getUsesVariousArt())
+                    .append('|').append(graphicInfo.getFrameColor());
+        }
+        return sb.toString();
+    }
+}
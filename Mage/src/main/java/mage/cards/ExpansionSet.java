@@ -37,6 +37,7 @@ import mage.util.RandomUtil;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -125,6 +126,7 @@ public abstract class ExpansionSet implements Serializable {
     protected int maxCardNumberInBooster; // used to omit cards with collector numbers beyond the regular cards in a set for boosters
 
     protected final EnumMap<Rarity, List<CardInfo>> savedCards;
+    private transient Map<Rarity, CardInfo[]> boosterCards;
 
     public ExpansionSet(String name, String code, Date releaseDate, SetType setType) {
         this.name = name;
@@ -181,11 +183,11 @@ public abstract class ExpansionSet implements Serializable {
         List<Card> theBooster = this.createBooster();
 
         if (15 > theBooster.size()) {
-            List<CardInfo> commons = getCardsByRarity(Rarity.COMMON);
+            CardInfoSampler commons = getBoosterCards(Rarity.COMMON);
             while (15 > theBooster.size() && !commons.isEmpty()) {
-                addToBooster(theBooster, commons);
+                addToBooster(theBooster, commons.next());
                 if (commons.isEmpty()) {
-                    commons = getCardsByRarity(Rarity.COMMON);
+                    commons = getBoosterCards(Rarity.COMMON);
                 }
             }
         }
@@ -199,12 +201,20 @@ public abstract class ExpansionSet implements Serializable {
 
     protected void addToBooster(List<Card> booster, List<CardInfo> cards) {
         if (!cards.isEmpty()) {
-            CardInfo cardInfo = cards.remove(RandomUtil.nextInt(cards.size()));
-            if (cardInfo != null) {
-                Card card = cardInfo.getCard();
-                if (card != null) {
-                    booster.add(card);
-                }
+            // the last card takes the place of the picked one, so nothing has to be shifted
+            int index = RandomUtil.nextInt(cards.size());
+            CardInfo cardInfo = cards.get(index);
+            cards.set(index, cards.get(cards.size() - 1));
+            cards.remove(cards.size() - 1);
+            addToBooster(booster, cardInfo);
+        }
+    }
+
+    private static void addToBooster(List<Card> booster, CardInfo cardInfo) {
+        if (cardInfo != null) {
+            Card card = cardInfo.getCard();
+            if (card != null) {
+                booster.add(card);
             }
         }
     }
@@ -217,39 +227,39 @@ public abstract class ExpansionSet implements Serializable {
 
         if (numBoosterLands > 0) {
             List<CardInfo> specialLands = getSpecialLand();
-            List<CardInfo> basicLands = getCardsByRarity(Rarity.LAND);
+            CardInfoSampler basicLands = getBoosterCards(Rarity.LAND);
             for (int i = 0; i < numBoosterLands; i++) {
                 if (ratioBoosterSpecialLand > 0 && RandomUtil.nextInt(ratioBoosterSpecialLand) == 0 && specialLands != null) {
                     addToBooster(booster, specialLands);
                 } else {
-                    addToBooster(booster, basicLands);
+                    addToBooster(booster, basicLands.next());
                 }
             }
         }
         int numSpecialCommons = getNumberOfSpecialCommons();
         int numCommonsToGenerate = numBoosterCommon - numSpecialCommons;
 
-        List<CardInfo> commons = getCardsByRarity(Rarity.COMMON);
+        CardInfoSampler commons = getBoosterCards(Rarity.COMMON);
         for (int i = 0; i < numCommonsToGenerate; i++) {
-            addToBooster(booster, commons);
+            addToBooster(booster, commons.next());
         }
 
         if (numSpecialCommons > 0) { // e.g. used to conditionaly replace common cards in the booster
             addSpecialCommon(booster, numSpecialCommons);
         }
 
-        List<CardInfo> uncommons = getCardsByRarity(Rarity.UNCOMMON);
+        CardInfoSampler uncommons = getBoosterCards(Rarity.UNCOMMON);
         for (int i = 0; i < numBoosterUncommon; i++) {
-            addToBooster(booster, uncommons);
+            addToBooster(booster, uncommons.next());
         }
 
-        List<CardInfo> rares = getCardsByRarity(Rarity.RARE);
-        List<CardInfo> mythics = getCardsByRarity(Rarity.MYTHIC);
+        CardInfoSampler rares = getBoosterCards(Rarity.RARE);
+        CardInfoSampler mythics = getBoosterCards(Rarity.MYTHIC);
         for (int i = 0; i < numBoosterRare; i++) {
             if (ratioBoosterMythic > 0 && RandomUtil.nextInt(ratioBoosterMythic) == 0) {
-                addToBooster(booster, mythics);
+                addToBooster(booster, mythics.next());
             } else {
-                addToBooster(booster, rares);
+                addToBooster(booster, rares.next());
             }
         }
 
@@ -404,6 +414,20 @@ public abstract class ExpansionSet implements Serializable {
         return new ArrayList<>(savedCardsInfos);
     }
 
+    /**
+     * The cards of a rarity are read once with
+     * {@link #getCardsByRarity(Rarity)} and shared by all boosters of the set
+     *
+     * @param rarity
+     * @return sampler for the cards of a booster
+     */
+    private CardInfoSampler getBoosterCards(Rarity rarity) {
+        if (boosterCards == null) {
+            boosterCards = new ConcurrentHashMap<>();
+        }
+        return new CardInfoSampler(boosterCards.computeIfAbsent(rarity, r -> getCardsByRarity(r).toArray(new CardInfo[0])));
+    }
+
     public List<CardInfo> getSpecialCommon() {
         return new ArrayList<>();
     }
@@ -434,6 +458,9 @@ public abstract class ExpansionSet implements Serializable {
 
     public void removeSavedCards() {
         savedCards.clear();
+        if (boosterCards != null) {
+            boosterCards.clear();
+        }
     }
 
     public int getMaxCardNumberInBooster() { return maxCardNumberInBooster; }
@@ -113,8 +113,13 @@ public abstract class MeldCard extends CardImpl {
     @Override
     public void assignNewId() {
         super.assignNewId();
-        topHalfCard.assignNewId();
-        bottomHalfCard.assignNewId();
+        // the halves are only set when the card is melded
+        if (topHalfCard != null) {
+            topHalfCard.assignNewId();
+        }
+        if (bottomHalfCard != null) {
+            bottomHalfCard.assignNewId();
+        }
     }
 
     @Override
@@ -0,0 +1,349 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.cards.repository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+
+/**
+ * Immutable in-memory index of all cards of the card database. It's built
+ * once from the database and answers the lookups by name, set and card
+ * number or class name with hash maps, and the {@link CardCriteria} filters
+ * with bit sets and columns of the card values. Texts are searched with
+ * inverted indexes of their words, built on the first search.
+ */
+final class CardCatalog {
+
+    enum TextField {
+        NAME(card -> card.name),
+        RULES(card -> card.rules),
+        SUBTYPES(card -> card.subtypes),
+        SUPERTYPES(card -> card.supertypes);
+
+        private final Function<CardInfo, String> value;
+
+        TextField(Function<CardInfo, String> value) {
+            this.value = value;
+        }
+    }
+
+    private final List<CardInfo> cards;
+    private final Map<String, List<CardInfo>> byName = new HashMap<>();
+    private final Map<String, List<CardInfo>> byLowerCaseName = new HashMap<>();
+    private final Map<String, CardInfo> bySetCodeAndNumber = new HashMap<>();
+    private final Map<String, List<CardInfo>> byClassName = new HashMap<>();
+    private final List<String> classNames;
+
+    private final int[] cardNumbers;
+
+    // all cards that are no night cards and no halves of split cards
+    private final BitSet searchable = new BitSet();
+    private final BitSet doubleFaced = new BitSet();
+    private final Map<String, BitSet> bySetCode = new HashMap<>();
+    private final Map<Rarity, BitSet> byRarity = new EnumMap<>(Rarity.class);
+    private final Map<CardType, BitSet> byType = new EnumMap<>(CardType.class);
+    private final Map<Integer, BitSet> byConvertedManaCost = new HashMap<>();
+    private final BitSet black = new BitSet();
+    private final BitSet blue = new BitSet();
+    private final BitSet green = new BitSet();
+    private final BitSet red = new BitSet();
+    private final BitSet white = new BitSet();
+    private final BitSet colorless = new BitSet();
+
+    private final SortedSet<String> names = new TreeSet<>();
+    private final SortedSet<String> nonLandNames = new TreeSet<>();
+    private final SortedSet<String> creatureNames = new TreeSet<>();
+    private final SortedSet<String> artifactNames = new TreeSet<>();
+    private final SortedSet<String> nonLandAndNonCreatureNames = new TreeSet<>();
+    private final SortedSet<String> nonArtifactAndNonLandNames = new TreeSet<>();
+
+    private final Map<TextField, CardTextIndex> textIndexes = new ConcurrentHashMap<>();
+
+    CardCatalog(List<CardInfo> cards) {
+        this.cards = new ArrayList<>(cards);
+        this.classNames = new ArrayList<>(cards.size());
+        this.cardNumbers = new int[cards.size()];
+        for (int i = 0; i < this.cards.size(); i++) {
+            add(i, this.cards.get(i));
+        }
+    }
+
+    private void add(int index, CardInfo card) {
+        String name = card.getName();
+        if (name != null) {
+            byName.computeIfAbsent(name, k -> new ArrayList<>(1)).add(card);
+            byLowerCaseName.computeIfAbsent(name.toLowerCase(Locale.ENGLISH), k -> new ArrayList<>(1)).add(card);
+        }
+        if (!card.isNightCard()) {
+            bySetCodeAndNumber.putIfAbsent(getSetCodeAndNumber(card.getSetCode(), card.getCardNumber()), card);
+        }
+        if (card.getClassName() != null) {
+            byClassName.computeIfAbsent(card.getClassName(), k -> new ArrayList<>(1)).add(card);
+            classNames.add(card.getClassName());
+        }
+
+        byConvertedManaCost.computeIfAbsent(card.getConvertedManaCost(), k -> new BitSet()).set(index);
+        cardNumbers[index] = parseCardNumber(card.getCardNumber());
+
+        if (!card.isNightCard() && !card.isSplitCardHalf()) {
+            searchable.set(index);
+        }
+        if (card.isDoubleFaced()) {
+            doubleFaced.set(index);
+        }
+        if (card.getSetCode() != null) {
+            bySetCode.computeIfAbsent(card.getSetCode(), k -> new BitSet()).set(index);
+        }
+        if (card.getRarity() != null) {
+            byRarity.computeIfAbsent(card.getRarity(), k -> new BitSet()).set(index);
+        }
+        String types = card.types == null ? "" : card.types;
+        for (CardType type : CardType.values()) {
+            if (types.contains(type.name())) {
+                byType.computeIfAbsent(type, k -> new BitSet()).set(index);
+            }
+        }
+        black.set(index, card.black);
+        blue.set(index, card.blue);
+        green.set(index, card.green);
+        red.set(index, card.red);
+        white.set(index, card.white);
+        colorless.set(index, !card.black && !card.blue && !card.green && !card.red && !card.white);
+
+        if (name != null) {
+            boolean land = types.contains(CardType.LAND.name());
+            boolean creature = types.contains(CardType.CREATURE.name());
+            boolean artifact = types.contains(CardType.ARTIFACT.name());
+            addName(names, name);
+            if (!land) {
+                addName(nonLandNames, name);
+            }
+            if (creature) {
+                addName(creatureNames, name);
+            }
+            if (artifact) {
+                addName(artifactNames, name);
+            }
+            if (!land && !creature) {
+                addName(nonLandAndNonCreatureNames, name);
+            }
+            if (!land && !artifact) {
+                addName(nonArtifactAndNonLandNames, name);
+            }
+        }
+    }
+
+    private static void addName(Set<String> names, String name) {
+        int result = name.indexOf(" // ");
+        if (result > 0) {
+            names.add(name.substring(0, result));
+            names.add(name.substring(result + 4));
+        } else {
+            names.add(name);
+        }
+    }
+
+    private static String getSetCodeAndNumber(String setCode, String cardNumber) {
+        return setCode + '|' + cardNumber;
+    }
+
+    private static int parseCardNumber(String cardNumber) {
+        try {
+            return cardNumber == null ? 0 : Integer.parseInt(cardNumber.replaceAll("\\D", ""));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    int size() {
+        return cards.size();
+    }
+
+    CardInfo get(int index) {
+        return cards.get(index);
+    }
+
+    List<CardInfo> findCards(String name) {
+        return copyOf(byName.get(name));
+    }
+
+    List<CardInfo> findCardsCaseInsensitive(String name) {
+        return copyOf(byLowerCaseName.get(name.toLowerCase(Locale.ENGLISH)));
+    }
+
+    /**
+     * @param setCode
+     * @param cardNumber
+     * @return the card (no night card) or null if there is none
+     */
+    CardInfo findCard(String setCode, String cardNumber) {
+        return bySetCodeAndNumber.get(getSetCodeAndNumber(setCode, cardNumber));
+    }
+
+    boolean classNameExists(String className) {
+        return byClassName.containsKey(className);
+    }
+
+    /**
+     * @return the class names of all cards, a name for each card
+     */
+    List<String> getClassNames() {
+        return Collections.unmodifiableList(classNames);
+    }
+
+    List<CardInfo> getCardsWithoutClassNames(Collection<String> classNames) {
+        Set<String> excluded = new HashSet<>(classNames);
+        List<CardInfo> result = new ArrayList<>();
+        for (CardInfo card : cards) {
+            if (!excluded.contains(card.getClassName())) {
+                result.add(card);
+            }
+        }
+        return result;
+    }
+
+    SortedSet<String> getNames() {
+        return Collections.unmodifiableSortedSet(names);
+    }
+
+    SortedSet<String> getNonLandNames() {
+        return Collections.unmodifiableSortedSet(nonLandNames);
+    }
+
+    SortedSet<String> getCreatureNames() {
+        return Collections.unmodifiableSortedSet(creatureNames);
+    }
+
+    SortedSet<String> getArtifactNames() {
+        return Collections.unmodifiableSortedSet(artifactNames);
+    }
+
+    SortedSet<String> getNonLandAndNonCreatureNames() {
+        return Collections.unmodifiableSortedSet(nonLandAndNonCreatureNames);
+    }
+
+    SortedSet<String> getNonArtifactAndNonLandNames() {
+        return Collections.unmodifiableSortedSet(nonArtifactAndNonLandNames);
+    }
+
+    /**
+     * The bit set methods return new bit sets the caller may change
+     *
+     * @return all cards that are no night cards and no halves of split cards
+     */
+    BitSet getSearchable() {
+        return (BitSet) searchable.clone();
+    }
+
+    BitSet getDoubleFaced() {
+        return (BitSet) doubleFaced.clone();
+    }
+
+    BitSet getSetCodes(Collection<String> setCodes) {
+        BitSet result = new BitSet();
+        for (String setCode : setCodes) {
+            BitSet set = bySetCode.get(setCode);
+            if (set != null) {
+                result.or(set);
+            }
+        }
+        return result;
+    }
+
+    BitSet getRarities(Collection<Rarity> rarities) {
+        BitSet result = new BitSet();
+        for (Rarity rarity : rarities) {
+            BitSet set = byRarity.get(rarity);
+            if (set != null) {
+                result.or(set);
+            }
+        }
+        return result;
+    }
+
+    BitSet getTypes(Collection<CardType> types) {
+        BitSet result = new BitSet();
+        for (CardType type : types) {
+            BitSet set = byType.get(type);
+            if (set != null) {
+                result.or(set);
+            }
+        }
+        return result;
+    }
+
+    BitSet getColors(boolean black, boolean blue, boolean green, boolean red, boolean white, boolean colorless) {
+        BitSet result = new BitSet();
+        if (black) {
+            result.or(this.black);
+        }
+        if (blue) {
+            result.or(this.blue);
+        }
+        if (green) {
+            result.or(this.green);
+        }
+        if (red) {
+            result.or(this.red);
+        }
+        if (white) {
+            result.or(this.white);
+        }
+        if (colorless) {
+            result.or(this.colorless);
+        }
+        return result;
+    }
+
+    BitSet getConvertedManaCost(int convertedManaCost) {
+        BitSet set = byConvertedManaCost.get(convertedManaCost);
+        return set == null ? new BitSet() : (BitSet) set.clone();
+    }
+
+    /**
+     * @param field
+     * @param part
+     * @return the cards whose text of the field can contain the part (the
+     * case is ignored), or null if the part can't be searched in the index
+     */
+    BitSet findText(TextField field, String part) {
+        return textIndexes.computeIfAbsent(field, f -> new CardTextIndex(cards.stream().map(f.value).collect(Collectors.toList()))).find(part);
+    }
+
+    int getCardNumber(int index) {
+        return cardNumbers[index];
+    }
+
+    private static List<CardInfo> copyOf(List<CardInfo> cards) {
+        return cards == null ? new ArrayList<>() : new ArrayList<>(cards);
+    }
+}
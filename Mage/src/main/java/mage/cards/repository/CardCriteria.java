@@ -33,9 +33,15 @@ import com.j256.ormlite.stmt.Where;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import mage.cards.repository.CardCatalog.TextField;
 import mage.constants.CardType;
 import mage.constants.Rarity;
+import mage.constants.SubType;
+import mage.constants.SuperType;
 
 /**
  *
@@ -46,6 +52,10 @@ public class CardCriteria {
     private String name;
     private String nameExact;
     private String rules;
+    private String text;
+    private boolean textInNames;
+    private boolean textInTypes;
+    private boolean textInRules;
     private final List<String> setCodes;
     private final List<CardType> types;
     private final List<CardType> notTypes;
@@ -137,6 +147,25 @@ public class CardCriteria {
         return this;
     }
 
+    /**
+     * Searches the text like the deck editor does: the name of the card
+     * contains the text, or each word of the text is contained in a rule or
+     * is a subtype or supertype of the card. The case is ignored.
+     *
+     * @param text
+     * @param inNames
+     * @param inTypes
+     * @param inRules
+     * @return
+     */
+    public CardCriteria text(String text, boolean inNames, boolean inTypes, boolean inRules) {
+        this.text = text;
+        this.textInNames = inNames;
+        this.textInTypes = inTypes;
+        this.textInRules = inRules;
+        return this;
+    }
+
     public CardCriteria start(Long start) {
         this.start = start;
         return this;
@@ -324,10 +353,11 @@ public class CardCriteria {
             where.eq("cardNumber", new SelectArg(0));
         }
 
-        if (start != null) {
+        // the text is matched on the queried cards, see filterText
+        if (start != null && !hasText()) {
             qb.offset(start);
         }
-        if (count != null) {
+        if (count != null && !hasText()) {
             qb.limit(count);
         }
 
@@ -335,4 +365,241 @@ public class CardCriteria {
             qb.orderBy(sortBy, true);
         }
     }
+
+    /**
+     * Applies the criteria to the in-memory catalog
+     *
+     * @param catalog
+     * @return the found cards or null if the criteria can only be answered by
+     * the database (ordered results or patterns with SQL wildcards)
+     */
+    List<CardInfo> search(CardCatalog catalog) {
+        if (sortBy != null || hasWildcards(name) || hasWildcards(nameExact) || hasWildcards(rules)) {
+            return null;
+        }
+        BitSet found = catalog.getSearchable();
+        if (doubleFaced != null) {
+            if (doubleFaced) {
+                found.and(catalog.getDoubleFaced());
+            } else {
+                found.andNot(catalog.getDoubleFaced());
+            }
+        }
+        if (!rarities.isEmpty()) {
+            found.and(catalog.getRarities(rarities));
+        }
+        if (!setCodes.isEmpty()) {
+            found.and(catalog.getSetCodes(setCodes));
+        }
+        if (types.size() != 7 && !types.isEmpty()) {
+            found.and(catalog.getTypes(types));
+        }
+        for (CardType type : notTypes) {
+            found.andNot(catalog.getTypes(Collections.singletonList(type)));
+        }
+        if (hasColorFilter()) {
+            found.and(catalog.getColors(black, blue, green, red, white, colorless));
+        }
+        if (convertedManaCost != null) {
+            found.and(catalog.getConvertedManaCost(convertedManaCost));
+        }
+        andText(found, catalog, TextField.NAME, name);
+        andText(found, catalog, TextField.NAME, nameExact);
+        andText(found, catalog, TextField.RULES, rules);
+        for (String superType : supertypes) {
+            andText(found, catalog, TextField.SUPERTYPES, superType);
+        }
+        for (String subType : subtypes) {
+            andText(found, catalog, TextField.SUBTYPES, subType);
+        }
+        if (hasText()) {
+            found.and(findText(catalog));
+        }
+
+        List<CardInfo> result = new ArrayList<>();
+        long skip = start != null ? start : 0;
+        for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+            if (count != null && result.size() >= count) {
+                break;
+            }
+            if (catalog.getCardNumber(i) < minCardNumber || catalog.getCardNumber(i) > maxCardNumber) {
+                continue;
+            }
+            CardInfo card = catalog.get(i);
+            if (matches(card) && matchesText(card)) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    result.add(card);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean matches(CardInfo card) {
+        if (name != null && !contains(card.name, name)) {
+            return false;
+        }
+        if (nameExact != null && !nameExact.equals(card.name)) {
+            return false;
+        }
+        if (rules != null && !contains(card.rules, rules)) {
+            return false;
+        }
+        for (String superType : supertypes) {
+            if (!contains(card.supertypes, superType)) {
+                return false;
+            }
+        }
+        for (String superType : notSupertypes) {
+            if (contains(card.supertypes, superType)) {
+                return false;
+            }
+        }
+        for (String subType : subtypes) {
+            if (!contains(card.subtypes, subType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Like the query, no colors filter the cards as little as all colors
+     *
+     * @return true if only some of the colors are selected
+     */
+    private boolean hasColorFilter() {
+        boolean all = black && blue && green && red && white && colorless;
+        boolean none = !black && !blue && !green && !red && !white && !colorless;
+        return !all && !none;
+    }
+
+    private static void andText(BitSet found, CardCatalog catalog, TextField field, String part) {
+        if (part != null) {
+            BitSet candidates = catalog.findText(field, part);
+            if (candidates != null) {
+                found.and(candidates);
+            }
+        }
+    }
+
+    private boolean hasText() {
+        return text != null && !text.isEmpty();
+    }
+
+    /**
+     * @param catalog
+     * @return the candidates for the text search, which still have to be
+     * checked with {@link #matchesText(CardInfo)}
+     */
+    private BitSet findText(CardCatalog catalog) {
+        BitSet all = new BitSet();
+        all.set(0, catalog.size());
+        BitSet inWords = (BitSet) all.clone();
+        for (String word : getTextWords()) {
+            BitSet found = new BitSet();
+            if (textInRules) {
+                orText(found, all, catalog.findText(TextField.RULES, word));
+            }
+            if (textInTypes) {
+                orText(found, all, catalog.findText(TextField.SUBTYPES, word));
+                orText(found, all, catalog.findText(TextField.SUPERTYPES, word));
+            }
+            inWords.and(found);
+        }
+        if (textInNames) {
+            orText(inWords, all, catalog.findText(TextField.NAME, text));
+        }
+        return inWords;
+    }
+
+    private static void orText(BitSet found, BitSet all, BitSet candidates) {
+        found.or(candidates != null ? candidates : all);
+    }
+
+    private List<String> getTextWords() {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ENGLISH).split(" ")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private boolean matchesText(CardInfo card) {
+        if (!hasText()) {
+            return true;
+        }
+        if (textInNames && card.name != null && card.name.toLowerCase(Locale.ENGLISH).contains(text.toLowerCase(Locale.ENGLISH))) {
+            return true;
+        }
+        for (String word : getTextWords()) {
+            if (!(textInRules && containsInRules(card, word)) && !(textInTypes && isType(card, word))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsInRules(CardInfo card, String word) {
+        for (String rule : card.getRules()) {
+            if (rule.toLowerCase(Locale.ENGLISH).contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isType(CardInfo card, String word) {
+        for (SubType subType : card.getSubTypes()) {
+            if (subType.toString().equalsIgnoreCase(word)) {
+                return true;
+            }
+        }
+        for (SuperType superType : card.getSupertypes()) {
+            if (superType.toString().equalsIgnoreCase(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Matches the text search on cards found in the database and applies the
+     * start and count of the criteria afterwards
+     *
+     * @param cards
+     * @return
+     */
+    List<CardInfo> filterText(List<CardInfo> cards) {
+        if (!hasText()) {
+            return cards;
+        }
+        List<CardInfo> result = new ArrayList<>();
+        long skip = start != null ? start : 0;
+        for (CardInfo card : cards) {
+            if (count != null && result.size() >= count) {
+                break;
+            }
+            if (matchesText(card)) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    result.add(card);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean contains(String value, String part) {
+        return value != null && value.contains(part);
+    }
+
+    private static boolean hasWildcards(String pattern) {
+        return pattern != null && (pattern.indexOf('%') >= 0 || pattern.indexOf('_') >= 0);
+    }
 }
@@ -29,11 +29,10 @@ package mage.cards.repository;
 
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
-import com.j256.ormlite.dao.GenericRawResults;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.stmt.DeleteBuilder;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.SelectArg;
-import com.j256.ormlite.stmt.Where;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.support.DatabaseConnection;
 import com.j256.ormlite.table.TableUtils;
@@ -41,7 +40,6 @@ import java.io.File;
 import java.sql.SQLException;
 import java.util.*;
 import mage.cards.CardSetInfo;
-import mage.constants.CardType;
 import mage.constants.SetType;
 import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
@@ -55,12 +53,13 @@ public enum CardRepository {
 
     private static final String JDBC_URL = "jdbc:h2:file:./db/cards.h2;AUTO_SERVER=TRUE";
     private static final String VERSION_ENTITY_NAME = "card";
+    private static final String SET_FINGERPRINT_ENTITY_PREFIX = "cardSet:";
     // raise this if db structure was changed
     private static final long CARD_DB_VERSION = 51;
     // raise this if new cards were added to the server
     private static final long CARD_CONTENT_VERSION = 106;
     private Dao<CardInfo, Object> cardDao;
-    private Set<String> classNames;
+    private volatile CardCatalog catalog;
 
     CardRepository() {
         File file = new File("db");
@@ -73,6 +72,10 @@ public enum CardRepository {
 
             if (obsolete) {
                 TableUtils.dropTable(connectionSource, CardInfo.class, true);
+                Dao<DatabaseVersion, Object> versionDao = DaoManager.createDao(connectionSource, DatabaseVersion.class);
+                DeleteBuilder<DatabaseVersion, Object> deleteBuilder = versionDao.deleteBuilder();
+                deleteBuilder.where().like("entity", new SelectArg(SET_FINGERPRINT_ENTITY_PREFIX + '%'));
+                deleteBuilder.delete();
             }
 
             TableUtils.createTableIfNotExists(connectionSource, CardInfo.class);
@@ -88,9 +91,6 @@ public enum CardRepository {
                 try {
                     for (CardInfo card : cards) {
                         cardDao.create(card);
-                        if (classNames != null) {
-                            classNames.add(card.getClassName());
-                        }
                     }
                 } catch (SQLException ex) {
                     Logger.getLogger(CardRepository.class).error("Error adding cards to DB - ", ex);
@@ -99,219 +99,76 @@ public enum CardRepository {
             });
         } catch (Exception ex) {
         }
+        synchronized (this) {
+            catalog = null;
+        }
     }
 
-    public boolean cardExists(String className) {
-        try {
-            if (classNames == null) {
-                QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-                qb.distinct().selectColumns("className").where().isNotNull("className");
-                List<CardInfo> results = cardDao.query(qb.prepare());
-                classNames = new TreeSet<>();
-                for (CardInfo card : results) {
-                    classNames.add(card.getClassName());
+    /**
+     * @return the catalog of all cards, built from the DB after cards were
+     * added
+     */
+    private CardCatalog getCatalog() {
+        CardCatalog result = catalog;
+        if (result == null) {
+            synchronized (this) {
+                result = catalog;
+                if (result == null) {
+                    try {
+                        result = new CardCatalog(cardDao.queryForAll());
+                        catalog = result;
+                    } catch (SQLException ex) {
+                        Logger.getLogger(CardRepository.class).error("Error loading cards from DB : " + ex);
+                        return new CardCatalog(Collections.emptyList());
+                    }
                 }
             }
-            return classNames.contains(className);
-        } catch (SQLException ex) {
         }
-        return false;
+        return result;
+    }
+
+    public boolean cardExists(String className) {
+        return getCatalog().classNameExists(className);
     }
 
     public boolean cardExists(CardSetInfo className) {
-        try {
-            if (classNames == null) {
-                QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-                qb.distinct().selectColumns("className").where().isNotNull("className");
-                List<CardInfo> results = cardDao.query(qb.prepare());
-                classNames = new TreeSet<>();
-                for (CardInfo card : results) {
-                    classNames.add(card.getClassName());
-                }
-            }
-            return classNames.contains(className.getName());
-        } catch (SQLException ex) {
-        }
-        return false;
+        return getCatalog().classNameExists(className.getName());
     }
 
     public Set<String> getNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting names from DB : " + ex);
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getNames());
     }
 
     public Set<String> getNonLandNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            qb.where().not().like("types", new SelectArg('%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB : " + ex);
-
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getNonLandNames());
     }
 
     public Set<String> getCreatureNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            qb.where().like("types", new SelectArg('%' + CardType.CREATURE.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting creature names from DB : " + ex);
-
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getCreatureNames());
     }
 
     public Set<String> getArtifactNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            qb.where().like("types", new SelectArg('%' + CardType.ARTIFACT.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting artifact names from DB : " + ex);
-
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getArtifactNames());
     }
 
     public Set<String> getNonLandAndNonCreatureNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            Where where = qb.where();
-            where.and(where.not().like("types", '%' + CardType.CREATURE.name() + '%'), where.not().like("types", '%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land and non-creature names from DB : " + ex);
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getNonLandAndNonCreatureNames());
     }
 
     public Set<String> getNonArtifactAndNonLandNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            Where where = qb.where();
-            where.and(where.not().like("types", '%' + CardType.ARTIFACT.name() + '%'), where.not().like("types", '%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-artifact non-land names from DB : " + ex);
-
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getNonArtifactAndNonLandNames());
     }
 
     public CardInfo findCard(String setCode, String cardNumber) {
-        try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
-            queryBuilder.limit(1L).where().eq("setCode", new SelectArg(setCode)).and().eq("cardNumber", cardNumber).and().eq("nightCard", false);
-            List<CardInfo> result = cardDao.query(queryBuilder.prepare());
-            if (!result.isEmpty()) {
-                return result.get(0);
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error finding card from DB : " + ex);
-
-        }
-        return null;
+        return getCatalog().findCard(setCode, cardNumber);
     }
 
     public List<String> getClassNames() {
-        List<String> names = new ArrayList<>();
-        try {
-            List<CardInfo> results = cardDao.queryForAll();
-            for (CardInfo card : results) {
-                names.add(card.getClassName());
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting classnames from DB : " + ex);
-        }
-        return names;
+        return new ArrayList<>(getCatalog().getClassNames());
     }
 
     public List<CardInfo> getMissingCards(List<String> classNames) {
-        try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
-            queryBuilder.where().not().in("className", classNames);
-
-            return cardDao.query(queryBuilder.prepare());
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting missing cards from DB : " + ex);
-
-        }
-
-        return Collections.emptyList();
+        return getCatalog().getCardsWithoutClassNames(classNames);
     }
 
     /**
@@ -386,42 +243,66 @@ public enum CardRepository {
     }
 
     public List<CardInfo> findCards(String name) {
+        return getCatalog().findCards(name);
+    }
+
+    public List<CardInfo> findCardsCaseInsensitive(String name) {
+        return getCatalog().findCardsCaseInsensitive(name);
+    }
+
+    public List<CardInfo> findCards(CardCriteria criteria) {
+        List<CardInfo> cards = criteria.search(getCatalog());
+        if (cards != null) {
+            return cards;
+        }
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
-            queryBuilder.where().eq("name", new SelectArg(name));
-            return cardDao.query(queryBuilder.prepare());
+            criteria.buildQuery(queryBuilder);
+
+            return criteria.filterText(cardDao.query(queryBuilder.prepare()));
         } catch (SQLException ex) {
+            Logger.getLogger(CardRepository.class).error("Error during execution of card repository query statement", ex);
         }
         return Collections.emptyList();
     }
 
-    public List<CardInfo> findCardsCaseInsensitive(String name) {
+    /**
+     * @return the fingerprints of the sets whose cards were all added to the
+     * DB, by set code
+     */
+    public Map<String, Long> getSetFingerprints() {
+        Map<String, Long> fingerprints = new HashMap<>();
         try {
-            String sqlName = name.toLowerCase(Locale.ENGLISH).replaceAll("\'", "\'\'");
-            GenericRawResults<CardInfo> rawResults = cardDao.queryRaw(
-                    "select * from " + CardRepository.VERSION_ENTITY_NAME + " where lower(name) = '" + sqlName + '\'',
-                    cardDao.getRawRowMapper());
-            List<CardInfo> result = new ArrayList<>();
-            for (CardInfo cardinfo : rawResults) {
-                result.add(cardinfo);
+            Dao<DatabaseVersion, Object> versionDao = DaoManager.createDao(cardDao.getConnectionSource(), DatabaseVersion.class);
+            QueryBuilder<DatabaseVersion, Object> queryBuilder = versionDao.queryBuilder();
+            queryBuilder.where().like("entity", new SelectArg(SET_FINGERPRINT_ENTITY_PREFIX + '%'));
+            for (DatabaseVersion version : versionDao.query(queryBuilder.prepare())) {
+                fingerprints.put(version.getEntity().substring(SET_FINGERPRINT_ENTITY_PREFIX.length()), version.getVersion());
             }
-            return result;
         } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement", ex);
+            Logger.getLogger(CardRepository.class).error("Error getting set fingerprints from DB : " + ex);
         }
-        return Collections.emptyList();
+        return fingerprints;
     }
 
-    public List<CardInfo> findCards(CardCriteria criteria) {
+    public void setSetFingerprints(final Map<String, Long> fingerprints) {
         try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
-            criteria.buildQuery(queryBuilder);
-
-            return cardDao.query(queryBuilder.prepare());
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of card repository query statement", ex);
+            Dao<DatabaseVersion, Object> versionDao = DaoManager.createDao(cardDao.getConnectionSource(), DatabaseVersion.class);
+            versionDao.callBatchTasks(() -> {
+                for (Map.Entry<String, Long> entry : fingerprints.entrySet()) {
+                    DeleteBuilder<DatabaseVersion, Object> deleteBuilder = versionDao.deleteBuilder();
+                    deleteBuilder.where().eq("entity", new SelectArg(SET_FINGERPRINT_ENTITY_PREFIX + entry.getKey()));
+                    deleteBuilder.delete();
+                    DatabaseVersion version = new DatabaseVersion();
+                    version.setEntity(SET_FINGERPRINT_ENTITY_PREFIX + entry.getKey());
+                    version.setVersion(entry.getValue());
+                    versionDao.create(version);
+                }
+                return null;
+            });
+        } catch (Exception ex) {
+            Logger.getLogger(CardRepository.class).error("Error setting set fingerprints - ", ex);
         }
-        return Collections.emptyList();
     }
 
     public long getContentVersionFromDB() {
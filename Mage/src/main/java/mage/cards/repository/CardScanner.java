@@ -27,8 +27,16 @@
  */
 package mage.cards.repository;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 import mage.cards.*;
 import org.apache.log4j.Logger;
 
@@ -42,6 +50,10 @@ public final class CardScanner {
 
     private static final Logger logger = Logger.getLogger(CardScanner.class);
 
+    private static final int BATCH_SIZE = 1000;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     public static void scan() {
         scan(null);
     }
@@ -52,7 +64,6 @@ public final class CardScanner {
         }
         scanned = true;
 
-        List<CardInfo> cardsToAdd = new ArrayList<>();
         int setsUpdatedCount = 0;
         int setsAddedCount = 0;
 
@@ -81,29 +92,148 @@ public final class CardScanner {
             logger.info("DB: need to update " + setsUpdatedCount + " sets");
         }
 
+        // sets with the same cards in the same build as at the last scan are skipped
+        Map<String, Long> knownFingerprints = CardRepository.instance.getSetFingerprints();
+        Map<String, Long> fingerprints = new HashMap<>();
+        Map<String, Long> checksums = new HashMap<>();
+        List<MissingCard> missingCards = new ArrayList<>();
         for (ExpansionSet set : Sets.getInstance().values()) {
+            long fingerprint = getFingerprint(set, checksums);
+            if (Long.valueOf(fingerprint).equals(knownFingerprints.get(set.getCode()))) {
+                continue;
+            }
+            fingerprints.put(set.getCode(), fingerprint);
             for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
                 if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber()) == null) {
-                    Card card = CardImpl.createCard(
-                            setInfo.getCardClass(),
-                            new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
-                            errorsList);
-                    if (card != null) {
-                        cardsToAdd.add(new CardInfo(card));
-                        if (card instanceof SplitCard) {
-                            SplitCard splitCard = (SplitCard) card;
-                            cardsToAdd.add(new CardInfo(splitCard.getLeftHalfCard()));
-                            cardsToAdd.add(new CardInfo(splitCard.getRightHalfCard()));
-                        }
-                    }
+                    missingCards.add(new MissingCard(set, setInfo));
                 }
             }
         }
 
+        // card constructors are independent, so the missing cards are created in parallel
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        Set<String> failedSetCodes = ConcurrentHashMap.newKeySet();
+        List<CardInfo> cardsToAdd = missingCards.parallelStream()
+                .flatMap(missingCard -> createCardInfos(missingCard, errors, failedSetCodes).stream())
+                .collect(Collectors.toList());
+        if (errorsList != null) {
+            errorsList.addAll(errors);
+        }
+
         if (!cardsToAdd.isEmpty()) {
             logger.info("DB: need to add " + cardsToAdd.size() + " new cards");
-            CardRepository.instance.addCards(cardsToAdd);
+            for (int i = 0; i < cardsToAdd.size(); i += BATCH_SIZE) {
+                CardRepository.instance.addCards(cardsToAdd.subList(i, Math.min(i + BATCH_SIZE, cardsToAdd.size())));
+            }
+        }
+        fingerprints.keySet().removeAll(failedSetCodes);
+        if (!fingerprints.isEmpty()) {
+            CardRepository.instance.setSetFingerprints(fingerprints);
         }
         CardRepository.instance.setContentVersion(CardRepository.instance.getContentVersionConstant());
     }
+
+    private static List<CardInfo> createCardInfos(MissingCard missingCard, List<String> errors, Set<String> failedSetCodes) {
+        ExpansionSet set = missingCard.set;
+        ExpansionSet.SetCardInfo setInfo = missingCard.setInfo;
+        Card card = CardImpl.createCard(
+                setInfo.getCardClass(),
+                new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
+                errors);
+        if (card == null) {
+            failedSetCodes.add(set.getCode());
+            return Collections.emptyList();
+        }
+        List<CardInfo> cardInfos = new ArrayList<>(1);
+        cardInfos.add(new CardInfo(card));
+        if (card instanceof SplitCard) {
+            SplitCard splitCard = (SplitCard) card;
+            cardInfos.add(new CardInfo(splitCard.getLeftHalfCard()));
+            cardInfos.add(new CardInfo(splitCard.getRightHalfCard()));
+        }
+        return cardInfos;
+    }
+
+    /**
+     * The fingerprint changes with the cards of the set, the content version
+     * of the card DB and the jar of the set classes
+     *
+     * @param set
+     * @param checksums checksums of the already read jars
+     * @return
+     */
+    private static long getFingerprint(ExpansionSet set, Map<String, Long> checksums) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = hash(hash, String.valueOf(CardRepository.instance.getContentVersionConstant()));
+        hash = hash(hash, set.getCode());
+        hash = hash(hash, String.valueOf(set.getSetCardInfo().size()));
+        hash = hash(hash, String.valueOf(getChecksum(set.getClass(), checksums)));
+        for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
+            hash = hash(hash, setInfo.getName());
+            hash = hash(hash, setInfo.getCardNumber());
+            hash = hash(hash, String.valueOf(setInfo.getRarity()));
+            hash = hash(hash, setInfo.getCardClass().getName());
+            CardGraphicInfo graphicInfo = setInfo.getGraphicInfo();
+            if (graphicInfo != null) {
+                hash = hash(hash, String.valueOf(graphicInfo.getFrameStyle()));
+                hash = hash(hash, String.valueOf(graphicInfo.getUsesVariousArt()));
+            }
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+            }
+        }
+        // separator, so "ab" + "c" differs from "a" + "bc"
+        return (hash ^ 0xffff) * FNV_PRIME;
+    }
+
+    /**
+     * @param clazz
+     * @param checksums
+     * @return the CRC32 of the jar the class was loaded from or 0 if it
+     * wasn't loaded from a jar
+     */
+    private static long getChecksum(Class<?> clazz, Map<String, Long> checksums) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return 0;
+        }
+        File file;
+        try {
+            file = new File(codeSource.getLocation().toURI());
+        } catch (URISyntaxException | IllegalArgumentException ex) {
+            return 0;
+        }
+        if (!file.isFile()) {
+            return 0;
+        }
+        return checksums.computeIfAbsent(file.getAbsolutePath(), path -> {
+            try (CheckedInputStream in = new CheckedInputStream(new FileInputStream(file), new CRC32())) {
+                byte[] buffer = new byte[65536];
+                while (in.read(buffer) >= 0) {
+                    // the stream updates the checksum
+                }
+                return in.getChecksum().getValue();
+            } catch (IOException ex) {
+                logger.warn("Can't read " + path + " : " + ex);
+                return 0L;
+            }
+        });
+    }
+
+    private static final class MissingCard {
+
+        private final ExpansionSet set;
+        private final ExpansionSet.SetCardInfo setInfo;
+
+        private MissingCard(ExpansionSet set, ExpansionSet.SetCardInfo setInfo) {
+            this.set = set;
+            this.setInfo = setInfo;
+        }
+    }
 }
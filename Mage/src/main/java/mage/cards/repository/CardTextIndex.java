@@ -0,0 +1,182 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.cards.repository;
+
+import java.util.*;
+
+/**
+ * Inverted index of the words of card texts (names, rules, types). It finds
+ * the cards whose text can contain a search text without scanning the text
+ * of all cards. The words are indexed in lower case, so the found cards are
+ * candidates that have to be checked with the exact (case sensitive) match.
+ */
+final class CardTextIndex {
+
+    private final int size;
+    private final String[] words;
+    private final int[][] postings;
+
+    /**
+     * @param texts the texts of the cards by card index, null for cards
+     * without text
+     */
+    CardTextIndex(List<String> texts) {
+        this.size = texts.size();
+        Map<String, IntList> index = new HashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            if (text != null) {
+                for (Token token : tokenize(text)) {
+                    IntList cards = index.computeIfAbsent(token.word, k -> new IntList());
+                    // texts are added in card order, so a repeated word of a card is always the last entry
+                    if (cards.size == 0 || cards.values[cards.size - 1] != i) {
+                        cards.add(i);
+                    }
+                }
+            }
+        }
+        this.words = index.keySet().toArray(new String[index.size()]);
+        Arrays.sort(this.words);
+        this.postings = new int[words.length][];
+        for (int i = 0; i < words.length; i++) {
+            postings[i] = index.get(words[i]).toArray();
+        }
+    }
+
+    /**
+     * Returns the cards whose text can contain the part, ignoring the case.
+     * The first and last word of the part may be a partial word, all other
+     * words have to be complete words of the text.
+     *
+     * @param part
+     * @return the candidates or null if the part has no words to search for
+     */
+    BitSet find(String part) {
+        List<Token> tokens = tokenize(part);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        BitSet result = null;
+        for (Token token : tokens) {
+            BitSet found = find(token);
+            if (result == null) {
+                result = found;
+            } else {
+                result.and(found);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private BitSet find(Token token) {
+        BitSet found = new BitSet(size);
+        if (token.completeStart && token.completeEnd) {
+            int index = Arrays.binarySearch(words, token.word);
+            if (index >= 0) {
+                addPostings(found, index);
+            }
+        } else if (token.completeStart) {
+            // words with the prefix are a range of the sorted words
+            for (int index = firstIndexOf(token.word); index < words.length && words[index].startsWith(token.word); index++) {
+                addPostings(found, index);
+            }
+        } else {
+            for (int index = 0; index < words.length; index++) {
+                if (token.completeEnd ? words[index].endsWith(token.word) : words[index].contains(token.word)) {
+                    addPostings(found, index);
+                }
+            }
+        }
+        return found;
+    }
+
+    private int firstIndexOf(String prefix) {
+        int index = Arrays.binarySearch(words, prefix);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private void addPostings(BitSet found, int index) {
+        for (int card : postings[index]) {
+            found.set(card);
+        }
+    }
+
+    /**
+     * Splits the text into its words of letters and digits. A word is
+     * complete at its start (end) if it isn't at the start (end) of the text.
+     */
+    private static List<Token> tokenize(String text) {
+        String lowerCaseText = text.toLowerCase(Locale.ENGLISH);
+        List<Token> tokens = new ArrayList<>();
+        int length = lowerCaseText.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordCharacter = i < length && Character.isLetterOrDigit(lowerCaseText.charAt(i));
+            if (wordCharacter && start < 0) {
+                start = i;
+            } else if (!wordCharacter && start >= 0) {
+                tokens.add(new Token(lowerCaseText.substring(start, i), start > 0, i < length));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Token {
+
+        private final String word;
+        private final boolean completeStart;
+        private final boolean completeEnd;
+
+        Token(String word, boolean completeStart, boolean completeEnd) {
+            this.word = word;
+            this.completeStart = completeStart;
+            this.completeEnd = completeEnd;
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
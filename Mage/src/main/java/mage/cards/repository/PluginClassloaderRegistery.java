@@ -30,6 +30,7 @@ package mage.cards.repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import mage.cards.CardFactories;
 
 /**
  * Stores a list of classloaders for plugins that define custom sets.
@@ -41,6 +42,7 @@ public final class PluginClassloaderRegistery {
 
     public static void registerPluginClassloader(ClassLoader cl) {
         pluginClassloaders.add(cl);
+        CardFactories.register(cl);
     }
 
     public static Class<?> forName(String className) throws ClassNotFoundException {
@@ -85,5 +85,6 @@ public enum PlayerAction {
     HOLD_PRIORITY,
     UNHOLD_PRIORITY,
     VIEW_LIMITED_DECK,
-    TOGGLE_RECORD_MACRO
+    TOGGLE_RECORD_MACRO,
+    REQUEST_FULL_GAME_VIEW
 }
@@ -8,6 +8,7 @@ package mage.game;
 import java.io.Serializable;
 import mage.ObjectColor;
 import mage.cards.Card;
+import mage.util.Copyable;
 import mage.util.SubTypeList;
 
 /**
@@ -16,7 +17,7 @@ import mage.util.SubTypeList;
  *
  * @author LevelX2
  */
-public class CardAttribute implements Serializable {
+public class CardAttribute implements Serializable, Copyable<CardAttribute> {
 
     protected ObjectColor color;
     protected SubTypeList subtype;
@@ -28,10 +29,12 @@ public class CardAttribute implements Serializable {
     }
 
     public CardAttribute(CardAttribute cardAttribute) {
-        this.color = cardAttribute.color;
-        this.subtype = cardAttribute.subtype;
+        this.color = cardAttribute.color.copy();
+        this.subtype = new SubTypeList();
+        this.subtype.addAll(cardAttribute.subtype);
     }
 
+    @Override
     public CardAttribute copy() {
         return new CardAttribute(this);
     }
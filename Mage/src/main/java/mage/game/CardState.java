@@ -7,12 +7,13 @@ import mage.abilities.Abilities;
 import mage.abilities.AbilitiesImpl;
 import mage.abilities.Ability;
 import mage.counters.Counters;
+import mage.util.Copyable;
 
 /**
  *
  * @author BetaSteward
  */
-public class CardState implements Serializable {
+public class CardState implements Serializable, Copyable<CardState> {
 
     protected boolean faceDown;
     protected Map<String, String> info;
@@ -41,6 +42,7 @@ public class CardState implements Serializable {
         }
     }
 
+    @Override
     public CardState copy() {
         return new CardState(this);
     }
@@ -309,21 +309,70 @@ public abstract class GameImpl implements Game, Serializable {
         if (objectId == null) {
             return null;
         }
-        MageObject object;
-        if (state.getBattlefield().containsPermanent(objectId)) {
-            object = state.getBattlefield().getPermanent(objectId);
-            state.setZone(objectId, Zone.BATTLEFIELD); // why is this neccessary?
+        MageObject object = state.getBattlefield().getPermanent(objectId);
+        if (object != null) {
+            if (state.getZone(objectId) != Zone.BATTLEFIELD) {
+                state.setZone(objectId, Zone.BATTLEFIELD); // why is this neccessary?
+            }
             return object;
         }
-        for (StackObject item : state.getStack()) {
-            if (item.getId().equals(objectId)) {
-                state.setZone(objectId, Zone.STACK); // why is this neccessary?
-                return item;
-            }
-            if (item.getSourceId().equals(objectId) && item instanceof Spell) {
-                return item;
+        // the zone of the object tells where to look, so the other zones don't have to be searched
+        Zone zone = state.getZone(objectId);
+        if (zone != null) {
+            switch (zone) {
+                case STACK:
+                    object = getStackObjectOrSpell(objectId);
+                    break;
+                case COMMAND:
+                    object = getEmblem(objectId);
+                    break;
+                case BATTLEFIELD:
+                    break;
+                default:
+                    object = getCard(objectId);
             }
         }
+        if (object == null) {
+            return searchObject(objectId);
+        }
+        if (isTestMode()) {
+            checkFoundObject(objectId, zone, object, searchObject(objectId));
+        }
+        return object;
+    }
+
+    private boolean isTestMode() {
+        return gameOptions != null && gameOptions.testMode;
+    }
+
+    /**
+     * Compares an object found by its zone with the object found by searching
+     * all zones, used in test mode to check the zones of the objects
+     */
+    private void checkFoundObject(UUID objectId, Zone zone, MageObject object, MageObject searchedObject) {
+        if (object != searchedObject) {
+            // an error, so the game loop doesn't catch it and the test fails
+            throw new AssertionError("Object " + objectId + " found by zone " + zone
+                    + " differs from searched object: " + object + " <> " + searchedObject);
+        }
+    }
+
+    /**
+     * Searches the object in all zones, used if the zone of the object is not
+     * known or the object was not found in it
+     *
+     * @param objectId
+     * @return
+     */
+    private MageObject searchObject(UUID objectId) {
+        MageObject object;
+        if (state.getBattlefield().containsPermanent(objectId)) {
+            return state.getBattlefield().getPermanent(objectId);
+        }
+        StackObject stackObject = getStackObjectOrSpell(objectId);
+        if (stackObject != null) {
+            return stackObject;
+        }
 
         for (CommandObject commandObject : state.getCommand()) {
             if (commandObject.getId().equals(objectId)) {
@@ -346,6 +395,21 @@ public abstract class GameImpl implements Game, Serializable {
         return object;
     }
 
+    private StackObject getStackObjectOrSpell(UUID objectId) {
+        for (StackObject item : state.getStack()) {
+            if (item.getId().equals(objectId)) {
+                if (state.getZone(objectId) != Zone.STACK) {
+                    state.setZone(objectId, Zone.STACK); // why is this neccessary?
+                }
+                return item;
+            }
+            if (item.getSourceId().equals(objectId) && item instanceof Spell) {
+                return item;
+            }
+        }
+        return null;
+    }
+
     /**
      * Get permanent, card or command object (not spell or ability on the stack)
      *
@@ -357,6 +421,37 @@ public abstract class GameImpl implements Game, Serializable {
         if (objectId == null) {
             return null;
         }
+        if (state.getBattlefield().containsPermanent(objectId)) {
+            return state.getBattlefield().getPermanent(objectId);
+        }
+        // can be an ability of a sacrificed Token trying to get it's source object
+        MageObject object = getLastKnownInformation(objectId, Zone.BATTLEFIELD);
+        if (object != null) {
+            return object;
+        }
+        // only objects in the command zone have to be searched in it
+        Zone zone = state.getZone(objectId);
+        if (zone == null || zone == Zone.COMMAND) {
+            return searchBaseObject(objectId);
+        }
+        object = getCard(objectId);
+        if (object == null) {
+            return searchBaseObject(objectId);
+        }
+        if (isTestMode()) {
+            checkFoundObject(objectId, zone, object, searchBaseObject(objectId));
+        }
+        return object;
+    }
+
+    /**
+     * Searches the permanent, card or command object in all zones, used if
+     * the zone of the object is not known or the object was not found in it
+     *
+     * @param objectId
+     * @return
+     */
+    private MageObject searchBaseObject(UUID objectId) {
         MageObject object;
         if (state.getBattlefield().containsPermanent(objectId)) {
             object = state.getBattlefield().getPermanent(objectId);
@@ -58,6 +58,7 @@ import mage.players.PlayerList;
 import mage.players.Players;
 import mage.target.Target;
 import mage.util.Copyable;
+import mage.util.CopyOnWriteStateMap;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
@@ -76,6 +77,19 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     private static final ThreadLocalStringBuilder threadLocalBuilder = new ThreadLocalStringBuilder(1024);
 
+    /**
+     * If true, the continuous effects are only applied again if an event was
+     * fired, a value was set or the layered effects were changed since they
+     * were applied the last time
+     */
+    public static final boolean DEFAULT_INCREMENTAL_EFFECTS = Boolean.getBoolean("xmage.effects.incremental");
+    /**
+     * If true, skipped applications of the continuous effects are done anyway
+     * and an AssertionError is thrown if the result differs from the skipped
+     * one. Only meant for debugging and tests, the error ends the game.
+     */
+    public static final boolean DEFAULT_INCREMENTAL_EFFECTS_CHECK = Boolean.getBoolean("xmage.effects.incrementalCheck");
+
     private final Players players;
     private final PlayerList playerList;
     private UUID choosingPlayerId; // player that makes a choice at game start
@@ -112,11 +126,19 @@ public class GameState implements Serializable, Copyable<GameState> {
     private Map<String, Object> values = new HashMap<>();
     private Map<UUID, Zone> zones = new HashMap<>();
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
-    private Map<UUID, CardState> cardState = new HashMap<>();
-    private Map<UUID, CardAttribute> cardAttribute = new HashMap<>();
+    private CopyOnWriteStateMap<UUID, CardState> cardState = new CopyOnWriteStateMap<>();
+    private CopyOnWriteStateMap<UUID, CardAttribute> cardAttribute = new CopyOnWriteStateMap<>();
     private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
     private Map<UUID, Card> copiedCards = new HashMap<>();
     private int permanentOrderNumber;
+    private boolean incrementalEffects = DEFAULT_INCREMENTAL_EFFECTS;
+    private boolean incrementalEffectsCheck = DEFAULT_INCREMENTAL_EFFECTS_CHECK;
+    private long changeCounter;
+    private long appliedChangeCounter = -1;
+    private int appliedEffectsVersion;
+    private long stateVersion;
+    // counters the state version was taken from: change counter, versions of the effects lists and of the mana pools
+    private transient long[] stateVersionCounters;
 
     public GameState() {
         players = new Players();
@@ -179,15 +201,17 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         this.zones.putAll(state.zones);
         this.simultaneousEvents.addAll(state.simultaneousEvents);
-        for (Map.Entry<UUID, CardState> entry : state.cardState.entrySet()) {
-            cardState.put(entry.getKey(), entry.getValue().copy());
-        }
-        for (Map.Entry<UUID, CardAttribute> entry : state.cardAttribute.entrySet()) {
-            cardAttribute.put(entry.getKey(), entry.getValue().copy());
-        }
+        // card states are only copied if they are changed later (copy on write)
+        this.cardState = state.cardState.copy();
+        this.cardAttribute = state.cardAttribute.copy();
         this.zoneChangeCounter.putAll(state.zoneChangeCounter);
         this.copiedCards.putAll(state.copiedCards);
         this.permanentOrderNumber = state.permanentOrderNumber;
+        this.incrementalEffects = state.incrementalEffects;
+        this.incrementalEffectsCheck = state.incrementalEffectsCheck;
+        // the copied list of layered effects has its own version, so the effects are applied again the next time
+        this.changeCounter = state.changeCounter;
+        this.stateVersion = state.stateVersion;
     }
 
     public void restoreForRollBack(GameState state) {
@@ -230,6 +254,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.zoneChangeCounter = state.zoneChangeCounter;
         this.copiedCards = state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
+        this.appliedChangeCounter = -1;
     }
 
     @Override
@@ -548,6 +573,71 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void applyEffects(Game game) {
+        if (incrementalEffects && isEffectsApplied(game)) {
+            if (incrementalEffectsCheck) {
+                String skippedValue = getEffectsValue(game);
+                applyAllEffects(game);
+                String appliedValue = getEffectsValue(game);
+                if (!skippedValue.equals(appliedValue)) {
+                    // an error, so the game loop doesn't catch it and the test fails
+                    throw new AssertionError("Skipped application of continuous effects differs from full application (turn "
+                            + turnNum + ", step " + turn.getStepType() + ")\n"
+                            + "skipped: " + skippedValue + "\napplied: " + appliedValue);
+                }
+            }
+            return;
+        }
+        applyAllEffects(game);
+    }
+
+    /**
+     * Returns a number that changes each time something happens that can
+     * change what the players are able to play: events (e.g. tapping and
+     * untapping permanents), zone changes, added or removed continuous effects
+     * and added or removed mana of the mana pools. It is not restored with the
+     * state, so values from before a restore must not be used any more.
+     *
+     * The counters of these changes are compared one by one with the ones of
+     * the last call, the version only goes up, so it can't return to an older
+     * value.
+     *
+     * @return
+     */
+    public long getStateVersion() {
+        int[] effectsVersions = effects.getEffectsVersions();
+        long[] counters = new long[1 + effectsVersions.length + players.size()];
+        int i = 0;
+        counters[i++] = changeCounter;
+        for (int effectsVersion : effectsVersions) {
+            counters[i++] = effectsVersion;
+        }
+        for (Player player : players.values()) {
+            counters[i++] = player.getManaPool().getVersion();
+        }
+        if (!Arrays.equals(counters, stateVersionCounters)) {
+            stateVersionCounters = counters;
+            stateVersion++;
+        }
+        return stateVersion;
+    }
+
+    /**
+     * Checks if nothing happened since the continuous effects were applied the
+     * last time, so applying them again would give the same result.
+     *
+     * @param game
+     * @return
+     */
+    private boolean isEffectsApplied(Game game) {
+        if (appliedChangeCounter != changeCounter) {
+            return false;
+        }
+        // discarded effects have to be removed, that changes the version of the layered effects
+        effects.removeInactiveEffects(game);
+        return appliedEffectsVersion == effects.getLayeredEffectsVersion();
+    }
+
+    private void applyAllEffects(Game game) {
         for (Player player : players.values()) {
             player.reset();
         }
@@ -556,6 +646,46 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.reset();
         effects.apply(game);
         combat.checkForRemoveFromCombat(game);
+        appliedChangeCounter = changeCounter;
+        appliedEffectsVersion = effects.getLayeredEffectsVersion();
+    }
+
+    /**
+     * Returns the characteristics of permanents and players the continuous
+     * effects can change, used to check the incremental application of the
+     * effects.
+     *
+     * @param game
+     * @return
+     */
+    private String getEffectsValue(Game game) {
+        StringBuilder sb = threadLocalBuilder.get();
+        for (Player player : players.values()) {
+            sb.append("player").append(player.getId()).append(player.getLandsPerTurn()).append(player.getMaxHandSize())
+                    .append(player.isCanGainLife()).append(player.isCanLoseLife()).append(player.canLoseByZeroOrLessLife())
+                    .append(player.canPlayCardsFromGraveyard()).append(player.getAbilities().size());
+        }
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            sb.append("permanent").append(permanent.getId()).append(permanent.getValue(this))
+                    .append(permanent.getCardType()).append(permanent.getColor(game));
+        }
+        return sb.toString();
+    }
+
+    public boolean isIncrementalEffects() {
+        return incrementalEffects;
+    }
+
+    public void setIncrementalEffects(boolean incrementalEffects) {
+        this.incrementalEffects = incrementalEffects;
+    }
+
+    public boolean isIncrementalEffectsCheck() {
+        return incrementalEffectsCheck;
+    }
+
+    public void setIncrementalEffectsCheck(boolean incrementalEffectsCheck) {
+        this.incrementalEffectsCheck = incrementalEffectsCheck;
     }
 
     // Remove End of Combat effects
@@ -647,17 +777,20 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public Zone getZone(UUID id) {
-        if (id != null && zones.containsKey(id)) {
-            return zones.get(id);
+        if (id == null) {
+            return null;
         }
-        return null;
+        return zones.get(id);
     }
 
     public void setZone(UUID id, Zone zone) {
-        zones.put(id, zone);
+        if (zones.put(id, zone) != zone) {
+            changeCounter++;
+        }
     }
 
     public void addSimultaneousEvent(GameEvent event, Game game) {
+        changeCounter++;
         simultaneousEvents.add(event);
     }
 
@@ -680,6 +813,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        changeCounter++;
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -690,6 +824,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public boolean replaceEvent(GameEvent event, Ability targetAbility, Game game) {
+        changeCounter++;
         if (effects.preventedByRuleModification(event, targetAbility, game, false)) {
             return true;
         }
@@ -915,6 +1050,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @param value
      */
     public void setValue(String valueId, Object value) {
+        changeCounter++;
         values.put(valueId, value);
     }
 
@@ -934,6 +1070,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      */
     public Abilities<ActivatedAbility> getActivatedOtherAbilities(UUID objectId, Zone zone) {
         if (cardState.containsKey(objectId)) {
+            // the abilities are used for the game objects, they must belong to this state
             return cardState.get(objectId).getAbilities().getActivatedAbilities(zone);
         }
         return null;
@@ -998,8 +1135,11 @@ public class GameState implements Serializable, Copyable<GameState> {
         triggers.removeAllGainedAbilities();
         getContinuousEffects().removeAllTemporaryEffects();
         this.setLegendaryRuleActive(true);
-        for (CardState state : cardState.values()) {
-            state.clearAbilities();
+        for (UUID cardId : cardState.keySet()) {
+            // only get (and copy) the states that have something to clear
+            if (!cardState.peek(cardId).getAbilities().isEmpty()) {
+                cardState.get(cardId).clearAbilities();
+            }
         }
         cardAttribute.clear();
     }
@@ -1063,10 +1203,28 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public CardState getCardState(UUID cardId) {
-        cardState.putIfAbsent(cardId, new CardState());
-        return cardState.get(cardId);
+        return cardState.computeIfAbsent(cardId, k -> new CardState());
+    }
+
+    /**
+     * Returns the state of the card for read only access, use
+     * {@link #getCardState(UUID)} to change it
+     *
+     * @param cardId
+     * @return the state or null if the card has none yet
+     */
+    public CardState peekCardState(UUID cardId) {
+        return cardState.peek(cardId);
     }
 
+    /**
+     * Returns the changed attributes of the card, the callers of getColor and
+     * getSubtype of the card change them. Use
+     * {@link #getCreateCardAttribute(Card, Game)} to create them.
+     *
+     * @param cardId
+     * @return
+     */
     public CardAttribute getCardAttribute(UUID cardId) {
         return cardAttribute.get(cardId);
     }
@@ -27,64 +27,371 @@
  */
 package mage.game;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import mage.util.ByteDelta;
+import mage.util.Copier;
 import org.apache.log4j.Logger;
 
 /**
+ * History of saved game states (bookmarks for undo and the states of a saved
+ * game for replays).
+ *
+ * The most recent states are kept as objects. Older states are stored
+ * serialized and compressed: every n-th of them completely (keyframe), the
+ * others as delta to the last keyframe. If the encoded states use more than
+ * the memory cap, the oldest keyframe with its deltas is dropped and can't be
+ * restored anymore.
+ *
+ * The states are compressed in the background, so saving a state doesn't delay
+ * the game much. They are serialized on the thread of the game though, a saved
+ * state still shares some objects with the game (e.g. values and looked at
+ * cards) that the game changes. A state waiting for its encoding is kept as
+ * object.
  *
  * @author BetaSteward_at_googlemail.com
  */
 public class GameStates implements Serializable {
 
     private static final Logger logger = Logger.getLogger(GameStates.class);
-    private final List<GameState> states;
+
+    public static final int DEFAULT_LIVE_STATES = Integer.getInteger("xmage.gameStates.liveStates", 5);
+    public static final int DEFAULT_KEYFRAME_INTERVAL = Integer.getInteger("xmage.gameStates.keyframeInterval", 10);
+    public static final long DEFAULT_MAX_ENCODED_BYTES = Long.getLong("xmage.gameStates.maxEncodedBytes", 32L * 1024 * 1024);
+
+    private static final Executor defaultEncoder = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2), runnable -> {
+                Thread thread = new Thread(runnable, "GAME_STATES_ENCODER");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final List<SavedState> states;
+    private final int liveStates;
+    private final int keyframeInterval;
+    private final long maxEncodedBytes;
+    private long encodedBytes;
+
+    // keyframe that new deltas are based on
+    private int keyframeIndex = -1;
+    private transient byte[] keyframeData;
+    // the states before this index are encoded (or can't be encoded)
+    private int encodedStates;
+    private transient Executor encoder;
+    private transient boolean encoding;
 
     public GameStates() {
-        this.states = new LinkedList<>();
+        this(DEFAULT_LIVE_STATES, DEFAULT_KEYFRAME_INTERVAL, DEFAULT_MAX_ENCODED_BYTES);
+    }
+
+    /**
+     *
+     * @param liveStates number of most recent states kept as objects
+     * @param keyframeInterval number of encoded states per keyframe
+     * @param maxEncodedBytes memory cap for the encoded states
+     */
+    public GameStates(int liveStates, int keyframeInterval, long maxEncodedBytes) {
+        this(liveStates, keyframeInterval, maxEncodedBytes, defaultEncoder);
+    }
+
+    /**
+     *
+     * @param liveStates number of most recent states kept as objects
+     * @param keyframeInterval number of encoded states per keyframe
+     * @param maxEncodedBytes memory cap for the encoded states
+     * @param encoder runs the encoding of the older states
+     */
+    public GameStates(int liveStates, int keyframeInterval, long maxEncodedBytes, Executor encoder) {
+        this.states = new ArrayList<>();
+        this.liveStates = Math.max(1, liveStates);
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+        this.maxEncodedBytes = maxEncodedBytes;
+        this.encoder = encoder;
     }
 
-    public void save(GameState gameState) {
-//        states.add(new Copier<GameState>().copyCompressed(gameState));
-        states.add(gameState.copy());
+    public synchronized void save(GameState gameState) {
+        states.add(new SavedState(gameState.copy()));
         logger.trace("Saved game state: " + states.size());
+        for (int i = encodedStates; i < states.size() - liveStates; i++) {
+            states.get(i).serialize();
+        }
+        if (!encoding && hasStateToEncode()) {
+            encoding = true;
+            getEncoder().execute(this::encodeStates);
+        }
     }
 
-    public int getSize() {
+    public synchronized int getSize() {
         return states.size();
     }
 
-    public GameState rollback(int index) {
+    public synchronized GameState rollback(int index) {
         if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index + 1) {
-                states.remove(states.size() - 1);
-            }
+            removeFrom(index + 1);
             logger.trace("Rolling back state: " + index);
-//            return new Copier<GameState>().uncompressCopy(states.get(index));
-            return states.get(index);
+            GameState state = get(index);
+            SavedState savedState = states.get(index);
+            if (state != null && savedState.state == state) {
+                // the game goes on with the objects of the returned state, the saved one must not change with them
+                savedState.state = state.copy();
+            }
+            return state;
         }
         return null;
     }
 
-    public int remove(int index) {
+    public synchronized int remove(int index) {
         if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index && !states.isEmpty()) {
-                states.remove(states.size() - 1);
-            }
+            removeFrom(index);
         }
         return states.size();
     }
 
-    public GameState get(int index) {
+    public synchronized GameState get(int index) {
         if (index < states.size()) {
-//             return new Copier<GameState>().uncompressCopy(states.get(index));
-            return states.get(index);
+            SavedState savedState = states.get(index);
+            if (savedState.state != null) {
+                return savedState.state;
+            }
+            if (savedState.data != null) {
+                return decode(index);
+            }
+            logger.debug("Game state " + index + " was dropped (memory cap of saved states reached)");
         }
         return null;
     }
 
-    public void clear() {
+    public synchronized void clear() {
         states.clear();
+        encodedBytes = 0;
+        keyframeIndex = -1;
+        keyframeData = null;
+        encodedStates = 0;
+    }
+
+    /**
+     *
+     * @return bytes used by the encoded (not live) states
+     */
+    public synchronized long getEncodedBytes() {
+        return encodedBytes;
+    }
+
+    private Executor getEncoder() {
+        // not available after deserialization of the game states
+        if (encoder == null) {
+            encoder = defaultEncoder;
+        }
+        return encoder;
+    }
+
+    private boolean hasStateToEncode() {
+        return encodedStates < states.size() - liveStates;
+    }
+
+    private void removeFrom(int index) {
+        while (states.size() > index) {
+            SavedState removed = states.remove(states.size() - 1);
+            if (removed.data != null) {
+                encodedBytes -= removed.data.length;
+            }
+        }
+        if (keyframeIndex >= states.size()) {
+            keyframeIndex = -1;
+            keyframeData = null;
+        }
+        encodedStates = Math.min(encodedStates, states.size());
+    }
+
+    /**
+     * Encodes the states that are older than the live states one after the
+     * other. The states were serialized by {@link #save(GameState)}, the delta
+     * and compression are done without holding the lock, a result is dropped
+     * if the states were changed meanwhile.
+     */
+    private void encodeStates() {
+        try {
+            while (true) {
+                int index;
+                GameState state;
+                byte[] data;
+                int baseIndex;
+                byte[] baseData;
+                synchronized (this) {
+                    if (!hasStateToEncode()) {
+                        encoding = false;
+                        return;
+                    }
+                    index = encodedStates;
+                    SavedState savedState = states.get(index);
+                    state = savedState.state;
+                    data = savedState.serializedData;
+                    if (state == null || data == null) {
+                        // not serializable, it's kept as object
+                        encodedStates++;
+                        continue;
+                    }
+                    baseIndex = keyframeIndex;
+                    baseData = getKeyframeData();
+                }
+                boolean keyframe = baseIndex < 0 || index - baseIndex >= keyframeInterval || baseData == null;
+                byte[] encoded = compress(keyframe ? data : ByteDelta.encode(baseData, data));
+                synchronized (this) {
+                    if (index != encodedStates || states.get(index).state != state || keyframeIndex != baseIndex) {
+                        // rolled back or cleared meanwhile
+                        continue;
+                    }
+                    encodedStates++;
+                    store(index, encoded, keyframe ? data : null, baseIndex);
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Can't encode game states", ex);
+            synchronized (this) {
+                // the remaining states are kept as objects
+                encodedStates = states.size();
+                encoding = false;
+            }
+        }
+    }
+
+    private static byte[] serialize(GameState state) {
+        try {
+            // null if not serializable, it's kept as object then
+            return new Copier<GameState>().serialize(state);
+        } catch (RuntimeException ex) {
+            logger.debug("Can't serialize game state", ex);
+            return null;
+        }
+    }
+
+    /**
+     * @param index
+     * @param encoded
+     * @param keyframeData the complete serialized state if it is a keyframe
+     * @param baseIndex keyframe of the delta
+     */
+    private void store(int index, byte[] encoded, byte[] keyframeData, int baseIndex) {
+        SavedState savedState = states.get(index);
+        savedState.data = encoded;
+        if (keyframeData != null) {
+            savedState.keyframeIndex = -1;
+            this.keyframeIndex = index;
+            this.keyframeData = keyframeData;
+        } else {
+            savedState.keyframeIndex = baseIndex;
+        }
+        savedState.state = null;
+        savedState.serializedData = null;
+        encodedBytes += encoded.length;
+        if (encodedBytes > maxEncodedBytes) {
+            dropOldestKeyframe();
+        }
+    }
+
+    private GameState decode(int index) {
+        SavedState savedState = states.get(index);
+        try {
+            byte[] data = uncompress(savedState.data);
+            if (savedState.keyframeIndex >= 0) {
+                SavedState keyframe = states.get(savedState.keyframeIndex);
+                if (keyframe.data == null) {
+                    return null;
+                }
+                data = ByteDelta.apply(uncompress(keyframe.data), data);
+            }
+            return new Copier<GameState>().deserialize(data);
+        } catch (IOException ex) {
+            logger.error("Can't decode game state " + index, ex);
+        }
+        return null;
+    }
+
+    private void dropOldestKeyframe() {
+        for (int i = 0; i < states.size(); i++) {
+            SavedState savedState = states.get(i);
+            if (savedState.data != null && savedState.keyframeIndex < 0) {
+                for (int j = i; j < states.size(); j++) {
+                    SavedState dropped = states.get(j);
+                    if (j == i || dropped.keyframeIndex == i) {
+                        encodedBytes -= dropped.data.length;
+                        dropped.data = null;
+                    }
+                }
+                if (keyframeIndex == i) {
+                    keyframeIndex = -1;
+                    keyframeData = null;
+                }
+                logger.debug("Dropped saved game states starting at " + i + " (memory cap of saved states reached)");
+                return;
+            }
+        }
+    }
+
+    private byte[] getKeyframeData() throws IOException {
+        // not available after deserialization of the game states
+        if (keyframeData == null && keyframeIndex >= 0 && states.get(keyframeIndex).data != null) {
+            keyframeData = uncompress(states.get(keyframeIndex).data);
+        }
+        return keyframeData;
+    }
+
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+    }
+
+    private static byte[] compress(byte[] data) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(bos)) {
+            out.write(data);
+        }
+        return bos.toByteArray();
+    }
+
+    private static byte[] uncompress(byte[] data) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length * 4);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                bos.write(buffer, 0, read);
+            }
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * Saved state, either as object or encoded (complete if keyframeIndex is
+     * -1, otherwise as delta to the keyframe)
+     */
+    private static class SavedState implements Serializable {
+
+        private GameState state;
+        private byte[] data;
+        private int keyframeIndex = -1;
+        // the state serialized for the encoding, null if not serializable
+        private transient byte[] serializedData;
+        private transient boolean serialized;
+
+        SavedState(GameState state) {
+            this.state = state;
+        }
+
+        void serialize() {
+            if (!serialized && state != null) {
+                serializedData = GameStates.serialize(state);
+                serialized = true;
+            }
+        }
     }
 }
@@ -27,6 +27,9 @@
  */
 package mage.game.command.emblems;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import mage.abilities.Ability;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -83,6 +86,11 @@ class VenserTheSojournerSpellCastTriggeredAbility extends TriggeredAbilityImpl {
         this.rememberSource = ability.rememberSource;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.SPELL_CAST;
@@ -43,19 +43,32 @@ public class BoosterDraft extends DraftImpl {
 
     @Override
     public void start() {
-        while (!isAbort() && boosterNum < numberBoosters) {
+        nextBooster();
+    }
+
+    protected void nextBooster() {
+        if (!isAbort() && boosterNum < numberBoosters) {
             openBooster();
-            while (!isAbort() && pickCards()) {
+            nextPick();
+        } else {
+            endDraft();
+        }
+    }
+
+    protected void nextPick() {
+        if (!isAbort() && pickCards()) {
+            whenPicked(() -> {
                 if (boosterNum % 2 == 1) {
                     passLeft();
                 } else {
                     passRight();
                 }
                 fireUpdatePlayersEvent();
-            }
+                nextPick();
+            });
+        } else {
+            nextBooster();
         }
-        resetBufferedCards();
-        this.fireEndDraftEvent();
     }
 
 }
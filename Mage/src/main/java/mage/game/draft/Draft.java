@@ -33,6 +33,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import mage.MageItem;
 import mage.cards.ExpansionSet;
 import mage.game.events.Listener;
@@ -75,4 +76,12 @@ public interface Draft extends MageItem, Serializable {
     boolean isAbort();
     void setAbort(boolean abort);
 
+    /**
+     * Sets the executor that runs the steps of the draft after the players
+     * picked their cards
+     *
+     * @param executor
+     */
+    void setExecutor(Executor executor);
+
 }
@@ -28,6 +28,9 @@
 package mage.game.draft;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import mage.cards.Card;
 import mage.cards.ExpansionSet;
 import mage.game.draft.DraftOptions.TimingOption;
@@ -35,6 +38,7 @@ import mage.game.events.*;
 import mage.game.events.TableEvent.EventType;
 import mage.players.Player;
 import mage.players.PlayerList;
+import org.apache.log4j.Logger;
 
 /**
  *
@@ -42,6 +46,8 @@ import mage.players.PlayerList;
  */
 public abstract class DraftImpl implements Draft {
 
+    private static final Logger logger = Logger.getLogger(DraftImpl.class);
+
     protected final UUID id;
     protected final Map<UUID, DraftPlayer> players = new LinkedHashMap<>();
     protected final PlayerList table = new PlayerList();
@@ -57,6 +63,11 @@ public abstract class DraftImpl implements Draft {
     protected boolean abort = false;
     protected boolean started = false;
 
+    protected transient Executor executor = ForkJoinPool.commonPool();
+    // completed if all players picked or the draft was aborted
+    protected transient CompletableFuture<Object> picked = CompletableFuture.completedFuture(null);
+    protected transient CompletableFuture<Void> aborted = new CompletableFuture<>();
+
     protected transient TableEventSource tableEventSource = new TableEventSource();
     protected transient PlayerQueryEventSource playerQueryEventSource = new PlayerQueryEventSource();
 
@@ -114,7 +125,7 @@ public abstract class DraftImpl implements Draft {
                 table.setCurrent(currentId);
             }
             if (oldDraftPlayer.isPicking()) {
-                newDraftPlayer.setPicking();
+                newDraftPlayer.setPicking(oldDraftPlayer);
                 if (!newDraftPlayer.getBooster().isEmpty()) {
                     newDraftPlayer.getPlayer().pickCard(newDraftPlayer.getBooster(), newDraftPlayer.getDeck(), this);
                 }
@@ -233,34 +244,56 @@ public abstract class DraftImpl implements Draft {
         fireUpdatePlayersEvent();
     }
 
+    /**
+     * Asks all players for their next pick, use {@link #whenPicked(Runnable)}
+     * to continue the draft after the picks
+     *
+     * @return false if the boosters are empty
+     */
     protected boolean pickCards() {
         cardNum++;
         for (DraftPlayer player : players.values()) {
             if (player.getBooster().isEmpty()) {
                 return false;
             }
-            player.setPicking();
-            player.getPlayer().pickCard(player.getBooster(), player.getDeck(), this);
-        }
-        synchronized (this) {
-            while (!donePicking()) {
-                try {
-                    this.wait();
-                } catch (InterruptedException ex) {
-                }
-            }
         }
+        askForPicks();
         return true;
     }
 
-    protected boolean donePicking() {
-        if (isAbort()) {
-            return true;
+    protected void askForPicks() {
+        List<CompletableFuture<Void>> picks = new ArrayList<>();
+        for (DraftPlayer player : players.values()) {
+            picks.add(player.setPicking());
+        }
+        // computer players pick right away, so the picks have to be awaited before asking the players
+        picked = CompletableFuture.anyOf(CompletableFuture.allOf(picks.toArray(new CompletableFuture[picks.size()])), aborted);
+        for (DraftPlayer player : players.values()) {
+            player.getPlayer().pickCard(player.getBooster(), player.getDeck(), this);
         }
-        return players.values()
-                .stream()
-                .noneMatch(DraftPlayer::isPicking);
+    }
+
+    /**
+     * Runs the next step of the draft with the executor after all players
+     * picked. No thread waits for the picks, an aborted draft has no next
+     * step.
+     *
+     * @param step
+     */
+    protected void whenPicked(Runnable step) {
+        picked.thenRunAsync(() -> {
+            if (!isAbort()) {
+                step.run();
+            }
+        }, executor).exceptionally(ex -> {
+            logger.fatal("Error in draft " + id, ex);
+            return null;
+        });
+    }
 
+    protected void endDraft() {
+        resetBufferedCards();
+        this.fireEndDraftEvent();
     }
 
     @Override
@@ -305,14 +338,11 @@ public abstract class DraftImpl implements Draft {
         if (player.isPicking()) {
             for (Card card : player.booster) {
                 if (card.getId().equals(cardId)) {
+                    // the last pick continues the draft, that may ask the player for the next pick right away
                     player.addPick(card, hiddenCards);
-                    player.booster.remove(card);
-                    break;
+                    return true;
                 }
             }
-            synchronized (this) {
-                this.notifyAll();
-            }
         }
         return !player.isPicking();
     }
@@ -325,6 +355,14 @@ public abstract class DraftImpl implements Draft {
     @Override
     public void setAbort(boolean abort) {
         this.abort = abort;
+        if (abort) {
+            aborted.complete(null);
+        }
+    }
+
+    @Override
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
     }
 
     @Override
@@ -32,6 +32,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import mage.cards.Card;
 import mage.cards.decks.Deck;
 import mage.players.Player;
@@ -49,6 +50,7 @@ public class DraftPlayer {
     protected boolean picking;
     protected boolean joined = false;
     protected Set<UUID> hiddenCards;
+    protected CompletableFuture<Void> pick = CompletableFuture.completedFuture(null);
 
     public DraftPlayer(Player player) {
         id = UUID.randomUUID();
@@ -93,6 +95,7 @@ public class DraftPlayer {
             booster.remove(card);
         }
         picking = false;
+        pick.complete(null);
     }
 
 //    public void openBooster(ExpansionSet set) {
@@ -113,8 +116,24 @@ public class DraftPlayer {
         }
     }
 
-    public void setPicking() {
+    /**
+     * @return completed by the next pick of the player
+     */
+    public CompletableFuture<Void> setPicking() {
         picking = true;
+        pick = new CompletableFuture<>();
+        return pick;
+    }
+
+    /**
+     * The player continues the picking of the replaced player, the pick
+     * completes the future of the replaced player
+     *
+     * @param replacedPlayer
+     */
+    public void setPicking(DraftPlayer replacedPlayer) {
+        picking = true;
+        pick = replacedPlayer.pick;
     }
 
     public boolean isPicking() {
@@ -49,16 +49,29 @@ public class RichManCubeBoosterDraft extends DraftImpl {
     @Override
     public void start() {
         cardNum = 0;
-        while (!isAbort() && cardNum < 36) {
+        nextBooster();
+    }
+
+    protected void nextBooster() {
+        if (!isAbort() && cardNum < 36) {
             openBooster();
             cardNum = 0;
-            while (!isAbort() && pickCards()) {
+            nextPick();
+        } else {
+            endDraft();
+        }
+    }
+
+    protected void nextPick() {
+        if (!isAbort() && pickCards()) {
+            whenPicked(() -> {
                 passLeft();
                 fireUpdatePlayersEvent();
-            }
+                nextPick();
+            });
+        } else {
+            nextBooster();
         }
-        resetBufferedCards();
-        this.fireEndDraftEvent();
     }
 
     @Override
@@ -100,21 +113,10 @@ public class RichManCubeBoosterDraft extends DraftImpl {
     @Override
     protected boolean pickCards() {
         cardNum++;
-        for (DraftPlayer player : players.values()) {
-            if (cardNum > 36) {
-                return false;
-            }
-            player.setPicking();
-            player.getPlayer().pickCard(player.getBooster(), player.getDeck(), this);
-        }
-        synchronized (this) {
-            while (!donePicking()) {
-                try {
-                    this.wait();
-                } catch (InterruptedException ex) {
-                }
-            }
+        if (cardNum > 36) {
+            return false;
         }
+        askForPicks();
         return true;
     }
 
@@ -27,6 +27,9 @@
  */
 package mage.game.permanent.token;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.MageInt;
@@ -73,6 +76,11 @@ class IllusionTokenTriggeredAbility extends TriggeredAbilityImpl {
         return new IllusionTokenTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.TARGETED;
@@ -0,0 +1,644 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+
+package mage.game.tournament.pairing;
+
+import java.util.Arrays;
+
+// MinimumWeightPerfectMatching finds a perfect matching with minimal weight in a complete graph
+// with an even number of vertexes. It's Edmonds' blossom algorithm for maximum weight matching
+// in O(n^3), as described by Galil ("Efficient algorithms for finding maximum matching in graphs")
+// and implemented by Joris van Rantwijk. The weights are converted to (max weight + 1 - weight),
+// so the maximum weight matching of maximum cardinality is the perfect matching with minimal weight.
+// All computations use integers, the vertex duals and the slacks are kept even.
+
+class MinimumWeightPerfectMatching {
+
+    private final int nvertex;
+    private final int nedge;
+
+    // edge k connects edgeFrom[k] and edgeTo[k], endpoint 2k is edgeFrom[k], 2k+1 is edgeTo[k]
+    private final int[] endpoint;
+    private final long[] weight;
+    // endpoints of the edges of a vertex that are not the vertex itself
+    private final int[][] neighbend;
+
+    private final int[] mate;
+    private final int[] label;
+    private final int[] labelend;
+    private final int[] inblossom;
+    private final int[] blossomparent;
+    private final int[][] blossomchilds;
+    private final int[] blossombase;
+    private final int[][] blossomendps;
+    private final int[] bestedge;
+    private final int[][] blossombestedges;
+    private final IntList unusedblossoms = new IntList();
+    private final long[] dualvar;
+    private final boolean[] allowedge;
+    private final IntList queue = new IntList();
+
+    /**
+     * @param w symmetric weights of the edges, the number of vertexes must be
+     * even
+     */
+    MinimumWeightPerfectMatching(long[][] w) {
+        nvertex = w.length;
+        nedge = nvertex * (nvertex - 1) / 2;
+        endpoint = new int[2 * nedge];
+        weight = new long[nedge];
+        long maxWeight = 0;
+        for (int i = 0; i < nvertex; i++) {
+            for (int j = i + 1; j < nvertex; j++) {
+                maxWeight = Math.max(maxWeight, w[i][j]);
+            }
+        }
+        neighbend = new int[nvertex][Math.max(0, nvertex - 1)];
+        int[] neighbours = new int[nvertex];
+        int k = 0;
+        for (int i = 0; i < nvertex; i++) {
+            for (int j = i + 1; j < nvertex; j++) {
+                endpoint[2 * k] = i;
+                endpoint[2 * k + 1] = j;
+                // doubled, so the slacks of the algorithm stay even
+                weight[k] = 2 * (maxWeight + 1 - w[i][j]);
+                neighbend[i][neighbours[i]++] = 2 * k + 1;
+                neighbend[j][neighbours[j]++] = 2 * k;
+                k++;
+            }
+        }
+
+        mate = new int[nvertex];
+        Arrays.fill(mate, -1);
+        label = new int[2 * nvertex];
+        labelend = new int[2 * nvertex];
+        Arrays.fill(labelend, -1);
+        inblossom = new int[nvertex];
+        for (int i = 0; i < nvertex; i++) {
+            inblossom[i] = i;
+        }
+        blossomparent = new int[2 * nvertex];
+        Arrays.fill(blossomparent, -1);
+        blossomchilds = new int[2 * nvertex][];
+        blossombase = new int[2 * nvertex];
+        Arrays.fill(blossombase, -1);
+        for (int i = 0; i < nvertex; i++) {
+            blossombase[i] = i;
+        }
+        blossomendps = new int[2 * nvertex][];
+        bestedge = new int[2 * nvertex];
+        Arrays.fill(bestedge, -1);
+        blossombestedges = new int[2 * nvertex][];
+        for (int b = nvertex; b < 2 * nvertex; b++) {
+            unusedblossoms.add(b);
+        }
+        long maxEdgeWeight = 0;
+        for (long edgeWeight : weight) {
+            maxEdgeWeight = Math.max(maxEdgeWeight, edgeWeight);
+        }
+        dualvar = new long[2 * nvertex];
+        Arrays.fill(dualvar, 0, nvertex, maxEdgeWeight);
+        allowedge = new boolean[nedge];
+
+        match();
+        for (int v = 0; v < nvertex; v++) {
+            if (mate[v] >= 0) {
+                mate[v] = endpoint[mate[v]];
+            }
+        }
+    }
+
+    /**
+     * @return the vertex each vertex is paired with
+     */
+    int[] getMates() {
+        return mate.clone();
+    }
+
+    private long slack(int k) {
+        return dualvar[endpoint[2 * k]] + dualvar[endpoint[2 * k + 1]] - 2 * weight[k];
+    }
+
+    private int[] blossomLeaves(int b) {
+        IntList leaves = new IntList();
+        addBlossomLeaves(b, leaves);
+        return leaves.toArray();
+    }
+
+    private void addBlossomLeaves(int b, IntList leaves) {
+        if (b < nvertex) {
+            leaves.add(b);
+        } else {
+            for (int t : blossomchilds[b]) {
+                addBlossomLeaves(t, leaves);
+            }
+        }
+    }
+
+    // label a vertex or blossom S (1) or T (2), p is the endpoint the label was reached through
+    private void assignLabel(int w, int t, int p) {
+        int b = inblossom[w];
+        label[w] = label[b] = t;
+        labelend[w] = labelend[b] = p;
+        bestedge[w] = bestedge[b] = -1;
+        if (t == 1) {
+            for (int v : blossomLeaves(b)) {
+                queue.add(v);
+            }
+        } else if (t == 2) {
+            int base = blossombase[b];
+            assignLabel(endpoint[mate[base]], 1, mate[base] ^ 1);
+        }
+    }
+
+    // trace back from v and w to find a new blossom or an augmenting path, returns the base of the blossom or -1
+    private int scanBlossom(int v, int w) {
+        IntList path = new IntList();
+        int base = -1;
+        while (v != -1 || w != -1) {
+            int b = inblossom[v];
+            if ((label[b] & 4) != 0) {
+                base = blossombase[b];
+                break;
+            }
+            path.add(b);
+            label[b] = 5;
+            if (labelend[b] == -1) {
+                v = -1;
+            } else {
+                v = endpoint[labelend[b]];
+                b = inblossom[v];
+                v = endpoint[labelend[b]];
+            }
+            if (w != -1) {
+                int t = v;
+                v = w;
+                w = t;
+            }
+        }
+        for (int i = 0; i < path.size; i++) {
+            label[path.items[i]] = 1;
+        }
+        return base;
+    }
+
+    private void addBlossom(int base, int k) {
+        int v = endpoint[2 * k];
+        int w = endpoint[2 * k + 1];
+        int bb = inblossom[base];
+        int bv = inblossom[v];
+        int bw = inblossom[w];
+        int b = unusedblossoms.removeLast();
+        blossombase[b] = base;
+        blossomparent[b] = -1;
+        blossomparent[bb] = b;
+        IntList path = new IntList();
+        IntList endps = new IntList();
+        while (bv != bb) {
+            blossomparent[bv] = b;
+            path.add(bv);
+            endps.add(labelend[bv]);
+            v = endpoint[labelend[bv]];
+            bv = inblossom[v];
+        }
+        path.add(bb);
+        path.reverse();
+        endps.reverse();
+        endps.add(2 * k);
+        while (bw != bb) {
+            blossomparent[bw] = b;
+            path.add(bw);
+            endps.add(labelend[bw] ^ 1);
+            w = endpoint[labelend[bw]];
+            bw = inblossom[w];
+        }
+        blossomchilds[b] = path.toArray();
+        blossomendps[b] = endps.toArray();
+        label[b] = 1;
+        labelend[b] = labelend[bb];
+        dualvar[b] = 0;
+        for (int leaf : blossomLeaves(b)) {
+            if (label[inblossom[leaf]] == 2) {
+                // T vertexes become S vertexes of the new blossom
+                queue.add(leaf);
+            }
+            inblossom[leaf] = b;
+        }
+        // compute the least-slack edges to the neighbouring S blossoms
+        int[] bestedgeto = new int[2 * nvertex];
+        Arrays.fill(bestedgeto, -1);
+        for (int child : blossomchilds[b]) {
+            int[][] nblists;
+            if (blossombestedges[child] == null) {
+                int[] leaves = blossomLeaves(child);
+                nblists = new int[leaves.length][];
+                for (int i = 0; i < leaves.length; i++) {
+                    int[] ends = neighbend[leaves[i]];
+                    nblists[i] = new int[ends.length];
+                    for (int j = 0; j < ends.length; j++) {
+                        nblists[i][j] = ends[j] / 2;
+                    }
+                }
+            } else {
+                nblists = new int[][]{blossombestedges[child]};
+            }
+            for (int[] nblist : nblists) {
+                for (int edge : nblist) {
+                    int j = endpoint[2 * edge + 1];
+                    if (inblossom[j] == b) {
+                        j = endpoint[2 * edge];
+                    }
+                    int bj = inblossom[j];
+                    if (bj != b && label[bj] == 1
+                            && (bestedgeto[bj] == -1 || slack(edge) < slack(bestedgeto[bj]))) {
+                        bestedgeto[bj] = edge;
+                    }
+                }
+            }
+            blossombestedges[child] = null;
+            bestedge[child] = -1;
+        }
+        IntList bestedges = new IntList();
+        for (int edge : bestedgeto) {
+            if (edge != -1) {
+                bestedges.add(edge);
+            }
+        }
+        blossombestedges[b] = bestedges.toArray();
+        bestedge[b] = -1;
+        for (int edge : blossombestedges[b]) {
+            if (bestedge[b] == -1 || slack(edge) < slack(bestedge[b])) {
+                bestedge[b] = edge;
+            }
+        }
+    }
+
+    private void expandBlossom(int b, boolean endstage) {
+        for (int s : blossomchilds[b]) {
+            blossomparent[s] = -1;
+            if (s < nvertex) {
+                inblossom[s] = s;
+            } else if (endstage && dualvar[s] == 0) {
+                expandBlossom(s, endstage);
+            } else {
+                for (int v : blossomLeaves(s)) {
+                    inblossom[v] = s;
+                }
+            }
+        }
+        if (!endstage && label[b] == 2) {
+            // relabel the sub-blossoms on the path from the entry to the base
+            int[] childs = blossomchilds[b];
+            int[] endps = blossomendps[b];
+            int entrychild = inblossom[endpoint[labelend[b] ^ 1]];
+            int j = indexOf(childs, entrychild);
+            int jstep;
+            int endptrick;
+            if ((j & 1) != 0) {
+                j -= childs.length;
+                jstep = 1;
+                endptrick = 0;
+            } else {
+                jstep = -1;
+                endptrick = 1;
+            }
+            int p = labelend[b];
+            while (j != 0) {
+                label[endpoint[p ^ 1]] = 0;
+                label[endpoint[get(endps, j - endptrick) ^ endptrick ^ 1]] = 0;
+                assignLabel(endpoint[p ^ 1], 2, p);
+                allowedge[get(endps, j - endptrick) / 2] = true;
+                j += jstep;
+                p = get(endps, j - endptrick) ^ endptrick;
+                allowedge[p / 2] = true;
+                j += jstep;
+            }
+            int bv = get(childs, j);
+            label[endpoint[p ^ 1]] = label[bv] = 2;
+            labelend[endpoint[p ^ 1]] = labelend[bv] = p;
+            bestedge[bv] = -1;
+            j += jstep;
+            while (get(childs, j) != entrychild) {
+                bv = get(childs, j);
+                if (label[bv] == 1) {
+                    j += jstep;
+                    continue;
+                }
+                int labeled = -1;
+                for (int v : blossomLeaves(bv)) {
+                    if (label[v] != 0) {
+                        labeled = v;
+                        break;
+                    }
+                }
+                if (labeled >= 0) {
+                    label[labeled] = 0;
+                    label[endpoint[mate[blossombase[bv]]]] = 0;
+                    assignLabel(labeled, 2, labelend[labeled]);
+                }
+                j += jstep;
+            }
+        }
+        label[b] = labelend[b] = -1;
+        blossomchilds[b] = blossomendps[b] = null;
+        blossombase[b] = -1;
+        blossombestedges[b] = null;
+        bestedge[b] = -1;
+        unusedblossoms.add(b);
+    }
+
+    // swap matched and unmatched edges on the path through blossom b from vertex v to the base
+    private void augmentBlossom(int b, int v) {
+        int t = v;
+        while (blossomparent[t] != b) {
+            t = blossomparent[t];
+        }
+        if (t >= nvertex) {
+            augmentBlossom(t, v);
+        }
+        int[] childs = blossomchilds[b];
+        int[] endps = blossomendps[b];
+        int i = indexOf(childs, t);
+        int j = i;
+        int jstep;
+        int endptrick;
+        if ((i & 1) != 0) {
+            j -= childs.length;
+            jstep = 1;
+            endptrick = 0;
+        } else {
+            jstep = -1;
+            endptrick = 1;
+        }
+        while (j != 0) {
+            j += jstep;
+            t = get(childs, j);
+            int p = get(endps, j - endptrick) ^ endptrick;
+            if (t >= nvertex) {
+                augmentBlossom(t, endpoint[p]);
+            }
+            j += jstep;
+            t = get(childs, j);
+            if (t >= nvertex) {
+                augmentBlossom(t, endpoint[p ^ 1]);
+            }
+            mate[endpoint[p]] = p ^ 1;
+            mate[endpoint[p ^ 1]] = p;
+        }
+        // rotate, so the new base is the first child
+        blossomchilds[b] = rotate(childs, i);
+        blossomendps[b] = rotate(endps, i);
+        blossombase[b] = blossombase[blossomchilds[b][0]];
+    }
+
+    private void augmentMatching(int k) {
+        int[][] starts = {{endpoint[2 * k], 2 * k + 1}, {endpoint[2 * k + 1], 2 * k}};
+        for (int[] start : starts) {
+            int s = start[0];
+            int p = start[1];
+            while (true) {
+                int bs = inblossom[s];
+                if (bs >= nvertex) {
+                    augmentBlossom(bs, s);
+                }
+                mate[s] = p;
+                if (labelend[bs] == -1) {
+                    break;
+                }
+                int t = endpoint[labelend[bs]];
+                int bt = inblossom[t];
+                s = endpoint[labelend[bt]];
+                int j = endpoint[labelend[bt] ^ 1];
+                if (bt >= nvertex) {
+                    augmentBlossom(bt, j);
+                }
+                mate[j] = labelend[bt];
+                p = labelend[bt] ^ 1;
+            }
+        }
+    }
+
+    private void match() {
+        for (int stage = 0; stage < nvertex; stage++) {
+            Arrays.fill(label, 0);
+            Arrays.fill(bestedge, -1);
+            Arrays.fill(blossombestedges, nvertex, 2 * nvertex, null);
+            Arrays.fill(allowedge, false);
+            queue.size = 0;
+            for (int v = 0; v < nvertex; v++) {
+                if (mate[v] == -1 && label[inblossom[v]] == 0) {
+                    assignLabel(v, 1, -1);
+                }
+            }
+            boolean augmented = false;
+            while (true) {
+                while (queue.size > 0 && !augmented) {
+                    int v = queue.removeLast();
+                    for (int p : neighbend[v]) {
+                        int k = p / 2;
+                        int w = endpoint[p];
+                        if (inblossom[v] == inblossom[w]) {
+                            continue;
+                        }
+                        long kslack = 0;
+                        if (!allowedge[k]) {
+                            kslack = slack(k);
+                            if (kslack <= 0) {
+                                allowedge[k] = true;
+                            }
+                        }
+                        if (allowedge[k]) {
+                            if (label[inblossom[w]] == 0) {
+                                assignLabel(w, 2, p ^ 1);
+                            } else if (label[inblossom[w]] == 1) {
+                                int base = scanBlossom(v, w);
+                                if (base >= 0) {
+                                    addBlossom(base, k);
+                                } else {
+                                    augmentMatching(k);
+                                    augmented = true;
+                                    break;
+                                }
+                            } else if (label[w] == 0) {
+                                label[w] = 2;
+                                labelend[w] = p ^ 1;
+                            }
+                        } else if (label[inblossom[w]] == 1) {
+                            int b = inblossom[v];
+                            if (bestedge[b] == -1 || kslack < slack(bestedge[b])) {
+                                bestedge[b] = k;
+                            }
+                        } else if (label[w] == 0) {
+                            if (bestedge[w] == -1 || kslack < slack(bestedge[w])) {
+                                bestedge[w] = k;
+                            }
+                        }
+                    }
+                }
+                if (augmented) {
+                    break;
+                }
+
+                // no augmenting path, change the duals
+                int deltatype = -1;
+                long delta = 0;
+                int deltaedge = -1;
+                int deltablossom = -1;
+                for (int v = 0; v < nvertex; v++) {
+                    if (label[inblossom[v]] == 0 && bestedge[v] != -1) {
+                        long d = slack(bestedge[v]);
+                        if (deltatype == -1 || d < delta) {
+                            delta = d;
+                            deltatype = 2;
+                            deltaedge = bestedge[v];
+                        }
+                    }
+                }
+                for (int b = 0; b < 2 * nvertex; b++) {
+                    if (blossomparent[b] == -1 && label[b] == 1 && bestedge[b] != -1) {
+                        long d = slack(bestedge[b]) / 2;
+                        if (deltatype == -1 || d < delta) {
+                            delta = d;
+                            deltatype = 3;
+                            deltaedge = bestedge[b];
+                        }
+                    }
+                }
+                for (int b = nvertex; b < 2 * nvertex; b++) {
+                    if (blossombase[b] >= 0 && blossomparent[b] == -1 && label[b] == 2
+                            && (deltatype == -1 || dualvar[b] < delta)) {
+                        delta = dualvar[b];
+                        deltatype = 4;
+                        deltablossom = b;
+                    }
+                }
+                if (deltatype == -1) {
+                    // no further improvement possible, the matching has maximum cardinality
+                    deltatype = 1;
+                    long minDual = Long.MAX_VALUE;
+                    for (int v = 0; v < nvertex; v++) {
+                        minDual = Math.min(minDual, dualvar[v]);
+                    }
+                    delta = Math.max(0, minDual);
+                }
+
+                for (int v = 0; v < nvertex; v++) {
+                    if (label[inblossom[v]] == 1) {
+                        dualvar[v] -= delta;
+                    } else if (label[inblossom[v]] == 2) {
+                        dualvar[v] += delta;
+                    }
+                }
+                for (int b = nvertex; b < 2 * nvertex; b++) {
+                    if (blossombase[b] >= 0 && blossomparent[b] == -1) {
+                        if (label[b] == 1) {
+                            dualvar[b] += delta;
+                        } else if (label[b] == 2) {
+                            dualvar[b] -= delta;
+                        }
+                    }
+                }
+
+                if (deltatype == 1) {
+                    break;
+                } else if (deltatype == 2) {
+                    allowedge[deltaedge] = true;
+                    int i = endpoint[2 * deltaedge];
+                    if (label[inblossom[i]] == 0) {
+                        i = endpoint[2 * deltaedge + 1];
+                    }
+                    queue.add(i);
+                } else if (deltatype == 3) {
+                    allowedge[deltaedge] = true;
+                    queue.add(endpoint[2 * deltaedge]);
+                } else if (deltatype == 4) {
+                    expandBlossom(deltablossom, false);
+                }
+            }
+            if (!augmented) {
+                break;
+            }
+            // expand the S blossoms with zero dual at the end of the stage
+            for (int b = nvertex; b < 2 * nvertex; b++) {
+                if (blossomparent[b] == -1 && blossombase[b] >= 0 && label[b] == 1 && dualvar[b] == 0) {
+                    expandBlossom(b, true);
+                }
+            }
+        }
+    }
+
+    private static int indexOf(int[] items, int item) {
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] == item) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // python like access, negative indexes count from the end
+    private static int get(int[] items, int index) {
+        return items[index < 0 ? index + items.length : index];
+    }
+
+    private static int[] rotate(int[] items, int first) {
+        int[] rotated = new int[items.length];
+        System.arraycopy(items, first, rotated, 0, items.length - first);
+        System.arraycopy(items, 0, rotated, items.length - first, first);
+        return rotated;
+    }
+
+    private static final class IntList {
+
+        private int[] items = new int[16];
+        private int size;
+
+        void add(int item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = item;
+        }
+
+        int removeLast() {
+            return items[--size];
+        }
+
+        void reverse() {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                int t = items[i];
+                items[i] = items[j];
+                items[j] = t;
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+}
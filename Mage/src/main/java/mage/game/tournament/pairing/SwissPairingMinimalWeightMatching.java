@@ -42,8 +42,8 @@ import java.util.*;
 // SwissPairingMinimalWeightMatching creates round pairings for swiss tournament.
 // It assigns weight to each possible pair and searches perfect matching with minimal weight
 // for more details see https://www.leaguevine.com/blog/18/swiss-tournament-scheduling-leaguevines-new-algorithm/
-// This implementation don't use fast minimum weight maximum matching algorithm,
-// it uses brute-force search, so it works reasonably fast only up to 16 players.
+// The matching is found with Edmonds' blossom algorithm (see MinimumWeightPerfectMatching) in O(n^3),
+// so large tournaments are paired in reasonable time.
 
 public class SwissPairingMinimalWeightMatching {
 
@@ -57,6 +57,9 @@ public class SwissPairingMinimalWeightMatching {
     // weight of pairings
     private final int[][] w;
 
+    // pair of each vertex in the matching with minimal weight
+    private final int[] result;
+
     public SwissPairingMinimalWeightMatching(List<TournamentPlayer> players, List<Round> rounds, boolean isLastRound) {
         playersCount = players.size();
 
@@ -206,14 +209,13 @@ public class SwissPairingMinimalWeightMatching {
             }
         }
 
-        // initialize variables for backtrack
-        used = new boolean[n];
-        pairs = new int[n];
-        Arrays.fill(pairs, -1);
-        result = new int[n];
-        weight = 0;
-        minCost = -1;
-        makePairings(0);
+        long[][] weights = new long[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                weights[i][j] = w[i][j];
+            }
+        }
+        result = new MinimumWeightPerfectMatching(weights).getMates();
     }
 
     public RoundPairings getRoundPairings() {
@@ -244,49 +246,6 @@ public class SwissPairingMinimalWeightMatching {
         return new RoundPairings(pairings, playerByes);
     }
 
-    boolean[] used;
-
-    // current pairs
-    int[] pairs;
-    // current weight
-    int weight;
-
-    int[] result;
-    int minCost;
-
-    // backtrack all possible pairings and choose one with minimal weight
-    private void makePairings(int t) {
-        if (t >= n) {
-            if (minCost < 0 || minCost > weight) {
-                minCost = weight;
-                System.arraycopy(pairs, 0, result, 0, n);
-            }
-            return;
-        }
-
-        if (!used[t]) {
-            for (int i = t + 1; i < n; i++) {
-                if (!used[i]) {
-                    pairs[t] = i;
-                    pairs[i] = t;
-                    used[t] = true;
-                    used[i] = true;
-                    weight += w[t][i];
-
-                    makePairings(t + 1);
-
-                    pairs[t] = -1;
-                    pairs[i] = -1;
-                    used[t] = false;
-                    used[i] = false;
-                    weight -= w[t][i];
-                }
-            }
-        } else {
-            makePairings(t + 1);
-        }
-    }
-
     static class PlayerInfo {
         public int id;
 
@@ -65,6 +65,8 @@ public class ManaPool implements Serializable {
 
     private final Set<ManaType> doNotEmptyManaTypes = new HashSet<>();
 
+    private int version; // changes each time mana is added to or removed from the pool
+
     public ManaPool(UUID playerId) {
         this.playerId = playerId;
         autoPayment = true;
@@ -81,6 +83,7 @@ public class ManaPool implements Serializable {
         this.autoPaymentRestricted = pool.autoPaymentRestricted;
         this.unlockedManaType = pool.unlockedManaType;
         this.doNotEmptyManaTypes.addAll(pool.doNotEmptyManaTypes);
+        this.version = pool.version;
     }
 
     public int getRed() {
@@ -134,6 +137,7 @@ public class ManaPool implements Serializable {
         }
 
         if (getConditional(manaType, ability, filter, game, costToPay) > 0) {
+            version++;
             removeConditional(manaType, ability, game, costToPay, usedManaToPay);
             lockManaType(); // pay only one mana if mana payment is set to manually
             return true;
@@ -160,6 +164,7 @@ public class ManaPool implements Serializable {
                 event.setData(mana.getOriginalId().toString());
                 game.fireEvent(event);
                 usedManaToPay.increase(mana.getFirstAvailable());
+                version++;
                 mana.remove(usableManaType);
                 if (mana.count() == 0) { // so no items with count 0 stay in list
                     manaItems.remove(mana);
@@ -217,10 +222,12 @@ public class ManaPool implements Serializable {
     }
 
     public void init() {
+        version++;
         manaItems.clear();
     }
 
     public int emptyPool(Game game) {
+        version++;
         int total = 0;
         Iterator<ManaPoolItem> it = manaItems.iterator();
         while (it.hasNext()) {
@@ -264,6 +271,7 @@ public class ManaPool implements Serializable {
     }
 
     private int payX(Ability ability, Game game) {
+        version++;
         int total = 0;
         Iterator<ManaPoolItem> it = manaItems.iterator();
         while (it.hasNext()) {
@@ -294,6 +302,7 @@ public class ManaPool implements Serializable {
         if (filter == null) {
             return payX(ability, game);
         }
+        version++;
         int total = 0;
         Iterator<ManaPoolItem> it = manaItems.iterator();
         while (it.hasNext()) {
@@ -394,6 +403,7 @@ public class ManaPool implements Serializable {
     public void addMana(Mana manaToAdd, Game game, Ability source, boolean emptyOnTurnsEnd) {
         Mana mana = manaToAdd.copy();
         if (!game.replaceEvent(new ManaEvent(EventType.ADD_MANA, source.getId(), source.getSourceId(), playerId, mana))) {
+            version++;
             if (mana instanceof ConditionalMana) {
                 ManaPoolItem item = new ManaPoolItem((ConditionalMana) mana, source.getSourceObject(game), source.getOriginalId());
                 if (emptyOnTurnsEnd) {
@@ -505,4 +515,14 @@ public class ManaPool implements Serializable {
     public boolean isEmpty() {
         return count() == 0;
     }
+
+    /**
+     * Returns a number that changes each time mana is added to or removed
+     * from the pool.
+     *
+     * @return
+     */
+    public int getVersion() {
+        return version;
+    }
 }
@@ -205,6 +205,12 @@ public abstract class PlayerImpl implements Player, Serializable {
 
     protected List<Designation> designations = new ArrayList<>();
 
+    // last calculated available mana, reused as long as the mana sources don't change
+    private transient long[] manaAvailableFingerprint;
+    private transient ManaOptions manaAvailable;
+    // playable objects, reused as long as the state version of the game doesn't change
+    private transient PlayableCache playableCache;
+
     /**
      * During some steps we can't play anything
      */
@@ -308,6 +314,10 @@ public abstract class PlayerImpl implements Player, Serializable {
         this.payManaMode = player.payManaMode;
 
         this.designations.addAll(player.designations);
+
+        // the cached options are never changed, so they can be shared with the copy
+        this.manaAvailableFingerprint = player.manaAvailableFingerprint;
+        this.manaAvailable = player.manaAvailable;
     }
 
     @Override
@@ -345,6 +355,7 @@ public abstract class PlayerImpl implements Player, Serializable {
         this.maxAttackedBy = player.getMaxAttackedBy();
         this.manaPool = player.getManaPool().copy();
         this.turns = player.getTurns();
+        this.playableCache = null;
 
         this.range = player.getRange();
         this.canGainLife = player.isCanGainLife();
@@ -2534,6 +2545,11 @@ public abstract class PlayerImpl implements Player, Serializable {
             }
         }
 
+        long[] fingerprint = ManaOptions.getFingerprint(sourceWithoutManaCosts, sourceWithCosts, game);
+        if (manaAvailable != null && Arrays.equals(fingerprint, manaAvailableFingerprint)) {
+            return manaAvailable.copy();
+        }
+
         for (Abilities<ActivatedManaAbilityImpl> manaAbilities : sourceWithoutManaCosts) {
             available.addMana(manaAbilities, game);
         }
@@ -2544,6 +2560,8 @@ public abstract class PlayerImpl implements Player, Serializable {
         // remove duplicated variants (see ManaOptionsTest for info - when thats rises)
         available.removeDuplicated();
 
+        manaAvailableFingerprint = fingerprint;
+        manaAvailable = available.copy();
         return available;
     }
 
@@ -2795,36 +2813,46 @@ public abstract class PlayerImpl implements Player, Serializable {
 
     @Override
     public List<Ability> getPlayable(Game game, boolean hidden) {
-        List<Ability> playable = new ArrayList<>();
+        if (shouldSkipGettingPlayable(game)) {
+            return new ArrayList<>();
+        }
+        List<Ability> cached = getPlayableCache(game).getPlayable(hidden);
+        if (cached != null) {
+            return new ArrayList<>(cached);
+        }
+        List<Ability> playable = calculatePlayable(game, hidden);
+        getPlayableCache(game).setPlayable(hidden, new ArrayList<>(playable));
+        return playable;
+    }
 
-        if (!shouldSkipGettingPlayable(game)) {
+    private List<Ability> calculatePlayable(Game game, boolean hidden) {
+        List<Ability> playable = new ArrayList<>();
 
-            ManaOptions availableMana = getManaAvailable(game);
-            availableMana.addMana(manaPool.getMana());
-            for (ConditionalMana conditionalMana : manaPool.getConditionalMana()) {
-                availableMana.addMana(conditionalMana);
-            }
-            if (hidden) {
-                for (Card card : hand.getUniqueCards(game)) {
-                    for (Ability ability : card.getAbilities(game)) { // gets this activated ability from hand? (Morph?)
-                        if (ability.getZone().match(Zone.HAND)) {
-                            if (ability instanceof ActivatedAbility) {
-                                if (!(ability instanceof PlayLandAbility)
-                                        || !game.getContinuousEffects().preventedByRuleModification(GameEvent.getEvent(GameEvent.EventType.PLAY_LAND, ability.getSourceId(), ability.getSourceId(), playerId), ability, game, true)) {
-                                    if (canPlay((ActivatedAbility) ability, availableMana, card, game)) {
-                                        playable.add(ability);
-                                    }
+        ManaOptions availableMana = getManaAvailable(game);
+        availableMana.addMana(manaPool.getMana());
+        for (ConditionalMana conditionalMana : manaPool.getConditionalMana()) {
+            availableMana.addMana(conditionalMana);
+        }
+        if (hidden) {
+            for (Card card : hand.getUniqueCards(game)) {
+                for (Ability ability : card.getAbilities(game)) { // gets this activated ability from hand? (Morph?)
+                    if (ability.getZone().match(Zone.HAND)) {
+                        if (ability instanceof ActivatedAbility) {
+                            if (!(ability instanceof PlayLandAbility)
+                                    || !game.getContinuousEffects().preventedByRuleModification(GameEvent.getEvent(GameEvent.EventType.PLAY_LAND, ability.getSourceId(), ability.getSourceId(), playerId), ability, game, true)) {
+                                if (canPlay((ActivatedAbility) ability, availableMana, card, game)) {
+                                    playable.add(ability);
                                 }
-                            } else if (ability instanceof AlternativeSourceCosts) {
-                                if (card.isLand()) {
-                                    if (canLandPlayAlternateSourceCostsAbility(card, availableMana, ability, game)) { // e.g. Land with Morph
-                                        playable.add(ability);
-                                    }
-                                } else if (card.isCreature()) { // e.g. makes a card available for play by Morph if the card may not be cast normally
-                                    if (!playable.contains(card.getSpellAbility())) {
-                                        if (((AlternativeSourceCosts) ability).isAvailable(card.getSpellAbility(), game)) {
-                                            playable.add(card.getSpellAbility());
-                                        }
+                            }
+                        } else if (ability instanceof AlternativeSourceCosts) {
+                            if (card.isLand()) {
+                                if (canLandPlayAlternateSourceCostsAbility(card, availableMana, ability, game)) { // e.g. Land with Morph
+                                    playable.add(ability);
+                                }
+                            } else if (card.isCreature()) { // e.g. makes a card available for play by Morph if the card may not be cast normally
+                                if (!playable.contains(card.getSpellAbility())) {
+                                    if (((AlternativeSourceCosts) ability).isAvailable(card.getSpellAbility(), game)) {
+                                        playable.add(card.getSpellAbility());
                                     }
                                 }
                             }
@@ -2832,97 +2860,97 @@ public abstract class PlayerImpl implements Player, Serializable {
                     }
                 }
             }
-            for (Card card : graveyard.getUniqueCards(game)) {
-                // Handle split cards in graveyard to support Aftermath
-                if (card instanceof SplitCard) {
-                    SplitCard splitCard = (SplitCard) card;
-                    getPlayableFromGraveyardCard(game, splitCard.getLeftHalfCard(), splitCard.getLeftHalfCard().getAbilities(), availableMana, playable);
-                    getPlayableFromGraveyardCard(game, splitCard.getRightHalfCard(), splitCard.getRightHalfCard().getAbilities(), availableMana, playable);
-                    getPlayableFromGraveyardCard(game, splitCard, splitCard.getSharedAbilities(), availableMana, playable);
-                } else {
-                    getPlayableFromGraveyardCard(game, card, card.getAbilities(), availableMana, playable);
-                }
+        }
+        for (Card card : graveyard.getUniqueCards(game)) {
+            // Handle split cards in graveyard to support Aftermath
+            if (card instanceof SplitCard) {
+                SplitCard splitCard = (SplitCard) card;
+                getPlayableFromGraveyardCard(game, splitCard.getLeftHalfCard(), splitCard.getLeftHalfCard().getAbilities(), availableMana, playable);
+                getPlayableFromGraveyardCard(game, splitCard.getRightHalfCard(), splitCard.getRightHalfCard().getAbilities(), availableMana, playable);
+                getPlayableFromGraveyardCard(game, splitCard, splitCard.getSharedAbilities(), availableMana, playable);
+            } else {
+                getPlayableFromGraveyardCard(game, card, card.getAbilities(), availableMana, playable);
+            }
 
-                // Other activated abilities
-                LinkedHashMap<UUID, ActivatedAbility> useable = new LinkedHashMap<>();
-                getOtherUseableActivatedAbilities(card, Zone.GRAVEYARD, game, useable);
-                for (Ability ability : useable.values()) {
-                    playable.add(ability);
-                }
+            // Other activated abilities
+            LinkedHashMap<UUID, ActivatedAbility> useable = new LinkedHashMap<>();
+            getOtherUseableActivatedAbilities(card, Zone.GRAVEYARD, game, useable);
+            for (Ability ability : useable.values()) {
+                playable.add(ability);
             }
-            for (ExileZone exile : game.getExile().getExileZones()) {
-                for (Card card : exile.getCards(game)) {
-                    if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, this.getId(), game)) {
-                        for (Ability ability : card.getAbilities()) {
-                            if (ability.getZone().match(Zone.HAND)) {
-                                ability.setControllerId(this.getId()); // controller must be set for case owner != caster
-                                if (ability instanceof ActivatedAbility) {
-                                    if (((ActivatedAbility) ability).canActivate(playerId, game)) {
-                                        playable.add(ability);
-                                    }
+        }
+        for (ExileZone exile : game.getExile().getExileZones()) {
+            for (Card card : exile.getCards(game)) {
+                if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, this.getId(), game)) {
+                    for (Ability ability : card.getAbilities()) {
+                        if (ability.getZone().match(Zone.HAND)) {
+                            ability.setControllerId(this.getId()); // controller must be set for case owner != caster
+                            if (ability instanceof ActivatedAbility) {
+                                if (((ActivatedAbility) ability).canActivate(playerId, game)) {
+                                    playable.add(ability);
                                 }
-                                ability.setControllerId(card.getOwnerId());
                             }
+                            ability.setControllerId(card.getOwnerId());
                         }
                     }
                 }
             }
-            // Check to play revealed cards
-            for (Cards cards : game.getState().getRevealed().values()) {
-                for (Card card : cards.getCards(game)) {
-                    if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, this.getId(), game)) {
-                        for (ActivatedAbility ability : card.getAbilities().getActivatedAbilities(Zone.HAND)) {
-                            if (ability instanceof SpellAbility || ability instanceof PlayLandAbility) {
-                                playable.add(ability);
-                            }
+        }
+        // Check to play revealed cards
+        for (Cards cards : game.getState().getRevealed().values()) {
+            for (Card card : cards.getCards(game)) {
+                if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, this.getId(), game)) {
+                    for (ActivatedAbility ability : card.getAbilities().getActivatedAbilities(Zone.HAND)) {
+                        if (ability instanceof SpellAbility || ability instanceof PlayLandAbility) {
+                            playable.add(ability);
                         }
                     }
                 }
             }
-            // check if it's possible to play the top card of a library
-            for (UUID playerInRangeId : game.getState().getPlayersInRange(getId(), game)) {
-                Player player = game.getPlayer(playerInRangeId);
-                if (player != null) {
-                    if (/*player.isTopCardRevealed() &&*/player.getLibrary().hasCards()) {
-                        Card card = player.getLibrary().getFromTop(game);
-                        if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, getId(), game)) {
-                            for (ActivatedAbility ability : card.getAbilities().getActivatedAbilities(Zone.HAND)) {
-                                if (ability instanceof SpellAbility || ability instanceof PlayLandAbility) {
-                                    playable.add(ability);
-                                }
+        }
+        // check if it's possible to play the top card of a library
+        for (UUID playerInRangeId : game.getState().getPlayersInRange(getId(), game)) {
+            Player player = game.getPlayer(playerInRangeId);
+            if (player != null) {
+                if (/*player.isTopCardRevealed() &&*/player.getLibrary().hasCards()) {
+                    Card card = player.getLibrary().getFromTop(game);
+                    if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, getId(), game)) {
+                        for (ActivatedAbility ability : card.getAbilities().getActivatedAbilities(Zone.HAND)) {
+                            if (ability instanceof SpellAbility || ability instanceof PlayLandAbility) {
+                                playable.add(ability);
                             }
                         }
                     }
                 }
             }
-            // eliminate duplicate activated abilities
-            Map<String, Ability> playableActivated = new HashMap<>();
-            for (Permanent permanent : game.getBattlefield().getAllActivePermanents(playerId)) {
-                LinkedHashMap<UUID, ActivatedAbility> useableAbilities = getUseableActivatedAbilities(permanent, Zone.BATTLEFIELD, game);
-                for (ActivatedAbility ability : useableAbilities.values()) {
-                    playableActivated.putIfAbsent(ability.toString(), ability);
-                }
+        }
+        // eliminate duplicate activated abilities
+        Map<String, Ability> playableActivated = new HashMap<>();
+        for (Permanent permanent : game.getBattlefield().getAllActivePermanents(playerId)) {
+            LinkedHashMap<UUID, ActivatedAbility> useableAbilities = getUseableActivatedAbilities(permanent, Zone.BATTLEFIELD, game);
+            for (ActivatedAbility ability : useableAbilities.values()) {
+                playableActivated.putIfAbsent(ability.toString(), ability);
             }
-            // activated abilities from stack objects
-            for (StackObject stackObject : game.getState().getStack()) {
-                for (ActivatedAbility ability : stackObject.getAbilities().getActivatedAbilities(Zone.STACK)) {
-                    if (ability != null && canPlay(ability, availableMana, game.getObject(ability.getSourceId()), game)) {
-                        playableActivated.put(ability.toString(), ability);
-                    }
-
+        }
+        // activated abilities from stack objects
+        for (StackObject stackObject : game.getState().getStack()) {
+            for (ActivatedAbility ability : stackObject.getAbilities().getActivatedAbilities(Zone.STACK)) {
+                if (ability != null && canPlay(ability, availableMana, game.getObject(ability.getSourceId()), game)) {
+                    playableActivated.put(ability.toString(), ability);
                 }
-            }
-            // activated abilities from objects in the command zone (emblems or commanders)
-            for (CommandObject commandObject : game.getState().getCommand()) {
-                for (ActivatedAbility ability : commandObject.getAbilities().getActivatedAbilities(Zone.COMMAND)) {
-                    if (ability.getControllerId().equals(getId()) && canPlay(ability, availableMana, game.getObject(ability.getSourceId()), game)) {
-                        playableActivated.put(ability.toString(), ability);
-                    }
 
+            }
+        }
+        // activated abilities from objects in the command zone (emblems or commanders)
+        for (CommandObject commandObject : game.getState().getCommand()) {
+            for (ActivatedAbility ability : commandObject.getAbilities().getActivatedAbilities(Zone.COMMAND)) {
+                if (ability.getControllerId().equals(getId()) && canPlay(ability, availableMana, game.getObject(ability.getSourceId()), game)) {
+                    playableActivated.put(ability.toString(), ability);
                 }
+
             }
-            playable.addAll(playableActivated.values());
         }
+        playable.addAll(playableActivated.values());
 
         return playable;
     }
@@ -2937,42 +2965,53 @@ public abstract class PlayerImpl implements Player, Serializable {
     @Override
     public Set<UUID> getPlayableInHand(Game game
     ) {
-        Set<UUID> playable = new HashSet<>();
-        if (!shouldSkipGettingPlayable(game)) {
-            ManaOptions available = getManaAvailable(game);
-            available.addMana(manaPool.getMana());
+        if (shouldSkipGettingPlayable(game)) {
+            return new HashSet<>();
+        }
+        Set<UUID> cached = getPlayableCache(game).playableInHand;
+        if (cached != null) {
+            return new HashSet<>(cached);
+        }
+        Set<UUID> playable = calculatePlayableInHand(game);
+        getPlayableCache(game).playableInHand = new HashSet<>(playable);
+        return playable;
+    }
 
-            for (Card card : hand.getCards(game)) {
-                Abilities:
-                for (Ability ability : card.getAbilities()) {
-                    if (ability.getZone().match(Zone.HAND)) {
-                        switch (ability.getAbilityType()) {
-                            case PLAY_LAND:
-                                if (game.getContinuousEffects().preventedByRuleModification(GameEvent.getEvent(GameEvent.EventType.PLAY_LAND, ability.getSourceId(), ability.getSourceId(), playerId), ability, game, true)) {
-                                    break;
-                                }
-                                if (canPlay((ActivatedAbility) ability, available, card, game)) {
-                                    playable.add(card.getId());
-                                    break Abilities;
-                                }
-                                break;
-                            case ACTIVATED:
-                            case SPELL:
-                                if (canPlay((ActivatedAbility) ability, available, card, game)) {
-                                    playable.add(card.getId());
-                                    break Abilities;
-                                }
+    private Set<UUID> calculatePlayableInHand(Game game) {
+        Set<UUID> playable = new HashSet<>();
+        ManaOptions available = getManaAvailable(game);
+        available.addMana(manaPool.getMana());
+
+        for (Card card : hand.getCards(game)) {
+            Abilities:
+            for (Ability ability : card.getAbilities()) {
+                if (ability.getZone().match(Zone.HAND)) {
+                    switch (ability.getAbilityType()) {
+                        case PLAY_LAND:
+                            if (game.getContinuousEffects().preventedByRuleModification(GameEvent.getEvent(GameEvent.EventType.PLAY_LAND, ability.getSourceId(), ability.getSourceId(), playerId), ability, game, true)) {
                                 break;
-                            case STATIC:
-                                if (card.isLand() && ability instanceof AlternativeSourceCosts) {
-                                    if (canLandPlayAlternateSourceCostsAbility(card, available, ability, game)) { // e.g. Land with Morph
-                                        if (game.canPlaySorcery(getId())) {
-                                            playable.add(card.getId());
-                                        }
-                                        break Abilities;
+                            }
+                            if (canPlay((ActivatedAbility) ability, available, card, game)) {
+                                playable.add(card.getId());
+                                break Abilities;
+                            }
+                            break;
+                        case ACTIVATED:
+                        case SPELL:
+                            if (canPlay((ActivatedAbility) ability, available, card, game)) {
+                                playable.add(card.getId());
+                                break Abilities;
+                            }
+                            break;
+                        case STATIC:
+                            if (card.isLand() && ability instanceof AlternativeSourceCosts) {
+                                if (canLandPlayAlternateSourceCostsAbility(card, available, ability, game)) { // e.g. Land with Morph
+                                    if (game.canPlaySorcery(getId())) {
+                                        playable.add(card.getId());
                                     }
+                                    break Abilities;
                                 }
-                        }
+                            }
                     }
                 }
             }
@@ -2981,6 +3020,23 @@ public abstract class PlayerImpl implements Player, Serializable {
         return playable;
     }
 
+    /**
+     * Returns the cache of the playable objects for the current state of the
+     * game. Results are stored with the state version after their calculation,
+     * so changes the calculation itself makes don't invalidate them.
+     *
+     * @param game
+     * @return
+     */
+    private PlayableCache getPlayableCache(Game game) {
+        GameState state = game.getState();
+        long stateVersion = state.getStateVersion();
+        if (playableCache == null || playableCache.state != state || playableCache.stateVersion != stateVersion) {
+            playableCache = new PlayableCache(state, stateVersion);
+        }
+        return playableCache;
+    }
+
     /**
      * Skip "silent" phase step when players are not allowed to cast anything.
      * E.g. players can't play or cast anything during declaring attackers.
@@ -3813,4 +3869,30 @@ public abstract class PlayerImpl implements Player, Serializable {
         hash = 89 * hash + Objects.hashCode(this.playerId);
         return hash;
     }
+
+    private static final class PlayableCache {
+
+        private final GameState state;
+        private final long stateVersion;
+        private List<Ability> playable;
+        private List<Ability> playableHidden;
+        private Set<UUID> playableInHand;
+
+        PlayableCache(GameState state, long stateVersion) {
+            this.state = state;
+            this.stateVersion = stateVersion;
+        }
+
+        List<Ability> getPlayable(boolean hidden) {
+            return hidden ? playableHidden : playable;
+        }
+
+        void setPlayable(boolean hidden, List<Ability> playable) {
+            if (hidden) {
+                this.playableHidden = playable;
+            } else {
+                this.playable = playable;
+            }
+        }
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Binary delta of a byte array against a base array (e.g. a serialized game
+ * state against a previous one).
+ *
+ * The delta is a list of operations that either copy a range of the base or
+ * insert literal bytes. Matching ranges are found by hashing fixed size
+ * blocks of the base and looking up a rolling hash of the target.
+ */
+public final class ByteDelta {
+
+    private static final int BLOCK_SIZE = 32;
+    private static final int HASH_FACTOR = 31;
+    private static final byte OP_COPY = 0;
+    private static final byte OP_INSERT = 1;
+
+    private ByteDelta() {
+    }
+
+    public static byte[] encode(byte[] base, byte[] target) throws IOException {
+        FastByteArrayOutputStream fbos = new FastByteArrayOutputStream(Math.max(1024, target.length / 8));
+        DataOutputStream out = new DataOutputStream(fbos);
+        out.writeInt(target.length);
+
+        // first offset of each block of the base by hash
+        int tableSize = Integer.highestOneBit(Math.max(16, base.length / BLOCK_SIZE) * 2);
+        int[] table = new int[tableSize];
+        Arrays.fill(table, -1);
+        for (int i = 0; i + BLOCK_SIZE <= base.length; i += BLOCK_SIZE) {
+            int slot = hash(base, i) & (tableSize - 1);
+            if (table[slot] == -1) {
+                table[slot] = i;
+            }
+        }
+
+        int power = 1; // HASH_FACTOR ^ (BLOCK_SIZE - 1)
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            power *= HASH_FACTOR;
+        }
+
+        int literalStart = 0;
+        int pos = 0;
+        int h = target.length >= BLOCK_SIZE ? hash(target, 0) : 0;
+        while (pos + BLOCK_SIZE <= target.length) {
+            int candidate = table[h & (tableSize - 1)];
+            if (candidate != -1 && matches(base, candidate, target, pos)) {
+                int start = pos;
+                int baseStart = candidate;
+                // extend backwards into the pending literal
+                while (start > literalStart && baseStart > 0 && base[baseStart - 1] == target[start - 1]) {
+                    start--;
+                    baseStart--;
+                }
+                int end = pos + BLOCK_SIZE;
+                int baseEnd = candidate + BLOCK_SIZE;
+                while (end < target.length && baseEnd < base.length && base[baseEnd] == target[end]) {
+                    end++;
+                    baseEnd++;
+                }
+                writeInsert(out, target, literalStart, start);
+                out.writeByte(OP_COPY);
+                out.writeInt(baseStart);
+                out.writeInt(end - start);
+                pos = end;
+                literalStart = end;
+                if (pos + BLOCK_SIZE <= target.length) {
+                    h = hash(target, pos);
+                }
+            } else {
+                if (pos + BLOCK_SIZE < target.length) {
+                    h = (h - target[pos] * power) * HASH_FACTOR + target[pos + BLOCK_SIZE];
+                }
+                pos++;
+            }
+        }
+        writeInsert(out, target, literalStart, target.length);
+        out.flush();
+
+        byte[] delta = new byte[fbos.getSize()];
+        System.arraycopy(fbos.getByteArray(), 0, delta, 0, fbos.getSize());
+        return delta;
+    }
+
+    public static byte[] apply(byte[] base, byte[] delta) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta));
+        byte[] target = new byte[in.readInt()];
+        int pos = 0;
+        while (pos < target.length) {
+            byte op = in.readByte();
+            int length;
+            if (op == OP_COPY) {
+                int offset = in.readInt();
+                length = in.readInt();
+                System.arraycopy(base, offset, target, pos, length);
+            } else if (op == OP_INSERT) {
+                length = in.readInt();
+                in.readFully(target, pos, length);
+            } else {
+                throw new IOException("Unknown delta operation: " + op);
+            }
+            pos += length;
+        }
+        return target;
+    }
+
+    private static void writeInsert(DataOutputStream out, byte[] target, int from, int to) throws IOException {
+        if (to > from) {
+            out.writeByte(OP_INSERT);
+            out.writeInt(to - from);
+            out.write(target, from, to - from);
+        }
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int h = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            h = h * HASH_FACTOR + data[i];
+        }
+        return h;
+    }
+
+    private static boolean matches(byte[] base, int baseOffset, byte[] target, int targetOffset) {
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            if (base[baseOffset + i] != target[targetOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -28,13 +28,12 @@
 package mage.util;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.util.*;
 import java.util.jar.JarEntry;
-import java.util.jar.JarInputStream;
+import java.util.jar.JarFile;
 
 /**
  *
@@ -108,12 +107,11 @@ public final class ClassScanner {
         if (!file.exists()) return cards;
 
 
-        try(JarInputStream jarFile = new JarInputStream(new FileInputStream(file))) {
-            while (true) {
-                JarEntry jarEntry = jarFile.getNextJarEntry();
-                if (jarEntry == null) {
-                    break;
-                }
+        // the central directory of the jar is enough to list the classes, there is no need to inflate every entry
+        try (JarFile jarFile = new JarFile(file)) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry jarEntry = entries.nextElement();
                 if (jarEntry.getName().endsWith(".class")) {
                     String className = jarEntry.getName().replace(".class", "").replace('/', '.');
                     int packageNameEnd = className.lastIndexOf('.');
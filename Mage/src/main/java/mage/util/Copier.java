@@ -102,6 +102,39 @@ public class Copier<T> {
         return null;
     }
 
+    public byte[] serialize(T obj) {
+        FastByteArrayOutputStream fbos = null;
+        ObjectOutputStream out = null;
+        try {
+            fbos = new FastByteArrayOutputStream();
+            out = new ObjectOutputStream(fbos);
+            out.writeObject(obj);
+            out.flush();
+
+            byte[] copy = new byte[fbos.getSize()];
+            System.arraycopy(fbos.getByteArray(), 0, copy, 0, fbos.getSize());
+            return copy;
+        }
+        catch(IOException e) {
+            e.printStackTrace();
+        } finally {
+            StreamUtils.closeQuietly(fbos);
+            StreamUtils.closeQuietly(out);
+        }
+        return null;
+    }
+
+    public T deserialize(byte[] buffer) {
+        T copy = null;
+        try (ObjectInputStream in = new CopierObjectInputStream(loader, new ByteArrayInputStream(buffer))) {
+            copy = (T) in.readObject();
+        }
+        catch(IOException | ClassNotFoundException e) {
+            e.printStackTrace();
+        }
+        return copy;
+    }
+
     public T uncompressCopy(byte[] buffer) {
         T copy = null;
         try (ObjectInputStream in = new CopierObjectInputStream(loader, new GZIPInputStream(new ByteArrayInputStream(buffer)))) {
@@ -48,6 +48,9 @@ public class CopierObjectInputStream extends ObjectInputStream {
     @Override
     protected Class resolveClass(ObjectStreamClass osc) throws IOException, ClassNotFoundException
     {
+        if (myLoader == null) {
+            return super.resolveClass(osc);
+        }
         Class theClass = null;
 
         try {
@@ -0,0 +1,184 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ * 
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ * 
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ * 
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ * 
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+package mage.util;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Map of mutable game state objects that shares its entries with its copies.
+ *
+ * A value that was never fetched for change is shared by the map and its
+ * copies, it's only copied the first time it is fetched by
+ * {@link #get(Object)}. The values a map has handed out for change (or got by
+ * {@link #put(Object, Copyable)}) may still be referenced and changed by the
+ * engine, so a copy of the map gets its own copies of them, while the source
+ * keeps its instances. So a reference fetched for change before a copy can
+ * still be used afterwards and only changes the map it was fetched from.
+ *
+ * Copying the map is O(1) if it has not handed out values for change, else
+ * the backing map is duplicated (shallow) and the handed out values are
+ * copied.
+ *
+ * Values returned by {@link #peek(Object)} and {@link #values()} must not be
+ * changed.
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class CopyOnWriteStateMap<K, V extends Copyable<V>> implements Serializable {
+
+    private Map<K, V> entries;
+    // backing map is used by another copy too
+    private boolean shared;
+    // keys whose values only belong to this instance and were handed out for change
+    private Set<K> owned;
+
+    public CopyOnWriteStateMap() {
+        this.entries = new HashMap<>();
+        this.owned = new HashSet<>();
+    }
+
+    public CopyOnWriteStateMap(final CopyOnWriteStateMap<K, V> map) {
+        this.owned = new HashSet<>();
+        if (map.owned.isEmpty()) {
+            this.entries = map.entries;
+            this.shared = true;
+            map.shared = true;
+            return;
+        }
+        // the source keeps the values it has handed out, they may still be changed through references to them
+        this.entries = new HashMap<>(map.entries);
+        for (K key : map.owned) {
+            V value = map.entries.get(key);
+            if (value != null) {
+                this.entries.put(key, value.copy());
+            }
+        }
+    }
+
+    public CopyOnWriteStateMap<K, V> copy() {
+        return new CopyOnWriteStateMap<>(this);
+    }
+
+    /**
+     * Returns the value for the key that may be changed by the caller
+     *
+     * @param key
+     * @return
+     */
+    public V get(K key) {
+        V value = entries.get(key);
+        if (value == null || owned.contains(key)) {
+            return value;
+        }
+        value = value.copy();
+        detach();
+        entries.put(key, value);
+        owned.add(key);
+        return value;
+    }
+
+    /**
+     * Returns the value for the key for read only access
+     *
+     * @param key
+     * @return
+     */
+    public V peek(K key) {
+        return entries.get(key);
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = get(key);
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        detach();
+        entries.put(key, value);
+        owned.add(key);
+    }
+
+    public V remove(K key) {
+        if (!entries.containsKey(key)) {
+            return null;
+        }
+        detach();
+        owned.remove(key);
+        return entries.remove(key);
+    }
+
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Values for read only access
+     *
+     * @return
+     */
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public void clear() {
+        entries = new HashMap<>();
+        owned = new HashSet<>();
+        shared = false;
+    }
+
+    private void detach() {
+        if (shared) {
+            entries = new HashMap<>(entries);
+            shared = false;
+        }
+    }
+}
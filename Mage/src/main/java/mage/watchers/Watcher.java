@@ -28,6 +28,7 @@
 package mage.watchers;
 
 import java.io.Serializable;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -98,6 +99,17 @@ public abstract class Watcher implements Serializable {
 
     public abstract void watch(GameEvent event, Game game);
 
+    /**
+     * The event types watch does something for. Events of other types are not
+     * passed to this watcher. Has to be declared in the same class as watch (or
+     * a subclass of it), otherwise it's ignored.
+     *
+     * @return null if all events have to be passed to the watcher
+     */
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return null;
+    }
+
     public abstract Watcher copy();
 
 }
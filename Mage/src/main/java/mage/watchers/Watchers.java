@@ -27,17 +27,34 @@
  */
 package mage.watchers;
 
+import java.lang.reflect.Method;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 
 /**
  *
  * @author BetaSteward_at_googlemail.com
+ *
+ * The watchers are additionally indexed by the event types they watch (see
+ * {@link Watcher#getWatchedEventTypes()}), so an event is only passed to the
+ * watchers that use it.
  */
 public class Watchers extends HashMap<String, Watcher> {
 
+    // declaring class of getWatchedEventTypes is allowed to be used for the class of the watcher
+    private static final Map<Class<?>, Boolean> eventTypesDeclared = new ConcurrentHashMap<>();
+
+    private final Map<EventType, Map<String, Watcher>> byEventType = new EnumMap<>(EventType.class);
+    // watchers that don't declare their event types
+    private final Map<String, Watcher> allEvents = new HashMap<>();
+
     public Watchers() {
     }
 
@@ -50,11 +67,50 @@ public class Watchers extends HashMap<String, Watcher> {
     }
 
     public void add(Watcher watcher) {
-        putIfAbsent(watcher.getKey(), watcher);
+        if (!containsKey(watcher.getKey())) {
+            put(watcher.getKey(), watcher);
+        }
+    }
+
+    @Override
+    public Watcher put(String key, Watcher watcher) {
+        Watcher old = super.put(key, watcher);
+        if (old != null) {
+            removeFromIndex(key);
+        }
+        addToIndex(key, watcher);
+        return old;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Watcher> watchers) {
+        watchers.forEach(this::put);
+    }
+
+    @Override
+    public Watcher remove(Object key) {
+        Watcher old = super.remove(key);
+        if (old != null) {
+            removeFromIndex((String) key);
+        }
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        byEventType.clear();
+        allEvents.clear();
     }
 
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher : this.values()) {
+        Map<String, Watcher> watchers = byEventType.get(event.getType());
+        if (watchers != null) {
+            for (Watcher watcher : watchers.values()) {
+                watcher.watch(event, game);
+            }
+        }
+        for (Watcher watcher : allEvents.values()) {
             watcher.watch(event, game);
         }
     }
@@ -66,4 +122,49 @@ public class Watchers extends HashMap<String, Watcher> {
     public Watcher get(String key, UUID id) {
         return this.get(id + key);
     }
+
+    private void addToIndex(String key, Watcher watcher) {
+        Set<EventType> eventTypes = getWatchedEventTypes(watcher);
+        if (eventTypes == null) {
+            allEvents.put(key, watcher);
+        } else {
+            for (EventType eventType : eventTypes) {
+                byEventType.computeIfAbsent(eventType, k -> new HashMap<>()).put(key, watcher);
+            }
+        }
+    }
+
+    private void removeFromIndex(String key) {
+        if (allEvents.remove(key) == null) {
+            for (Map<String, Watcher> watchers : byEventType.values()) {
+                watchers.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the event types of the watcher, if they are declared together
+     * with its watch method
+     *
+     * @param watcher
+     * @return null if all events have to be passed to the watcher
+     */
+    public static Set<EventType> getWatchedEventTypes(Watcher watcher) {
+        Set<EventType> eventTypes = watcher.getWatchedEventTypes();
+        if (eventTypes != null && eventTypesDeclared.computeIfAbsent(watcher.getClass(), Watchers::isEventTypesDeclared)) {
+            return eventTypes;
+        }
+        return null;
+    }
+
+    private static boolean isEventTypesDeclared(Class<?> watcherClass) {
+        try {
+            Method watch = watcherClass.getMethod("watch", GameEvent.class, Game.class);
+            Method getWatchedEventTypes = watcherClass.getMethod("getWatchedEventTypes");
+            // a subclass that overrides watch could use other event types
+            return watch.getDeclaringClass().isAssignableFrom(getWatchedEventTypes.getDeclaringClass());
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
 }
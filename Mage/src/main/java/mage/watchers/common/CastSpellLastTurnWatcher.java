@@ -60,6 +60,11 @@ public class CastSpellLastTurnWatcher extends Watcher {
         this.spellsCastThisTurnInOrder.addAll(watcher.spellsCastThisTurnInOrder);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.SPELL_CAST) {
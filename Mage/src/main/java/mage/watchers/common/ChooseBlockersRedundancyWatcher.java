@@ -27,6 +27,8 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.WatcherScope;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -63,6 +65,11 @@ public class ChooseBlockersRedundancyWatcher extends Watcher { // workaround for
         return new ChooseBlockersRedundancyWatcher(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.noneOf(GameEvent.EventType.class);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
     }
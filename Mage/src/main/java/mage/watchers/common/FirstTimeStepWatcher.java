@@ -27,6 +27,8 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.WatcherScope;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -58,6 +60,11 @@ public class FirstTimeStepWatcher extends Watcher {
         return new FirstTimeStepWatcher(this);
     }
 
+    @Override
+    public Set<EventType> getWatchedEventTypes() {
+        return EnumSet.of(eventType);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == eventType) {
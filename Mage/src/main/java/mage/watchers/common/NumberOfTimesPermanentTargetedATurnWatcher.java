@@ -28,8 +28,10 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import mage.MageObjectReference;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -54,6 +56,11 @@ public class NumberOfTimesPermanentTargetedATurnWatcher extends Watcher {
         this.permanentsTargeted.putAll(watcher.permanentsTargeted);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETED);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.TARGETED) {
@@ -0,0 +1,77 @@
+package mage.abilities;
+
+import static org.junit.Assert.*;
+import java.util.EnumSet;
+import java.util.UUID;
+import mage.abilities.common.BeginningOfUpkeepTriggeredAbility;
+import mage.abilities.common.DiesTriggeredAbility;
+import mage.abilities.effects.common.GainLifeEffect;
+import mage.abilities.keyword.PersistAbility;
+import mage.constants.TargetController;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link TriggeredAbilities}
+ */
+public class TriggeredAbilitiesTest {
+
+    @Test
+    public void shouldUseDeclaredEventTypes() {
+        // given
+        TriggeredAbility ability = new BeginningOfUpkeepTriggeredAbility(new GainLifeEffect(1), TargetController.YOU, false);
+
+        // when
+
+        // then
+        assertEquals(EnumSet.of(EventType.UPKEEP_STEP_PRE), TriggeredAbilities.getTriggerEventTypes(ability));
+    }
+
+    @Test
+    public void shouldIgnoreEventTypesIfCheckEventTypeIsOverridden() {
+        // given
+        TriggeredAbility ability = new DiesTriggeredAbility(new GainLifeEffect(1)) {
+            @Override
+            public boolean checkEventType(GameEvent event, Game game) {
+                return event.getType() == EventType.DESTROYED_PERMANENT;
+            }
+        };
+
+        // when
+
+        // then
+        assertNull(TriggeredAbilities.getTriggerEventTypes(ability));
+    }
+
+    @Test
+    public void shouldUseInheritedEventTypesIfCheckEventTypeIsNarrowed() {
+        // given
+        TriggeredAbility dies = new DiesTriggeredAbility(new GainLifeEffect(1));
+        TriggeredAbility persist = new PersistAbility();
+
+        // when
+
+        // then
+        assertEquals(EnumSet.of(EventType.ZONE_CHANGE), TriggeredAbilities.getTriggerEventTypes(dies));
+        assertEquals(EnumSet.of(EventType.ZONE_CHANGE), TriggeredAbilities.getTriggerEventTypes(persist));
+    }
+
+    @Test
+    public void shouldRemoveAbilitiesOfSource() {
+        // given
+        TriggeredAbilities triggers = new TriggeredAbilities();
+        UUID sourceId = UUID.randomUUID();
+        TriggeredAbility ability = new BeginningOfUpkeepTriggeredAbility(new GainLifeEffect(1), TargetController.YOU, false);
+        triggers.add(ability, sourceId, null);
+        triggers.add(ability.copy(), null);
+
+        // when
+        triggers.removeAbilitiesOfSource(sourceId);
+
+        // then
+        assertEquals(1, triggers.size());
+        assertFalse(triggers.containsKey(new TriggeredAbilities.Key(ability.getId(), sourceId)));
+    }
+}
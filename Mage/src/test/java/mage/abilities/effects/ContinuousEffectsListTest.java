@@ -0,0 +1,124 @@
+package mage.abilities.effects;
+
+import static org.junit.Assert.*;
+import java.util.EnumSet;
+import mage.abilities.Ability;
+import mage.abilities.InheritedEventTypes;
+import mage.abilities.effects.common.RegenerateTargetEffect;
+import mage.constants.Duration;
+import mage.constants.Outcome;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link ContinuousEffectsList}
+ */
+public class ContinuousEffectsListTest {
+
+    private ContinuousEffectsList<ReplacementEffect> effects;
+    private ReplacementEffect regenerateEffect;
+    private ReplacementEffect allEventsEffect;
+
+    @Before
+    public void setUp() {
+        effects = new ContinuousEffectsList<>();
+        regenerateEffect = new RegenerateTargetEffect();
+        allEventsEffect = new AllEventsReplacementEffect();
+        effects.add(regenerateEffect);
+        effects.add(allEventsEffect);
+    }
+
+    @Test
+    public void shouldReturnEffectsOfEventType() {
+        // given
+
+        // when
+
+        // then
+        assertEquals(2, effects.getEffects(EventType.DESTROY_PERMANENT, ContinuousEffects::getCheckedEventTypes).size());
+        assertEquals(1, effects.getEffects(EventType.DAMAGE_PLAYER, ContinuousEffects::getCheckedEventTypes).size());
+        assertSame(allEventsEffect, effects.getEffects(EventType.DAMAGE_PLAYER, ContinuousEffects::getCheckedEventTypes).get(0));
+    }
+
+    @Test
+    public void shouldUpdateEffectsOfEventTypeAfterChange() {
+        // given
+        effects.getEffects(EventType.DESTROY_PERMANENT, ContinuousEffects::getCheckedEventTypes);
+
+        // when
+        effects.remove(allEventsEffect);
+
+        // then
+        assertEquals(1, effects.getEffects(EventType.DESTROY_PERMANENT, ContinuousEffects::getCheckedEventTypes).size());
+        assertTrue(effects.getEffects(EventType.DAMAGE_PLAYER, ContinuousEffects::getCheckedEventTypes).isEmpty());
+    }
+
+    @Test
+    public void shouldUseInheritedEventTypesIfChecksEventTypeIsNarrowed() {
+        // given
+        ReplacementEffect narrowed = new NarrowedRegenerateEffect();
+        ReplacementEffect overridden = new OverriddenRegenerateEffect();
+
+        // when
+
+        // then
+        assertEquals(EnumSet.of(EventType.DESTROY_PERMANENT), ContinuousEffects.getCheckedEventTypes(narrowed));
+        assertNull(ContinuousEffects.getCheckedEventTypes(overridden));
+    }
+
+    @InheritedEventTypes
+    private static class NarrowedRegenerateEffect extends RegenerateTargetEffect {
+
+        @Override
+        public boolean checksEventType(GameEvent event, Game game) {
+            return super.checksEventType(event, game) && event.getTargetId() != null;
+        }
+    }
+
+    private static class OverriddenRegenerateEffect extends RegenerateTargetEffect {
+
+        @Override
+        public boolean checksEventType(GameEvent event, Game game) {
+            return event.getType() == EventType.DAMAGE_PLAYER;
+        }
+    }
+
+    private static class AllEventsReplacementEffect extends ReplacementEffectImpl {
+
+        AllEventsReplacementEffect() {
+            super(Duration.WhileOnBattlefield, Outcome.Neutral);
+        }
+
+        AllEventsReplacementEffect(final AllEventsReplacementEffect effect) {
+            super(effect);
+        }
+
+        @Override
+        public boolean checksEventType(GameEvent event, Game game) {
+            return true;
+        }
+
+        @Override
+        public boolean applies(GameEvent event, Ability source, Game game) {
+            return false;
+        }
+
+        @Override
+        public boolean replaceEvent(GameEvent event, Ability source, Game game) {
+            return false;
+        }
+
+        @Override
+        public boolean apply(Game game, Ability source) {
+            return false;
+        }
+
+        @Override
+        public AllEventsReplacementEffect copy() {
+            return new AllEventsReplacementEffect(this);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package mage.abilities.mana;
+
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
+import mage.Mana;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link ManaCombinations}
+ */
+public class ManaCombinationsTest {
+
+    @Test
+    public void shouldSkipDominatedMana() {
+        // given
+        ManaCombinations combinations = new ManaCombinations();
+        combinations.add(new Mana(1, 1, 0, 0, 0, 0, 0, 0));
+
+        // when
+        boolean added = combinations.add(Mana.RedMana(1));
+
+        // then
+        assertFalse(added);
+        assertEquals(1, combinations.size());
+    }
+
+    @Test
+    public void shouldRemoveDominatedCombinations() {
+        // given
+        ManaCombinations combinations = new ManaCombinations();
+        combinations.add(Mana.RedMana(1));
+        combinations.add(Mana.GreenMana(1));
+        combinations.add(Mana.BlueMana(1));
+
+        // when
+        combinations.add(new Mana(1, 1, 0, 0, 0, 0, 0, 0));
+
+        // then
+        List<Mana> options = new ArrayList<>();
+        combinations.addTo(options);
+        assertEquals(2, options.size());
+        assertEquals(1, options.get(0).getBlue());
+        assertEquals(1, options.get(1).getRed());
+        assertEquals(1, options.get(1).getGreen());
+    }
+
+    @Test
+    public void shouldKeepCombinationsWithDifferentColors() {
+        // given
+        ManaCombinations combinations = new ManaCombinations();
+
+        // when
+        combinations.add(Mana.WhiteMana(2));
+        combinations.add(Mana.BlackMana(2));
+        combinations.add(Mana.AnyMana(1));
+
+        // then
+        assertEquals(3, combinations.size());
+    }
+
+    @Test
+    public void shouldCompareCountersNotFittingIntoAByte() {
+        // given
+        ManaCombinations combinations = new ManaCombinations();
+        combinations.add(Mana.GenericMana(200));
+
+        // when
+        boolean dominatedAdded = combinations.add(Mana.GenericMana(150));
+        boolean dominatingAdded = combinations.add(new Mana(0, 0, 0, 0, 0, 300, 0, 0));
+
+        // then
+        assertFalse(dominatedAdded);
+        assertTrue(dominatingAdded);
+        assertEquals(1, combinations.size());
+    }
+}
@@ -0,0 +1,39 @@
+package mage.cards;
+
+import static org.junit.Assert.*;
+import mage.cards.basiclands.Plains;
+import mage.constants.Rarity;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link CardFactories}
+ */
+public class CardFactoriesTest {
+
+    @Test
+    public void shouldCreateCardsWithoutGeneratedFactory() throws Throwable {
+        // given
+        CardSetInfo setInfo = new CardSetInfo("Plains", "M10", "230", Rarity.LAND);
+
+        // when
+        Card card = CardFactories.createCard(Plains.class, setInfo);
+
+        // then
+        assertTrue(card instanceof Plains);
+        assertEquals("M10", card.getExpansionSetCode());
+        assertNull(CardFactories.createCard(Plains.class.getName(), setInfo));
+        assertFalse(CardFactories.hasFactory(Plains.class));
+    }
+
+    @Test
+    public void shouldCreateCardsByClassName() {
+        // given
+        CardSetInfo setInfo = new CardSetInfo("Plains", "M10", "230", Rarity.LAND);
+
+        // when
+        Card card = CardImpl.createCard(Plains.class.getName(), setInfo);
+
+        // then
+        assertTrue(card instanceof Plains);
+    }
+}
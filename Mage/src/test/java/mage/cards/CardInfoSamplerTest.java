@@ -0,0 +1,48 @@
+package mage.cards;
+
+import static org.junit.Assert.*;
+import java.util.HashSet;
+import java.util.Set;
+import mage.cards.repository.CardInfo;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link CardInfoSampler}
+ */
+public class CardInfoSamplerTest {
+
+    @Test
+    public void shouldDrawEachCardOnce() {
+        // given
+        CardInfo[] cards = new CardInfo[50];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = new CardInfo();
+        }
+        CardInfoSampler sampler = new CardInfoSampler(cards);
+
+        // when
+        Set<CardInfo> drawn = new HashSet<>();
+        while (!sampler.isEmpty()) {
+            drawn.add(sampler.next());
+        }
+
+        // then
+        assertEquals(cards.length, drawn.size());
+        assertNull(sampler.next());
+    }
+
+    @Test
+    public void shouldNotChangeTheCards() {
+        // given
+        CardInfo[] cards = {new CardInfo(), new CardInfo(), new CardInfo()};
+        CardInfo[] original = cards.clone();
+
+        // when
+        CardInfoSampler sampler = new CardInfoSampler(cards);
+        sampler.next();
+        sampler.next();
+
+        // then
+        assertArrayEquals(original, cards);
+    }
+}
@@ -0,0 +1,122 @@
+package mage.cards;
+
+import static org.junit.Assert.*;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import mage.abilities.Ability;
+import mage.abilities.SpellAbility;
+import mage.abilities.effects.common.DrawCardSourceControllerEffect;
+import mage.cards.basiclands.Plains;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link CardPrototypes}
+ */
+public class CardPrototypesTest {
+
+    @Test
+    public void shouldCreateCardsWithOwnIds() {
+        // given
+        CardSetInfo setInfo = new CardSetInfo("Plains", "M10", "230", Rarity.LAND);
+
+        // when
+        Card card1 = CardPrototypes.createCard(Plains.class.getName(), setInfo);
+        Card card2 = CardPrototypes.createCard(Plains.class.getName(), setInfo);
+
+        // then
+        assertTrue(card2 instanceof Plains);
+        assertEquals(card1.getName(), card2.getName());
+        assertNotEquals(card1.getId(), card2.getId());
+        Ability ability1 = card1.getAbilities().get(0);
+        Ability ability2 = card2.getAbilities().get(0);
+        assertNotEquals(ability1.getId(), ability2.getId());
+        assertEquals(card1.getId(), ability1.getSourceId());
+        assertEquals(card2.getId(), ability2.getSourceId());
+    }
+
+    @Test
+    public void shouldCreateCardsPerSetInfo() {
+        // given
+        CardSetInfo setInfo1 = new CardSetInfo("Plains", "M10", "230", Rarity.LAND);
+        CardSetInfo setInfo2 = new CardSetInfo("Plains", "M11", "230", Rarity.LAND);
+
+        // when
+        Card card1 = CardPrototypes.createCard(Plains.class.getName(), setInfo1);
+        Card card2 = CardPrototypes.createCard(Plains.class.getName(), setInfo2);
+
+        // then
+        assertEquals("M10", card1.getExpansionSetCode());
+        assertEquals("M11", card2.getExpansionSetCode());
+    }
+
+    @Test
+    public void shouldCreateCardsWithTheSpellAbilityOfTheirAbilities() {
+        // given
+        CardSetInfo setInfo = new CardSetInfo("Test Sorcery", "TST", "1", Rarity.COMMON);
+
+        // when
+        Card card1 = CardPrototypes.createCard(TestSorcery.class.getName(), setInfo);
+        Card card2 = CardPrototypes.createCard(TestSorcery.class.getName(), setInfo);
+
+        // then
+        SpellAbility spellAbility = card2.getSpellAbility();
+        assertNotEquals(card1.getSpellAbility().getId(), spellAbility.getId());
+        assertSame(spellAbility, card2.getAbilities().get(spellAbility.getId()).orElse(null));
+        assertEquals(card2.getId(), spellAbility.getSourceId());
+    }
+
+    @Test
+    public void shouldCreateNotPrototypedCardsWithTheirConstructor() {
+        // given
+        CardSetInfo setInfo = new CardSetInfo("Test Not Prototyped Sorcery", "TST", "2", Rarity.COMMON);
+        int created = TestNotPrototypedSorcery.CREATED.get();
+
+        // when
+        Card card1 = CardPrototypes.createCard(TestNotPrototypedSorcery.class.getName(), setInfo);
+        Card card2 = CardPrototypes.createCard(TestNotPrototypedSorcery.class.getName(), setInfo);
+
+        // then
+        assertFalse(CardPrototypes.isPrototyped(TestNotPrototypedSorcery.class));
+        assertEquals(created + 2, TestNotPrototypedSorcery.CREATED.get());
+        assertNotEquals(card1.getId(), card2.getId());
+    }
+
+    public static class TestSorcery extends CardImpl {
+
+        public TestSorcery(UUID ownerId, CardSetInfo setInfo) {
+            super(ownerId, setInfo, new CardType[]{CardType.SORCERY}, "{U}");
+            this.getSpellAbility().addEffect(new DrawCardSourceControllerEffect(1));
+        }
+
+        public TestSorcery(final TestSorcery card) {
+            super(card);
+        }
+
+        @Override
+        public TestSorcery copy() {
+            return new TestSorcery(this);
+        }
+    }
+
+    @NotPrototyped
+    public static class TestNotPrototypedSorcery extends CardImpl {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        public TestNotPrototypedSorcery(UUID ownerId, CardSetInfo setInfo) {
+            super(ownerId, setInfo, new CardType[]{CardType.SORCERY}, "{U}");
+            CREATED.incrementAndGet();
+        }
+
+        public TestNotPrototypedSorcery(final TestNotPrototypedSorcery card) {
+            super(card);
+        }
+
+        @Override
+        public TestNotPrototypedSorcery copy() {
+            return new TestNotPrototypedSorcery(this);
+        }
+    }
+}
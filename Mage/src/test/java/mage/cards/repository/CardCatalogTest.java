@@ -0,0 +1,100 @@
+package mage.cards.repository;
+
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link CardCatalog}
+ */
+public class CardCatalogTest {
+
+    private final CardInfo plains = createCard("Plains", "M10", "230", Rarity.LAND, EnumSet.of(CardType.LAND), false);
+    private final CardInfo lion = createCard("Silvercoat Lion", "M10", "31", Rarity.COMMON, EnumSet.of(CardType.CREATURE), true);
+    private final CardInfo lion2 = createCard("Silvercoat Lion", "M11", "36", Rarity.COMMON, EnumSet.of(CardType.CREATURE), true);
+    private final CardInfo assaultBattery = createCard("Assault // Battery", "INV", "295", Rarity.UNCOMMON, EnumSet.of(CardType.SORCERY), false);
+    private final CardCatalog catalog = new CardCatalog(Arrays.asList(plains, lion, lion2, assaultBattery));
+
+    @Test
+    public void shouldFindCardsByNameAndNumber() {
+        // given
+
+        // when
+        List<CardInfo> lions = catalog.findCardsCaseInsensitive("silvercoat LION");
+
+        // then
+        assertEquals(Arrays.asList(lion, lion2), lions);
+        assertEquals(lions, catalog.findCards("Silvercoat Lion"));
+        assertTrue(catalog.findCards("silvercoat lion").isEmpty());
+        assertSame(lion2, catalog.findCard("M11", "36"));
+        assertNull(catalog.findCard("M11", "31"));
+    }
+
+    @Test
+    public void shouldIndexNamesOfSplitCards() {
+        // given
+
+        // when
+
+        // then
+        assertEquals(Arrays.asList("Assault", "Battery", "Plains", "Silvercoat Lion"), Arrays.asList(catalog.getNames().toArray()));
+        assertEquals(Arrays.asList("Silvercoat Lion"), Arrays.asList(catalog.getCreatureNames().toArray()));
+        assertEquals(Arrays.asList("Assault", "Battery"), Arrays.asList(catalog.getNonLandAndNonCreatureNames().toArray()));
+    }
+
+    @Test
+    public void shouldSearchCriteria() {
+        // given
+        CardCriteria criteria = new CardCriteria().types(CardType.CREATURE, CardType.LAND).black(false).blue(false).green(false).red(false);
+
+        // when
+        List<CardInfo> cards = criteria.search(catalog);
+
+        // then
+        assertEquals(Arrays.asList(plains, lion, lion2), cards);
+        assertEquals(Arrays.asList(lion2), new CardCriteria().name("Lion").setCodes("M11").search(catalog));
+        assertEquals(Arrays.asList(lion2), new CardCriteria().black(false).blue(false).green(false).red(false).colorless(false).start(1L).search(catalog));
+        assertEquals(Arrays.asList(lion, lion2), new CardCriteria().notTypes(CardType.LAND).colorless(false).count(2L).search(catalog));
+        assertNull(new CardCriteria().name("L_on").search(catalog));
+    }
+
+    @Test
+    public void shouldSearchTextInNamesRulesAndTypes() {
+        // given
+        lion.setRules(Arrays.asList("Flying"));
+        lion.setSubtypes(Arrays.asList("Cat"));
+        lion2.setRules(Arrays.asList("Vigilance"));
+        lion2.setSubtypes(Arrays.asList("Cat"));
+        CardCatalog catalog = new CardCatalog(Arrays.asList(plains, lion, lion2, assaultBattery));
+
+        // when
+        List<CardInfo> cards = new CardCriteria().text("cat fly", true, true, true).search(catalog);
+
+        // then
+        assertEquals(Arrays.asList(lion), cards);
+        assertEquals(Arrays.asList(lion, lion2), new CardCriteria().text("COAT LION", true, false, false).search(catalog));
+        assertEquals(Arrays.asList(lion, lion2), new CardCriteria().text("cat", false, true, false).search(catalog));
+        assertTrue(new CardCriteria().text("ca", false, true, false).search(catalog).isEmpty());
+        assertTrue(new CardCriteria().text("cat", true, false, true).search(catalog).isEmpty());
+        assertEquals(Arrays.asList(lion2), new CardCriteria().text("vigil", false, false, true).count(1L).filterText(Arrays.asList(lion, lion2, lion2)));
+    }
+
+    private static CardInfo createCard(String name, String setCode, String cardNumber, Rarity rarity, EnumSet<CardType> types, boolean white) {
+        CardInfo card = new CardInfo();
+        card.name = name;
+        card.setCode = setCode;
+        card.cardNumber = cardNumber;
+        card.className = "mage.sets." + name.replaceAll("\\W", "");
+        card.rarity = rarity;
+        card.white = white;
+        card.setTypes(types);
+        card.subtypes = "";
+        card.supertypes = "";
+        card.rules = "";
+        return card;
+    }
+}
@@ -0,0 +1,109 @@
+package mage.cards.repository;
+
+import static org.junit.Assert.*;
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.stmt.QueryBuilder;
+import com.j256.ormlite.table.TableUtils;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link CardCriteria}, the search in the catalog has
+ * to find the same cards as the query of the database
+ */
+public class CardCriteriaTest {
+
+    private final List<CardInfo> cards = Arrays.asList(
+            createCard("Plains", "M10", "230", Rarity.LAND, EnumSet.of(CardType.LAND), false, false),
+            createCard("Silvercoat Lion", "M10", "31", Rarity.COMMON, EnumSet.of(CardType.CREATURE), true, false),
+            createCard("Giant Growth", "M10", "183", Rarity.COMMON, EnumSet.of(CardType.INSTANT), false, true),
+            createCard("Ornithopter", "M11", "211", Rarity.UNCOMMON, EnumSet.of(CardType.ARTIFACT, CardType.CREATURE), false, false));
+    private CardCatalog catalog;
+    private Dao<CardInfo, Object> cardDao;
+
+    @Before
+    public void setUp() throws SQLException {
+        catalog = new CardCatalog(cards);
+        JdbcConnectionSource connectionSource = new JdbcConnectionSource("jdbc:h2:mem:" + getClass().getSimpleName() + ";DB_CLOSE_DELAY=-1");
+        TableUtils.dropTable(connectionSource, CardInfo.class, true);
+        TableUtils.createTableIfNotExists(connectionSource, CardInfo.class);
+        cardDao = DaoManager.createDao(connectionSource, CardInfo.class);
+        for (CardInfo card : cards) {
+            cardDao.create(card);
+        }
+    }
+
+    @Test
+    public void shouldNotFilterColorsIfNoColorIsSelected() throws SQLException {
+        // given
+        CardCriteria criteria = new CardCriteria().black(false).blue(false).green(false).red(false).white(false).colorless(false);
+
+        // when
+        List<String> found = getCardNumbers(criteria.search(catalog));
+
+        // then
+        assertEquals(4, found.size());
+        assertEquals(query(criteria), found);
+    }
+
+    @Test
+    public void shouldFindTheCardsOfTheQuery() throws SQLException {
+        // given
+        List<CardCriteria> criterias = Arrays.asList(
+                new CardCriteria(),
+                new CardCriteria().white(false).green(false),
+                new CardCriteria().colorless(false),
+                new CardCriteria().types(CardType.CREATURE),
+                new CardCriteria().notTypes(CardType.CREATURE).rarities(Rarity.COMMON, Rarity.LAND),
+                new CardCriteria().setCodes("M11").name("thopter"),
+                new CardCriteria().convertedManaCost(0));
+
+        for (CardCriteria criteria : criterias) {
+            // when
+            List<String> found = getCardNumbers(criteria.search(catalog));
+
+            // then
+            assertEquals(query(criteria), found);
+        }
+    }
+
+    private List<String> query(CardCriteria criteria) throws SQLException {
+        QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
+        criteria.buildQuery(queryBuilder);
+        return getCardNumbers(cardDao.query(queryBuilder.prepare()));
+    }
+
+    private static List<String> getCardNumbers(List<CardInfo> cards) {
+        List<String> cardNumbers = new ArrayList<>();
+        for (CardInfo card : cards) {
+            cardNumbers.add(card.getSetCode() + ' ' + card.getCardNumber());
+        }
+        cardNumbers.sort(null);
+        return cardNumbers;
+    }
+
+    private static CardInfo createCard(String name, String setCode, String cardNumber, Rarity rarity, EnumSet<CardType> types, boolean white, boolean green) {
+        CardInfo card = new CardInfo();
+        card.name = name;
+        card.setCode = setCode;
+        card.cardNumber = cardNumber;
+        card.className = "mage.sets." + name.replaceAll("\\W", "");
+        card.rarity = rarity;
+        card.white = white;
+        card.green = green;
+        card.setTypes(types);
+        card.subtypes = "";
+        card.supertypes = "";
+        card.rules = "";
+        return card;
+    }
+}
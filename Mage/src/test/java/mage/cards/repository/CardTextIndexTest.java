@@ -0,0 +1,63 @@
+package mage.cards.repository;
+
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.BitSet;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link CardTextIndex}
+ */
+public class CardTextIndexTest {
+
+    private final CardTextIndex index = new CardTextIndex(Arrays.asList(
+            "Flying@@@When Serra Angel enters the battlefield, draw a card.@@@",
+            "{T}: Add {W}.@@@",
+            null,
+            "Destroy target creature. It can't be regenerated.@@@"));
+
+    @Test
+    public void shouldFindPartialWordsAtTheEdges() {
+        // given
+
+        // when
+        BitSet found = index.find("ttlefie");
+
+        // then
+        assertEquals(bits(0), found);
+        assertEquals(bits(0), index.find("e the"));
+        assertEquals(bits(), index.find("ten the"));
+    }
+
+    @Test
+    public void shouldFindCompleteWordsInTheMiddle() {
+        // given
+
+        // when
+        BitSet found = index.find("{t}");
+
+        // then
+        assertEquals(bits(1, 3), found);
+        assertEquals(bits(3), index.find("It can't be"));
+        assertEquals(bits(), index.find("Destroy targ creature"));
+    }
+
+    @Test
+    public void shouldNotSearchWithoutWords() {
+        // given
+
+        // when
+        BitSet found = index.find(": ");
+
+        // then
+        assertNull(found);
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,97 @@
+package mage.game;
+
+import static org.junit.Assert.*;
+import java.util.UUID;
+import mage.abilities.Ability;
+import mage.abilities.costs.mana.ManaCostsImpl;
+import mage.abilities.keyword.FlashbackAbility;
+import mage.constants.TimingRule;
+import mage.counters.CounterType;
+import mage.counters.Counters;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link GameState}
+ */
+public class GameStateTest {
+
+    private final UUID cardId = UUID.randomUUID();
+
+    @Test
+    public void shouldNotChangeCopyIfCardStateChanges() {
+        // given
+        GameState state = new GameState();
+        state.getCardState(cardId).getCounters().addCounter(CounterType.P1P1.createInstance());
+        GameState copy = state.copy();
+
+        // when
+        state.getCardState(cardId).getCounters().addCounter(CounterType.P1P1.createInstance());
+        copy.getCardState(cardId).getCounters().addCounter(CounterType.M1M1.createInstance(2));
+
+        // then
+        assertEquals(2, state.getCardState(cardId).getCounters().getCount(CounterType.P1P1));
+        assertEquals(0, state.getCardState(cardId).getCounters().getCount(CounterType.M1M1));
+        assertEquals(1, copy.getCardState(cardId).getCounters().getCount(CounterType.P1P1));
+        assertEquals(2, copy.getCardState(cardId).getCounters().getCount(CounterType.M1M1));
+    }
+
+    @Test
+    public void shouldNotChangeCopyThroughCardStateFetchedBeforeCopy() {
+        // given
+        GameState state = new GameState();
+        CardState cardState = state.getCardState(cardId);
+        Counters counters = cardState.getCounters();
+        GameState copy = state.copy();
+
+        // when
+        cardState.setFaceDown(true);
+        cardState.addInfo("key", "value");
+        counters.addCounter(CounterType.P1P1.createInstance());
+
+        // then
+        assertTrue(state.peekCardState(cardId).isFaceDown());
+        assertEquals(1, state.peekCardState(cardId).getCounters().getCount(CounterType.P1P1));
+        assertFalse(copy.peekCardState(cardId).isFaceDown());
+        assertTrue(copy.peekCardState(cardId).getInfo().isEmpty());
+        assertEquals(0, copy.peekCardState(cardId).getCounters().getCount(CounterType.P1P1));
+    }
+
+    @Test
+    public void shouldNotChangeOlderCopiesThroughCardStateFetchedBeforeCopies() {
+        // given
+        GameState state = new GameState();
+        CardState cardState = state.getCardState(cardId);
+        GameState copy = state.copy();
+        GameState copyOfCopy = copy.copy();
+        GameState secondCopy = state.copy();
+
+        // when
+        cardState.getCounters().addCounter(CounterType.P1P1.createInstance());
+
+        // then
+        assertEquals(1, state.peekCardState(cardId).getCounters().getCount(CounterType.P1P1));
+        assertEquals(0, copy.peekCardState(cardId).getCounters().getCount(CounterType.P1P1));
+        assertEquals(0, copyOfCopy.peekCardState(cardId).getCounters().getCount(CounterType.P1P1));
+        assertEquals(0, secondCopy.peekCardState(cardId).getCounters().getCount(CounterType.P1P1));
+    }
+
+    @Test
+    public void shouldNotChangeCopyThroughOtherAbilities() {
+        // given
+        GameState state = new GameState();
+        Ability ability = new FlashbackAbility(new ManaCostsImpl("{R}"), TimingRule.INSTANT);
+        UUID ownerId = UUID.randomUUID();
+        ability.setControllerId(ownerId);
+        state.getCardState(cardId).addAbility(ability);
+        GameState copy = state.copy();
+
+        // when (e.g. the abilities are added to a permanent that changes its controller)
+        Ability copyAbility = copy.getAllOtherAbilities(cardId).get(0);
+        copyAbility.setControllerId(UUID.randomUUID());
+
+        // then
+        assertNotSame(ability, copyAbility);
+        assertEquals(ownerId, state.getAllOtherAbilities(cardId).get(0).getControllerId());
+        assertSame(copyAbility, copy.getAllOtherAbilities(cardId).get(0));
+    }
+}
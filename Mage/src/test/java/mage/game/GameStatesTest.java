@@ -0,0 +1,208 @@
+package mage.game;
+
+import static org.junit.Assert.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link GameStates}
+ */
+public class GameStatesTest {
+
+    // encodes the states right away
+    private static final Executor DIRECT = Runnable::run;
+
+    private GameStates saveStates(GameStates gameStates, int count) {
+        GameState state = new GameState();
+        for (int i = 0; i < count; i++) {
+            state.setTurnNum(i);
+            gameStates.save(state);
+        }
+        return gameStates;
+    }
+
+    @Test
+    public void shouldRestoreEncodedStates() {
+        // given
+        GameStates gameStates = saveStates(new GameStates(2, 4, Long.MAX_VALUE, DIRECT), 20);
+
+        // when
+
+        // then
+        assertEquals(20, gameStates.getSize());
+        assertTrue(gameStates.getEncodedBytes() > 0);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, gameStates.get(i).getTurnNum());
+        }
+    }
+
+    @Test
+    public void shouldRollbackToEncodedState() {
+        // given
+        GameStates gameStates = saveStates(new GameStates(2, 4, Long.MAX_VALUE, DIRECT), 20);
+
+        // when
+        GameState state = gameStates.rollback(9);
+        saveStates(gameStates, 3);
+
+        // then
+        assertEquals(9, state.getTurnNum());
+        assertEquals(13, gameStates.getSize());
+        assertEquals(8, gameStates.get(8).getTurnNum());
+        assertEquals(2, gameStates.get(12).getTurnNum());
+    }
+
+    @Test
+    public void shouldDropOldestStatesIfMemoryCapIsReached() {
+        // given
+        GameStates gameStates = saveStates(new GameStates(2, 4, 1, DIRECT), 20);
+
+        // when
+
+        // then
+        assertEquals(20, gameStates.getSize());
+        assertNull(gameStates.get(0));
+        assertEquals(19, gameStates.get(19).getTurnNum());
+    }
+
+    @Test
+    public void shouldRollbackAcrossKeyframes() {
+        // given
+        GameStates gameStates = saveStates(new GameStates(2, 4, Long.MAX_VALUE, DIRECT), 30);
+
+        // when
+        GameState state = gameStates.rollback(17);
+        saveStates(gameStates, 10);
+
+        // then
+        assertEquals(17, state.getTurnNum());
+        assertEquals(28, gameStates.getSize());
+        for (int i = 0; i < 18; i++) {
+            assertEquals(i, gameStates.get(i).getTurnNum());
+        }
+        for (int i = 18; i < 28; i++) {
+            assertEquals(i - 18, gameStates.get(i).getTurnNum());
+        }
+    }
+
+    @Test
+    public void shouldNotChangeSavedStateWithRolledBackState() {
+        // given
+        GameStates gameStates = saveStates(new GameStates(2, 4, Long.MAX_VALUE, DIRECT), 10);
+
+        // when
+        GameState state = gameStates.rollback(9);
+        state.setTurnNum(99);
+
+        // then
+        assertEquals(9, gameStates.get(9).getTurnNum());
+    }
+
+    @Test
+    public void shouldEncodeNewStatesAfterClear() {
+        // given (a rollback of turns clears the states)
+        GameStates gameStates = saveStates(new GameStates(2, 4, Long.MAX_VALUE, DIRECT), 20);
+
+        // when
+        gameStates.clear();
+        saveStates(gameStates, 12);
+
+        // then
+        assertEquals(12, gameStates.getSize());
+        assertTrue(gameStates.getEncodedBytes() > 0);
+        for (int i = 0; i < 12; i++) {
+            assertEquals(i, gameStates.get(i).getTurnNum());
+        }
+    }
+
+    @Test
+    public void shouldReplaySavedStatesUnderMemoryCap() throws Exception {
+        // given
+        long keyframeBytes = saveStates(new GameStates(1, 1, Long.MAX_VALUE, DIRECT), 2).getEncodedBytes();
+        GameStates gameStates = saveStates(new GameStates(2, 4, keyframeBytes * 3, DIRECT), 40);
+
+        // when (saved with the game and loaded for the replay)
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(gameStates);
+        }
+        GameStates replay;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            replay = (GameStates) in.readObject();
+        }
+
+        // then
+        assertEquals(40, replay.getSize());
+        assertNull(replay.get(0));
+        int firstState = 0;
+        while (replay.get(firstState) == null) {
+            firstState++;
+        }
+        assertTrue(firstState < 40 - 2 - 4);
+        for (int i = firstState; i < 40; i++) {
+            assertEquals(i, replay.get(i).getTurnNum());
+        }
+        for (int i = 39; i >= firstState; i--) {
+            assertEquals(i, replay.get(i).getTurnNum());
+        }
+    }
+
+    @Test
+    public void shouldDropEncodingOfRolledBackStates() {
+        // given
+        List<Runnable> tasks = new ArrayList<>();
+        GameStates gameStates = saveStates(new GameStates(2, 4, Long.MAX_VALUE, tasks::add), 10);
+
+        // when (the encoding runs after the rollback)
+        gameStates.rollback(3);
+        saveStates(gameStates, 2);
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).run();
+        }
+
+        // then
+        assertEquals(6, gameStates.getSize());
+        assertTrue(gameStates.getEncodedBytes() > 0);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, gameStates.get(i).getTurnNum());
+        }
+        assertEquals(0, gameStates.get(4).getTurnNum());
+        assertEquals(1, gameStates.get(5).getTurnNum());
+    }
+
+    @Test
+    public void shouldNotEncodeChangesOfTheGameWhileEncoding() {
+        // given (the values of a saved state are shared with the game)
+        List<Runnable> tasks = new ArrayList<>();
+        GameStates gameStates = new GameStates(1, 4, Long.MAX_VALUE, tasks::add);
+        GameState state = new GameState();
+        List<Integer> value = new ArrayList<>();
+        state.setValue("value", value);
+        for (int i = 0; i < 10; i++) {
+            value.add(i);
+            state.setTurnNum(i);
+            gameStates.save(state);
+        }
+
+        // when (the game goes on while the states are encoded)
+        for (int i = 0; i < tasks.size(); i++) {
+            value.clear();
+            tasks.get(i).run();
+        }
+
+        // then
+        assertTrue(gameStates.getEncodedBytes() > 0);
+        for (int i = 0; i < 9; i++) {
+            GameState saved = gameStates.get(i);
+            assertEquals(i, saved.getTurnNum());
+            // serialized when the next state was saved
+            assertEquals(i + 2, ((List<?>) saved.getValue("value")).size());
+        }
+    }
+}
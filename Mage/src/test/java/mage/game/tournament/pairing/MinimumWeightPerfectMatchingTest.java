@@ -0,0 +1,81 @@
+package mage.game.tournament.pairing;
+
+import static org.junit.Assert.*;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link MinimumWeightPerfectMatching}
+ */
+public class MinimumWeightPerfectMatchingTest {
+
+    @Test
+    public void shouldNotPairGreedily() {
+        // given
+        long[][] w = {
+            {0, 1, 3, 10},
+            {1, 0, 10, 3},
+            {3, 10, 0, 10},
+            {10, 3, 10, 0}};
+
+        // when
+        int[] mates = new MinimumWeightPerfectMatching(w).getMates();
+
+        // then
+        assertArrayEquals(new int[]{2, 3, 0, 1}, mates);
+    }
+
+    @Test
+    public void shouldMatchBruteForceOnRandomGraphs() {
+        Random random = new Random(42);
+        for (int iteration = 0; iteration < 500; iteration++) {
+            // given
+            int n = 2 * (1 + random.nextInt(5));
+            int maxWeight = 1 + random.nextInt(iteration % 2 == 0 ? 10 : 10000);
+            long[][] w = new long[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < i; j++) {
+                    w[i][j] = random.nextInt(maxWeight);
+                    w[j][i] = w[i][j];
+                }
+            }
+
+            // when
+            int[] mates = new MinimumWeightPerfectMatching(w).getMates();
+
+            // then
+            long weight = 0;
+            for (int i = 0; i < n; i++) {
+                assertNotEquals(i, mates[i]);
+                assertEquals(i, mates[mates[i]]);
+                weight += w[i][mates[i]];
+            }
+            assertEquals(bruteForce(w, new boolean[n], 0), weight / 2);
+        }
+    }
+
+    @Test
+    public void shouldHandleEmptyGraph() {
+        assertEquals(0, new MinimumWeightPerfectMatching(new long[0][0]).getMates().length);
+    }
+
+    private static long bruteForce(long[][] w, boolean[] used, int first) {
+        while (first < w.length && used[first]) {
+            first++;
+        }
+        if (first == w.length) {
+            return 0;
+        }
+        used[first] = true;
+        long best = Long.MAX_VALUE;
+        for (int i = first + 1; i < w.length; i++) {
+            if (!used[i]) {
+                used[i] = true;
+                best = Math.min(best, w[first][i] + bruteForce(w, used, first + 1));
+                used[i] = false;
+            }
+        }
+        used[first] = false;
+        return best;
+    }
+}
@@ -0,0 +1,44 @@
+package mage.util;
+
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link ByteDelta}
+ */
+public class ByteDeltaTest {
+
+    @Test
+    public void shouldRestoreChangedData() throws Exception {
+        // given
+        Random random = new Random(42);
+        byte[] base = new byte[100000];
+        random.nextBytes(base);
+        byte[] target = Arrays.copyOf(base, base.length + 50);
+        target[10] = 1;
+        target[5000] = 2;
+        System.arraycopy(base, 40000, target, 60000, 1000);
+
+        // when
+        byte[] delta = ByteDelta.encode(base, target);
+
+        // then
+        assertTrue(Arrays.equals(target, ByteDelta.apply(base, delta)));
+        assertTrue(delta.length < target.length / 10);
+    }
+
+    @Test
+    public void shouldHandleShortData() throws Exception {
+        // given
+        byte[] base = new byte[]{1, 2, 3};
+        byte[] target = new byte[]{4, 5};
+
+        // when
+        byte[] delta = ByteDelta.encode(base, target);
+
+        // then
+        assertTrue(Arrays.equals(target, ByteDelta.apply(base, delta)));
+    }
+}
@@ -0,0 +1,106 @@
+package mage.util;
+
+import static org.junit.Assert.*;
+import mage.counters.CounterType;
+import mage.game.CardState;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link CopyOnWriteStateMap}
+ */
+public class CopyOnWriteStateMapTest {
+
+    private CopyOnWriteStateMap<String, CardState> map;
+
+    @Before
+    public void setUp() {
+        map = new CopyOnWriteStateMap<>();
+        map.put("a", new CardState());
+        map.get("a").getCounters().addCounter(CounterType.P1P1.createInstance(1));
+    }
+
+    @Test
+    public void shouldShareValuesUntilChanged() {
+        // given
+        CopyOnWriteStateMap<String, CardState> copy = map.copy();
+
+        // when
+        CopyOnWriteStateMap<String, CardState> copyOfCopy = copy.copy();
+
+        // then
+        assertSame(copy.peek("a"), copyOfCopy.peek("a"));
+    }
+
+    @Test
+    public void shouldCopyValuesHandedOutForChange() {
+        // given
+
+        // when
+        CopyOnWriteStateMap<String, CardState> copy = map.copy();
+
+        // then
+        assertNotSame(map.peek("a"), copy.peek("a"));
+        assertEquals(1, copy.peek("a").getCounters().getCount(CounterType.P1P1));
+    }
+
+    @Test
+    public void shouldNotChangeCopyThroughValueFetchedBeforeCopy() {
+        // given
+        CardState state = map.get("a");
+        CopyOnWriteStateMap<String, CardState> copy = map.copy();
+
+        // when
+        state.getCounters().addCounter(CounterType.P1P1.createInstance(2));
+
+        // then
+        assertSame(state, map.peek("a"));
+        assertEquals(3, map.peek("a").getCounters().getCount(CounterType.P1P1));
+        assertEquals(1, copy.peek("a").getCounters().getCount(CounterType.P1P1));
+    }
+
+    @Test
+    public void shouldNotChangeSourceThroughValueFetchedFromCopy() {
+        // given
+        CopyOnWriteStateMap<String, CardState> copy = map.copy();
+        CardState state = copy.get("a");
+        CopyOnWriteStateMap<String, CardState> copyOfCopy = copy.copy();
+
+        // when
+        state.getCounters().addCounter(CounterType.P1P1.createInstance(2));
+
+        // then
+        assertEquals(1, map.peek("a").getCounters().getCount(CounterType.P1P1));
+        assertEquals(3, copy.peek("a").getCounters().getCount(CounterType.P1P1));
+        assertEquals(1, copyOfCopy.peek("a").getCounters().getCount(CounterType.P1P1));
+    }
+
+    @Test
+    public void shouldNotChangeCopyIfSourceChanges() {
+        // given
+        CopyOnWriteStateMap<String, CardState> copy = map.copy();
+
+        // when
+        map.get("a").getCounters().addCounter(CounterType.P1P1.createInstance(2));
+        map.put("b", new CardState());
+
+        // then
+        assertEquals(3, map.peek("a").getCounters().getCount(CounterType.P1P1));
+        assertEquals(1, copy.peek("a").getCounters().getCount(CounterType.P1P1));
+        assertFalse(copy.containsKey("b"));
+    }
+
+    @Test
+    public void shouldNotChangeSourceIfCopyChanges() {
+        // given
+        CopyOnWriteStateMap<String, CardState> copy = map.copy();
+
+        // when
+        copy.get("a").getCounters().removeCounter(CounterType.P1P1, 1);
+        copy.remove("a");
+
+        // then
+        assertEquals(1, map.peek("a").getCounters().getCount(CounterType.P1P1));
+        assertTrue(map.containsKey("a"));
+    }
+}
@@ -0,0 +1,103 @@
+package mage.watchers;
+
+import static org.junit.Assert.*;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import mage.constants.WatcherScope;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import mage.watchers.common.CardsAmountDrawnThisTurnWatcher;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link Watchers}
+ */
+public class WatchersTest {
+
+    @Test
+    public void shouldPassEventsOnlyToWatchersOfTheirType() {
+        // given
+        Watchers watchers = new Watchers();
+        CountingWatcher drawWatcher = new CountingWatcher("draw", EnumSet.of(EventType.DREW_CARD));
+        CountingWatcher allWatcher = new CountingWatcher("all", null);
+        watchers.add(drawWatcher);
+        watchers.add(allWatcher);
+
+        // when
+        watchers.watch(GameEvent.getEvent(EventType.DREW_CARD, UUID.randomUUID(), UUID.randomUUID()), null);
+        watchers.watch(GameEvent.getEvent(EventType.GAINED_LIFE, UUID.randomUUID(), UUID.randomUUID()), null);
+
+        // then
+        assertEquals(1, drawWatcher.count);
+        assertEquals(2, allWatcher.count);
+    }
+
+    @Test
+    public void shouldIgnoreEventTypesIfWatchIsOverridden() {
+        // given
+        Watcher watcher = new CardsAmountDrawnThisTurnWatcher() {
+            @Override
+            public void watch(GameEvent event, Game game) {
+            }
+        };
+
+        // when
+
+        // then
+        assertEquals(EnumSet.of(EventType.DREW_CARD), Watchers.getWatchedEventTypes(new CardsAmountDrawnThisTurnWatcher()));
+        assertNull(Watchers.getWatchedEventTypes(watcher));
+    }
+
+    @Test
+    public void shouldNotPassEventsToReplacedWatchers() {
+        // given
+        Watchers watchers = new Watchers();
+        CountingWatcher oldWatcher = new CountingWatcher("key", EnumSet.of(EventType.DREW_CARD));
+        CountingWatcher newWatcher = new CountingWatcher("key", null);
+        watchers.add(oldWatcher);
+        watchers.put(newWatcher.getKey(), newWatcher);
+
+        // when
+        Watchers copy = watchers.copy();
+        watchers.watch(GameEvent.getEvent(EventType.DREW_CARD, UUID.randomUUID(), UUID.randomUUID()), null);
+
+        // then
+        assertEquals(0, oldWatcher.count);
+        assertEquals(1, newWatcher.count);
+        assertEquals(1, copy.size());
+    }
+
+    private static class CountingWatcher extends Watcher {
+
+        private final Set<EventType> eventTypes;
+        private int count;
+
+        CountingWatcher(String key, Set<EventType> eventTypes) {
+            super(key, WatcherScope.GAME);
+            this.eventTypes = eventTypes;
+        }
+
+        CountingWatcher(final CountingWatcher watcher) {
+            super(watcher);
+            this.eventTypes = watcher.eventTypes;
+            this.count = watcher.count;
+        }
+
+        @Override
+        public Set<EventType> getWatchedEventTypes() {
+            return eventTypes;
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            count++;
+        }
+
+        @Override
+        public CountingWatcher copy() {
+            return new CountingWatcher(this);
+        }
+    }
+}